@@ -0,0 +1,81 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.entities.BaseShow;
+import com.uwetrottmann.trakt.v2.entities.Comment;
+import com.uwetrottmann.trakt.v2.entities.HistoryEntry;
+import com.uwetrottmann.trakt.v2.entities.SearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The first decode in a fresh JVM, like a command line tool or a serverless job: creates a {@link Gson} and decodes a
+ * few small responses once, so the time is mostly spent creating type adapters. Compares Gson's reflective adapters
+ * for entities to the generated ones of {@link TraktV2Helper#getGsonBuilder()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+
+    private static final Type WATCHED_SHOWS = new TypeToken<List<BaseShow>>() {
+    }.getType();
+    private static final Type HISTORY = new TypeToken<List<HistoryEntry>>() {
+    }.getType();
+    private static final Type SEARCH_RESULTS = new TypeToken<List<SearchResult>>() {
+    }.getType();
+    private static final Type COMMENTS = new TypeToken<List<Comment>>() {
+    }.getType();
+
+    @Param({ "reflective", "generated" })
+    public String adapters;
+
+    private byte[] watchedShows;
+    private byte[] history;
+    private byte[] searchResults;
+    private byte[] comments;
+
+    @Setup
+    public void setUp() {
+        watchedShows = Payloads.watchedShows(10);
+        history = Payloads.history(10);
+        searchResults = Payloads.searchResults(10);
+        comments = Payloads.comments(10);
+    }
+
+    @Benchmark
+    public void firstDecode(Blackhole blackhole) {
+        Gson gson = "reflective".equals(adapters)
+                ? TypeAdapterBenchmark.reflectiveGson() : TraktV2Helper.getGsonBuilder().create();
+        blackhole.consume(decode(gson, watchedShows, WATCHED_SHOWS));
+        blackhole.consume(decode(gson, history, HISTORY));
+        blackhole.consume(decode(gson, searchResults, SEARCH_RESULTS));
+        blackhole.consume(decode(gson, comments, COMMENTS));
+    }
+
+    private static Object decode(Gson gson, byte[] body, Type type) {
+        return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(body), Payloads.UTF_8), type);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.uwetrottmann.trakt.v2.adapters.IsoDateTimeParser;
+import org.joda.time.DateTime;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses trakt date times like {@code 2014-09-01T09:00:00.000Z} with {@link IsoDateTimeParser} and with Joda's
+ * general ISO 8601 parser it replaced. Run with {@code -prof gc} to compare the allocation per date time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeParserBenchmark {
+
+    private static final int COUNT = 1024;
+
+    private final DateTimeFormatter joda = ISODateTimeFormat.dateTimeParser().withZoneUTC();
+    private final String[] values = new String[COUNT];
+
+    @Setup
+    public void setUp() {
+        DateTimeFormatter trakt = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZoneUTC();
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < COUNT; i++) {
+            // within the last 20 years
+            values[i] = trakt.print(now - (long) (random.nextDouble() * 20 * 365 * 24 * 3600 * 1000L));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void joda(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(joda.parseDateTime(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void handRolled(Blackhole blackhole) {
+        for (String value : values) {
+            DateTime dateTime = IsoDateTimeParser.parse(value);
+            blackhole.consume(dateTime);
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.entities.BaseShow;
+import com.uwetrottmann.trakt.v2.entities.CalendarEntry;
+import com.uwetrottmann.trakt.v2.entities.Comment;
+import com.uwetrottmann.trakt.v2.entities.Credits;
+import com.uwetrottmann.trakt.v2.entities.HistoryEntry;
+import com.uwetrottmann.trakt.v2.entities.SearchResult;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes response bodies of the largest entities the same way {@link retrofit.converter.GsonConverter} does, from a
+ * byte stream with the Gson built by {@link TraktV2Helper#getGsonBuilder()}. {@code size} is the number of top level
+ * items, e.g. shows or comments.
+ *
+ * <p> Run with the GC profiler to see the allocation rate per operation next to the throughput:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar DecodeBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+
+    private static final Type WATCHED_SHOWS = new TypeToken<List<BaseShow>>() {
+    }.getType();
+    private static final Type HISTORY = new TypeToken<List<HistoryEntry>>() {
+    }.getType();
+    private static final Type CALENDAR = new TypeToken<Map<DateTime, List<CalendarEntry>>>() {
+    }.getType();
+    private static final Type SEARCH_RESULTS = new TypeToken<List<SearchResult>>() {
+    }.getType();
+    private static final Type COMMENTS = new TypeToken<List<Comment>>() {
+    }.getType();
+
+    @Param({ "10", "100", "1000" })
+    public int size;
+
+    private Gson gson;
+    private byte[] watchedShows;
+    private byte[] history;
+    private byte[] calendar;
+    private byte[] credits;
+    private byte[] searchResults;
+    private byte[] comments;
+
+    @Setup
+    public void setUp() {
+        gson = TraktV2Helper.getGsonBuilder().create();
+        watchedShows = Payloads.watchedShows(size);
+        history = Payloads.history(size);
+        calendar = Payloads.calendar(size);
+        credits = Payloads.credits(size);
+        searchResults = Payloads.searchResults(size);
+        comments = Payloads.comments(size);
+    }
+
+    @Benchmark
+    public List<BaseShow> watchedShows() {
+        return decode(watchedShows, WATCHED_SHOWS);
+    }
+
+    @Benchmark
+    public List<HistoryEntry> history() {
+        return decode(history, HISTORY);
+    }
+
+    @Benchmark
+    public Map<DateTime, List<CalendarEntry>> calendar() {
+        return decode(calendar, CALENDAR);
+    }
+
+    @Benchmark
+    public Credits credits() {
+        return decode(credits, Credits.class);
+    }
+
+    @Benchmark
+    public List<SearchResult> searchResults() {
+        return decode(searchResults, SEARCH_RESULTS);
+    }
+
+    @Benchmark
+    public List<Comment> comments() {
+        return decode(comments, COMMENTS);
+    }
+
+    private <T> T decode(byte[] body, Type type) {
+        return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(body), Payloads.UTF_8), type);
+    }
+
+}
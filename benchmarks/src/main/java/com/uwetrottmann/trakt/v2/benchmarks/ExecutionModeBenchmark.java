@@ -0,0 +1,103 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.client.ConnectionPool;
+import com.uwetrottmann.trakt.v2.client.PooledClient;
+import com.uwetrottmann.trakt.v2.entities.Show;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of 10k {@code Shows.summary} calls against a local stub, submitting one task per call to {@link
+ * TraktV2#getExecutor()}, with a bounded platform thread pool and with virtual threads. At most {@code
+ * maxConnections} calls are sent at the same time, the others wait for a connection like with the default transport
+ * of {@link TraktV2#setUseVirtualThreads(boolean)}.
+ *
+ * <p> The virtual mode falls back to the platform pool on JDKs without virtual threads, so run it on Java 21 or newer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int CALLS = 10000;
+    private static final byte[] SHOW = ("{\"title\":\"Breaking Bad\",\"year\":2008,\"ids\":{\"trakt\":1,"
+            + "\"slug\":\"breaking-bad\",\"tvdb\":81189,\"imdb\":\"tt0903747\",\"tmdb\":1396,\"tvrage\":18164},"
+            + "\"overview\":\"Breaking Bad is an American crime drama.\",\"first_aired\":\"2008-01-21T02:00:00.000Z\","
+            + "\"runtime\":60,\"certification\":\"TV-MA\",\"network\":\"AMC\",\"country\":\"us\","
+            + "\"status\":\"ended\",\"rating\":9.3,\"votes\":38000,\"language\":\"en\","
+            + "\"genres\":[\"drama\",\"crime\",\"thriller\"],\"aired_episodes\":62}").getBytes();
+
+    @Param({ "platform", "virtual" })
+    public String mode;
+
+    /** 5 is the default of {@link ConnectionPool}. */
+    @Param({ "5", "64" })
+    public int maxConnections;
+
+    private StubTraktServer server;
+    private TraktV2 trakt;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = new StubTraktServer(SHOW, maxConnections);
+        ConnectionPool pool = new ConnectionPool(maxConnections, ConnectionPool.DEFAULT_KEEP_ALIVE_DURATION_MILLIS,
+                maxConnections);
+        trakt = new TraktV2()
+                .setApiKey("benchmark")
+                .setClient(server.redirect(new PooledClient(pool).setConnectionWaitTimeoutMillis(0)))
+                .setUseVirtualThreads("virtual".equals(mode));
+    }
+
+    @TearDown
+    public void tearDown() {
+        trakt.getExecutor().shutdown();
+        server.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public int summaries() throws Exception {
+        ExecutorService executor = trakt.getExecutor();
+        List<Future<Show>> results = new ArrayList<Future<Show>>(CALLS);
+        for (int i = 0; i < CALLS; i++) {
+            final String showId = String.valueOf(i);
+            results.add(executor.submit(new Callable<Show>() {
+                @Override
+                public Show call() throws Exception {
+                    return trakt.shows().summary(showId, Extended.FULL);
+                }
+            }));
+        }
+        int count = 0;
+        for (Future<Show> result : results) {
+            if (result.get() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
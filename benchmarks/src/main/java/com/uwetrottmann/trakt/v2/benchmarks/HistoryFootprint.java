@@ -0,0 +1,68 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.adapters.EntityTypeAdapterFactory;
+import com.uwetrottmann.trakt.v2.adapters.Projection;
+import com.uwetrottmann.trakt.v2.adapters.StringPool;
+import com.uwetrottmann.trakt.v2.entities.HistoryEntry;
+import com.uwetrottmann.trakt.v2.entities.SlimHistoryEntry;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Prints the heap retained by a decoded {@code /users/{username}/history/episodes} response, without the {@link
+ * StringPool} of the entity adapters, with it, and as {@link SlimHistoryEntry} with plain {@code long} timestamps. JMH measures time and
+ * allocation, not what stays reachable, so this is a plain program:
+ *
+ * <pre>
+ * java -Xmx2g -cp target/benchmarks.jar com.uwetrottmann.trakt.v2.benchmarks.HistoryFootprint [entries]
+ * </pre>
+ */
+public class HistoryFootprint {
+
+    private static final Type HISTORY = new TypeToken<List<HistoryEntry>>() {
+    }.getType();
+    private static final Type SLIM_HISTORY = new TypeToken<List<SlimHistoryEntry>>() {
+    }.getType();
+
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+        byte[] body = Payloads.history(entries);
+
+        String[] modes = { "unpooled", "pooled", "slim" };
+        for (String mode : modes) {
+            Gson gson = TraktV2Helper.getGsonBuilder()
+                    .registerTypeAdapterFactory(new EntityTypeAdapterFactory(Projection.ALL,
+                            "unpooled".equals(mode) ? StringPool.NONE : new StringPool()))
+                    .create();
+            Type type = "slim".equals(mode) ? SLIM_HISTORY : HISTORY;
+            // create the adapters before measuring
+            decode(gson, Payloads.history(1), type);
+
+            long before = usedHeap();
+            List<?> history = decode(gson, body, type);
+            long retained = usedHeap() - before;
+            System.out.printf("%-8s %d entries retain %.1f MB%n", mode, history.size(), retained / (1024.0 * 1024.0));
+        }
+    }
+
+    private static List<?> decode(Gson gson, byte[] body, Type type) {
+        return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(body), Payloads.UTF_8), type);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+}
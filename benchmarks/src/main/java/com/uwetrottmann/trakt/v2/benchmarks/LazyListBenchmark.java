@@ -0,0 +1,77 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.entities.BaseMovie;
+import com.uwetrottmann.trakt.v2.lazy.LazyListConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import retrofit.converter.ConversionException;
+import retrofit.converter.Converter;
+import retrofit.converter.GsonConverter;
+import retrofit.mime.TypedByteArray;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts a movie collection with full info and images, then reads the titles of a few movies spread over it, with
+ * {@link GsonConverter} and with a {@link LazyListConverter} which decodes only the movies read. Run with {@code -prof
+ * gc} to compare the allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyListBenchmark {
+
+    private static final Type COLLECTION = new TypeToken<List<BaseMovie>>() {
+    }.getType();
+
+    @Param({ "eager", "lazy" })
+    public String converter;
+
+    @Param({ "2000" })
+    public int size;
+
+    @Param({ "10", "2000" })
+    public int accessed;
+
+    private Converter gsonConverter;
+    private TypedByteArray body;
+
+    @Setup
+    public void setUp() {
+        Gson gson = TraktV2Helper.getGson();
+        gsonConverter = new GsonConverter(gson);
+        if ("lazy".equals(converter)) {
+            gsonConverter = new LazyListConverter(gsonConverter, gson);
+        }
+        body = new TypedByteArray("application/json; charset=UTF-8", Payloads.collectionMovies(size));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void collectionMovies(Blackhole blackhole) throws ConversionException {
+        List<BaseMovie> movies = (List<BaseMovie>) gsonConverter.fromBody(body, COLLECTION);
+        int step = Math.max(1, movies.size() / accessed);
+        for (int i = 0; i < movies.size(); i += step) {
+            blackhole.consume(movies.get(i).movie.title);
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Builds response bodies of a given size from the items captured in {@code /payloads}. Items are repeated with
+ * distinct trakt ids and slugs. Templates reference other templates by name, like {@code {show}}, and the item index
+ * as {@code {i}}.
+ */
+final class Payloads {
+
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final String[] NESTED = { "show", "episode", "movie", "person", "user" };
+
+    private Payloads() {
+    }
+
+    /**
+     * A {@code /sync/watched/shows} response, each show with three seasons of watched episodes.
+     */
+    static byte[] watchedShows(int count) {
+        return array("watched-show", count);
+    }
+
+    /**
+     * A {@code /users/{username}/history/episodes} response.
+     */
+    static byte[] history(int count) {
+        return array("history-entry", count);
+    }
+
+    /**
+     * A {@code /sync/collection/movies?extended=full,images} response.
+     */
+    static byte[] collectionMovies(int count) {
+        return array("collection-movie", count);
+    }
+
+    /**
+     * A {@code /calendars/shows} response, the entries spread over a week.
+     */
+    static byte[] calendar(int count) {
+        String template = template("calendar-entry");
+        int days = Math.min(7, count);
+        StringBuilder json = new StringBuilder().append('{');
+        int index = 0;
+        for (int day = 0; day < days; day++) {
+            if (day > 0) {
+                json.append(',');
+            }
+            json.append("\"2014-09-0").append(day + 1).append("\":[");
+            int entries = count / days + (day < count % days ? 1 : 0);
+            for (int i = 0; i < entries; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append(item(template, index++));
+            }
+            json.append(']');
+        }
+        return json.append('}').toString().getBytes(UTF_8);
+    }
+
+    /**
+     * A {@code /shows/{id}/people} response with the given number of cast and of crew members, the crew split into
+     * departments.
+     */
+    static byte[] credits(int count) {
+        String[] departments = { "production", "art", "costume & make-up", "directing", "writing", "sound", "camera" };
+        String crewMember = template("crew-member");
+        StringBuilder json = new StringBuilder("{\"cast\":").append(array(template("cast-member"), count, 0));
+        json.append(",\"crew\":{");
+        int index = count;
+        for (int d = 0; d < departments.length; d++) {
+            if (d > 0) {
+                json.append(',');
+            }
+            int members = count / departments.length + (d < count % departments.length ? 1 : 0);
+            json.append('"').append(departments[d]).append("\":").append(array(crewMember, members, index));
+            index += members;
+        }
+        return json.append("}}").toString().getBytes(UTF_8);
+    }
+
+    /**
+     * A {@code /search?query=tron&type=movie} response.
+     */
+    static byte[] searchResults(int count) {
+        return array("search-result", count);
+    }
+
+    /**
+     * A {@code /movies/{id}/comments} response.
+     */
+    static byte[] comments(int count) {
+        return array("comment", count);
+    }
+
+    private static byte[] array(String name, int count) {
+        return array(template(name), count, 0).getBytes(UTF_8);
+    }
+
+    private static String array(String template, int count, int firstIndex) {
+        StringBuilder json = new StringBuilder(template.length() * count + 2).append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(item(template, firstIndex + i));
+        }
+        return json.append(']').toString();
+    }
+
+    private static String item(String template, int index) {
+        return template.replace("{i}", String.valueOf(index + 1));
+    }
+
+    private static String template(String name) {
+        String template = read(name);
+        for (String nested : NESTED) {
+            String reference = "{" + nested + "}";
+            if (template.contains(reference)) {
+                template = template.replace(reference, template(nested));
+            }
+        }
+        return template;
+    }
+
+    private static String read(String name) {
+        InputStream in = Payloads.class.getResourceAsStream("/payloads/" + name + ".json");
+        if (in == null) {
+            throw new IllegalArgumentException("No payload " + name);
+        }
+        try {
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int count;
+                while ((count = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, count);
+                }
+                return new String(out.toByteArray(), UTF_8).trim();
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
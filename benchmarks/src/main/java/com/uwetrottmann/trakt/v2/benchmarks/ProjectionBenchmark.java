@@ -0,0 +1,72 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.adapters.Projection;
+import com.uwetrottmann.trakt.v2.entities.BaseMovie;
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import com.uwetrottmann.trakt.v2.entities.MovieIds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit.converter.ConversionException;
+import retrofit.converter.GsonConverter;
+import retrofit.mime.TypedByteArray;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts a movie collection with full info and images completely and with a {@link Projection} of only the trakt
+ * id, title and year of each movie. Run with {@code -prof gc} to compare the allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    private static final Type COLLECTION = new TypeToken<List<BaseMovie>>() {
+    }.getType();
+
+    @Param({ "full", "projected" })
+    public String projection;
+
+    @Param({ "2000" })
+    public int size;
+
+    private GsonConverter converter;
+    private TypedByteArray body;
+
+    @Setup
+    public void setUp() {
+        Gson gson = TraktV2Helper.getGson();
+        if ("projected".equals(projection)) {
+            gson = TraktV2Helper.getGsonBuilder(Projection.builder()
+                    .include(BaseMovie.class, "movie")
+                    .include(Movie.class, "ids", "title", "year")
+                    .include(MovieIds.class, "trakt")
+                    .build()).create();
+        }
+        converter = new GsonConverter(gson);
+        body = new TypedByteArray("application/json; charset=UTF-8", Payloads.collectionMovies(size));
+    }
+
+    @Benchmark
+    public Object collectionMovies() throws ConversionException {
+        return converter.fromBody(body, COLLECTION);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.uwetrottmann.trakt.v2.TraktErrorHandler;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.services.Movies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import retrofit.RestAdapter;
+import retrofit.client.UrlConnectionClient;
+import retrofit.converter.GsonConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of obtaining a service from {@link TraktV2} without an access token, which is paid on every
+ * call before the request is even sent.
+ *
+ * <p> {@code rebuildAdapter} reproduces the former behaviour of building a new {@link RestAdapter} (including a new
+ * Gson instance) and service proxy per call, {@code cachedService} is the current behaviour.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ServiceCreationBenchmark {
+
+    private TraktV2 trakt;
+
+    @Setup
+    public void setUp() {
+        trakt = new TraktV2().setApiKey("benchmark");
+    }
+
+    @Benchmark
+    public Movies cachedService() {
+        return trakt.movies();
+    }
+
+    @Benchmark
+    public Movies rebuildAdapter() {
+        RestAdapter restAdapter = new RestAdapter.Builder()
+                .setEndpoint(TraktV2.API_URL)
+                .setConverter(new GsonConverter(TraktV2Helper.getGsonBuilder().create()))
+                .setErrorHandler(new TraktErrorHandler())
+                .setClient(new UrlConnectionClient())
+                .build();
+        return restAdapter.create(Movies.class);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.adapters.Projection;
+import com.uwetrottmann.trakt.v2.entities.BaseShow;
+import com.uwetrottmann.trakt.v2.entities.Ratings;
+import com.uwetrottmann.trakt.v2.entities.Show;
+import com.uwetrottmann.trakt.v2.entities.ShowIds;
+import com.uwetrottmann.trakt.v2.entities.SlimBaseShow;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Prints the heap retained by a decoded {@code /sync/watched/shows} response and by many decoded ratings, with the
+ * regular entities and with their {@link com.uwetrottmann.trakt.v2.entities.Slim slim} variants. To tell the gain of
+ * primitive fields from the one of dropping show details, the shows are also decoded with a {@link Projection} of the
+ * fields the slim variant has. A plain program like {@link HistoryFootprint}:
+ *
+ * <pre>
+ * java -Xmx2g -cp target/benchmarks.jar com.uwetrottmann.trakt.v2.benchmarks.SlimFootprint [shows]
+ * </pre>
+ */
+public class SlimFootprint {
+
+    private static final String RATINGS = "{\"rating\":7.33,\"votes\":{i},\"distribution\":{\"1\":120,\"2\":41,"
+            + "\"3\":87,\"4\":131,\"5\":410,\"6\":1024,\"7\":2310,\"8\":2911,\"9\":1503,\"10\":{i}}}";
+
+    private static final Type SHOWS = new TypeToken<List<BaseShow>>() {
+    }.getType();
+    private static final Type SLIM_SHOWS = new TypeToken<List<SlimBaseShow>>() {
+    }.getType();
+    private static final Type RATINGS_LIST = new TypeToken<List<Ratings>>() {
+    }.getType();
+    private static final Type SLIM_RATINGS_LIST = new TypeToken<List<SlimRatings>>() {
+    }.getType();
+
+    /** The decoded value while measuring, so it stays reachable. */
+    private static Object decoded;
+
+    public static void main(String[] args) {
+        int shows = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        byte[] watchedShows = Payloads.watchedShows(shows);
+        Gson projected = TraktV2Helper.getGsonBuilder(Projection.builder()
+                .include(Show.class, "title", "year", "ids")
+                .include(ShowIds.class, "trakt", "slug", "tvdb", "imdb", "tmdb", "tvrage")
+                .build()).create();
+
+        print("full", shows, retained(TraktV2Helper.getGson(), watchedShows, SHOWS));
+        print("projected", shows, retained(projected, watchedShows, SHOWS));
+        print("slim", shows, retained(TraktV2Helper.getGson(), watchedShows, SLIM_SHOWS));
+
+        int count = shows * 10;
+        StringBuilder ratings = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            ratings.append(i > 0 ? "," : "").append(RATINGS.replace("{i}", String.valueOf(1000 + i)));
+        }
+        byte[] body = ratings.append(']').toString().getBytes(Payloads.UTF_8);
+        print("ratings", count, retained(TraktV2Helper.getGson(), body, RATINGS_LIST));
+        print("slim ratings", count, retained(TraktV2Helper.getGson(), body, SLIM_RATINGS_LIST));
+    }
+
+    private static long retained(Gson gson, byte[] body, Type type) {
+        // create the adapters before measuring
+        decode(gson, "[]".getBytes(Payloads.UTF_8), type);
+
+        long before = usedHeap();
+        decoded = decode(gson, body, type);
+        long retained = usedHeap() - before;
+        decoded = null;
+        return retained;
+    }
+
+    private static Object decode(Gson gson, byte[] body, Type type) {
+        return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(body), Payloads.UTF_8), type);
+    }
+
+    private static void print(String mode, int count, long retained) {
+        System.out.printf("%-25s %6d retain %7.1f MB, %5d bytes each%n", mode, count, retained / (1024.0 * 1024.0),
+                retained / count);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A local HTTP server answering every request with the same JSON body, to benchmark the client side without network
+ * latency or rate limits.
+ */
+public class StubTraktServer {
+
+    static {
+        // the JDK server writes headers and body separately, avoid waiting for delayed ACKs
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public StubTraktServer(final byte[] body, int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            }
+        });
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Wraps the given client to send requests for {@link TraktV2#API_URL} to this server instead.
+     */
+    public Client redirect(final Client client) {
+        final String url = getUrl();
+        return new Client() {
+            @Override
+            public Response execute(Request request) throws IOException {
+                String target = url + request.getUrl().substring(TraktV2.API_URL.length());
+                return client.execute(new Request(request.getMethod(), target, request.getHeaders(),
+                        request.getBody()));
+            }
+        };
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.uwetrottmann.trakt.v2.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import com.google.gson.reflect.TypeToken;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.adapters.DateTimeTypeAdapter;
+import com.uwetrottmann.trakt.v2.adapters.EntityTypeAdapterFactory;
+import com.uwetrottmann.trakt.v2.adapters.TraktEnumTypeAdapterFactory;
+import com.uwetrottmann.trakt.v2.entities.BaseShow;
+import com.uwetrottmann.trakt.v2.entities.HistoryEntry;
+import com.uwetrottmann.trakt.v2.enums.ListPrivacy;
+import com.uwetrottmann.trakt.v2.enums.Rating;
+import com.uwetrottmann.trakt.v2.enums.Status;
+import org.joda.time.DateTime;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding with the type adapters of {@link TraktV2Helper#getGsonBuilder()} to the tree model {@link
+ * JsonDeserializer}s it registered before and to Gson's reflective adapters for entities it used before the generated
+ * {@link EntityTypeAdapterFactory}. Run with {@code -prof gc} to compare the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeAdapterBenchmark {
+
+    private static final Type WATCHED_SHOWS = new TypeToken<List<BaseShow>>() {
+    }.getType();
+    private static final Type HISTORY = new TypeToken<List<HistoryEntry>>() {
+    }.getType();
+
+    @Param({ "treeModel", "reflective", "generated" })
+    public String adapters;
+
+    @Param({ "100", "1000" })
+    public int size;
+
+    private Gson gson;
+    private byte[] watchedShows;
+    private byte[] history;
+
+    @Setup
+    public void setUp() {
+        if ("treeModel".equals(adapters)) {
+            gson = treeModelGson();
+        } else if ("reflective".equals(adapters)) {
+            gson = reflectiveGson();
+        } else {
+            gson = TraktV2Helper.getGsonBuilder().create();
+        }
+        watchedShows = Payloads.watchedShows(size);
+        history = Payloads.history(size);
+    }
+
+    @Benchmark
+    public List<BaseShow> watchedShows() {
+        return decode(watchedShows, WATCHED_SHOWS);
+    }
+
+    @Benchmark
+    public List<HistoryEntry> history() {
+        return decode(history, HISTORY);
+    }
+
+    private <T> T decode(byte[] body, Type type) {
+        return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(body), Payloads.UTF_8), type);
+    }
+
+    /**
+     * The streaming adapters for date times and enums, but Gson's reflective adapters for entities.
+     */
+    static Gson reflectiveGson() {
+        return new GsonBuilder()
+                .registerTypeAdapter(DateTime.class, new DateTimeTypeAdapter())
+                .registerTypeAdapterFactory(new TraktEnumTypeAdapterFactory())
+                .create();
+    }
+
+    /**
+     * The configuration before the streaming adapters, each value is parsed into a {@link JsonElement} first.
+     */
+    static Gson treeModelGson() {
+        final DateTimeFormatter iso8601 = ISODateTimeFormat.dateTimeParser().withZoneUTC();
+        GsonBuilder builder = new GsonBuilder();
+        builder.registerTypeAdapter(DateTime.class, new JsonDeserializer<DateTime>() {
+            @Override
+            public DateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+                    throws JsonParseException {
+                return iso8601.parseDateTime(json.getAsString());
+            }
+        });
+        builder.registerTypeAdapter(DateTime.class, new JsonSerializer<DateTime>() {
+            @Override
+            public JsonElement serialize(DateTime src, Type typeOfSrc, JsonSerializationContext context) {
+                return new JsonPrimitive(src.toString());
+            }
+        });
+        builder.registerTypeAdapter(ListPrivacy.class, new JsonDeserializer<ListPrivacy>() {
+            @Override
+            public ListPrivacy deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+                    throws JsonParseException {
+                return ListPrivacy.fromValue(json.getAsString());
+            }
+        });
+        builder.registerTypeAdapter(Rating.class, new JsonDeserializer<Rating>() {
+            @Override
+            public Rating deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+                    throws JsonParseException {
+                return Rating.fromValue(json.getAsInt());
+            }
+        });
+        builder.registerTypeAdapter(Status.class, new JsonDeserializer<Status>() {
+            @Override
+            public Status deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+                    throws JsonParseException {
+                return Status.fromValue(json.getAsString());
+            }
+        });
+        return builder.create();
+    }
+
+}
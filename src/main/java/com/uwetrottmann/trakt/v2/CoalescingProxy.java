@@ -0,0 +1,105 @@
+package com.uwetrottmann.trakt.v2;
+
+import retrofit.client.Response;
+import retrofit.http.GET;
+import retrofit.http.Streaming;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Wraps a service, so its {@code GET} methods are coalesced by a {@link RequestCoalescer}. Methods returning the raw
+ * {@link retrofit.client.Response} are not, as its body can only be read once.
+ */
+class CoalescingProxy implements InvocationHandler {
+
+    private final TraktV2 trakt;
+    private final Object service;
+    private final RequestCoalescer coalescer;
+    private final Object decoding;
+
+    private CoalescingProxy(TraktV2 trakt, Object service, RequestCoalescer coalescer, Object decoding) {
+        this.trakt = trakt;
+        this.service = service;
+        this.coalescer = coalescer;
+        this.decoding = decoding;
+    }
+
+    /**
+     * @param decoding Identifies how the service decodes its results, only calls of services decoding alike coalesce.
+     */
+    static <T> T wrap(TraktV2 trakt, Class<T> serviceClass, T service, RequestCoalescer coalescer, Object decoding) {
+        return serviceClass.cast(Proxy.newProxyInstance(serviceClass.getClassLoader(), new Class<?>[] { serviceClass },
+                new CoalescingProxy(trakt, service, coalescer, decoding)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (!isCoalesced(method)) {
+            return invokeService(method, args);
+        }
+        return coalescer.execute(new Key(method, args, trakt.getAuthIdentity(), decoding), new RequestCoalescer.Invocation() {
+            @Override
+            public Object invoke() throws Throwable {
+                return invokeService(method, args);
+            }
+        });
+    }
+
+    private static boolean isCoalesced(Method method) {
+        return method.isAnnotationPresent(GET.class) && !method.isAnnotationPresent(Streaming.class)
+                && method.getReturnType() != Response.class && method.getReturnType() != void.class;
+    }
+
+    private Object invokeService(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * The method and its arguments determine the URL and query of the request, the decoding the result.
+     */
+    private static class Key {
+
+        private final Method method;
+        private final List<Object> args;
+        private final String identity;
+        private final Object decoding;
+
+        Key(Method method, Object[] args, String identity, Object decoding) {
+            this.method = method;
+            this.args = args == null ? null : Arrays.asList(args);
+            this.identity = identity;
+            this.decoding = decoding;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return method.equals(other.method)
+                    && (args == null ? other.args == null : args.equals(other.args))
+                    && (identity == null ? other.identity == null : identity.equals(other.identity))
+                    && (decoding == null ? other.decoding == null : decoding.equals(other.decoding));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = method.hashCode();
+            result = 31 * result + (args != null ? args.hashCode() : 0);
+            result = 31 * result + (identity != null ? identity.hashCode() : 0);
+            result = 31 * result + (decoding != null ? decoding.hashCode() : 0);
+            return result;
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.uwetrottmann.trakt.v2;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import retrofit.RetrofitError;
+import retrofit.client.Response;
+import retrofit.mime.TypedInput;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Decodes the items of a JSON array response one at a time while reading it from the connection, so only the current
+ * item is held in memory, however long the list is. Returned by {@link TraktV2#streamingSync()} and {@link
+ * TraktV2#streamingUsers()}.
+ *
+ * <p> The response stays open until all items were read or {@link #close()} is called, so always close a stream which
+ * is not read to the end, e.g.
+ *
+ * <pre>
+ * EntityStream&lt;BaseShow&gt; shows = trakt.streamingSync().watchedShows(Extended.FULLIMAGES);
+ * try {
+ *     while (shows.hasNext()) {
+ *         BaseShow show = shows.next();
+ *         ...
+ *     }
+ * } finally {
+ *     shows.close();
+ * }
+ * </pre>
+ *
+ * <p> Failing to read or decode an item throws a {@link RetrofitError}, like the other services do. Not thread-safe.
+ */
+public class EntityStream<T> implements Iterator<T>, Closeable {
+
+    private final String url;
+    private final Gson gson;
+    private final Type type;
+    private final JsonReader reader;
+    private boolean closed;
+
+    EntityStream(Response response, Gson gson, Type type) {
+        this.url = response.getUrl();
+        this.gson = gson;
+        this.type = type;
+        TypedInput body = response.getBody();
+        InputStream in = null;
+        JsonReader reader = null;
+        if (body != null) {
+            try {
+                in = body.in();
+                reader = new JsonReader(new InputStreamReader(in, "UTF-8"));
+                if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                    throw new JsonParseException("Expected a JSON array, but was " + reader.peek());
+                }
+                reader.beginArray();
+            } catch (EOFException e) {
+                // empty body
+                closeQuietly(in);
+                reader = null;
+            } catch (IOException e) {
+                closeQuietly(in);
+                throw RetrofitError.networkError(url, e);
+            } catch (JsonParseException e) {
+                closeQuietly(in);
+                throw RetrofitError.unexpectedError(url, e);
+            }
+        }
+        this.reader = reader;
+        this.closed = reader == null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        try {
+            if (reader.hasNext()) {
+                return true;
+            }
+            reader.endArray();
+        } catch (IOException e) {
+            close();
+            throw RetrofitError.networkError(url, e);
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return gson.fromJson(reader, type);
+        } catch (JsonParseException e) {
+            close();
+            if (e.getCause() instanceof IOException) {
+                throw RetrofitError.networkError(url, (IOException) e.getCause());
+            }
+            throw RetrofitError.unexpectedError(url, e);
+        }
+    }
+
+    /**
+     * Not supported.
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Passes all remaining items to the given visitor, then closes the stream.
+     */
+    public void forEach(EntityVisitor<? super T> visitor) {
+        try {
+            while (hasNext()) {
+                visitor.visit(next());
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Closes the response. Remaining items are not read.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.uwetrottmann.trakt.v2;
+
+/**
+ * Receives the items of a list response one at a time, see {@link EntityStream#forEach(EntityVisitor)}.
+ */
+public interface EntityVisitor<T> {
+
+    /**
+     * Called for each item right after it was decoded. The item is not referenced by the stream afterwards.
+     */
+    void visit(T entity);
+
+}
@@ -0,0 +1,105 @@
+package com.uwetrottmann.trakt.v2;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets identical {@code GET} calls made at the same time share one request and one decoded result. The first caller
+ * executes the request, callers arriving while it is in flight wait for it and receive the same entity, or the same
+ * exception.
+ *
+ * <p> Set it with {@link TraktV2#setRequestCoalescer(RequestCoalescer)}. Entities are shared between callers, do not
+ * modify them.
+ */
+public class RequestCoalescer {
+
+    private final ConcurrentMap<Object, Call> inFlight = new ConcurrentHashMap<Object, Call>();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong collapsedCount = new AtomicLong();
+
+    /**
+     * Number of calls which executed a request.
+     */
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /**
+     * Number of calls which did not execute a request, but received the result of an identical call in flight.
+     */
+    public long getCollapsedCount() {
+        return collapsedCount.get();
+    }
+
+    /**
+     * Number of requests currently in flight.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public String toString() {
+        return "RequestCoalescer[executed=" + executedCount + ", collapsed=" + collapsedCount + ", inFlight="
+                + getInFlightCount() + "]";
+    }
+
+    /**
+     * Runs the given call, unless a call with an equal key is in flight. Then waits for that call and returns its
+     * result or throws its exception.
+     */
+    Object execute(Object key, Invocation invocation) throws Throwable {
+        Call call = new Call();
+        Call existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            collapsedCount.incrementAndGet();
+            return existing.await();
+        }
+
+        executedCount.incrementAndGet();
+        try {
+            call.result = invocation.invoke();
+        } catch (Throwable e) {
+            call.error = e;
+        } finally {
+            // later callers start a new request
+            inFlight.remove(key, call);
+            call.done.countDown();
+        }
+        return call.await();
+    }
+
+    interface Invocation {
+        Object invoke() throws Throwable;
+    }
+
+    private static class Call {
+
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Object result;
+        private volatile Throwable error;
+
+        Object await() throws Throwable {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    // the request runs on another thread anyway, finish waiting for it
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (error != null) {
+                throw error;
+            }
+            return result;
+        }
+    }
+
+}
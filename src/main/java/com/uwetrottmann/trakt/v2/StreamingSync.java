@@ -0,0 +1,270 @@
+package com.uwetrottmann.trakt.v2;
+
+import com.google.gson.Gson;
+import com.uwetrottmann.trakt.v2.entities.BaseMovie;
+import com.uwetrottmann.trakt.v2.entities.BaseShow;
+import com.uwetrottmann.trakt.v2.entities.RatedEpisode;
+import com.uwetrottmann.trakt.v2.entities.RatedMovie;
+import com.uwetrottmann.trakt.v2.entities.RatedSeason;
+import com.uwetrottmann.trakt.v2.entities.RatedShow;
+import com.uwetrottmann.trakt.v2.entities.SlimBaseMovie;
+import com.uwetrottmann.trakt.v2.entities.SlimBaseShow;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedEpisode;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedMovie;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedSeason;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedShow;
+import com.uwetrottmann.trakt.v2.entities.WatchlistedEpisode;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import com.uwetrottmann.trakt.v2.enums.RatingsFilter;
+import com.uwetrottmann.trakt.v2.exceptions.UnauthorizedException;
+import retrofit.client.Response;
+import retrofit.http.GET;
+import retrofit.http.Path;
+import retrofit.http.Query;
+import retrofit.http.Streaming;
+
+/**
+ * Variants of the list methods of {@link com.uwetrottmann.trakt.v2.services.Sync} which decode one item at a time
+ * while reading the response, see {@link EntityStream}. Use them for libraries too large to hold in memory at once.
+ */
+public class StreamingSync {
+
+    private final Service service;
+    private final Gson gson;
+
+    StreamingSync(Service service, Gson gson) {
+        this.service = service;
+        this.gson = gson;
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#collectionMovies(Extended)}.
+     */
+    public EntityStream<BaseMovie> collectionMovies(Extended extended) throws UnauthorizedException {
+        return stream(service.collectionMovies(extended), BaseMovie.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#collectionShows(Extended)}.
+     */
+    public EntityStream<BaseShow> collectionShows(Extended extended) throws UnauthorizedException {
+        return stream(service.collectionShows(extended), BaseShow.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#watchedMovies(Extended)}.
+     */
+    public EntityStream<BaseMovie> watchedMovies(Extended extended) throws UnauthorizedException {
+        return stream(service.watchedMovies(extended), BaseMovie.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#watchedShows(Extended)}. Each show is decoded with all its
+     * seasons and episodes.
+     */
+    public EntityStream<BaseShow> watchedShows(Extended extended) throws UnauthorizedException {
+        return stream(service.watchedShows(extended), BaseShow.class);
+    }
+
+    /**
+     * Like {@link #collectionMovies(Extended)}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim}
+     * variant.
+     */
+    public EntityStream<SlimBaseMovie> collectionMoviesSlim() throws UnauthorizedException {
+        return stream(service.collectionMovies(null), SlimBaseMovie.class);
+    }
+
+    /**
+     * Like {@link #collectionShows(Extended)}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim}
+     * variant.
+     */
+    public EntityStream<SlimBaseShow> collectionShowsSlim() throws UnauthorizedException {
+        return stream(service.collectionShows(null), SlimBaseShow.class);
+    }
+
+    /**
+     * Like {@link #watchedMovies(Extended)}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim}
+     * variant.
+     */
+    public EntityStream<SlimBaseMovie> watchedMoviesSlim() throws UnauthorizedException {
+        return stream(service.watchedMovies(null), SlimBaseMovie.class);
+    }
+
+    /**
+     * Like {@link #watchedShows(Extended)}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim}
+     * variant.
+     */
+    public EntityStream<SlimBaseShow> watchedShowsSlim() throws UnauthorizedException {
+        return stream(service.watchedShows(null), SlimBaseShow.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#ratingsMovies(RatingsFilter, Extended)}.
+     */
+    public EntityStream<RatedMovie> ratingsMovies(RatingsFilter filter, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.ratingsMovies(filter, extended), RatedMovie.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#ratingsShows(RatingsFilter, Extended)}.
+     */
+    public EntityStream<RatedShow> ratingsShows(RatingsFilter filter, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.ratingsShows(filter, extended), RatedShow.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#ratingsSeasons(RatingsFilter, Extended)}.
+     */
+    public EntityStream<RatedSeason> ratingsSeasons(RatingsFilter filter, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.ratingsSeasons(filter, extended), RatedSeason.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#ratingsEpisodes(RatingsFilter, Extended)}.
+     */
+    public EntityStream<RatedEpisode> ratingsEpisodes(RatingsFilter filter, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.ratingsEpisodes(filter, extended), RatedEpisode.class);
+    }
+
+    /**
+     * Like {@link #ratingsMovies(RatingsFilter, Extended)}, but decodes the {@link
+     * com.uwetrottmann.trakt.v2.entities.Slim slim} variant.
+     */
+    public EntityStream<SlimRatedMovie> ratingsMoviesSlim(RatingsFilter filter)
+            throws UnauthorizedException {
+        return stream(service.ratingsMovies(filter, null), SlimRatedMovie.class);
+    }
+
+    /**
+     * Like {@link #ratingsShows(RatingsFilter, Extended)}, but decodes the {@link
+     * com.uwetrottmann.trakt.v2.entities.Slim slim} variant.
+     */
+    public EntityStream<SlimRatedShow> ratingsShowsSlim(RatingsFilter filter)
+            throws UnauthorizedException {
+        return stream(service.ratingsShows(filter, null), SlimRatedShow.class);
+    }
+
+    /**
+     * Like {@link #ratingsSeasons(RatingsFilter, Extended)}, but decodes the {@link
+     * com.uwetrottmann.trakt.v2.entities.Slim slim} variant.
+     */
+    public EntityStream<SlimRatedSeason> ratingsSeasonsSlim(RatingsFilter filter)
+            throws UnauthorizedException {
+        return stream(service.ratingsSeasons(filter, null), SlimRatedSeason.class);
+    }
+
+    /**
+     * Like {@link #ratingsEpisodes(RatingsFilter, Extended)}, but decodes the {@link
+     * com.uwetrottmann.trakt.v2.entities.Slim slim} variant.
+     */
+    public EntityStream<SlimRatedEpisode> ratingsEpisodesSlim(RatingsFilter filter)
+            throws UnauthorizedException {
+        return stream(service.ratingsEpisodes(filter, null), SlimRatedEpisode.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#watchlistMovies(Extended)}.
+     */
+    public EntityStream<BaseMovie> watchlistMovies(Extended extended) throws UnauthorizedException {
+        return stream(service.watchlistMovies(extended), BaseMovie.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#watchlistShows(Extended)}.
+     */
+    public EntityStream<BaseShow> watchlistShows(Extended extended) throws UnauthorizedException {
+        return stream(service.watchlistShows(extended), BaseShow.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Sync#watchlistEpisodes(Extended)}.
+     */
+    public EntityStream<WatchlistedEpisode> watchlistEpisodes(Extended extended) throws UnauthorizedException {
+        return stream(service.watchlistEpisodes(extended), WatchlistedEpisode.class);
+    }
+
+    private <T> EntityStream<T> stream(Response response, Class<T> type) {
+        return new EntityStream<T>(response, gson, type);
+    }
+
+    /**
+     * The raw responses, not read until they are passed to an {@link EntityStream}.
+     */
+    interface Service {
+
+        @Streaming
+        @GET("/sync/collection/movies")
+        Response collectionMovies(
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/sync/collection/shows")
+        Response collectionShows(
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/sync/watched/movies")
+        Response watchedMovies(
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/sync/watched/shows")
+        Response watchedShows(
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/sync/ratings/movies{rating}")
+        Response ratingsMovies(
+                @Path(value = "rating", encode = false) RatingsFilter filter,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/sync/ratings/shows{rating}")
+        Response ratingsShows(
+                @Path(value = "rating", encode = false) RatingsFilter filter,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/sync/ratings/seasons{rating}")
+        Response ratingsSeasons(
+                @Path(value = "rating", encode = false) RatingsFilter filter,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/sync/ratings/episodes{rating}")
+        Response ratingsEpisodes(
+                @Path(value = "rating", encode = false) RatingsFilter filter,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/sync/watchlist/movies")
+        Response watchlistMovies(
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/sync/watchlist/shows")
+        Response watchlistShows(
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/sync/watchlist/episodes")
+        Response watchlistEpisodes(
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+    }
+
+}
@@ -0,0 +1,277 @@
+package com.uwetrottmann.trakt.v2;
+
+import com.google.gson.Gson;
+import com.uwetrottmann.trakt.v2.entities.BaseMovie;
+import com.uwetrottmann.trakt.v2.entities.BaseShow;
+import com.uwetrottmann.trakt.v2.entities.HistoryEntry;
+import com.uwetrottmann.trakt.v2.entities.ListEntry;
+import com.uwetrottmann.trakt.v2.entities.RatedEpisode;
+import com.uwetrottmann.trakt.v2.entities.RatedMovie;
+import com.uwetrottmann.trakt.v2.entities.RatedSeason;
+import com.uwetrottmann.trakt.v2.entities.RatedShow;
+import com.uwetrottmann.trakt.v2.entities.SlimHistoryEntry;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedEpisode;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedMovie;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedSeason;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedShow;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import com.uwetrottmann.trakt.v2.enums.RatingsFilter;
+import com.uwetrottmann.trakt.v2.exceptions.UnauthorizedException;
+import retrofit.client.Response;
+import retrofit.http.GET;
+import retrofit.http.Path;
+import retrofit.http.Query;
+import retrofit.http.Streaming;
+
+/**
+ * Variants of the list methods of {@link com.uwetrottmann.trakt.v2.services.Users} which decode one item at a time
+ * while reading the response, see {@link EntityStream}. Use them for libraries and histories too large to hold in
+ * memory at once.
+ */
+public class StreamingUsers {
+
+    private final Service service;
+    private final Gson gson;
+
+    StreamingUsers(Service service, Gson gson) {
+        this.service = service;
+        this.gson = gson;
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#collectionMovies(String, Extended)}.
+     */
+    public EntityStream<BaseMovie> collectionMovies(String username, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.collectionMovies(username, extended), BaseMovie.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#collectionShows(String, Extended)}.
+     */
+    public EntityStream<BaseShow> collectionShows(String username, Extended extended) throws UnauthorizedException {
+        return stream(service.collectionShows(username, extended), BaseShow.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#listItems(String, String, Extended)}.
+     */
+    public EntityStream<ListEntry> listItems(String username, String id, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.listItems(username, id, extended), ListEntry.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#historyEpisodes(String, Integer, Integer, Extended)}.
+     */
+    public EntityStream<HistoryEntry> historyEpisodes(String username, Integer page, Integer limit,
+            Extended extended) throws UnauthorizedException {
+        return stream(service.historyEpisodes(username, page, limit, extended), HistoryEntry.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#historyMovies(String, Integer, Integer, Extended)}.
+     */
+    public EntityStream<HistoryEntry> historyMovies(String username, Integer page, Integer limit, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.historyMovies(username, page, limit, extended), HistoryEntry.class);
+    }
+
+    /**
+     * Like {@link #historyEpisodes(String, Integer, Integer, Extended)}, but decodes the {@link
+     * com.uwetrottmann.trakt.v2.entities.Slim slim} variant.
+     */
+    public EntityStream<SlimHistoryEntry> historyEpisodesSlim(String username, Integer page, Integer limit)
+            throws UnauthorizedException {
+        return stream(service.historyEpisodes(username, page, limit, null), SlimHistoryEntry.class);
+    }
+
+    /**
+     * Like {@link #historyMovies(String, Integer, Integer, Extended)}, but decodes the {@link
+     * com.uwetrottmann.trakt.v2.entities.Slim slim} variant.
+     */
+    public EntityStream<SlimHistoryEntry> historyMoviesSlim(String username, Integer page, Integer limit)
+            throws UnauthorizedException {
+        return stream(service.historyMovies(username, page, limit, null), SlimHistoryEntry.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#ratingsMovies(String, RatingsFilter, Extended)}.
+     */
+    public EntityStream<RatedMovie> ratingsMovies(String username, RatingsFilter filter, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.ratingsMovies(username, filter, extended), RatedMovie.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#ratingsShows(String, RatingsFilter, Extended)}.
+     */
+    public EntityStream<RatedShow> ratingsShows(String username, RatingsFilter filter, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.ratingsShows(username, filter, extended), RatedShow.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#ratingsSeasons(String, RatingsFilter, Extended)}.
+     */
+    public EntityStream<RatedSeason> ratingsSeasons(String username, RatingsFilter filter, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.ratingsSeasons(username, filter, extended), RatedSeason.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#ratingsEpisodes(String, RatingsFilter, Extended)}.
+     */
+    public EntityStream<RatedEpisode> ratingsEpisodes(String username, RatingsFilter filter, Extended extended)
+            throws UnauthorizedException {
+        return stream(service.ratingsEpisodes(username, filter, extended), RatedEpisode.class);
+    }
+
+    /**
+     * Like {@link #ratingsMovies(String, RatingsFilter, Extended)}, but decodes the {@link
+     * com.uwetrottmann.trakt.v2.entities.Slim slim} variant.
+     */
+    public EntityStream<SlimRatedMovie> ratingsMoviesSlim(String username, RatingsFilter filter)
+            throws UnauthorizedException {
+        return stream(service.ratingsMovies(username, filter, null), SlimRatedMovie.class);
+    }
+
+    /**
+     * Like {@link #ratingsShows(String, RatingsFilter, Extended)}, but decodes the {@link
+     * com.uwetrottmann.trakt.v2.entities.Slim slim} variant.
+     */
+    public EntityStream<SlimRatedShow> ratingsShowsSlim(String username, RatingsFilter filter)
+            throws UnauthorizedException {
+        return stream(service.ratingsShows(username, filter, null), SlimRatedShow.class);
+    }
+
+    /**
+     * Like {@link #ratingsSeasons(String, RatingsFilter, Extended)}, but decodes the {@link
+     * com.uwetrottmann.trakt.v2.entities.Slim slim} variant.
+     */
+    public EntityStream<SlimRatedSeason> ratingsSeasonsSlim(String username, RatingsFilter filter)
+            throws UnauthorizedException {
+        return stream(service.ratingsSeasons(username, filter, null), SlimRatedSeason.class);
+    }
+
+    /**
+     * Like {@link #ratingsEpisodes(String, RatingsFilter, Extended)}, but decodes the {@link
+     * com.uwetrottmann.trakt.v2.entities.Slim slim} variant.
+     */
+    public EntityStream<SlimRatedEpisode> ratingsEpisodesSlim(String username, RatingsFilter filter)
+            throws UnauthorizedException {
+        return stream(service.ratingsEpisodes(username, filter, null), SlimRatedEpisode.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#watchedMovies(String, Extended)}.
+     */
+    public EntityStream<BaseMovie> watchedMovies(String username, Extended extended) throws UnauthorizedException {
+        return stream(service.watchedMovies(username, extended), BaseMovie.class);
+    }
+
+    /**
+     * See {@link com.uwetrottmann.trakt.v2.services.Users#watchedShows(String, Extended)}. Each show is decoded with
+     * all its seasons and episodes.
+     */
+    public EntityStream<BaseShow> watchedShows(String username, Extended extended) throws UnauthorizedException {
+        return stream(service.watchedShows(username, extended), BaseShow.class);
+    }
+
+    private <T> EntityStream<T> stream(Response response, Class<T> type) {
+        return new EntityStream<T>(response, gson, type);
+    }
+
+    /**
+     * The raw responses, not read until they are passed to an {@link EntityStream}.
+     */
+    interface Service {
+
+        @Streaming
+        @GET("/users/{username}/collection/movies")
+        Response collectionMovies(
+                @Path("username") String username,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/users/{username}/collection/shows")
+        Response collectionShows(
+                @Path("username") String username,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/users/{username}/lists/{id}/items")
+        Response listItems(
+                @Path("username") String username,
+                @Path("id") String id,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/users/{username}/history/episodes")
+        Response historyEpisodes(
+                @Path("username") String username,
+                @Query("page") Integer page,
+                @Query("limit") Integer limit,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/users/{username}/history/movies")
+        Response historyMovies(
+                @Path("username") String username,
+                @Query("page") Integer page,
+                @Query("limit") Integer limit,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/users/{username}/ratings/movies{rating}")
+        Response ratingsMovies(
+                @Path("username") String username,
+                @Path(value = "rating", encode = false) RatingsFilter filter,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/users/{username}/ratings/shows{rating}")
+        Response ratingsShows(
+                @Path("username") String username,
+                @Path(value = "rating", encode = false) RatingsFilter filter,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/users/{username}/ratings/seasons{rating}")
+        Response ratingsSeasons(
+                @Path("username") String username,
+                @Path(value = "rating", encode = false) RatingsFilter filter,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/users/{username}/ratings/episodes{rating}")
+        Response ratingsEpisodes(
+                @Path("username") String username,
+                @Path(value = "rating", encode = false) RatingsFilter filter,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/users/{username}/watched/movies")
+        Response watchedMovies(
+                @Path("username") String username,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+
+        @Streaming
+        @GET("/users/{username}/watched/shows")
+        Response watchedShows(
+                @Path("username") String username,
+                @Query(value = "extended", encodeValue = false) Extended extended
+        ) throws UnauthorizedException;
+    }
+
+}
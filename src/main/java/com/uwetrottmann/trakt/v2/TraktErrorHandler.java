@@ -1,6 +1,7 @@
 package com.uwetrottmann.trakt.v2;
 
 import com.uwetrottmann.trakt.v2.exceptions.CheckinInProgressException;
+import com.uwetrottmann.trakt.v2.exceptions.RateLimitExceededException;
 import com.uwetrottmann.trakt.v2.exceptions.UnauthorizedException;
 import retrofit.ErrorHandler;
 import retrofit.RetrofitError;
@@ -12,6 +13,9 @@ import retrofit.client.Response;
  *
  * <p> Intercepts HTTP 409 Conflict responses and wraps the {@link retrofit.RetrofitError} inside a {@link
  * com.uwetrottmann.trakt.v2.exceptions.CheckinInProgressException}.
+ *
+ * <p> Intercepts HTTP 429 Too Many Requests responses and wraps the {@link retrofit.RetrofitError} inside a {@link
+ * com.uwetrottmann.trakt.v2.exceptions.RateLimitExceededException}.
  */
 public class TraktErrorHandler implements ErrorHandler {
 
@@ -25,6 +29,9 @@ public class TraktErrorHandler implements ErrorHandler {
             if (r.getUrl().endsWith("/checkin") && r.getStatus() == 409) {
                 return new CheckinInProgressException(cause);
             }
+            if (r.getStatus() == 429) {
+                return new RateLimitExceededException(cause);
+            }
         }
         return cause;
     }
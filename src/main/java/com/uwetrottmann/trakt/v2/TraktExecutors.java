@@ -0,0 +1,93 @@
+package com.uwetrottmann.trakt.v2;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory methods for the executors {@link TraktV2} runs requests on.
+ */
+public class TraktExecutors {
+
+    /** Number of threads of the platform thread pool used if virtual threads are not available. */
+    public static final int DEFAULT_MAX_THREADS = 16;
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadFactoryMethod();
+
+    private TraktExecutors() {
+    }
+
+    /**
+     * Returns {@code true} if this runtime supports virtual threads (Java 21 and newer).
+     */
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task. Blocking network I/O does not tie up a
+     * platform thread, so it is fine to submit one task per request.
+     *
+     * <p> If virtual threads are not supported, falls back to {@link #newBoundedExecutor(int)} with {@link
+     * #DEFAULT_MAX_THREADS}.
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+            } catch (Exception ignored) {
+                // e.g. disabled preview features, fall back to platform threads
+            }
+        }
+        return newBoundedExecutor(DEFAULT_MAX_THREADS);
+    }
+
+    /**
+     * Creates an executor running at most {@code maxThreads} tasks at the same time on daemon platform threads, further
+     * tasks are queued. Idle threads are stopped after a minute.
+     */
+    public static ExecutorService newBoundedExecutor(int maxThreads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new DaemonThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates an executor starting daemon platform threads as needed, idle threads are stopped after a minute. Use it
+     * for tasks which must not wait for a free thread.
+     */
+    public static ExecutorService newCachedExecutor() {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+                new DaemonThreadFactory());
+    }
+
+    private static Method findVirtualThreadFactoryMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String prefix = "trakt-" + POOL_NUMBER.getAndIncrement() + "-thread-";
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.uwetrottmann.trakt.v2;
+
+import com.uwetrottmann.trakt.v2.exceptions.RateLimitExceededException;
+import retrofit.Callback;
+import retrofit.RetrofitError;
+import retrofit.client.Response;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link retrofit.Callback} which can be waited on like a {@link java.util.concurrent.Future}. Pass it as the callback
+ * of an asynchronous service method, e.g.
+ *
+ * <pre>
+ * TraktFuture&lt;Movie&gt; movie = new TraktFuture&lt;Movie&gt;();
+ * trakt.asyncMovies().summary("tron-legacy-2010", Extended.FULL, movie);
+ * </pre>
+ *
+ * <p> If the call fails, {@link #get()} throws an {@link java.util.concurrent.ExecutionException} whose cause is the
+ * exception the blocking variant of the method would have thrown, e.g. an {@link
+ * com.uwetrottmann.trakt.v2.exceptions.UnauthorizedException} or a {@link retrofit.RetrofitError} for network errors.
+ *
+ * <p> A request can not be cancelled once it was handed to retrofit.
+ */
+public class TraktFuture<T> implements Callback<T>, Future<T> {
+
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile T result;
+    private volatile Response response;
+    private volatile Throwable error;
+
+    @Override
+    public void success(T result, Response response) {
+        this.result = result;
+        this.response = response;
+        done.countDown();
+    }
+
+    @Override
+    public void failure(RetrofitError error) {
+        this.error = unwrap(error);
+        this.response = error.getResponse();
+        done.countDown();
+    }
+
+    /**
+     * Exceptions returned by the {@link TraktErrorHandler} are wrapped into a {@link retrofit.RetrofitError} by retrofit
+     * for asynchronous calls. Unwrap them, so callers see the same exception as for blocking calls.
+     */
+    private static Throwable unwrap(RetrofitError error) {
+        Throwable cause = error.getCause();
+        if (error.getKind() == RetrofitError.Kind.UNEXPECTED && cause instanceof Exception
+                && (!(cause instanceof RuntimeException) || cause instanceof RateLimitExceededException)) {
+            return cause;
+        }
+        return error;
+    }
+
+    /**
+     * Always returns {@code false}, running requests can not be cancelled.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        done.await();
+        return getResult();
+    }
+
+    @Override
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!done.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return getResult();
+    }
+
+    /**
+     * The raw HTTP response once the call completed, or {@code null} if there was none (e.g. due to a network error).
+     */
+    public Response getResponse() {
+        return response;
+    }
+
+    private T getResult() throws ExecutionException {
+        if (error != null) {
+            throw new ExecutionException(error);
+        }
+        return result;
+    }
+
+}
@@ -17,19 +17,45 @@
 
 package com.uwetrottmann.trakt.v2;
 
+import com.google.gson.Gson;
+import com.uwetrottmann.trakt.v2.adapters.Projection;
+import com.uwetrottmann.trakt.v2.cache.CachedEntityConverter;
+import com.uwetrottmann.trakt.v2.cache.DiskCache;
+import com.uwetrottmann.trakt.v2.cache.DiskCacheClient;
+import com.uwetrottmann.trakt.v2.cache.EntityCache;
+import com.uwetrottmann.trakt.v2.cache.EntityCacheProxy;
+import com.uwetrottmann.trakt.v2.cache.ValidatorCache;
+import com.uwetrottmann.trakt.v2.cache.ValidatorCacheClient;
+import com.uwetrottmann.trakt.v2.client.CircuitBreaker;
+import com.uwetrottmann.trakt.v2.client.CircuitBreakerClient;
+import com.uwetrottmann.trakt.v2.client.CompressionStats;
+import com.uwetrottmann.trakt.v2.client.ConnectionPool;
+import com.uwetrottmann.trakt.v2.client.GzipClient;
+import com.uwetrottmann.trakt.v2.client.GzipRequestClient;
+import com.uwetrottmann.trakt.v2.client.PooledClient;
+import com.uwetrottmann.trakt.v2.client.RateLimitClient;
+import com.uwetrottmann.trakt.v2.client.RateLimiter;
+import com.uwetrottmann.trakt.v2.client.RetryClient;
+import com.uwetrottmann.trakt.v2.client.RetryPolicy;
 import com.uwetrottmann.trakt.v2.entities.Login;
 import com.uwetrottmann.trakt.v2.entities.UserToken;
 import com.uwetrottmann.trakt.v2.exceptions.LoginException;
 import com.uwetrottmann.trakt.v2.exceptions.UnauthorizedException;
+import com.uwetrottmann.trakt.v2.lazy.LazyListConverter;
+import com.uwetrottmann.trakt.v2.metrics.MetricsClient;
+import com.uwetrottmann.trakt.v2.metrics.MetricsConverter;
+import com.uwetrottmann.trakt.v2.metrics.MetricsRecorder;
 import com.uwetrottmann.trakt.v2.services.*;
 import retrofit.RequestInterceptor;
 import retrofit.RestAdapter;
-import retrofit.client.Request;
-import retrofit.client.UrlConnectionClient;
+import retrofit.client.Client;
+import retrofit.converter.Converter;
 import retrofit.converter.GsonConverter;
 
-import java.io.IOException;
-import java.net.HttpURLConnection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Helper class for easy usage of the trakt v2 API using retrofit.
@@ -50,11 +76,44 @@ public class TraktV2 {
   public static final String HEADER_TRAKT_API_KEY       = "trakt-api-key";
   public static final String HEADER_TRAKT_API_VERSION   = "trakt-api-version";
 
-  private String             apiKey;
-  private String             accessToken;
-  private String             username;
+  /**
+   * Service interfaces, blocking ones first so endpoints are named after them.
+   */
+  private static final Class<?>[] SERVICES = {
+      Calendars.class, Checkin.class, Comments.class, Genres.class, Movies.class, People.class, Recommendations.class, Search.class,
+      Shows.class, Seasons.class, Episodes.class, Sync.class, Users.class, Auth.class, AsyncCalendars.class, AsyncCheckin.class,
+      AsyncComments.class, AsyncGenres.class, AsyncMovies.class, AsyncPeople.class, AsyncRecommendations.class, AsyncSearch.class,
+      AsyncShows.class, AsyncSeasons.class, AsyncEpisodes.class, AsyncSync.class, AsyncUsers.class, AsyncAuth.class
+  };
+
+  private volatile String    apiKey;
+  private volatile String    accessToken;
+  private volatile String    username;
   private boolean            isDebug;
   private RestAdapter        restAdapter;
+  private ConnectionPool     connectionPool;
+  private Client             client;
+  private Executor           httpExecutor;
+  private Executor           callbackExecutor;
+  private boolean            useVirtualThreads;
+  private ExecutorService    executor;
+  private boolean            isGzipEnabled = true;
+  private int                requestCompressionMinSize = -1;
+  private ValidatorCache     validatorCache;
+  private DiskCache          diskCache;
+  private EntityCache        entityCache;
+  private RequestCoalescer   requestCoalescer;
+  private RateLimiter        readRateLimiter;
+  private RateLimiter        writeRateLimiter;
+  private RetryPolicy        retryPolicy;
+  private ExecutorService    hedgeExecutor;
+  private CircuitBreaker     circuitBreaker;
+  private MetricsRecorder    metricsRecorder = MetricsRecorder.NONE;
+  private boolean            isLazyLists;
+  private Projection         projection = Projection.ALL;
+  private Gson               gson;
+  private final CompressionStats compressionStats = new CompressionStats();
+  private final Map<Class<?>, Object> services = new HashMap<Class<?>, Object>();
 
   /**
    * Get a new API manager instance.
@@ -77,7 +136,7 @@ public class TraktV2 {
    */
   public TraktV2 setApiKey(String apiKey) {
     this.apiKey = apiKey;
-    restAdapter = null;
+    resetRestAdapter();
     return this;
   }
 
@@ -103,7 +162,6 @@ public class TraktV2 {
 
     // since the username is set, reset all auth data and do a login
     this.accessToken = null;
-    this.restAdapter = null;
 
     UserToken token = auth().getUserToken(new Login(username, password));
     if (token == null || token.token == null || token.token.length() == 0) {
@@ -112,13 +170,24 @@ public class TraktV2 {
     this.accessToken = token.token;
   }
 
+  /**
+   * Identifies the user the current credentials belong to, {@code null} if there are none.
+   */
+  String getAuthIdentity() {
+    String token = accessToken;
+    if (token == null || token.length() == 0) {
+      return null;
+    }
+    return username + ":" + token;
+  }
+
   /**
    * Set the {@link retrofit.RestAdapter} log level.
    *
    * @param isDebug
    *          If true, the log level is set to {@link retrofit.RestAdapter.LogLevel#FULL}. Otherwise {@link retrofit.RestAdapter.LogLevel#NONE}.
    */
-  public TraktV2 setIsDebug(boolean isDebug) {
+  public synchronized TraktV2 setIsDebug(boolean isDebug) {
     this.isDebug = isDebug;
 
     if (restAdapter != null) {
@@ -129,7 +198,427 @@ public class TraktV2 {
   }
 
   /**
-   * Create a new {@link retrofit.RestAdapter.Builder}. Override this to e.g. set your own client or executor.
+   * Set the {@link com.uwetrottmann.trakt.v2.client.ConnectionPool} used by the default transport. Share one pool between several instances
+   * to share their idle connections.
+   */
+  public TraktV2 setConnectionPool(ConnectionPool connectionPool) {
+    synchronized (this) {
+      this.connectionPool = connectionPool;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  /**
+   * Return the {@link com.uwetrottmann.trakt.v2.client.ConnectionPool} used by the default transport, e.g. to inspect its statistics. If none
+   * was set, creates one with default settings.
+   */
+  public synchronized ConnectionPool getConnectionPool() {
+    if (connectionPool == null) {
+      connectionPool = new ConnectionPool();
+    }
+    return connectionPool;
+  }
+
+  /**
+   * Set the {@link retrofit.client.Client} used to execute HTTP requests. If {@code null} (the default), a {@link
+   * com.uwetrottmann.trakt.v2.client.PooledClient} using {@link #getConnectionPool()} is used.
+   *
+   * <p>
+   * To multiplex many concurrent requests over a few HTTP/2 connections on Java 11 or newer, use a {@link
+   * com.uwetrottmann.trakt.v2.client.Http2Client}.
+   */
+  public TraktV2 setClient(Client client) {
+    synchronized (this) {
+      this.client = client;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  /**
+   * Ask for gzip or deflate compressed responses and decompress them while parsing. Enabled by default.
+   *
+   * <p>
+   * Has no effect on a {@link #setClient(Client) client} which already sets an {@code Accept-Encoding} header.
+   */
+  public TraktV2 setGzipEnabled(boolean isGzipEnabled) {
+    synchronized (this) {
+      this.isGzipEnabled = isGzipEnabled;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  /**
+   * Gzip compress request bodies of at least the given size, e.g. to speed up pushing a whole library with {@link Sync#addItemsToCollection}
+   * over a slow uplink. Disabled by default.
+   *
+   * <p>
+   * If the server rejects a compressed body, the request is sent again uncompressed and compression is turned off for that host.
+   *
+   * @param minSize
+   *          Minimum body size in bytes, e.g. {@link com.uwetrottmann.trakt.v2.client.GzipRequestClient#DEFAULT_MIN_SIZE}, or {@code -1} to
+   *          disable compression.
+   */
+  public TraktV2 setRequestCompressionMinSize(int minSize) {
+    synchronized (this) {
+      this.requestCompressionMinSize = minSize;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  /**
+   * Keep responses carrying an {@code ETag} or {@code Last-Modified} header and revalidate them with conditional requests. If the server answers
+   * {@code 304 Not Modified}, the entity decoded from the cached response is returned again without decoding, which helps when polling e.g.
+   * {@link Sync#lastActivities()} or {@link Movies#trending}. Disabled by default.
+   *
+   * <p>
+   * Entities served from the cache are shared between calls, do not modify them. Responses are cached per user.
+   *
+   * @param validatorCache
+   *          The cache to use, may be shared by several instances, or {@code null} to disable.
+   */
+  public TraktV2 setValidatorCache(ValidatorCache validatorCache) {
+    synchronized (this) {
+      this.validatorCache = validatorCache;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  public synchronized ValidatorCache getValidatorCache() {
+    return validatorCache;
+  }
+
+  /**
+   * Store responses of the endpoints configured with {@link com.uwetrottmann.trakt.v2.cache.DiskCache#setTtl} on disk, e.g. {@link
+   * Movies#summary} or {@link People#summary}, and answer requests from it without touching the network until they expire. Disabled by
+   * default.
+   *
+   * @param diskCache
+   *          The cache to use, or {@code null} to disable.
+   */
+  public TraktV2 setDiskCache(DiskCache diskCache) {
+    synchronized (this) {
+      this.diskCache = diskCache;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  public synchronized DiskCache getDiskCache() {
+    return diskCache;
+  }
+
+  /**
+   * Keep the results of service methods marked {@link com.uwetrottmann.trakt.v2.cache.Cacheable}, like {@link Movies#summary} or {@link
+   * Comments#get}, in memory and return them again for the same arguments without a request. Disabled by default.
+   *
+   * <p>
+   * Cached entities are shared between calls, do not modify them. Only the blocking services use the cache.
+   *
+   * @param entityCache
+   *          The cache to use, may be shared by several instances, or {@code null} to disable.
+   */
+  public TraktV2 setEntityCache(EntityCache entityCache) {
+    synchronized (this) {
+      this.entityCache = entityCache;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  public synchronized EntityCache getEntityCache() {
+    return entityCache;
+  }
+
+  /**
+   * Let identical {@code GET} calls of the blocking services made at the same time, e.g. by many threads asking for {@link Shows#summary}
+   * of the same show, share one request and one decoded result. Calls only coalesce if made with the same user credentials. Disabled by
+   * default.
+   *
+   * <p>
+   * Coalesced calls receive the same entity instance, do not modify it.
+   *
+   * @param requestCoalescer
+   *          The coalescer to use, may be shared by several instances, or {@code null} to disable.
+   */
+  public TraktV2 setRequestCoalescer(RequestCoalescer requestCoalescer) {
+    synchronized (this) {
+      this.requestCoalescer = requestCoalescer;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  public synchronized RequestCoalescer getRequestCoalescer() {
+    return requestCoalescer;
+  }
+
+  /**
+   * Limit the rate of requests of all services of this instance, e.g. to stay within the trakt rate limits during a bulk sync. Requests wait
+   * until the budget allows them, so blocking calls block and asynchronous calls complete later. Disabled by default.
+   *
+   * <p>
+   * If the server still answers {@code 429 Too Many Requests}, the budget pauses for the time given by {@code Retry-After} and the request is
+   * sent again. If that does not help, a {@link com.uwetrottmann.trakt.v2.exceptions.RateLimitExceededException} is thrown.
+   *
+   * @param reads
+   *          Budget for {@code GET} requests, e.g. {@link com.uwetrottmann.trakt.v2.client.RateLimiter#defaultReads()}, or {@code null} for no
+   *          limit.
+   * @param writes
+   *          Budget for {@code POST}, {@code PUT} and {@code DELETE} requests, e.g. {@link
+   *          com.uwetrottmann.trakt.v2.client.RateLimiter#defaultWrites()}, or {@code null} for no limit.
+   */
+  public TraktV2 setRateLimiters(RateLimiter reads, RateLimiter writes) {
+    synchronized (this) {
+      this.readRateLimiter = reads;
+      this.writeRateLimiter = writes;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  /**
+   * Send requests failing with a network error or a {@code 5xx} response again as allowed by the given policy, e.g. to keep a long sync
+   * run going. The policy may also hedge latency critical requests like {@link Search#textQuery}. Disabled by default.
+   *
+   * @param retryPolicy
+   *          The policy to use, e.g. {@code new RetryPolicy()} to retry idempotent requests, or {@code null} to disable.
+   */
+  public TraktV2 setRetryPolicy(RetryPolicy retryPolicy) {
+    synchronized (this) {
+      this.retryPolicy = retryPolicy;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  public synchronized RetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+
+  /**
+   * Fail requests fast while the given breaker is open, i.e. after too many recent requests failed or were slow, instead of waiting for time
+   * outs while trakt is degraded. Failed requests throw a {@link retrofit.RetrofitError} caused by a {@link
+   * com.uwetrottmann.trakt.v2.client.CircuitBreakerOpenException}, unless a {@link #setDiskCache(DiskCache) disk cache} or {@link
+   * #setValidatorCache(ValidatorCache) validator cache} still holds a response. Disabled by default.
+   *
+   * @param circuitBreaker
+   *          The breaker to use, may be shared by several instances, or {@code null} to disable. Register a {@link
+   *          com.uwetrottmann.trakt.v2.client.CircuitBreaker.Listener} to be notified of state changes.
+   */
+  public TraktV2 setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    synchronized (this) {
+      this.circuitBreaker = circuitBreaker;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  public synchronized CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  /**
+   * Measure every request and pass the request count, status, time to first byte, decode time, total time and body sizes to the given
+   * recorder, named after the service method, like {@code Movies.summary}. Use a {@link com.uwetrottmann.trakt.v2.metrics.EndpointMetrics} to
+   * keep latency histograms per method, or implement {@link MetricsRecorder} to export to a monitoring system. Disabled by default.
+   *
+   * @param metricsRecorder
+   *          The recorder to use, or {@code null} or {@link MetricsRecorder#NONE} to not measure requests at all.
+   */
+  public TraktV2 setMetricsRecorder(MetricsRecorder metricsRecorder) {
+    synchronized (this) {
+      this.metricsRecorder = metricsRecorder == null ? MetricsRecorder.NONE : metricsRecorder;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  public synchronized MetricsRecorder getMetricsRecorder() {
+    return metricsRecorder;
+  }
+
+  /**
+   * Return every list, like the result of {@link Sync#collectionMovies} or {@link Users#listItems}, as a {@link
+   * com.uwetrottmann.trakt.v2.lazy.LazyList} which keeps the response and decodes each item only when it is accessed. Saves time and
+   * memory if only a few items of a large list are used. Disabled by default.
+   *
+   * <p>
+   * Lazy lists are read-only. Items which fail to decode throw a {@link com.google.gson.JsonSyntaxException} when accessed, instead of
+   * failing the call. Caches and coalescers shared with instances not using lazy lists do not hand their results to each other.
+   */
+  public TraktV2 setLazyLists(boolean isLazyLists) {
+    synchronized (this) {
+      this.isLazyLists = isLazyLists;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  /**
+   * Decode only the fields of entities included by the given projection, like ids, title and year of a movie. Other fields are skipped
+   * without allocating their values and keep their default. Applies to all responses of this instance, use another instance (which may
+   * share the {@link #setClient(Client) client} and executors) to decode other calls completely. Caches and coalescers shared with instances
+   * using another projection do not hand their results to each other.
+   *
+   * @param projection
+   *          The fields to read, or {@code null} or {@link Projection#ALL} to read all.
+   */
+  public TraktV2 setProjection(Projection projection) {
+    synchronized (this) {
+      this.projection = projection == null ? Projection.ALL : projection;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  public synchronized Projection getProjection() {
+    return projection;
+  }
+
+  /**
+   * Return the byte counts of compressed and uncompressed requests and responses of this instance.
+   */
+  public CompressionStats getCompressionStats() {
+    return compressionStats;
+  }
+
+  /**
+   * Set the executors used by the asynchronous services, like {@link #asyncMovies()}.
+   *
+   * @param httpExecutor
+   *          Executor on which HTTP requests are executed, or {@code null} to use {@link #getExecutor()}.
+   * @param callbackExecutor
+   *          Executor on which callbacks are invoked, or {@code null} to invoke them on the HTTP executor thread.
+   */
+  public TraktV2 setExecutors(Executor httpExecutor, Executor callbackExecutor) {
+    synchronized (this) {
+      this.httpExecutor = httpExecutor;
+      this.callbackExecutor = callbackExecutor;
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  /**
+   * Run requests on virtual threads, if the JDK supports them (Java 21 and newer). Otherwise falls back to a bounded pool of platform threads.
+   * Affects {@link #getExecutor()} and with it the asynchronous services, unless {@link #setExecutors(Executor, Executor)} was used.
+   *
+   * <p>
+   * With virtual threads, it is fine to submit one task per show or movie to {@link #getExecutor()} without sizing a thread pool, as waiting
+   * for a response does not block a platform thread. Still, at most {@link ConnectionPool#getMaxConnectionsPerHost()} requests are sent at
+   * the same time: the default transport then lets the other requests wait for a connection in order, without a timeout. To send more at
+   * once, {@link #setConnectionPool(ConnectionPool) set a pool} allowing more connections per host.
+   */
+  public TraktV2 setUseVirtualThreads(boolean useVirtualThreads) {
+    ExecutorService previous;
+    synchronized (this) {
+      this.useVirtualThreads = useVirtualThreads;
+      previous = executor;
+      executor = null;
+    }
+    if (previous != null) {
+      // let already submitted tasks complete
+      previous.shutdown();
+    }
+    resetRestAdapter();
+    return this;
+  }
+
+  /**
+   * Return the executor to run blocking service calls on, which also executes the requests of the asynchronous services by default.
+   *
+   * <p>
+   * Creates a virtual thread per task if enabled by {@link #setUseVirtualThreads(boolean)} and supported, otherwise queues tasks for a pool
+   * of {@link TraktExecutors#DEFAULT_MAX_THREADS} platform threads.
+   */
+  public synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = useVirtualThreads ? TraktExecutors.newVirtualThreadExecutor()
+          : TraktExecutors.newBoundedExecutor(TraktExecutors.DEFAULT_MAX_THREADS);
+    }
+    return executor;
+  }
+
+  /**
+   * Create the {@link retrofit.client.Client} used to execute HTTP requests. Override this to e.g. wrap the default transport.
+   */
+  protected Client newClient() {
+    if (client != null) {
+      return client;
+    }
+    PooledClient pooledClient = new PooledClient(getConnectionPool());
+    if (useVirtualThreads) {
+      // tasks are cheap, many of them may queue for a connection
+      pooledClient.setConnectionWaitTimeoutMillis(0);
+    }
+    return pooledClient;
+  }
+
+  /**
+   * Wrap the transport returned by {@link #newClient()} into the enabled decorators.
+   */
+  private Client buildClient() {
+    Client client = newClient();
+    if (requestCompressionMinSize >= 0) {
+      client = new GzipRequestClient(client, requestCompressionMinSize, compressionStats);
+    }
+    if (isGzipEnabled) {
+      client = new GzipClient(client, compressionStats);
+    }
+    if (readRateLimiter != null || writeRateLimiter != null) {
+      client = new RateLimitClient(client, readRateLimiter, writeRateLimiter);
+    }
+    if (retryPolicy != null) {
+      // every retry waits for the rate limit
+      if (hedgeExecutor == null) {
+        hedgeExecutor = TraktExecutors.newCachedExecutor();
+      }
+      client = new RetryClient(client, retryPolicy, hedgeExecutor);
+    }
+    if (circuitBreaker != null) {
+      // a call counts once, whether it was retried or not, caches above may step in while it is open
+      client = new CircuitBreakerClient(client, circuitBreaker);
+    }
+    if (diskCache != null) {
+      // store decompressed bodies
+      client = new DiskCacheClient(client, diskCache);
+    }
+    if (validatorCache != null) {
+      client = new ValidatorCacheClient(client, validatorCache);
+    }
+    if (metricsRecorder != MetricsRecorder.NONE) {
+      // measure calls as the caller sees them, including cache hits and retries
+      client = new MetricsClient(client, metricsRecorder, SERVICES);
+    }
+    return client;
+  }
+
+  private Converter buildConverter() {
+    Converter converter = new GsonConverter(getGson());
+    if (isLazyLists) {
+      converter = new LazyListConverter(converter, getGson());
+    }
+    if (validatorCache != null) {
+      converter = new CachedEntityConverter(converter, getDecoding());
+    }
+    if (metricsRecorder != MetricsRecorder.NONE) {
+      converter = new MetricsConverter(converter);
+    }
+    return converter;
+  }
+
+  /**
+   * Create a new {@link retrofit.RestAdapter.Builder}. Override this to e.g. set your own {@link retrofit.RestAdapter.Log} or {@link
+   * retrofit.Profiler}.
+   *
+   * <p>
+   * The client and executors are set on the builder afterwards, so setting them here has no effect. Use {@link #setClient(Client)} or
+   * override {@link #newClient()} for the client, and {@link #setExecutors(Executor, Executor)} for the executors.
    *
    * @return A {@link retrofit.RestAdapter.Builder} with no modifications.
    */
@@ -138,16 +627,46 @@ public class TraktV2 {
   }
 
   /**
-   * Return the current {@link retrofit.RestAdapter} instance. If none exists (first call, API key changed), builds a new one.
+   * Drop the current {@link retrofit.RestAdapter} and all services created from it, so they are built again with the new
+   * configuration on next use.
+   */
+  protected synchronized void resetRestAdapter() {
+    restAdapter = null;
+    gson = null;
+    services.clear();
+  }
+
+  /**
+   * Return the {@link Gson} instance decoding responses, the shared one of {@link TraktV2Helper#getGson()} unless a {@link
+   * #setProjection(Projection) projection} is set.
+   */
+  protected synchronized Gson getGson() {
+    if (gson == null) {
+      gson = projection == Projection.ALL ? TraktV2Helper.getGson() : TraktV2Helper.getGsonBuilder(projection).create();
+    }
+    return gson;
+  }
+
+  /**
+   * Identifies how responses are decoded, so caches and coalescers shared with instances decoding differently keep their entities apart.
+   */
+  private Decoding getDecoding() {
+    return new Decoding(projection, isLazyLists);
+  }
+
+  /**
+   * Return the current {@link retrofit.RestAdapter} instance. If none exists (first call, configuration changed), builds a
+   * new one.
    *
    * <p>
-   * When building, sets the endpoint, a {@link retrofit.RequestInterceptor} which adds the API key and version headers and sets the log level.
+   * When building, sets the endpoint, a {@link retrofit.RequestInterceptor} which adds the API key and version headers and sets the log level. The
+   * interceptor reads the credentials on every request, so logging in or out does not require a new adapter.
    */
-  protected RestAdapter getRestAdapter() {
-    if (restAdapter == null || accessToken == null || accessToken.length() == 0) {
+  protected synchronized RestAdapter getRestAdapter() {
+    if (restAdapter == null) {
       RestAdapter.Builder builder = newRestAdapterBuilder();
       builder.setEndpoint(API_URL);
-      builder.setConverter(new GsonConverter(TraktV2Helper.getGsonBuilder().create()));
+      builder.setConverter(buildConverter());
 
       // supply the API key and if available OAuth access token
       builder.setRequestInterceptor(new RequestInterceptor() {
@@ -172,8 +691,9 @@ public class TraktV2 {
         builder.setLogLevel(RestAdapter.LogLevel.FULL);
       }
 
-      // increase timeouts
-      builder.setClient(new MyUrlConnectionClient());
+      builder.setClient(buildClient());
+
+      builder.setExecutors(httpExecutor != null ? httpExecutor : getExecutor(), callbackExecutor);
 
       restAdapter = builder.build();
     }
@@ -181,13 +701,35 @@ public class TraktV2 {
     return restAdapter;
   }
 
+  /**
+   * Return the service proxy for the given interface. Proxies are created once per {@link retrofit.RestAdapter} and re-used until the
+   * configuration changes. If an {@link #setEntityCache(EntityCache) entity cache} is set, cacheable methods are answered from it. If a {@link
+   * #setRequestCoalescer(RequestCoalescer) request coalescer} is set, identical concurrent calls share one request.
+   */
+  @SuppressWarnings("unchecked")
+  protected synchronized <T> T getService(Class<T> service) {
+    T instance = (T) services.get(service);
+    if (instance == null) {
+      instance = getRestAdapter().create(service);
+      if (entityCache != null) {
+        instance = EntityCacheProxy.wrap(service, instance, entityCache, getDecoding());
+      }
+      if (requestCoalescer != null) {
+        // coalesce cache misses as well
+        instance = CoalescingProxy.wrap(this, service, instance, requestCoalescer, getDecoding());
+      }
+      services.put(service, instance);
+    }
+    return instance;
+  }
+
   /**
    * By default, the calendar will return all shows or movies for the specified time period. If OAuth is sent, the items returned will be limited to
    * what the user has watched, collected, or added to their watchlist. You'll most likely want to send OAuth to make the calendar more relevant to
    * the user.
    */
   public Calendars calendars() {
-    return getRestAdapter().create(Calendars.class);
+    return getService(Calendars.class);
   }
 
   /**
@@ -195,7 +737,7 @@ public class TraktV2 {
    * live tv, at a friend's house, or watching a movie in theaters. You can simply checkin from your phone or tablet in those situations.
    */
   public Checkin checkin() {
-    return getRestAdapter().create(Checkin.class);
+    return getService(Checkin.class);
   }
 
   /**
@@ -203,22 +745,22 @@ public class TraktV2 {
    * replies and can be voted up or down. These votes are used to determine popular comments.
    */
   public Comments comments() {
-    return getRestAdapter().create(Comments.class);
+    return getService(Comments.class);
   }
 
   /**
    * One or more genres are attached to all movies and shows. Some API methods allow filtering by genre, so it's good to cache this list in your app.
    */
   public Genres genres() {
-    return getRestAdapter().create(Genres.class);
+    return getService(Genres.class);
   }
 
   public Movies movies() {
-    return getRestAdapter().create(Movies.class);
+    return getService(Movies.class);
   }
 
   public People people() {
-    return getRestAdapter().create(People.class);
+    return getService(People.class);
   }
 
   /**
@@ -226,7 +768,7 @@ public class TraktV2 {
    * further personalize what gets recommended.
    */
   public Recommendations recommendations() {
-    return getRestAdapter().create(Recommendations.class);
+    return getService(Recommendations.class);
   }
 
   /**
@@ -234,40 +776,177 @@ public class TraktV2 {
    * ID and want to get the trakt ID and info. This method will search for movies, shows, episodes, people, users, and lists.
    */
   public Search search() {
-    return getRestAdapter().create(Search.class);
+    return getService(Search.class);
   }
 
   public Shows shows() {
-    return getRestAdapter().create(Shows.class);
+    return getService(Shows.class);
   }
 
   public Seasons seasons() {
-    return getRestAdapter().create(Seasons.class);
+    return getService(Seasons.class);
   }
 
   public Episodes episodes() {
-    return getRestAdapter().create(Episodes.class);
+    return getService(Episodes.class);
   }
 
   public Sync sync() {
-    return getRestAdapter().create(Sync.class);
+    return getService(Sync.class);
   }
 
   public Users users() {
-    return getRestAdapter().create(Users.class);
+    return getService(Users.class);
   }
 
   public Auth auth() {
-    return getRestAdapter().create(Auth.class);
+    return getService(Auth.class);
   }
 
-  private final class MyUrlConnectionClient extends UrlConnectionClient {
+  /**
+   * Variants of the list methods of {@link #sync()} which decode one item at a time while reading the response, so a large library is never held
+   * in memory at once.
+   */
+  public StreamingSync streamingSync() {
+    return new StreamingSync(getService(StreamingSync.Service.class), getGson());
+  }
+
+  /**
+   * Variants of the list methods of {@link #users()} which decode one item at a time while reading the response, so a large library or history is
+   * never held in memory at once.
+   */
+  public StreamingUsers streamingUsers() {
+    return new StreamingUsers(getService(StreamingUsers.Service.class), getGson());
+  }
+
+  /**
+   * Asynchronous variant of {@link #calendars()}.
+   */
+  public AsyncCalendars asyncCalendars() {
+    return getService(AsyncCalendars.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #checkin()}.
+   */
+  public AsyncCheckin asyncCheckin() {
+    return getService(AsyncCheckin.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #comments()}.
+   */
+  public AsyncComments asyncComments() {
+    return getService(AsyncComments.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #genres()}.
+   */
+  public AsyncGenres asyncGenres() {
+    return getService(AsyncGenres.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #movies()}.
+   */
+  public AsyncMovies asyncMovies() {
+    return getService(AsyncMovies.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #people()}.
+   */
+  public AsyncPeople asyncPeople() {
+    return getService(AsyncPeople.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #recommendations()}.
+   */
+  public AsyncRecommendations asyncRecommendations() {
+    return getService(AsyncRecommendations.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #search()}.
+   */
+  public AsyncSearch asyncSearch() {
+    return getService(AsyncSearch.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #shows()}.
+   */
+  public AsyncShows asyncShows() {
+    return getService(AsyncShows.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #seasons()}.
+   */
+  public AsyncSeasons asyncSeasons() {
+    return getService(AsyncSeasons.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #episodes()}.
+   */
+  public AsyncEpisodes asyncEpisodes() {
+    return getService(AsyncEpisodes.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #sync()}.
+   */
+  public AsyncSync asyncSync() {
+    return getService(AsyncSync.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #users()}.
+   */
+  public AsyncUsers asyncUsers() {
+    return getService(AsyncUsers.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #auth()}.
+   */
+  public AsyncAuth asyncAuth() {
+    return getService(AsyncAuth.class);
+  }
+
+  /**
+   * The settings of an instance affecting decoded entities, equal for instances decoding alike.
+   */
+  private static final class Decoding {
+
+    private final Projection projection;
+    private final boolean isLazyLists;
+
+    Decoding(Projection projection, boolean isLazyLists) {
+      this.projection = projection;
+      this.isLazyLists = isLazyLists;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Decoding)) {
+        return false;
+      }
+      Decoding other = (Decoding) o;
+      return projection.equals(other.projection) && isLazyLists == other.isLazyLists;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * projection.hashCode() + (isLazyLists ? 1 : 0);
+    }
+
     @Override
-    protected HttpURLConnection openConnection(Request request) throws IOException {
-      HttpURLConnection connection = super.openConnection(request);
-      connection.setConnectTimeout(25 * 1000);
-      connection.setReadTimeout(45 * 1000);
-      return connection;
+    public String toString() {
+      return "Decoding[projection=" + projection + ", lazyLists=" + isLazyLists + "]";
     }
   }
 }
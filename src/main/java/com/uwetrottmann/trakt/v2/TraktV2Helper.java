@@ -1,83 +1,45 @@
 package com.uwetrottmann.trakt.v2;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-import com.uwetrottmann.trakt.v2.enums.ListPrivacy;
-import com.uwetrottmann.trakt.v2.enums.Rating;
-import com.uwetrottmann.trakt.v2.enums.Status;
+import com.uwetrottmann.trakt.v2.adapters.DateTimeTypeAdapter;
+import com.uwetrottmann.trakt.v2.adapters.EntityTypeAdapterFactory;
+import com.uwetrottmann.trakt.v2.adapters.Projection;
+import com.uwetrottmann.trakt.v2.adapters.TraktEnumTypeAdapterFactory;
 import org.joda.time.DateTime;
-import org.joda.time.format.DateTimeFormatter;
-import org.joda.time.format.ISODateTimeFormat;
-
-import java.lang.reflect.Type;
 
 public class TraktV2Helper {
 
-    private static final DateTimeFormatter ISO_8601_WITH_MILLIS;
-
-    static {
-        ISO_8601_WITH_MILLIS = ISODateTimeFormat.dateTimeParser().withZoneUTC();
+    /**
+     * Returns a {@link Gson} instance configured by {@link #getGsonBuilder()}. The instance is created once and shared,
+     * as it is thread-safe and caches its type adapters.
+     */
+    public static Gson getGson() {
+        return GsonHolder.GSON;
     }
 
     public static GsonBuilder getGsonBuilder() {
-        GsonBuilder builder = new GsonBuilder();
-
-        // trakt exclusively uses ISO 8601 dates with milliseconds in Zulu time (UTC)
-        builder.registerTypeAdapter(DateTime.class, new JsonDeserializer<DateTime>() {
-            @Override
-            public DateTime deserialize(JsonElement json, Type typeOfT,
-                    JsonDeserializationContext context) throws JsonParseException {
-                // using the correct parser right away should save init time compared to new DateTime(<string>)
-                return ISO_8601_WITH_MILLIS.parseDateTime(json.getAsString());
-            }
-        });
-        builder.registerTypeAdapter(DateTime.class, new JsonSerializer<DateTime>() {
-            @Override
-            public JsonElement serialize(DateTime src, Type typeOfSrc, JsonSerializationContext context) {
-                return new JsonPrimitive(src.toString());
-            }
-        });
-
-        // privacy
-        builder.registerTypeAdapter(ListPrivacy.class, new JsonDeserializer<ListPrivacy>() {
-            @Override
-            public ListPrivacy deserialize(JsonElement json, Type typeOfT,
-                    JsonDeserializationContext context) throws JsonParseException {
-                return ListPrivacy.fromValue(json.getAsString());
-            }
-        });
+        return getGsonBuilder(Projection.ALL);
+    }
 
-        // rating
-        builder.registerTypeAdapter(Rating.class, new JsonDeserializer<Rating>() {
-            @Override
-            public Rating deserialize(JsonElement json, Type typeOfT,
-                    JsonDeserializationContext context) throws JsonParseException {
-                return Rating.fromValue(json.getAsInt());
-            }
-        });
-        builder.registerTypeAdapter(Rating.class, new JsonSerializer<Rating>() {
-            @Override
-            public JsonElement serialize(Rating src, Type typeOfSrc, JsonSerializationContext context) {
-                return new JsonPrimitive(src.value);
-            }
-        });
+    /**
+     * Like {@link #getGsonBuilder()}, but entities skip the fields left out by the given projection when read.
+     */
+    public static GsonBuilder getGsonBuilder(Projection projection) {
+        GsonBuilder builder = new GsonBuilder();
 
-        // status
-        builder.registerTypeAdapter(Status.class, new JsonDeserializer<Status>() {
-            @Override
-            public Status deserialize(JsonElement json, Type typeOfT,
-                    JsonDeserializationContext context) throws JsonParseException {
-                return Status.fromValue(json.getAsString());
-            }
-        });
+        // read straight from the stream instead of building a JsonElement for each value
+        builder.registerTypeAdapter(DateTime.class, new DateTimeTypeAdapter());
+        // privacy, rating, status and all other enums by their value
+        builder.registerTypeAdapterFactory(new TraktEnumTypeAdapterFactory());
+        // generated adapters for all entities, instead of building them by reflection
+        builder.registerTypeAdapterFactory(new EntityTypeAdapterFactory(projection));
 
         return builder;
     }
 
+    private static class GsonHolder {
+        private static final Gson GSON = getGsonBuilder().create();
+    }
+
 }
@@ -0,0 +1,41 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.joda.time.DateTime;
+
+import java.io.IOException;
+
+/**
+ * Reads ISO 8601 date times, trakt exclusively uses them with milliseconds in Zulu time (UTC), straight from the
+ * stream with an {@link IsoDateTimeParser}. Writes them in the same format.
+ */
+public class DateTimeTypeAdapter extends TypeAdapter<DateTime> {
+
+    @Override
+    public DateTime read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String value = in.nextString();
+        try {
+            return IsoDateTimeParser.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new JsonSyntaxException("Invalid date time " + value, e);
+        }
+    }
+
+    @Override
+    public void write(JsonWriter out, DateTime value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.toString());
+        }
+    }
+
+}
@@ -0,0 +1,7069 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.uwetrottmann.trakt.v2.entities.Account;
+import com.uwetrottmann.trakt.v2.entities.Airs;
+import com.uwetrottmann.trakt.v2.entities.BaseEpisode;
+import com.uwetrottmann.trakt.v2.entities.BaseMovie;
+import com.uwetrottmann.trakt.v2.entities.BaseRatedEntity;
+import com.uwetrottmann.trakt.v2.entities.BaseSeason;
+import com.uwetrottmann.trakt.v2.entities.BaseShow;
+import com.uwetrottmann.trakt.v2.entities.CalendarEntry;
+import com.uwetrottmann.trakt.v2.entities.CastMember;
+import com.uwetrottmann.trakt.v2.entities.CheckinError;
+import com.uwetrottmann.trakt.v2.entities.Comment;
+import com.uwetrottmann.trakt.v2.entities.Connections;
+import com.uwetrottmann.trakt.v2.entities.Credits;
+import com.uwetrottmann.trakt.v2.entities.Crew;
+import com.uwetrottmann.trakt.v2.entities.CrewMember;
+import com.uwetrottmann.trakt.v2.entities.Episode;
+import com.uwetrottmann.trakt.v2.entities.EpisodeCheckin;
+import com.uwetrottmann.trakt.v2.entities.EpisodeCheckinResponse;
+import com.uwetrottmann.trakt.v2.entities.EpisodeIds;
+import com.uwetrottmann.trakt.v2.entities.Followed;
+import com.uwetrottmann.trakt.v2.entities.Follower;
+import com.uwetrottmann.trakt.v2.entities.Friend;
+import com.uwetrottmann.trakt.v2.entities.Genre;
+import com.uwetrottmann.trakt.v2.entities.HistoryEntry;
+import com.uwetrottmann.trakt.v2.entities.ImageSizes;
+import com.uwetrottmann.trakt.v2.entities.Images;
+import com.uwetrottmann.trakt.v2.entities.LastActivities;
+import com.uwetrottmann.trakt.v2.entities.LastActivity;
+import com.uwetrottmann.trakt.v2.entities.LastActivityMore;
+import com.uwetrottmann.trakt.v2.entities.List;
+import com.uwetrottmann.trakt.v2.entities.ListEntry;
+import com.uwetrottmann.trakt.v2.entities.ListIds;
+import com.uwetrottmann.trakt.v2.entities.Login;
+import com.uwetrottmann.trakt.v2.entities.MoreImageSizes;
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import com.uwetrottmann.trakt.v2.entities.MovieCheckin;
+import com.uwetrottmann.trakt.v2.entities.MovieCheckinResponse;
+import com.uwetrottmann.trakt.v2.entities.MovieIds;
+import com.uwetrottmann.trakt.v2.entities.MovieTranslation;
+import com.uwetrottmann.trakt.v2.entities.Person;
+import com.uwetrottmann.trakt.v2.entities.PersonIds;
+import com.uwetrottmann.trakt.v2.entities.RatedEpisode;
+import com.uwetrottmann.trakt.v2.entities.RatedMovie;
+import com.uwetrottmann.trakt.v2.entities.RatedSeason;
+import com.uwetrottmann.trakt.v2.entities.RatedShow;
+import com.uwetrottmann.trakt.v2.entities.Ratings;
+import com.uwetrottmann.trakt.v2.entities.SearchResult;
+import com.uwetrottmann.trakt.v2.entities.Season;
+import com.uwetrottmann.trakt.v2.entities.SeasonIds;
+import com.uwetrottmann.trakt.v2.entities.Settings;
+import com.uwetrottmann.trakt.v2.entities.ShareSettings;
+import com.uwetrottmann.trakt.v2.entities.SharingText;
+import com.uwetrottmann.trakt.v2.entities.Show;
+import com.uwetrottmann.trakt.v2.entities.ShowIds;
+import com.uwetrottmann.trakt.v2.entities.SlimBaseEpisode;
+import com.uwetrottmann.trakt.v2.entities.SlimBaseMovie;
+import com.uwetrottmann.trakt.v2.entities.SlimBaseRatedEntity;
+import com.uwetrottmann.trakt.v2.entities.SlimBaseSeason;
+import com.uwetrottmann.trakt.v2.entities.SlimBaseShow;
+import com.uwetrottmann.trakt.v2.entities.SlimEpisode;
+import com.uwetrottmann.trakt.v2.entities.SlimEpisodeIds;
+import com.uwetrottmann.trakt.v2.entities.SlimHistoryEntry;
+import com.uwetrottmann.trakt.v2.entities.SlimMovie;
+import com.uwetrottmann.trakt.v2.entities.SlimMovieIds;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedEpisode;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedMovie;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedSeason;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedShow;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
+import com.uwetrottmann.trakt.v2.entities.SlimSeason;
+import com.uwetrottmann.trakt.v2.entities.SlimSeasonIds;
+import com.uwetrottmann.trakt.v2.entities.SlimShow;
+import com.uwetrottmann.trakt.v2.entities.SlimShowIds;
+import com.uwetrottmann.trakt.v2.entities.SyncEpisode;
+import com.uwetrottmann.trakt.v2.entities.SyncErrors;
+import com.uwetrottmann.trakt.v2.entities.SyncItems;
+import com.uwetrottmann.trakt.v2.entities.SyncMovie;
+import com.uwetrottmann.trakt.v2.entities.SyncResponse;
+import com.uwetrottmann.trakt.v2.entities.SyncSeason;
+import com.uwetrottmann.trakt.v2.entities.SyncShow;
+import com.uwetrottmann.trakt.v2.entities.SyncStats;
+import com.uwetrottmann.trakt.v2.entities.Translation;
+import com.uwetrottmann.trakt.v2.entities.TrendingMovie;
+import com.uwetrottmann.trakt.v2.entities.TrendingShow;
+import com.uwetrottmann.trakt.v2.entities.User;
+import com.uwetrottmann.trakt.v2.entities.UserToken;
+import com.uwetrottmann.trakt.v2.entities.WatchlistedEpisode;
+import com.uwetrottmann.trakt.v2.enums.ListPrivacy;
+import com.uwetrottmann.trakt.v2.enums.Rating;
+import com.uwetrottmann.trakt.v2.enums.Status;
+import org.joda.time.DateTime;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Type adapters for all entities, generated from their fields so Gson does not have to build them by reflection
+ * on first use. They read and write like Gson's reflective adapters with the default field naming. Field names
+ * are looked up in a table built once per entity, values of unknown fields are skipped without decoding them,
+ * as are the values of fields left out by a {@link Projection}. Values of fields repeated across entities, like
+ * the network of a show, are shared through a {@link StringPool}. The {@code long} date times of the slim entities
+ * are read without creating a {@link org.joda.time.DateTime}, see {@link EpochMillisTypeAdapter}.
+ *
+ * <p> Generated, do not edit. Run {@code EntityAdapterGenerator} in the tests after changing an entity, {@code
+ * EntityTypeAdapterFactoryTest} fails while this file is out of date.
+ */
+public class EntityTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final TypeToken<java.util.List<BaseEpisode>> LIST_OF_BASE_EPISODE =
+            new TypeToken<java.util.List<BaseEpisode>>() {
+            };
+    private static final TypeToken<java.util.List<BaseSeason>> LIST_OF_BASE_SEASON =
+            new TypeToken<java.util.List<BaseSeason>>() {
+            };
+    private static final TypeToken<java.util.List<CastMember>> LIST_OF_CAST_MEMBER =
+            new TypeToken<java.util.List<CastMember>>() {
+            };
+    private static final TypeToken<java.util.List<CrewMember>> LIST_OF_CREW_MEMBER =
+            new TypeToken<java.util.List<CrewMember>>() {
+            };
+    private static final TypeToken<java.util.List<String>> LIST_OF_STRING =
+            new TypeToken<java.util.List<String>>() {
+            };
+    private static final TypeToken<Map<String, Integer>> MAP_OF_STRING_INTEGER =
+            new TypeToken<Map<String, Integer>>() {
+            };
+    private static final TypeToken<java.util.List<SlimBaseEpisode>> LIST_OF_SLIM_BASE_EPISODE =
+            new TypeToken<java.util.List<SlimBaseEpisode>>() {
+            };
+    private static final TypeToken<java.util.List<SlimBaseSeason>> LIST_OF_SLIM_BASE_SEASON =
+            new TypeToken<java.util.List<SlimBaseSeason>>() {
+            };
+    private static final TypeToken<java.util.List<SyncMovie>> LIST_OF_SYNC_MOVIE =
+            new TypeToken<java.util.List<SyncMovie>>() {
+            };
+    private static final TypeToken<java.util.List<SyncShow>> LIST_OF_SYNC_SHOW =
+            new TypeToken<java.util.List<SyncShow>>() {
+            };
+    private static final TypeToken<java.util.List<SyncSeason>> LIST_OF_SYNC_SEASON =
+            new TypeToken<java.util.List<SyncSeason>>() {
+            };
+    private static final TypeToken<java.util.List<SyncEpisode>> LIST_OF_SYNC_EPISODE =
+            new TypeToken<java.util.List<SyncEpisode>>() {
+            };
+
+    private final Projection projection;
+    private final StringPool strings;
+
+    public EntityTypeAdapterFactory() {
+        this(Projection.ALL);
+    }
+
+    /**
+     * @param projection Fields to skip when reading, see {@link Projection}.
+     */
+    public EntityTypeAdapterFactory(Projection projection) {
+        this(projection, new StringPool());
+    }
+
+    /**
+     * @param projection Fields to skip when reading, see {@link Projection}.
+     * @param strings Shares the values of fields with few distinct values, or {@link StringPool#NONE}.
+     */
+    public EntityTypeAdapterFactory(Projection projection, StringPool strings) {
+        this.projection = projection;
+        this.strings = strings;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (rawType == Account.class) {
+            return (TypeAdapter<T>) new AccountAdapter(gson, projection);
+        }
+        if (rawType == Airs.class) {
+            return (TypeAdapter<T>) new AirsAdapter(gson, projection, strings);
+        }
+        if (rawType == BaseEpisode.class) {
+            return (TypeAdapter<T>) new BaseEpisodeAdapter(gson, projection);
+        }
+        if (rawType == BaseMovie.class) {
+            return (TypeAdapter<T>) new BaseMovieAdapter(gson, projection);
+        }
+        if (rawType == BaseRatedEntity.class) {
+            return (TypeAdapter<T>) new BaseRatedEntityAdapter(gson, projection);
+        }
+        if (rawType == BaseSeason.class) {
+            return (TypeAdapter<T>) new BaseSeasonAdapter(gson, projection);
+        }
+        if (rawType == BaseShow.class) {
+            return (TypeAdapter<T>) new BaseShowAdapter(gson, projection);
+        }
+        if (rawType == CalendarEntry.class) {
+            return (TypeAdapter<T>) new CalendarEntryAdapter(gson, projection);
+        }
+        if (rawType == CastMember.class) {
+            return (TypeAdapter<T>) new CastMemberAdapter(gson, projection);
+        }
+        if (rawType == CheckinError.class) {
+            return (TypeAdapter<T>) new CheckinErrorAdapter(gson, projection);
+        }
+        if (rawType == Comment.class) {
+            return (TypeAdapter<T>) new CommentAdapter(gson, projection);
+        }
+        if (rawType == Connections.class) {
+            return (TypeAdapter<T>) new ConnectionsAdapter(gson, projection);
+        }
+        if (rawType == Credits.class) {
+            return (TypeAdapter<T>) new CreditsAdapter(gson, projection);
+        }
+        if (rawType == Crew.class) {
+            return (TypeAdapter<T>) new CrewAdapter(gson, projection);
+        }
+        if (rawType == CrewMember.class) {
+            return (TypeAdapter<T>) new CrewMemberAdapter(gson, projection);
+        }
+        if (rawType == Episode.class) {
+            return (TypeAdapter<T>) new EpisodeAdapter(gson, projection);
+        }
+        if (rawType == EpisodeCheckin.class) {
+            return (TypeAdapter<T>) new EpisodeCheckinAdapter(gson, projection);
+        }
+        if (rawType == EpisodeCheckinResponse.class) {
+            return (TypeAdapter<T>) new EpisodeCheckinResponseAdapter(gson, projection);
+        }
+        if (rawType == EpisodeIds.class) {
+            return (TypeAdapter<T>) new EpisodeIdsAdapter(gson, projection);
+        }
+        if (rawType == Followed.class) {
+            return (TypeAdapter<T>) new FollowedAdapter(gson, projection);
+        }
+        if (rawType == Follower.class) {
+            return (TypeAdapter<T>) new FollowerAdapter(gson, projection);
+        }
+        if (rawType == Friend.class) {
+            return (TypeAdapter<T>) new FriendAdapter(gson, projection);
+        }
+        if (rawType == Genre.class) {
+            return (TypeAdapter<T>) new GenreAdapter(gson, projection);
+        }
+        if (rawType == HistoryEntry.class) {
+            return (TypeAdapter<T>) new HistoryEntryAdapter(gson, projection, strings);
+        }
+        if (rawType == ImageSizes.class) {
+            return (TypeAdapter<T>) new ImageSizesAdapter(gson, projection);
+        }
+        if (rawType == Images.class) {
+            return (TypeAdapter<T>) new ImagesAdapter(gson, projection);
+        }
+        if (rawType == LastActivities.class) {
+            return (TypeAdapter<T>) new LastActivitiesAdapter(gson, projection);
+        }
+        if (rawType == LastActivity.class) {
+            return (TypeAdapter<T>) new LastActivityAdapter(gson, projection);
+        }
+        if (rawType == LastActivityMore.class) {
+            return (TypeAdapter<T>) new LastActivityMoreAdapter(gson, projection);
+        }
+        if (rawType == List.class) {
+            return (TypeAdapter<T>) new ListAdapter(gson, projection);
+        }
+        if (rawType == ListEntry.class) {
+            return (TypeAdapter<T>) new ListEntryAdapter(gson, projection);
+        }
+        if (rawType == ListIds.class) {
+            return (TypeAdapter<T>) new ListIdsAdapter(gson, projection);
+        }
+        if (rawType == Login.class) {
+            return (TypeAdapter<T>) new LoginAdapter(gson, projection);
+        }
+        if (rawType == MoreImageSizes.class) {
+            return (TypeAdapter<T>) new MoreImageSizesAdapter(gson, projection);
+        }
+        if (rawType == Movie.class) {
+            return (TypeAdapter<T>) new MovieAdapter(gson, projection, strings);
+        }
+        if (rawType == MovieCheckin.class) {
+            return (TypeAdapter<T>) new MovieCheckinAdapter(gson, projection);
+        }
+        if (rawType == MovieCheckinResponse.class) {
+            return (TypeAdapter<T>) new MovieCheckinResponseAdapter(gson, projection);
+        }
+        if (rawType == MovieIds.class) {
+            return (TypeAdapter<T>) new MovieIdsAdapter(gson, projection);
+        }
+        if (rawType == MovieTranslation.class) {
+            return (TypeAdapter<T>) new MovieTranslationAdapter(gson, projection);
+        }
+        if (rawType == Person.class) {
+            return (TypeAdapter<T>) new PersonAdapter(gson, projection);
+        }
+        if (rawType == PersonIds.class) {
+            return (TypeAdapter<T>) new PersonIdsAdapter(gson, projection);
+        }
+        if (rawType == RatedEpisode.class) {
+            return (TypeAdapter<T>) new RatedEpisodeAdapter(gson, projection);
+        }
+        if (rawType == RatedMovie.class) {
+            return (TypeAdapter<T>) new RatedMovieAdapter(gson, projection);
+        }
+        if (rawType == RatedSeason.class) {
+            return (TypeAdapter<T>) new RatedSeasonAdapter(gson, projection);
+        }
+        if (rawType == RatedShow.class) {
+            return (TypeAdapter<T>) new RatedShowAdapter(gson, projection);
+        }
+        if (rawType == Ratings.class) {
+            return (TypeAdapter<T>) new RatingsAdapter(gson, projection);
+        }
+        if (rawType == SearchResult.class) {
+            return (TypeAdapter<T>) new SearchResultAdapter(gson, projection);
+        }
+        if (rawType == Season.class) {
+            return (TypeAdapter<T>) new SeasonAdapter(gson, projection);
+        }
+        if (rawType == SeasonIds.class) {
+            return (TypeAdapter<T>) new SeasonIdsAdapter(gson, projection);
+        }
+        if (rawType == Settings.class) {
+            return (TypeAdapter<T>) new SettingsAdapter(gson, projection);
+        }
+        if (rawType == ShareSettings.class) {
+            return (TypeAdapter<T>) new ShareSettingsAdapter(gson, projection);
+        }
+        if (rawType == SharingText.class) {
+            return (TypeAdapter<T>) new SharingTextAdapter(gson, projection);
+        }
+        if (rawType == Show.class) {
+            return (TypeAdapter<T>) new ShowAdapter(gson, projection, strings);
+        }
+        if (rawType == ShowIds.class) {
+            return (TypeAdapter<T>) new ShowIdsAdapter(gson, projection);
+        }
+        if (rawType == SlimBaseEpisode.class) {
+            return (TypeAdapter<T>) new SlimBaseEpisodeAdapter(gson, projection);
+        }
+        if (rawType == SlimBaseMovie.class) {
+            return (TypeAdapter<T>) new SlimBaseMovieAdapter(gson, projection);
+        }
+        if (rawType == SlimBaseRatedEntity.class) {
+            return (TypeAdapter<T>) new SlimBaseRatedEntityAdapter(gson, projection);
+        }
+        if (rawType == SlimBaseSeason.class) {
+            return (TypeAdapter<T>) new SlimBaseSeasonAdapter(gson, projection);
+        }
+        if (rawType == SlimBaseShow.class) {
+            return (TypeAdapter<T>) new SlimBaseShowAdapter(gson, projection);
+        }
+        if (rawType == SlimEpisode.class) {
+            return (TypeAdapter<T>) new SlimEpisodeAdapter(gson, projection);
+        }
+        if (rawType == SlimEpisodeIds.class) {
+            return (TypeAdapter<T>) new SlimEpisodeIdsAdapter(gson, projection);
+        }
+        if (rawType == SlimHistoryEntry.class) {
+            return (TypeAdapter<T>) new SlimHistoryEntryAdapter(gson, projection, strings);
+        }
+        if (rawType == SlimMovie.class) {
+            return (TypeAdapter<T>) new SlimMovieAdapter(gson, projection);
+        }
+        if (rawType == SlimMovieIds.class) {
+            return (TypeAdapter<T>) new SlimMovieIdsAdapter(gson, projection);
+        }
+        if (rawType == SlimRatedEpisode.class) {
+            return (TypeAdapter<T>) new SlimRatedEpisodeAdapter(gson, projection);
+        }
+        if (rawType == SlimRatedMovie.class) {
+            return (TypeAdapter<T>) new SlimRatedMovieAdapter(gson, projection);
+        }
+        if (rawType == SlimRatedSeason.class) {
+            return (TypeAdapter<T>) new SlimRatedSeasonAdapter(gson, projection);
+        }
+        if (rawType == SlimRatedShow.class) {
+            return (TypeAdapter<T>) new SlimRatedShowAdapter(gson, projection);
+        }
+        if (rawType == SlimRatings.class) {
+            return (TypeAdapter<T>) new SlimRatingsAdapter(gson, projection);
+        }
+        if (rawType == SlimSeason.class) {
+            return (TypeAdapter<T>) new SlimSeasonAdapter(gson, projection);
+        }
+        if (rawType == SlimSeasonIds.class) {
+            return (TypeAdapter<T>) new SlimSeasonIdsAdapter(gson, projection);
+        }
+        if (rawType == SlimShow.class) {
+            return (TypeAdapter<T>) new SlimShowAdapter(gson, projection);
+        }
+        if (rawType == SlimShowIds.class) {
+            return (TypeAdapter<T>) new SlimShowIdsAdapter(gson, projection);
+        }
+        if (rawType == SyncEpisode.class) {
+            return (TypeAdapter<T>) new SyncEpisodeAdapter(gson, projection);
+        }
+        if (rawType == SyncErrors.class) {
+            return (TypeAdapter<T>) new SyncErrorsAdapter(gson, projection);
+        }
+        if (rawType == SyncItems.class) {
+            return (TypeAdapter<T>) new SyncItemsAdapter(gson, projection);
+        }
+        if (rawType == SyncMovie.class) {
+            return (TypeAdapter<T>) new SyncMovieAdapter(gson, projection);
+        }
+        if (rawType == SyncResponse.class) {
+            return (TypeAdapter<T>) new SyncResponseAdapter(gson, projection);
+        }
+        if (rawType == SyncSeason.class) {
+            return (TypeAdapter<T>) new SyncSeasonAdapter(gson, projection);
+        }
+        if (rawType == SyncShow.class) {
+            return (TypeAdapter<T>) new SyncShowAdapter(gson, projection);
+        }
+        if (rawType == SyncStats.class) {
+            return (TypeAdapter<T>) new SyncStatsAdapter(gson, projection);
+        }
+        if (rawType == Translation.class) {
+            return (TypeAdapter<T>) new TranslationAdapter(gson, projection);
+        }
+        if (rawType == TrendingMovie.class) {
+            return (TypeAdapter<T>) new TrendingMovieAdapter(gson, projection);
+        }
+        if (rawType == TrendingShow.class) {
+            return (TypeAdapter<T>) new TrendingShowAdapter(gson, projection);
+        }
+        if (rawType == User.class) {
+            return (TypeAdapter<T>) new UserAdapter(gson, projection);
+        }
+        if (rawType == UserToken.class) {
+            return (TypeAdapter<T>) new UserTokenAdapter(gson, projection);
+        }
+        if (rawType == WatchlistedEpisode.class) {
+            return (TypeAdapter<T>) new WatchlistedEpisodeAdapter(gson, projection);
+        }
+        return null;
+    }
+
+    /**
+     * Like Gson's adapter for lists of strings, the strings taken from the pool.
+     */
+    private static java.util.List<String> readStrings(JsonReader in, StringPool strings) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        java.util.List<String> values = new ArrayList<String>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(strings.get(readString(in)));
+        }
+        in.endArray();
+        return values;
+    }
+
+    private static Map<String, Integer> fields(String... names) {
+        Map<String, Integer> fields = new HashMap<String, Integer>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            fields.put(names[i], i);
+        }
+        return fields;
+    }
+
+    /**
+     * Like Gson's adapter for strings, also reads booleans and numbers.
+     */
+    private static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    /**
+     * Like Gson's adapter for integers, also reads numeric strings.
+     */
+    private static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Like Gson's adapter for booleans, also reads strings.
+     */
+    private static Boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+
+    private static void writeBoolean(JsonWriter out, Boolean value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value);
+        }
+    }
+
+    /**
+     * Like Gson's reflective adapters, writes all fields of a subclass if the value is one.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void writeRuntimeType(Gson gson, TypeAdapter<T> adapter, Class<T> type, JsonWriter out,
+            T value) throws IOException {
+        if (value != null && value.getClass() != type) {
+            adapter = (TypeAdapter<T>) gson.getAdapter(value.getClass());
+        }
+        adapter.write(out, value);
+    }
+
+    private static final class AccountAdapter extends TypeAdapter<Account> {
+
+        private static final Map<String, Integer> FIELDS = fields("timezone", "cover_image");
+
+        private final boolean[] skipped;
+
+        AccountAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Account.class, FIELDS);
+        }
+
+        @Override
+        public Account read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Account value = new Account();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.timezone = readString(in);
+                            break;
+                        case 1:
+                            value.cover_image = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Account value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("timezone");
+            out.value(value.timezone);
+            out.name("cover_image");
+            out.value(value.cover_image);
+            out.endObject();
+        }
+    }
+
+    private static final class AirsAdapter extends TypeAdapter<Airs> {
+
+        private static final Map<String, Integer> FIELDS = fields("day", "time", "timezone");
+
+        private final boolean[] skipped;
+        private final StringPool strings;
+
+        AirsAdapter(Gson gson, Projection projection, StringPool strings) {
+            skipped = projection.skipped(Airs.class, FIELDS);
+            this.strings = strings;
+        }
+
+        @Override
+        public Airs read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Airs value = new Airs();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.day = strings.get(readString(in));
+                            break;
+                        case 1:
+                            value.time = strings.get(readString(in));
+                            break;
+                        case 2:
+                            value.timezone = strings.get(readString(in));
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Airs value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("day");
+            out.value(value.day);
+            out.name("time");
+            out.value(value.time);
+            out.name("timezone");
+            out.value(value.timezone);
+            out.endObject();
+        }
+    }
+
+    private static final class BaseEpisodeAdapter extends TypeAdapter<BaseEpisode> {
+
+        private static final Map<String, Integer> FIELDS = fields("number", "collected_at", "last_watched_at", "plays",
+                "completed");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+
+        BaseEpisodeAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(BaseEpisode.class, FIELDS);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+        }
+
+        @Override
+        public BaseEpisode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BaseEpisode value = new BaseEpisode();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.number = readInteger(in);
+                            break;
+                        case 1:
+                            value.collected_at = dateTimeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.last_watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.plays = readInteger(in);
+                            break;
+                        case 4:
+                            value.completed = readBoolean(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, BaseEpisode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("number");
+            out.value(value.number);
+            out.name("collected_at");
+            dateTimeAdapter.write(out, value.collected_at);
+            out.name("last_watched_at");
+            dateTimeAdapter.write(out, value.last_watched_at);
+            out.name("plays");
+            out.value(value.plays);
+            out.name("completed");
+            writeBoolean(out, value.completed);
+            out.endObject();
+        }
+    }
+
+    private static final class BaseMovieAdapter extends TypeAdapter<BaseMovie> {
+
+        private static final Map<String, Integer> FIELDS = fields("movie", "collected_at", "last_watched_at",
+                "listed_at", "plays");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Movie> movieAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+
+        BaseMovieAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(BaseMovie.class, FIELDS);
+            this.gson = gson;
+            movieAdapter = gson.getAdapter(Movie.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+        }
+
+        @Override
+        public BaseMovie read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BaseMovie value = new BaseMovie();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                        case 1:
+                            value.collected_at = dateTimeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.last_watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.listed_at = dateTimeAdapter.read(in);
+                            break;
+                        case 4:
+                            Integer plays = readInteger(in);
+                            if (plays != null) {
+                                value.plays = plays;
+                            }
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, BaseMovie value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.name("collected_at");
+            dateTimeAdapter.write(out, value.collected_at);
+            out.name("last_watched_at");
+            dateTimeAdapter.write(out, value.last_watched_at);
+            out.name("listed_at");
+            dateTimeAdapter.write(out, value.listed_at);
+            out.name("plays");
+            out.value(value.plays);
+            out.endObject();
+        }
+    }
+
+    private static final class BaseRatedEntityAdapter extends TypeAdapter<BaseRatedEntity> {
+
+        private static final Map<String, Integer> FIELDS = fields("rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        BaseRatedEntityAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(BaseRatedEntity.class, FIELDS);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public BaseRatedEntity read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BaseRatedEntity value = new BaseRatedEntity();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, BaseRatedEntity value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class BaseSeasonAdapter extends TypeAdapter<BaseSeason> {
+
+        private static final Map<String, Integer> FIELDS = fields("number", "episodes", "aired", "completed");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<java.util.List<BaseEpisode>> listOfBaseEpisodeAdapter;
+
+        BaseSeasonAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(BaseSeason.class, FIELDS);
+            listOfBaseEpisodeAdapter = gson.getAdapter(LIST_OF_BASE_EPISODE);
+        }
+
+        @Override
+        public BaseSeason read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BaseSeason value = new BaseSeason();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.number = readInteger(in);
+                            break;
+                        case 1:
+                            value.episodes = listOfBaseEpisodeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.aired = readInteger(in);
+                            break;
+                        case 3:
+                            value.completed = readInteger(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, BaseSeason value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("number");
+            out.value(value.number);
+            out.name("episodes");
+            listOfBaseEpisodeAdapter.write(out, value.episodes);
+            out.name("aired");
+            out.value(value.aired);
+            out.name("completed");
+            out.value(value.completed);
+            out.endObject();
+        }
+    }
+
+    private static final class BaseShowAdapter extends TypeAdapter<BaseShow> {
+
+        private static final Map<String, Integer> FIELDS = fields("show", "seasons", "last_collected_at", "listed_at",
+                "plays", "last_watched_at", "aired", "completed", "next_episode");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<java.util.List<BaseSeason>> listOfBaseSeasonAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Episode> episodeAdapter;
+
+        BaseShowAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(BaseShow.class, FIELDS);
+            this.gson = gson;
+            showAdapter = gson.getAdapter(Show.class);
+            listOfBaseSeasonAdapter = gson.getAdapter(LIST_OF_BASE_SEASON);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            episodeAdapter = gson.getAdapter(Episode.class);
+        }
+
+        @Override
+        public BaseShow read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BaseShow value = new BaseShow();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 1:
+                            value.seasons = listOfBaseSeasonAdapter.read(in);
+                            break;
+                        case 2:
+                            value.last_collected_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.listed_at = dateTimeAdapter.read(in);
+                            break;
+                        case 4:
+                            value.plays = readInteger(in);
+                            break;
+                        case 5:
+                            value.last_watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 6:
+                            value.aired = readInteger(in);
+                            break;
+                        case 7:
+                            value.completed = readInteger(in);
+                            break;
+                        case 8:
+                            value.next_episode = episodeAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, BaseShow value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("seasons");
+            listOfBaseSeasonAdapter.write(out, value.seasons);
+            out.name("last_collected_at");
+            dateTimeAdapter.write(out, value.last_collected_at);
+            out.name("listed_at");
+            dateTimeAdapter.write(out, value.listed_at);
+            out.name("plays");
+            out.value(value.plays);
+            out.name("last_watched_at");
+            dateTimeAdapter.write(out, value.last_watched_at);
+            out.name("aired");
+            out.value(value.aired);
+            out.name("completed");
+            out.value(value.completed);
+            out.name("next_episode");
+            writeRuntimeType(gson, episodeAdapter, Episode.class, out, value.next_episode);
+            out.endObject();
+        }
+    }
+
+    private static final class CalendarEntryAdapter extends TypeAdapter<CalendarEntry> {
+
+        private static final Map<String, Integer> FIELDS = fields("airs_at", "episode", "show", "movie");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Episode> episodeAdapter;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<Movie> movieAdapter;
+
+        CalendarEntryAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(CalendarEntry.class, FIELDS);
+            this.gson = gson;
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            episodeAdapter = gson.getAdapter(Episode.class);
+            showAdapter = gson.getAdapter(Show.class);
+            movieAdapter = gson.getAdapter(Movie.class);
+        }
+
+        @Override
+        public CalendarEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CalendarEntry value = new CalendarEntry();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.airs_at = dateTimeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.episode = episodeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 3:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, CalendarEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("airs_at");
+            dateTimeAdapter.write(out, value.airs_at);
+            out.name("episode");
+            writeRuntimeType(gson, episodeAdapter, Episode.class, out, value.episode);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.endObject();
+        }
+    }
+
+    private static final class CastMemberAdapter extends TypeAdapter<CastMember> {
+
+        private static final Map<String, Integer> FIELDS = fields("character", "movie", "show", "person");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Movie> movieAdapter;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<Person> personAdapter;
+
+        CastMemberAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(CastMember.class, FIELDS);
+            this.gson = gson;
+            movieAdapter = gson.getAdapter(Movie.class);
+            showAdapter = gson.getAdapter(Show.class);
+            personAdapter = gson.getAdapter(Person.class);
+        }
+
+        @Override
+        public CastMember read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CastMember value = new CastMember();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.character = readString(in);
+                            break;
+                        case 1:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                        case 2:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 3:
+                            value.person = personAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, CastMember value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("character");
+            out.value(value.character);
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("person");
+            writeRuntimeType(gson, personAdapter, Person.class, out, value.person);
+            out.endObject();
+        }
+    }
+
+    private static final class CheckinErrorAdapter extends TypeAdapter<CheckinError> {
+
+        private static final Map<String, Integer> FIELDS = fields("expires_at");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+
+        CheckinErrorAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(CheckinError.class, FIELDS);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+        }
+
+        @Override
+        public CheckinError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CheckinError value = new CheckinError();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.expires_at = dateTimeAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, CheckinError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("expires_at");
+            dateTimeAdapter.write(out, value.expires_at);
+            out.endObject();
+        }
+    }
+
+    private static final class CommentAdapter extends TypeAdapter<Comment> {
+
+        private static final Map<String, Integer> FIELDS = fields("id", "parent_id", "created_at", "comment", "spoiler",
+                "review", "replies", "user", "movie", "show", "episode");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<User> userAdapter;
+        private final TypeAdapter<Movie> movieAdapter;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<Episode> episodeAdapter;
+
+        CommentAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Comment.class, FIELDS);
+            this.gson = gson;
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            userAdapter = gson.getAdapter(User.class);
+            movieAdapter = gson.getAdapter(Movie.class);
+            showAdapter = gson.getAdapter(Show.class);
+            episodeAdapter = gson.getAdapter(Episode.class);
+        }
+
+        @Override
+        public Comment read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Comment value = new Comment();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.id = readInteger(in);
+                            break;
+                        case 1:
+                            value.parent_id = readInteger(in);
+                            break;
+                        case 2:
+                            value.created_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.comment = readString(in);
+                            break;
+                        case 4:
+                            value.spoiler = readBoolean(in);
+                            break;
+                        case 5:
+                            value.review = readBoolean(in);
+                            break;
+                        case 6:
+                            value.replies = readInteger(in);
+                            break;
+                        case 7:
+                            value.user = userAdapter.read(in);
+                            break;
+                        case 8:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                        case 9:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 10:
+                            value.episode = episodeAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Comment value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id");
+            out.value(value.id);
+            out.name("parent_id");
+            out.value(value.parent_id);
+            out.name("created_at");
+            dateTimeAdapter.write(out, value.created_at);
+            out.name("comment");
+            out.value(value.comment);
+            out.name("spoiler");
+            writeBoolean(out, value.spoiler);
+            out.name("review");
+            writeBoolean(out, value.review);
+            out.name("replies");
+            out.value(value.replies);
+            out.name("user");
+            writeRuntimeType(gson, userAdapter, User.class, out, value.user);
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("episode");
+            writeRuntimeType(gson, episodeAdapter, Episode.class, out, value.episode);
+            out.endObject();
+        }
+    }
+
+    private static final class ConnectionsAdapter extends TypeAdapter<Connections> {
+
+        private static final Map<String, Integer> FIELDS = fields("facebook", "twitter", "tumblr");
+
+        private final boolean[] skipped;
+
+        ConnectionsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Connections.class, FIELDS);
+        }
+
+        @Override
+        public Connections read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Connections value = new Connections();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.facebook = readBoolean(in);
+                            break;
+                        case 1:
+                            value.twitter = readBoolean(in);
+                            break;
+                        case 2:
+                            value.tumblr = readBoolean(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Connections value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("facebook");
+            writeBoolean(out, value.facebook);
+            out.name("twitter");
+            writeBoolean(out, value.twitter);
+            out.name("tumblr");
+            writeBoolean(out, value.tumblr);
+            out.endObject();
+        }
+    }
+
+    private static final class CreditsAdapter extends TypeAdapter<Credits> {
+
+        private static final Map<String, Integer> FIELDS = fields("cast", "crew");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<java.util.List<CastMember>> listOfCastMemberAdapter;
+        private final TypeAdapter<Crew> crewAdapter;
+
+        CreditsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Credits.class, FIELDS);
+            this.gson = gson;
+            listOfCastMemberAdapter = gson.getAdapter(LIST_OF_CAST_MEMBER);
+            crewAdapter = gson.getAdapter(Crew.class);
+        }
+
+        @Override
+        public Credits read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Credits value = new Credits();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.cast = listOfCastMemberAdapter.read(in);
+                            break;
+                        case 1:
+                            value.crew = crewAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Credits value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("cast");
+            listOfCastMemberAdapter.write(out, value.cast);
+            out.name("crew");
+            writeRuntimeType(gson, crewAdapter, Crew.class, out, value.crew);
+            out.endObject();
+        }
+    }
+
+    private static final class CrewAdapter extends TypeAdapter<Crew> {
+
+        private static final Map<String, Integer> FIELDS = fields("writing", "production", "directing",
+                "costume & make-up", "art", "sound", "camera");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<java.util.List<CrewMember>> listOfCrewMemberAdapter;
+
+        CrewAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Crew.class, FIELDS);
+            listOfCrewMemberAdapter = gson.getAdapter(LIST_OF_CREW_MEMBER);
+        }
+
+        @Override
+        public Crew read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Crew value = new Crew();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.writing = listOfCrewMemberAdapter.read(in);
+                            break;
+                        case 1:
+                            value.production = listOfCrewMemberAdapter.read(in);
+                            break;
+                        case 2:
+                            value.directing = listOfCrewMemberAdapter.read(in);
+                            break;
+                        case 3:
+                            value.costumeAndMakeUp = listOfCrewMemberAdapter.read(in);
+                            break;
+                        case 4:
+                            value.art = listOfCrewMemberAdapter.read(in);
+                            break;
+                        case 5:
+                            value.sound = listOfCrewMemberAdapter.read(in);
+                            break;
+                        case 6:
+                            value.camera = listOfCrewMemberAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Crew value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("writing");
+            listOfCrewMemberAdapter.write(out, value.writing);
+            out.name("production");
+            listOfCrewMemberAdapter.write(out, value.production);
+            out.name("directing");
+            listOfCrewMemberAdapter.write(out, value.directing);
+            out.name("costume & make-up");
+            listOfCrewMemberAdapter.write(out, value.costumeAndMakeUp);
+            out.name("art");
+            listOfCrewMemberAdapter.write(out, value.art);
+            out.name("sound");
+            listOfCrewMemberAdapter.write(out, value.sound);
+            out.name("camera");
+            listOfCrewMemberAdapter.write(out, value.camera);
+            out.endObject();
+        }
+    }
+
+    private static final class CrewMemberAdapter extends TypeAdapter<CrewMember> {
+
+        private static final Map<String, Integer> FIELDS = fields("job", "movie", "show", "person");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Movie> movieAdapter;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<Person> personAdapter;
+
+        CrewMemberAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(CrewMember.class, FIELDS);
+            this.gson = gson;
+            movieAdapter = gson.getAdapter(Movie.class);
+            showAdapter = gson.getAdapter(Show.class);
+            personAdapter = gson.getAdapter(Person.class);
+        }
+
+        @Override
+        public CrewMember read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CrewMember value = new CrewMember();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.job = readString(in);
+                            break;
+                        case 1:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                        case 2:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 3:
+                            value.person = personAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, CrewMember value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("job");
+            out.value(value.job);
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("person");
+            writeRuntimeType(gson, personAdapter, Person.class, out, value.person);
+            out.endObject();
+        }
+    }
+
+    private static final class EpisodeAdapter extends TypeAdapter<Episode> {
+
+        private static final Map<String, Integer> FIELDS = fields("season", "number", "ids", "number_abs", "overview",
+                "first_aired", "rating", "title", "updated_at", "images", "available_translations");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<EpisodeIds> episodeIdsAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<Images> imagesAdapter;
+        private final TypeAdapter<java.util.List<String>> listOfStringAdapter;
+
+        EpisodeAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Episode.class, FIELDS);
+            this.gson = gson;
+            episodeIdsAdapter = gson.getAdapter(EpisodeIds.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            imagesAdapter = gson.getAdapter(Images.class);
+            listOfStringAdapter = gson.getAdapter(LIST_OF_STRING);
+        }
+
+        @Override
+        public Episode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Episode value = new Episode();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.season = readInteger(in);
+                            break;
+                        case 1:
+                            value.number = readInteger(in);
+                            break;
+                        case 2:
+                            value.ids = episodeIdsAdapter.read(in);
+                            break;
+                        case 3:
+                            value.number_abs = readInteger(in);
+                            break;
+                        case 4:
+                            value.overview = readString(in);
+                            break;
+                        case 5:
+                            value.first_aired = dateTimeAdapter.read(in);
+                            break;
+                        case 6:
+                            value.rating = doubleAdapter.read(in);
+                            break;
+                        case 7:
+                            value.title = readString(in);
+                            break;
+                        case 8:
+                            value.updated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 9:
+                            value.images = imagesAdapter.read(in);
+                            break;
+                        case 10:
+                            value.available_translations = listOfStringAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Episode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("season");
+            out.value(value.season);
+            out.name("number");
+            out.value(value.number);
+            out.name("ids");
+            writeRuntimeType(gson, episodeIdsAdapter, EpisodeIds.class, out, value.ids);
+            out.name("number_abs");
+            out.value(value.number_abs);
+            out.name("overview");
+            out.value(value.overview);
+            out.name("first_aired");
+            dateTimeAdapter.write(out, value.first_aired);
+            out.name("rating");
+            doubleAdapter.write(out, value.rating);
+            out.name("title");
+            out.value(value.title);
+            out.name("updated_at");
+            dateTimeAdapter.write(out, value.updated_at);
+            out.name("images");
+            writeRuntimeType(gson, imagesAdapter, Images.class, out, value.images);
+            out.name("available_translations");
+            listOfStringAdapter.write(out, value.available_translations);
+            out.endObject();
+        }
+    }
+
+    private static final class EpisodeCheckinAdapter extends TypeAdapter<EpisodeCheckin> {
+
+        private static final Map<String, Integer> FIELDS = fields("episode", "sharing", "message", "venue_id",
+                "venue_name", "app_version", "app_date");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SyncEpisode> syncEpisodeAdapter;
+        private final TypeAdapter<ShareSettings> shareSettingsAdapter;
+
+        EpisodeCheckinAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(EpisodeCheckin.class, FIELDS);
+            this.gson = gson;
+            syncEpisodeAdapter = gson.getAdapter(SyncEpisode.class);
+            shareSettingsAdapter = gson.getAdapter(ShareSettings.class);
+        }
+
+        @Override
+        public EpisodeCheckin read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EpisodeCheckin value = new EpisodeCheckin();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.episode = syncEpisodeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.sharing = shareSettingsAdapter.read(in);
+                            break;
+                        case 2:
+                            value.message = readString(in);
+                            break;
+                        case 3:
+                            value.venue_id = readString(in);
+                            break;
+                        case 4:
+                            value.venue_name = readString(in);
+                            break;
+                        case 5:
+                            value.app_version = readString(in);
+                            break;
+                        case 6:
+                            value.app_date = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, EpisodeCheckin value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("episode");
+            writeRuntimeType(gson, syncEpisodeAdapter, SyncEpisode.class, out, value.episode);
+            out.name("sharing");
+            writeRuntimeType(gson, shareSettingsAdapter, ShareSettings.class, out, value.sharing);
+            out.name("message");
+            out.value(value.message);
+            out.name("venue_id");
+            out.value(value.venue_id);
+            out.name("venue_name");
+            out.value(value.venue_name);
+            out.name("app_version");
+            out.value(value.app_version);
+            out.name("app_date");
+            out.value(value.app_date);
+            out.endObject();
+        }
+    }
+
+    private static final class EpisodeCheckinResponseAdapter extends TypeAdapter<EpisodeCheckinResponse> {
+
+        private static final Map<String, Integer> FIELDS = fields("episode", "show", "watched_at", "sharing");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Episode> episodeAdapter;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<ShareSettings> shareSettingsAdapter;
+
+        EpisodeCheckinResponseAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(EpisodeCheckinResponse.class, FIELDS);
+            this.gson = gson;
+            episodeAdapter = gson.getAdapter(Episode.class);
+            showAdapter = gson.getAdapter(Show.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            shareSettingsAdapter = gson.getAdapter(ShareSettings.class);
+        }
+
+        @Override
+        public EpisodeCheckinResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EpisodeCheckinResponse value = new EpisodeCheckinResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.episode = episodeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 2:
+                            value.watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.sharing = shareSettingsAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, EpisodeCheckinResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("episode");
+            writeRuntimeType(gson, episodeAdapter, Episode.class, out, value.episode);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("watched_at");
+            dateTimeAdapter.write(out, value.watched_at);
+            out.name("sharing");
+            writeRuntimeType(gson, shareSettingsAdapter, ShareSettings.class, out, value.sharing);
+            out.endObject();
+        }
+    }
+
+    private static final class EpisodeIdsAdapter extends TypeAdapter<EpisodeIds> {
+
+        private static final Map<String, Integer> FIELDS = fields("tvdb", "tvrage", "trakt", "imdb", "tmdb");
+
+        private final boolean[] skipped;
+
+        EpisodeIdsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(EpisodeIds.class, FIELDS);
+        }
+
+        @Override
+        public EpisodeIds read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EpisodeIds value = new EpisodeIds();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.tvdb = readInteger(in);
+                            break;
+                        case 1:
+                            value.tvrage = readInteger(in);
+                            break;
+                        case 2:
+                            value.trakt = readInteger(in);
+                            break;
+                        case 3:
+                            value.imdb = readString(in);
+                            break;
+                        case 4:
+                            value.tmdb = readInteger(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, EpisodeIds value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("tvdb");
+            out.value(value.tvdb);
+            out.name("tvrage");
+            out.value(value.tvrage);
+            out.name("trakt");
+            out.value(value.trakt);
+            out.name("imdb");
+            out.value(value.imdb);
+            out.name("tmdb");
+            out.value(value.tmdb);
+            out.endObject();
+        }
+    }
+
+    private static final class FollowedAdapter extends TypeAdapter<Followed> {
+
+        private static final Map<String, Integer> FIELDS = fields("approved_at", "user");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<User> userAdapter;
+
+        FollowedAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Followed.class, FIELDS);
+            this.gson = gson;
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            userAdapter = gson.getAdapter(User.class);
+        }
+
+        @Override
+        public Followed read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Followed value = new Followed();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.approved_at = dateTimeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.user = userAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Followed value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("approved_at");
+            dateTimeAdapter.write(out, value.approved_at);
+            out.name("user");
+            writeRuntimeType(gson, userAdapter, User.class, out, value.user);
+            out.endObject();
+        }
+    }
+
+    private static final class FollowerAdapter extends TypeAdapter<Follower> {
+
+        private static final Map<String, Integer> FIELDS = fields("followed_at", "user");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<User> userAdapter;
+
+        FollowerAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Follower.class, FIELDS);
+            this.gson = gson;
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            userAdapter = gson.getAdapter(User.class);
+        }
+
+        @Override
+        public Follower read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Follower value = new Follower();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.followed_at = dateTimeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.user = userAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Follower value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("followed_at");
+            dateTimeAdapter.write(out, value.followed_at);
+            out.name("user");
+            writeRuntimeType(gson, userAdapter, User.class, out, value.user);
+            out.endObject();
+        }
+    }
+
+    private static final class FriendAdapter extends TypeAdapter<Friend> {
+
+        private static final Map<String, Integer> FIELDS = fields("friends_at", "user");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<User> userAdapter;
+
+        FriendAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Friend.class, FIELDS);
+            this.gson = gson;
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            userAdapter = gson.getAdapter(User.class);
+        }
+
+        @Override
+        public Friend read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Friend value = new Friend();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.friends_at = dateTimeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.user = userAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Friend value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("friends_at");
+            dateTimeAdapter.write(out, value.friends_at);
+            out.name("user");
+            writeRuntimeType(gson, userAdapter, User.class, out, value.user);
+            out.endObject();
+        }
+    }
+
+    private static final class GenreAdapter extends TypeAdapter<Genre> {
+
+        private static final Map<String, Integer> FIELDS = fields("name", "slug");
+
+        private final boolean[] skipped;
+
+        GenreAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Genre.class, FIELDS);
+        }
+
+        @Override
+        public Genre read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Genre value = new Genre();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.name = readString(in);
+                            break;
+                        case 1:
+                            value.slug = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Genre value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("name");
+            out.value(value.name);
+            out.name("slug");
+            out.value(value.slug);
+            out.endObject();
+        }
+    }
+
+    private static final class HistoryEntryAdapter extends TypeAdapter<HistoryEntry> {
+
+        private static final Map<String, Integer> FIELDS = fields("watched_at", "action", "episode", "show", "movie");
+
+        private final boolean[] skipped;
+        private final StringPool strings;
+        private final Gson gson;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Episode> episodeAdapter;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<Movie> movieAdapter;
+
+        HistoryEntryAdapter(Gson gson, Projection projection, StringPool strings) {
+            skipped = projection.skipped(HistoryEntry.class, FIELDS);
+            this.strings = strings;
+            this.gson = gson;
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            episodeAdapter = gson.getAdapter(Episode.class);
+            showAdapter = gson.getAdapter(Show.class);
+            movieAdapter = gson.getAdapter(Movie.class);
+        }
+
+        @Override
+        public HistoryEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            HistoryEntry value = new HistoryEntry();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.action = strings.get(readString(in));
+                            break;
+                        case 2:
+                            value.episode = episodeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 4:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, HistoryEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("watched_at");
+            dateTimeAdapter.write(out, value.watched_at);
+            out.name("action");
+            out.value(value.action);
+            out.name("episode");
+            writeRuntimeType(gson, episodeAdapter, Episode.class, out, value.episode);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.endObject();
+        }
+    }
+
+    private static final class ImageSizesAdapter extends TypeAdapter<ImageSizes> {
+
+        private static final Map<String, Integer> FIELDS = fields("full");
+
+        private final boolean[] skipped;
+
+        ImageSizesAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(ImageSizes.class, FIELDS);
+        }
+
+        @Override
+        public ImageSizes read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ImageSizes value = new ImageSizes();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.full = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, ImageSizes value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("full");
+            out.value(value.full);
+            out.endObject();
+        }
+    }
+
+    private static final class ImagesAdapter extends TypeAdapter<Images> {
+
+        private static final Map<String, Integer> FIELDS = fields("poster", "fanart", "screenshot", "headshot",
+                "banner", "logo", "clearart", "thumb", "avatar");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<MoreImageSizes> moreImageSizesAdapter;
+        private final TypeAdapter<ImageSizes> imageSizesAdapter;
+
+        ImagesAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Images.class, FIELDS);
+            this.gson = gson;
+            moreImageSizesAdapter = gson.getAdapter(MoreImageSizes.class);
+            imageSizesAdapter = gson.getAdapter(ImageSizes.class);
+        }
+
+        @Override
+        public Images read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Images value = new Images();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.poster = moreImageSizesAdapter.read(in);
+                            break;
+                        case 1:
+                            value.fanart = moreImageSizesAdapter.read(in);
+                            break;
+                        case 2:
+                            value.screenshot = moreImageSizesAdapter.read(in);
+                            break;
+                        case 3:
+                            value.headshot = moreImageSizesAdapter.read(in);
+                            break;
+                        case 4:
+                            value.banner = imageSizesAdapter.read(in);
+                            break;
+                        case 5:
+                            value.logo = imageSizesAdapter.read(in);
+                            break;
+                        case 6:
+                            value.clearart = imageSizesAdapter.read(in);
+                            break;
+                        case 7:
+                            value.thumb = imageSizesAdapter.read(in);
+                            break;
+                        case 8:
+                            value.avatar = imageSizesAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Images value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("poster");
+            writeRuntimeType(gson, moreImageSizesAdapter, MoreImageSizes.class, out, value.poster);
+            out.name("fanart");
+            writeRuntimeType(gson, moreImageSizesAdapter, MoreImageSizes.class, out, value.fanart);
+            out.name("screenshot");
+            writeRuntimeType(gson, moreImageSizesAdapter, MoreImageSizes.class, out, value.screenshot);
+            out.name("headshot");
+            writeRuntimeType(gson, moreImageSizesAdapter, MoreImageSizes.class, out, value.headshot);
+            out.name("banner");
+            writeRuntimeType(gson, imageSizesAdapter, ImageSizes.class, out, value.banner);
+            out.name("logo");
+            writeRuntimeType(gson, imageSizesAdapter, ImageSizes.class, out, value.logo);
+            out.name("clearart");
+            writeRuntimeType(gson, imageSizesAdapter, ImageSizes.class, out, value.clearart);
+            out.name("thumb");
+            writeRuntimeType(gson, imageSizesAdapter, ImageSizes.class, out, value.thumb);
+            out.name("avatar");
+            writeRuntimeType(gson, imageSizesAdapter, ImageSizes.class, out, value.avatar);
+            out.endObject();
+        }
+    }
+
+    private static final class LastActivitiesAdapter extends TypeAdapter<LastActivities> {
+
+        private static final Map<String, Integer> FIELDS = fields("movies", "episodes", "shows", "seasons");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<LastActivityMore> lastActivityMoreAdapter;
+        private final TypeAdapter<LastActivity> lastActivityAdapter;
+
+        LastActivitiesAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(LastActivities.class, FIELDS);
+            this.gson = gson;
+            lastActivityMoreAdapter = gson.getAdapter(LastActivityMore.class);
+            lastActivityAdapter = gson.getAdapter(LastActivity.class);
+        }
+
+        @Override
+        public LastActivities read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LastActivities value = new LastActivities();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movies = lastActivityMoreAdapter.read(in);
+                            break;
+                        case 1:
+                            value.episodes = lastActivityMoreAdapter.read(in);
+                            break;
+                        case 2:
+                            value.shows = lastActivityAdapter.read(in);
+                            break;
+                        case 3:
+                            value.seasons = lastActivityAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, LastActivities value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movies");
+            writeRuntimeType(gson, lastActivityMoreAdapter, LastActivityMore.class, out, value.movies);
+            out.name("episodes");
+            writeRuntimeType(gson, lastActivityMoreAdapter, LastActivityMore.class, out, value.episodes);
+            out.name("shows");
+            writeRuntimeType(gson, lastActivityAdapter, LastActivity.class, out, value.shows);
+            out.name("seasons");
+            writeRuntimeType(gson, lastActivityAdapter, LastActivity.class, out, value.seasons);
+            out.endObject();
+        }
+    }
+
+    private static final class LastActivityAdapter extends TypeAdapter<LastActivity> {
+
+        private static final Map<String, Integer> FIELDS = fields("rated_at", "watchlisted_at", "commented_at");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+
+        LastActivityAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(LastActivity.class, FIELDS);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+        }
+
+        @Override
+        public LastActivity read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LastActivity value = new LastActivity();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.watchlisted_at = dateTimeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.commented_at = dateTimeAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, LastActivity value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("watchlisted_at");
+            dateTimeAdapter.write(out, value.watchlisted_at);
+            out.name("commented_at");
+            dateTimeAdapter.write(out, value.commented_at);
+            out.endObject();
+        }
+    }
+
+    private static final class LastActivityMoreAdapter extends TypeAdapter<LastActivityMore> {
+
+        private static final Map<String, Integer> FIELDS = fields("watched_at", "collected_at", "rated_at",
+                "watchlisted_at", "commented_at");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+
+        LastActivityMoreAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(LastActivityMore.class, FIELDS);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+        }
+
+        @Override
+        public LastActivityMore read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LastActivityMore value = new LastActivityMore();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.collected_at = dateTimeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.watchlisted_at = dateTimeAdapter.read(in);
+                            break;
+                        case 4:
+                            value.commented_at = dateTimeAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, LastActivityMore value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("watched_at");
+            dateTimeAdapter.write(out, value.watched_at);
+            out.name("collected_at");
+            dateTimeAdapter.write(out, value.collected_at);
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("watchlisted_at");
+            dateTimeAdapter.write(out, value.watchlisted_at);
+            out.name("commented_at");
+            dateTimeAdapter.write(out, value.commented_at);
+            out.endObject();
+        }
+    }
+
+    private static final class ListAdapter extends TypeAdapter<List> {
+
+        private static final Map<String, Integer> FIELDS = fields("ids", "name", "description", "privacy",
+                "display_numbers", "allow_comments", "updated_at","item_count", "likes");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<ListIds> listIdsAdapter;
+        private final TypeAdapter<ListPrivacy> listPrivacyAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+
+        ListAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(List.class, FIELDS);
+            this.gson = gson;
+            listIdsAdapter = gson.getAdapter(ListIds.class);
+            listPrivacyAdapter = gson.getAdapter(ListPrivacy.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+        }
+
+        @Override
+        public List read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            List value = new List();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.ids = listIdsAdapter.read(in);
+                            break;
+                        case 1:
+                            value.name = readString(in);
+                            break;
+                        case 2:
+                            value.description = readString(in);
+                            break;
+                        case 3:
+                            value.privacy = listPrivacyAdapter.read(in);
+                            break;
+                        case 4:
+                            value.display_numbers = readBoolean(in);
+                            break;
+                        case 5:
+                            value.allow_comments = readBoolean(in);
+                            break;
+                        case 6:
+                            value.updated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 7:
+                            value.item_count = readInteger(in);
+                            break;
+                        case 8:
+                            value.likes = readInteger(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, List value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ids");
+            writeRuntimeType(gson, listIdsAdapter, ListIds.class, out, value.ids);
+            out.name("name");
+            out.value(value.name);
+            out.name("description");
+            out.value(value.description);
+            out.name("privacy");
+            listPrivacyAdapter.write(out, value.privacy);
+            out.name("display_numbers");
+            writeBoolean(out, value.display_numbers);
+            out.name("allow_comments");
+            writeBoolean(out, value.allow_comments);
+            out.name("updated_at");
+            dateTimeAdapter.write(out, value.updated_at);
+            out.name("item_count");
+            out.value(value.item_count);
+            out.name("likes");
+            out.value(value.likes);
+            out.endObject();
+        }
+    }
+
+    private static final class ListEntryAdapter extends TypeAdapter<ListEntry> {
+
+        private static final Map<String, Integer> FIELDS = fields("listed_at", "movie", "show", "episode", "person");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Movie> movieAdapter;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<Episode> episodeAdapter;
+        private final TypeAdapter<Person> personAdapter;
+
+        ListEntryAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(ListEntry.class, FIELDS);
+            this.gson = gson;
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            movieAdapter = gson.getAdapter(Movie.class);
+            showAdapter = gson.getAdapter(Show.class);
+            episodeAdapter = gson.getAdapter(Episode.class);
+            personAdapter = gson.getAdapter(Person.class);
+        }
+
+        @Override
+        public ListEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListEntry value = new ListEntry();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.listed_at = dateTimeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                        case 2:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 3:
+                            value.episode = episodeAdapter.read(in);
+                            break;
+                        case 4:
+                            value.person = personAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, ListEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("listed_at");
+            dateTimeAdapter.write(out, value.listed_at);
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("episode");
+            writeRuntimeType(gson, episodeAdapter, Episode.class, out, value.episode);
+            out.name("person");
+            writeRuntimeType(gson, personAdapter, Person.class, out, value.person);
+            out.endObject();
+        }
+    }
+
+    private static final class ListIdsAdapter extends TypeAdapter<ListIds> {
+
+        private static final Map<String, Integer> FIELDS = fields("trakt", "slug");
+
+        private final boolean[] skipped;
+
+        ListIdsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(ListIds.class, FIELDS);
+        }
+
+        @Override
+        public ListIds read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListIds value = new ListIds();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.trakt = readInteger(in);
+                            break;
+                        case 1:
+                            value.slug = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, ListIds value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("trakt");
+            out.value(value.trakt);
+            out.name("slug");
+            out.value(value.slug);
+            out.endObject();
+        }
+    }
+
+    private static final class LoginAdapter extends TypeAdapter<Login> {
+
+        private static final Map<String, Integer> FIELDS = fields("login", "password");
+
+        private final boolean[] skipped;
+
+        LoginAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Login.class, FIELDS);
+        }
+
+        @Override
+        public Login read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Login value = new Login(null, null);
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.login = readString(in);
+                            break;
+                        case 1:
+                            value.password = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Login value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("login");
+            out.value(value.login);
+            out.name("password");
+            out.value(value.password);
+            out.endObject();
+        }
+    }
+
+    private static final class MoreImageSizesAdapter extends TypeAdapter<MoreImageSizes> {
+
+        private static final Map<String, Integer> FIELDS = fields("thumb", "medium", "full");
+
+        private final boolean[] skipped;
+
+        MoreImageSizesAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(MoreImageSizes.class, FIELDS);
+        }
+
+        @Override
+        public MoreImageSizes read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoreImageSizes value = new MoreImageSizes();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.thumb = readString(in);
+                            break;
+                        case 1:
+                            value.medium = readString(in);
+                            break;
+                        case 2:
+                            value.full = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, MoreImageSizes value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("thumb");
+            out.value(value.thumb);
+            out.name("medium");
+            out.value(value.medium);
+            out.name("full");
+            out.value(value.full);
+            out.endObject();
+        }
+    }
+
+    private static final class MovieAdapter extends TypeAdapter<Movie> {
+
+        private static final Map<String, Integer> FIELDS = fields("year", "ids", "tagline", "overview", "released",
+                "runtime", "trailer", "homepage", "rating", "language", "genres", "title", "updated_at", "images",
+                "available_translations");
+
+        private final boolean[] skipped;
+        private final StringPool strings;
+        private final Gson gson;
+        private final TypeAdapter<MovieIds> movieIdsAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<java.util.List<String>> listOfStringAdapter;
+        private final TypeAdapter<Images> imagesAdapter;
+
+        MovieAdapter(Gson gson, Projection projection, StringPool strings) {
+            skipped = projection.skipped(Movie.class, FIELDS);
+            this.strings = strings;
+            this.gson = gson;
+            movieIdsAdapter = gson.getAdapter(MovieIds.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            listOfStringAdapter = gson.getAdapter(LIST_OF_STRING);
+            imagesAdapter = gson.getAdapter(Images.class);
+        }
+
+        @Override
+        public Movie read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Movie value = new Movie();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.year = readInteger(in);
+                            break;
+                        case 1:
+                            value.ids = movieIdsAdapter.read(in);
+                            break;
+                        case 2:
+                            value.tagline = readString(in);
+                            break;
+                        case 3:
+                            value.overview = readString(in);
+                            break;
+                        case 4:
+                            value.released = dateTimeAdapter.read(in);
+                            break;
+                        case 5:
+                            value.runtime = readInteger(in);
+                            break;
+                        case 6:
+                            value.trailer = readString(in);
+                            break;
+                        case 7:
+                            value.homepage = readString(in);
+                            break;
+                        case 8:
+                            value.rating = doubleAdapter.read(in);
+                            break;
+                        case 9:
+                            value.language = strings.get(readString(in));
+                            break;
+                        case 10:
+                            value.genres = readStrings(in, strings);
+                            break;
+                        case 11:
+                            value.title = readString(in);
+                            break;
+                        case 12:
+                            value.updated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 13:
+                            value.images = imagesAdapter.read(in);
+                            break;
+                        case 14:
+                            value.available_translations = listOfStringAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Movie value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("year");
+            out.value(value.year);
+            out.name("ids");
+            writeRuntimeType(gson, movieIdsAdapter, MovieIds.class, out, value.ids);
+            out.name("tagline");
+            out.value(value.tagline);
+            out.name("overview");
+            out.value(value.overview);
+            out.name("released");
+            dateTimeAdapter.write(out, value.released);
+            out.name("runtime");
+            out.value(value.runtime);
+            out.name("trailer");
+            out.value(value.trailer);
+            out.name("homepage");
+            out.value(value.homepage);
+            out.name("rating");
+            doubleAdapter.write(out, value.rating);
+            out.name("language");
+            out.value(value.language);
+            out.name("genres");
+            listOfStringAdapter.write(out, value.genres);
+            out.name("title");
+            out.value(value.title);
+            out.name("updated_at");
+            dateTimeAdapter.write(out, value.updated_at);
+            out.name("images");
+            writeRuntimeType(gson, imagesAdapter, Images.class, out, value.images);
+            out.name("available_translations");
+            listOfStringAdapter.write(out, value.available_translations);
+            out.endObject();
+        }
+    }
+
+    private static final class MovieCheckinAdapter extends TypeAdapter<MovieCheckin> {
+
+        private static final Map<String, Integer> FIELDS = fields("movie", "sharing", "message", "venue_id",
+                "venue_name", "app_version", "app_date");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SyncMovie> syncMovieAdapter;
+        private final TypeAdapter<ShareSettings> shareSettingsAdapter;
+
+        MovieCheckinAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(MovieCheckin.class, FIELDS);
+            this.gson = gson;
+            syncMovieAdapter = gson.getAdapter(SyncMovie.class);
+            shareSettingsAdapter = gson.getAdapter(ShareSettings.class);
+        }
+
+        @Override
+        public MovieCheckin read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MovieCheckin value = new MovieCheckin();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movie = syncMovieAdapter.read(in);
+                            break;
+                        case 1:
+                            value.sharing = shareSettingsAdapter.read(in);
+                            break;
+                        case 2:
+                            value.message = readString(in);
+                            break;
+                        case 3:
+                            value.venue_id = readString(in);
+                            break;
+                        case 4:
+                            value.venue_name = readString(in);
+                            break;
+                        case 5:
+                            value.app_version = readString(in);
+                            break;
+                        case 6:
+                            value.app_date = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, MovieCheckin value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movie");
+            writeRuntimeType(gson, syncMovieAdapter, SyncMovie.class, out, value.movie);
+            out.name("sharing");
+            writeRuntimeType(gson, shareSettingsAdapter, ShareSettings.class, out, value.sharing);
+            out.name("message");
+            out.value(value.message);
+            out.name("venue_id");
+            out.value(value.venue_id);
+            out.name("venue_name");
+            out.value(value.venue_name);
+            out.name("app_version");
+            out.value(value.app_version);
+            out.name("app_date");
+            out.value(value.app_date);
+            out.endObject();
+        }
+    }
+
+    private static final class MovieCheckinResponseAdapter extends TypeAdapter<MovieCheckinResponse> {
+
+        private static final Map<String, Integer> FIELDS = fields("movie", "watched_at", "sharing");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Movie> movieAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<ShareSettings> shareSettingsAdapter;
+
+        MovieCheckinResponseAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(MovieCheckinResponse.class, FIELDS);
+            this.gson = gson;
+            movieAdapter = gson.getAdapter(Movie.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            shareSettingsAdapter = gson.getAdapter(ShareSettings.class);
+        }
+
+        @Override
+        public MovieCheckinResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MovieCheckinResponse value = new MovieCheckinResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                        case 1:
+                            value.watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.sharing = shareSettingsAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, MovieCheckinResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.name("watched_at");
+            dateTimeAdapter.write(out, value.watched_at);
+            out.name("sharing");
+            writeRuntimeType(gson, shareSettingsAdapter, ShareSettings.class, out, value.sharing);
+            out.endObject();
+        }
+    }
+
+    private static final class MovieIdsAdapter extends TypeAdapter<MovieIds> {
+
+        private static final Map<String, Integer> FIELDS = fields("slug", "trakt", "imdb", "tmdb");
+
+        private final boolean[] skipped;
+
+        MovieIdsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(MovieIds.class, FIELDS);
+        }
+
+        @Override
+        public MovieIds read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MovieIds value = new MovieIds();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.slug = readString(in);
+                            break;
+                        case 1:
+                            value.trakt = readInteger(in);
+                            break;
+                        case 2:
+                            value.imdb = readString(in);
+                            break;
+                        case 3:
+                            value.tmdb = readInteger(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, MovieIds value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("slug");
+            out.value(value.slug);
+            out.name("trakt");
+            out.value(value.trakt);
+            out.name("imdb");
+            out.value(value.imdb);
+            out.name("tmdb");
+            out.value(value.tmdb);
+            out.endObject();
+        }
+    }
+
+    private static final class MovieTranslationAdapter extends TypeAdapter<MovieTranslation> {
+
+        private static final Map<String, Integer> FIELDS = fields("tagline", "language", "title", "overview");
+
+        private final boolean[] skipped;
+
+        MovieTranslationAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(MovieTranslation.class, FIELDS);
+        }
+
+        @Override
+        public MovieTranslation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MovieTranslation value = new MovieTranslation();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.tagline = readString(in);
+                            break;
+                        case 1:
+                            value.language = readString(in);
+                            break;
+                        case 2:
+                            value.title = readString(in);
+                            break;
+                        case 3:
+                            value.overview = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, MovieTranslation value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("tagline");
+            out.value(value.tagline);
+            out.name("language");
+            out.value(value.language);
+            out.name("title");
+            out.value(value.title);
+            out.name("overview");
+            out.value(value.overview);
+            out.endObject();
+        }
+    }
+
+    private static final class PersonAdapter extends TypeAdapter<Person> {
+
+        private static final Map<String, Integer> FIELDS = fields("name", "ids", "images", "biography", "birthday",
+                "death", "birthplace", "homepage");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<PersonIds> personIdsAdapter;
+        private final TypeAdapter<Images> imagesAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+
+        PersonAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Person.class, FIELDS);
+            this.gson = gson;
+            personIdsAdapter = gson.getAdapter(PersonIds.class);
+            imagesAdapter = gson.getAdapter(Images.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+        }
+
+        @Override
+        public Person read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Person value = new Person();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.name = readString(in);
+                            break;
+                        case 1:
+                            value.ids = personIdsAdapter.read(in);
+                            break;
+                        case 2:
+                            value.images = imagesAdapter.read(in);
+                            break;
+                        case 3:
+                            value.biography = readString(in);
+                            break;
+                        case 4:
+                            value.birthday = dateTimeAdapter.read(in);
+                            break;
+                        case 5:
+                            value.death = dateTimeAdapter.read(in);
+                            break;
+                        case 6:
+                            value.birthplace = readString(in);
+                            break;
+                        case 7:
+                            value.homepage = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Person value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("name");
+            out.value(value.name);
+            out.name("ids");
+            writeRuntimeType(gson, personIdsAdapter, PersonIds.class, out, value.ids);
+            out.name("images");
+            writeRuntimeType(gson, imagesAdapter, Images.class, out, value.images);
+            out.name("biography");
+            out.value(value.biography);
+            out.name("birthday");
+            dateTimeAdapter.write(out, value.birthday);
+            out.name("death");
+            dateTimeAdapter.write(out, value.death);
+            out.name("birthplace");
+            out.value(value.birthplace);
+            out.name("homepage");
+            out.value(value.homepage);
+            out.endObject();
+        }
+    }
+
+    private static final class PersonIdsAdapter extends TypeAdapter<PersonIds> {
+
+        private static final Map<String, Integer> FIELDS = fields("slug", "tvrage", "trakt", "imdb", "tmdb");
+
+        private final boolean[] skipped;
+
+        PersonIdsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(PersonIds.class, FIELDS);
+        }
+
+        @Override
+        public PersonIds read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PersonIds value = new PersonIds();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.slug = readString(in);
+                            break;
+                        case 1:
+                            value.tvrage = readString(in);
+                            break;
+                        case 2:
+                            value.trakt = readInteger(in);
+                            break;
+                        case 3:
+                            value.imdb = readString(in);
+                            break;
+                        case 4:
+                            value.tmdb = readInteger(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, PersonIds value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("slug");
+            out.value(value.slug);
+            out.name("tvrage");
+            out.value(value.tvrage);
+            out.name("trakt");
+            out.value(value.trakt);
+            out.name("imdb");
+            out.value(value.imdb);
+            out.name("tmdb");
+            out.value(value.tmdb);
+            out.endObject();
+        }
+    }
+
+    private static final class RatedEpisodeAdapter extends TypeAdapter<RatedEpisode> {
+
+        private static final Map<String, Integer> FIELDS = fields("episode", "show", "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Episode> episodeAdapter;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        RatedEpisodeAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(RatedEpisode.class, FIELDS);
+            this.gson = gson;
+            episodeAdapter = gson.getAdapter(Episode.class);
+            showAdapter = gson.getAdapter(Show.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public RatedEpisode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RatedEpisode value = new RatedEpisode();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.episode = episodeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 2:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, RatedEpisode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("episode");
+            writeRuntimeType(gson, episodeAdapter, Episode.class, out, value.episode);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class RatedMovieAdapter extends TypeAdapter<RatedMovie> {
+
+        private static final Map<String, Integer> FIELDS = fields("movie", "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Movie> movieAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        RatedMovieAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(RatedMovie.class, FIELDS);
+            this.gson = gson;
+            movieAdapter = gson.getAdapter(Movie.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public RatedMovie read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RatedMovie value = new RatedMovie();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                        case 1:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, RatedMovie value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class RatedSeasonAdapter extends TypeAdapter<RatedSeason> {
+
+        private static final Map<String, Integer> FIELDS = fields("season", "show", "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Season> seasonAdapter;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        RatedSeasonAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(RatedSeason.class, FIELDS);
+            this.gson = gson;
+            seasonAdapter = gson.getAdapter(Season.class);
+            showAdapter = gson.getAdapter(Show.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public RatedSeason read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RatedSeason value = new RatedSeason();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.season = seasonAdapter.read(in);
+                            break;
+                        case 1:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 2:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, RatedSeason value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("season");
+            writeRuntimeType(gson, seasonAdapter, Season.class, out, value.season);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class RatedShowAdapter extends TypeAdapter<RatedShow> {
+
+        private static final Map<String, Integer> FIELDS = fields("show", "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        RatedShowAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(RatedShow.class, FIELDS);
+            this.gson = gson;
+            showAdapter = gson.getAdapter(Show.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public RatedShow read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RatedShow value = new RatedShow();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 1:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, RatedShow value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class RatingsAdapter extends TypeAdapter<Ratings> {
+
+        private static final Map<String, Integer> FIELDS = fields("rating", "votes", "distribution");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<Map<String, Integer>> mapOfStringIntegerAdapter;
+
+        RatingsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Ratings.class, FIELDS);
+            doubleAdapter = gson.getAdapter(Double.class);
+            mapOfStringIntegerAdapter = gson.getAdapter(MAP_OF_STRING_INTEGER);
+        }
+
+        @Override
+        public Ratings read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Ratings value = new Ratings();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.rating = doubleAdapter.read(in);
+                            break;
+                        case 1:
+                            value.votes = readInteger(in);
+                            break;
+                        case 2:
+                            value.distribution = mapOfStringIntegerAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Ratings value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("rating");
+            doubleAdapter.write(out, value.rating);
+            out.name("votes");
+            out.value(value.votes);
+            out.name("distribution");
+            mapOfStringIntegerAdapter.write(out, value.distribution);
+            out.endObject();
+        }
+    }
+
+    private static final class SearchResultAdapter extends TypeAdapter<SearchResult> {
+
+        private static final Map<String, Integer> FIELDS = fields("type", "score", "movie", "show", "episode", "person",
+                "list");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<Movie> movieAdapter;
+        private final TypeAdapter<Show> showAdapter;
+        private final TypeAdapter<Episode> episodeAdapter;
+        private final TypeAdapter<Person> personAdapter;
+        private final TypeAdapter<List> listAdapter;
+
+        SearchResultAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SearchResult.class, FIELDS);
+            this.gson = gson;
+            doubleAdapter = gson.getAdapter(Double.class);
+            movieAdapter = gson.getAdapter(Movie.class);
+            showAdapter = gson.getAdapter(Show.class);
+            episodeAdapter = gson.getAdapter(Episode.class);
+            personAdapter = gson.getAdapter(Person.class);
+            listAdapter = gson.getAdapter(List.class);
+        }
+
+        @Override
+        public SearchResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SearchResult value = new SearchResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.type = readString(in);
+                            break;
+                        case 1:
+                            value.score = doubleAdapter.read(in);
+                            break;
+                        case 2:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                        case 3:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 4:
+                            value.episode = episodeAdapter.read(in);
+                            break;
+                        case 5:
+                            value.person = personAdapter.read(in);
+                            break;
+                        case 6:
+                            value.list = listAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SearchResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("type");
+            out.value(value.type);
+            out.name("score");
+            doubleAdapter.write(out, value.score);
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("episode");
+            writeRuntimeType(gson, episodeAdapter, Episode.class, out, value.episode);
+            out.name("person");
+            writeRuntimeType(gson, personAdapter, Person.class, out, value.person);
+            out.name("list");
+            writeRuntimeType(gson, listAdapter, List.class, out, value.list);
+            out.endObject();
+        }
+    }
+
+    private static final class SeasonAdapter extends TypeAdapter<Season> {
+
+        private static final Map<String, Integer> FIELDS = fields("number", "ids", "rating", "episode_count", "images");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SeasonIds> seasonIdsAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<Images> imagesAdapter;
+
+        SeasonAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Season.class, FIELDS);
+            this.gson = gson;
+            seasonIdsAdapter = gson.getAdapter(SeasonIds.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            imagesAdapter = gson.getAdapter(Images.class);
+        }
+
+        @Override
+        public Season read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Season value = new Season();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.number = readInteger(in);
+                            break;
+                        case 1:
+                            value.ids = seasonIdsAdapter.read(in);
+                            break;
+                        case 2:
+                            value.rating = doubleAdapter.read(in);
+                            break;
+                        case 3:
+                            value.episode_count = readInteger(in);
+                            break;
+                        case 4:
+                            value.images = imagesAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Season value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("number");
+            out.value(value.number);
+            out.name("ids");
+            writeRuntimeType(gson, seasonIdsAdapter, SeasonIds.class, out, value.ids);
+            out.name("rating");
+            doubleAdapter.write(out, value.rating);
+            out.name("episode_count");
+            out.value(value.episode_count);
+            out.name("images");
+            writeRuntimeType(gson, imagesAdapter, Images.class, out, value.images);
+            out.endObject();
+        }
+    }
+
+    private static final class SeasonIdsAdapter extends TypeAdapter<SeasonIds> {
+
+        private static final Map<String, Integer> FIELDS = fields("tvdb", "tmdb");
+
+        private final boolean[] skipped;
+
+        SeasonIdsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SeasonIds.class, FIELDS);
+        }
+
+        @Override
+        public SeasonIds read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SeasonIds value = new SeasonIds();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.tvdb = readInteger(in);
+                            break;
+                        case 1:
+                            value.tmdb = readInteger(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SeasonIds value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("tvdb");
+            out.value(value.tvdb);
+            out.name("tmdb");
+            out.value(value.tmdb);
+            out.endObject();
+        }
+    }
+
+    private static final class SettingsAdapter extends TypeAdapter<Settings> {
+
+        private static final Map<String, Integer> FIELDS = fields("user", "account", "connections", "sharing_text");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<User> userAdapter;
+        private final TypeAdapter<Account> accountAdapter;
+        private final TypeAdapter<Connections> connectionsAdapter;
+        private final TypeAdapter<SharingText> sharingTextAdapter;
+
+        SettingsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Settings.class, FIELDS);
+            this.gson = gson;
+            userAdapter = gson.getAdapter(User.class);
+            accountAdapter = gson.getAdapter(Account.class);
+            connectionsAdapter = gson.getAdapter(Connections.class);
+            sharingTextAdapter = gson.getAdapter(SharingText.class);
+        }
+
+        @Override
+        public Settings read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Settings value = new Settings();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.user = userAdapter.read(in);
+                            break;
+                        case 1:
+                            value.account = accountAdapter.read(in);
+                            break;
+                        case 2:
+                            value.connections = connectionsAdapter.read(in);
+                            break;
+                        case 3:
+                            value.sharing_text = sharingTextAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Settings value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("user");
+            writeRuntimeType(gson, userAdapter, User.class, out, value.user);
+            out.name("account");
+            writeRuntimeType(gson, accountAdapter, Account.class, out, value.account);
+            out.name("connections");
+            writeRuntimeType(gson, connectionsAdapter, Connections.class, out, value.connections);
+            out.name("sharing_text");
+            writeRuntimeType(gson, sharingTextAdapter, SharingText.class, out, value.sharing_text);
+            out.endObject();
+        }
+    }
+
+    private static final class ShareSettingsAdapter extends TypeAdapter<ShareSettings> {
+
+        private static final Map<String, Integer> FIELDS = fields("facebook", "twitter", "tumblr");
+
+        private final boolean[] skipped;
+
+        ShareSettingsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(ShareSettings.class, FIELDS);
+        }
+
+        @Override
+        public ShareSettings read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ShareSettings value = new ShareSettings();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.facebook = readBoolean(in);
+                            break;
+                        case 1:
+                            value.twitter = readBoolean(in);
+                            break;
+                        case 2:
+                            value.tumblr = readBoolean(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, ShareSettings value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("facebook");
+            writeBoolean(out, value.facebook);
+            out.name("twitter");
+            writeBoolean(out, value.twitter);
+            out.name("tumblr");
+            writeBoolean(out, value.tumblr);
+            out.endObject();
+        }
+    }
+
+    private static final class SharingTextAdapter extends TypeAdapter<SharingText> {
+
+        private static final Map<String, Integer> FIELDS = fields("watching", "watched");
+
+        private final boolean[] skipped;
+
+        SharingTextAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SharingText.class, FIELDS);
+        }
+
+        @Override
+        public SharingText read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SharingText value = new SharingText();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.watching = readString(in);
+                            break;
+                        case 1:
+                            value.watched = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SharingText value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("watching");
+            out.value(value.watching);
+            out.name("watched");
+            out.value(value.watched);
+            out.endObject();
+        }
+    }
+
+    private static final class ShowAdapter extends TypeAdapter<Show> {
+
+        private static final Map<String, Integer> FIELDS = fields("year", "ids", "overview", "first_aired", "airs",
+                "runtime", "certification", "network", "country", "trailer", "homepage", "status", "rating", "language",
+                "genres", "title", "updated_at", "images", "available_translations");
+
+        private final boolean[] skipped;
+        private final StringPool strings;
+        private final Gson gson;
+        private final TypeAdapter<ShowIds> showIdsAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Airs> airsAdapter;
+        private final TypeAdapter<Status> statusAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<java.util.List<String>> listOfStringAdapter;
+        private final TypeAdapter<Images> imagesAdapter;
+
+        ShowAdapter(Gson gson, Projection projection, StringPool strings) {
+            skipped = projection.skipped(Show.class, FIELDS);
+            this.strings = strings;
+            this.gson = gson;
+            showIdsAdapter = gson.getAdapter(ShowIds.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            airsAdapter = gson.getAdapter(Airs.class);
+            statusAdapter = gson.getAdapter(Status.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            listOfStringAdapter = gson.getAdapter(LIST_OF_STRING);
+            imagesAdapter = gson.getAdapter(Images.class);
+        }
+
+        @Override
+        public Show read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Show value = new Show();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            Integer year = readInteger(in);
+                            if (year != null) {
+                                value.year = year;
+                            }
+                            break;
+                        case 1:
+                            value.ids = showIdsAdapter.read(in);
+                            break;
+                        case 2:
+                            value.overview = readString(in);
+                            break;
+                        case 3:
+                            value.first_aired = dateTimeAdapter.read(in);
+                            break;
+                        case 4:
+                            value.airs = airsAdapter.read(in);
+                            break;
+                        case 5:
+                            value.runtime = readInteger(in);
+                            break;
+                        case 6:
+                            value.certification = strings.get(readString(in));
+                            break;
+                        case 7:
+                            value.network = strings.get(readString(in));
+                            break;
+                        case 8:
+                            value.country = strings.get(readString(in));
+                            break;
+                        case 9:
+                            value.trailer = readString(in);
+                            break;
+                        case 10:
+                            value.homepage = readString(in);
+                            break;
+                        case 11:
+                            value.status = statusAdapter.read(in);
+                            break;
+                        case 12:
+                            value.rating = doubleAdapter.read(in);
+                            break;
+                        case 13:
+                            value.language = strings.get(readString(in));
+                            break;
+                        case 14:
+                            value.genres = readStrings(in, strings);
+                            break;
+                        case 15:
+                            value.title = strings.get(readString(in));
+                            break;
+                        case 16:
+                            value.updated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 17:
+                            value.images = imagesAdapter.read(in);
+                            break;
+                        case 18:
+                            value.available_translations = listOfStringAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Show value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("year");
+            out.value(value.year);
+            out.name("ids");
+            writeRuntimeType(gson, showIdsAdapter, ShowIds.class, out, value.ids);
+            out.name("overview");
+            out.value(value.overview);
+            out.name("first_aired");
+            dateTimeAdapter.write(out, value.first_aired);
+            out.name("airs");
+            writeRuntimeType(gson, airsAdapter, Airs.class, out, value.airs);
+            out.name("runtime");
+            out.value(value.runtime);
+            out.name("certification");
+            out.value(value.certification);
+            out.name("network");
+            out.value(value.network);
+            out.name("country");
+            out.value(value.country);
+            out.name("trailer");
+            out.value(value.trailer);
+            out.name("homepage");
+            out.value(value.homepage);
+            out.name("status");
+            statusAdapter.write(out, value.status);
+            out.name("rating");
+            doubleAdapter.write(out, value.rating);
+            out.name("language");
+            out.value(value.language);
+            out.name("genres");
+            listOfStringAdapter.write(out, value.genres);
+            out.name("title");
+            out.value(value.title);
+            out.name("updated_at");
+            dateTimeAdapter.write(out, value.updated_at);
+            out.name("images");
+            writeRuntimeType(gson, imagesAdapter, Images.class, out, value.images);
+            out.name("available_translations");
+            listOfStringAdapter.write(out, value.available_translations);
+            out.endObject();
+        }
+    }
+
+    private static final class ShowIdsAdapter extends TypeAdapter<ShowIds> {
+
+        private static final Map<String, Integer> FIELDS = fields("slug", "tvdb", "tvrage", "trakt", "imdb", "tmdb");
+
+        private final boolean[] skipped;
+
+        ShowIdsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(ShowIds.class, FIELDS);
+        }
+
+        @Override
+        public ShowIds read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ShowIds value = new ShowIds();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.slug = readString(in);
+                            break;
+                        case 1:
+                            value.tvdb = readInteger(in);
+                            break;
+                        case 2:
+                            value.tvrage = readInteger(in);
+                            break;
+                        case 3:
+                            value.trakt = readInteger(in);
+                            break;
+                        case 4:
+                            value.imdb = readString(in);
+                            break;
+                        case 5:
+                            value.tmdb = readInteger(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, ShowIds value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("slug");
+            out.value(value.slug);
+            out.name("tvdb");
+            out.value(value.tvdb);
+            out.name("tvrage");
+            out.value(value.tvrage);
+            out.name("trakt");
+            out.value(value.trakt);
+            out.name("imdb");
+            out.value(value.imdb);
+            out.name("tmdb");
+            out.value(value.tmdb);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimBaseEpisodeAdapter extends TypeAdapter<SlimBaseEpisode> {
+
+        private static final Map<String, Integer> FIELDS = fields("number", "collected_at", "last_watched_at", "plays",
+                "completed");
+
+        private final boolean[] skipped;
+
+        SlimBaseEpisodeAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimBaseEpisode.class, FIELDS);
+        }
+
+        @Override
+        public SlimBaseEpisode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimBaseEpisode value = new SlimBaseEpisode();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            Integer number = readInteger(in);
+                            if (number != null) {
+                                value.number = number;
+                            }
+                            break;
+                        case 1:
+                            value.collected_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 2:
+                            value.last_watched_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 3:
+                            Integer plays = readInteger(in);
+                            if (plays != null) {
+                                value.plays = plays;
+                            }
+                            break;
+                        case 4:
+                            value.completed = readBoolean(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimBaseEpisode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("number");
+            out.value(value.number);
+            out.name("collected_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.collected_at);
+            out.name("last_watched_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.last_watched_at);
+            out.name("plays");
+            out.value(value.plays);
+            out.name("completed");
+            writeBoolean(out, value.completed);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimBaseMovieAdapter extends TypeAdapter<SlimBaseMovie> {
+
+        private static final Map<String, Integer> FIELDS = fields("movie", "collected_at", "last_watched_at",
+                "listed_at", "plays");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SlimMovie> slimMovieAdapter;
+
+        SlimBaseMovieAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimBaseMovie.class, FIELDS);
+            this.gson = gson;
+            slimMovieAdapter = gson.getAdapter(SlimMovie.class);
+        }
+
+        @Override
+        public SlimBaseMovie read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimBaseMovie value = new SlimBaseMovie();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movie = slimMovieAdapter.read(in);
+                            break;
+                        case 1:
+                            value.collected_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 2:
+                            value.last_watched_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 3:
+                            value.listed_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 4:
+                            Integer plays = readInteger(in);
+                            if (plays != null) {
+                                value.plays = plays;
+                            }
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimBaseMovie value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movie");
+            writeRuntimeType(gson, slimMovieAdapter, SlimMovie.class, out, value.movie);
+            out.name("collected_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.collected_at);
+            out.name("last_watched_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.last_watched_at);
+            out.name("listed_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.listed_at);
+            out.name("plays");
+            out.value(value.plays);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimBaseRatedEntityAdapter extends TypeAdapter<SlimBaseRatedEntity> {
+
+        private static final Map<String, Integer> FIELDS = fields("rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        SlimBaseRatedEntityAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimBaseRatedEntity.class, FIELDS);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public SlimBaseRatedEntity read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimBaseRatedEntity value = new SlimBaseRatedEntity();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.rated_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 1:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimBaseRatedEntity value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("rated_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimBaseSeasonAdapter extends TypeAdapter<SlimBaseSeason> {
+
+        private static final Map<String, Integer> FIELDS = fields("number", "episodes", "aired", "completed");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<java.util.List<SlimBaseEpisode>> listOfSlimBaseEpisodeAdapter;
+
+        SlimBaseSeasonAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimBaseSeason.class, FIELDS);
+            listOfSlimBaseEpisodeAdapter = gson.getAdapter(LIST_OF_SLIM_BASE_EPISODE);
+        }
+
+        @Override
+        public SlimBaseSeason read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimBaseSeason value = new SlimBaseSeason();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            Integer number = readInteger(in);
+                            if (number != null) {
+                                value.number = number;
+                            }
+                            break;
+                        case 1:
+                            value.episodes = listOfSlimBaseEpisodeAdapter.read(in);
+                            break;
+                        case 2:
+                            Integer aired = readInteger(in);
+                            if (aired != null) {
+                                value.aired = aired;
+                            }
+                            break;
+                        case 3:
+                            Integer completed = readInteger(in);
+                            if (completed != null) {
+                                value.completed = completed;
+                            }
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimBaseSeason value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("number");
+            out.value(value.number);
+            out.name("episodes");
+            listOfSlimBaseEpisodeAdapter.write(out, value.episodes);
+            out.name("aired");
+            out.value(value.aired);
+            out.name("completed");
+            out.value(value.completed);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimBaseShowAdapter extends TypeAdapter<SlimBaseShow> {
+
+        private static final Map<String, Integer> FIELDS = fields("show", "seasons", "last_collected_at", "listed_at",
+                "plays", "last_watched_at", "aired", "completed", "next_episode");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SlimShow> slimShowAdapter;
+        private final TypeAdapter<java.util.List<SlimBaseSeason>> listOfSlimBaseSeasonAdapter;
+        private final TypeAdapter<SlimEpisode> slimEpisodeAdapter;
+
+        SlimBaseShowAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimBaseShow.class, FIELDS);
+            this.gson = gson;
+            slimShowAdapter = gson.getAdapter(SlimShow.class);
+            listOfSlimBaseSeasonAdapter = gson.getAdapter(LIST_OF_SLIM_BASE_SEASON);
+            slimEpisodeAdapter = gson.getAdapter(SlimEpisode.class);
+        }
+
+        @Override
+        public SlimBaseShow read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimBaseShow value = new SlimBaseShow();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.show = slimShowAdapter.read(in);
+                            break;
+                        case 1:
+                            value.seasons = listOfSlimBaseSeasonAdapter.read(in);
+                            break;
+                        case 2:
+                            value.last_collected_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 3:
+                            value.listed_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 4:
+                            Integer plays = readInteger(in);
+                            if (plays != null) {
+                                value.plays = plays;
+                            }
+                            break;
+                        case 5:
+                            value.last_watched_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 6:
+                            Integer aired = readInteger(in);
+                            if (aired != null) {
+                                value.aired = aired;
+                            }
+                            break;
+                        case 7:
+                            Integer completed = readInteger(in);
+                            if (completed != null) {
+                                value.completed = completed;
+                            }
+                            break;
+                        case 8:
+                            value.next_episode = slimEpisodeAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimBaseShow value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("show");
+            writeRuntimeType(gson, slimShowAdapter, SlimShow.class, out, value.show);
+            out.name("seasons");
+            listOfSlimBaseSeasonAdapter.write(out, value.seasons);
+            out.name("last_collected_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.last_collected_at);
+            out.name("listed_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.listed_at);
+            out.name("plays");
+            out.value(value.plays);
+            out.name("last_watched_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.last_watched_at);
+            out.name("aired");
+            out.value(value.aired);
+            out.name("completed");
+            out.value(value.completed);
+            out.name("next_episode");
+            writeRuntimeType(gson, slimEpisodeAdapter, SlimEpisode.class, out, value.next_episode);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimEpisodeAdapter extends TypeAdapter<SlimEpisode> {
+
+        private static final Map<String, Integer> FIELDS = fields("season", "number", "title", "ids");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SlimEpisodeIds> slimEpisodeIdsAdapter;
+
+        SlimEpisodeAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimEpisode.class, FIELDS);
+            this.gson = gson;
+            slimEpisodeIdsAdapter = gson.getAdapter(SlimEpisodeIds.class);
+        }
+
+        @Override
+        public SlimEpisode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimEpisode value = new SlimEpisode();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            Integer season = readInteger(in);
+                            if (season != null) {
+                                value.season = season;
+                            }
+                            break;
+                        case 1:
+                            Integer number = readInteger(in);
+                            if (number != null) {
+                                value.number = number;
+                            }
+                            break;
+                        case 2:
+                            value.title = readString(in);
+                            break;
+                        case 3:
+                            value.ids = slimEpisodeIdsAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimEpisode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("season");
+            out.value(value.season);
+            out.name("number");
+            out.value(value.number);
+            out.name("title");
+            out.value(value.title);
+            out.name("ids");
+            writeRuntimeType(gson, slimEpisodeIdsAdapter, SlimEpisodeIds.class, out, value.ids);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimEpisodeIdsAdapter extends TypeAdapter<SlimEpisodeIds> {
+
+        private static final Map<String, Integer> FIELDS = fields("tvdb", "tvrage", "trakt", "imdb", "tmdb");
+
+        private final boolean[] skipped;
+
+        SlimEpisodeIdsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimEpisodeIds.class, FIELDS);
+        }
+
+        @Override
+        public SlimEpisodeIds read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimEpisodeIds value = new SlimEpisodeIds();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            Integer tvdb = readInteger(in);
+                            if (tvdb != null) {
+                                value.tvdb = tvdb;
+                            }
+                            break;
+                        case 1:
+                            Integer tvrage = readInteger(in);
+                            if (tvrage != null) {
+                                value.tvrage = tvrage;
+                            }
+                            break;
+                        case 2:
+                            Integer trakt = readInteger(in);
+                            if (trakt != null) {
+                                value.trakt = trakt;
+                            }
+                            break;
+                        case 3:
+                            value.imdb = readString(in);
+                            break;
+                        case 4:
+                            Integer tmdb = readInteger(in);
+                            if (tmdb != null) {
+                                value.tmdb = tmdb;
+                            }
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimEpisodeIds value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("tvdb");
+            out.value(value.tvdb);
+            out.name("tvrage");
+            out.value(value.tvrage);
+            out.name("trakt");
+            out.value(value.trakt);
+            out.name("imdb");
+            out.value(value.imdb);
+            out.name("tmdb");
+            out.value(value.tmdb);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimHistoryEntryAdapter extends TypeAdapter<SlimHistoryEntry> {
+
+        private static final Map<String, Integer> FIELDS = fields("watched_at", "action", "episode", "show", "movie");
+
+        private final boolean[] skipped;
+        private final StringPool strings;
+        private final Gson gson;
+        private final TypeAdapter<SlimEpisode> slimEpisodeAdapter;
+        private final TypeAdapter<SlimShow> slimShowAdapter;
+        private final TypeAdapter<SlimMovie> slimMovieAdapter;
+
+        SlimHistoryEntryAdapter(Gson gson, Projection projection, StringPool strings) {
+            skipped = projection.skipped(SlimHistoryEntry.class, FIELDS);
+            this.strings = strings;
+            this.gson = gson;
+            slimEpisodeAdapter = gson.getAdapter(SlimEpisode.class);
+            slimShowAdapter = gson.getAdapter(SlimShow.class);
+            slimMovieAdapter = gson.getAdapter(SlimMovie.class);
+        }
+
+        @Override
+        public SlimHistoryEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimHistoryEntry value = new SlimHistoryEntry();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.watched_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 1:
+                            value.action = strings.get(readString(in));
+                            break;
+                        case 2:
+                            value.episode = slimEpisodeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.show = slimShowAdapter.read(in);
+                            break;
+                        case 4:
+                            value.movie = slimMovieAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimHistoryEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("watched_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.watched_at);
+            out.name("action");
+            out.value(value.action);
+            out.name("episode");
+            writeRuntimeType(gson, slimEpisodeAdapter, SlimEpisode.class, out, value.episode);
+            out.name("show");
+            writeRuntimeType(gson, slimShowAdapter, SlimShow.class, out, value.show);
+            out.name("movie");
+            writeRuntimeType(gson, slimMovieAdapter, SlimMovie.class, out, value.movie);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimMovieAdapter extends TypeAdapter<SlimMovie> {
+
+        private static final Map<String, Integer> FIELDS = fields("title", "year", "ids");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SlimMovieIds> slimMovieIdsAdapter;
+
+        SlimMovieAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimMovie.class, FIELDS);
+            this.gson = gson;
+            slimMovieIdsAdapter = gson.getAdapter(SlimMovieIds.class);
+        }
+
+        @Override
+        public SlimMovie read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimMovie value = new SlimMovie();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.title = readString(in);
+                            break;
+                        case 1:
+                            Integer year = readInteger(in);
+                            if (year != null) {
+                                value.year = year;
+                            }
+                            break;
+                        case 2:
+                            value.ids = slimMovieIdsAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimMovie value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("title");
+            out.value(value.title);
+            out.name("year");
+            out.value(value.year);
+            out.name("ids");
+            writeRuntimeType(gson, slimMovieIdsAdapter, SlimMovieIds.class, out, value.ids);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimMovieIdsAdapter extends TypeAdapter<SlimMovieIds> {
+
+        private static final Map<String, Integer> FIELDS = fields("slug", "trakt", "imdb", "tmdb");
+
+        private final boolean[] skipped;
+
+        SlimMovieIdsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimMovieIds.class, FIELDS);
+        }
+
+        @Override
+        public SlimMovieIds read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimMovieIds value = new SlimMovieIds();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.slug = readString(in);
+                            break;
+                        case 1:
+                            Integer trakt = readInteger(in);
+                            if (trakt != null) {
+                                value.trakt = trakt;
+                            }
+                            break;
+                        case 2:
+                            value.imdb = readString(in);
+                            break;
+                        case 3:
+                            Integer tmdb = readInteger(in);
+                            if (tmdb != null) {
+                                value.tmdb = tmdb;
+                            }
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimMovieIds value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("slug");
+            out.value(value.slug);
+            out.name("trakt");
+            out.value(value.trakt);
+            out.name("imdb");
+            out.value(value.imdb);
+            out.name("tmdb");
+            out.value(value.tmdb);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimRatedEpisodeAdapter extends TypeAdapter<SlimRatedEpisode> {
+
+        private static final Map<String, Integer> FIELDS = fields("episode", "show", "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SlimEpisode> slimEpisodeAdapter;
+        private final TypeAdapter<SlimShow> slimShowAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        SlimRatedEpisodeAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimRatedEpisode.class, FIELDS);
+            this.gson = gson;
+            slimEpisodeAdapter = gson.getAdapter(SlimEpisode.class);
+            slimShowAdapter = gson.getAdapter(SlimShow.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public SlimRatedEpisode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimRatedEpisode value = new SlimRatedEpisode();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.episode = slimEpisodeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.show = slimShowAdapter.read(in);
+                            break;
+                        case 2:
+                            value.rated_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 3:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimRatedEpisode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("episode");
+            writeRuntimeType(gson, slimEpisodeAdapter, SlimEpisode.class, out, value.episode);
+            out.name("show");
+            writeRuntimeType(gson, slimShowAdapter, SlimShow.class, out, value.show);
+            out.name("rated_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimRatedMovieAdapter extends TypeAdapter<SlimRatedMovie> {
+
+        private static final Map<String, Integer> FIELDS = fields("movie", "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SlimMovie> slimMovieAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        SlimRatedMovieAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimRatedMovie.class, FIELDS);
+            this.gson = gson;
+            slimMovieAdapter = gson.getAdapter(SlimMovie.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public SlimRatedMovie read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimRatedMovie value = new SlimRatedMovie();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movie = slimMovieAdapter.read(in);
+                            break;
+                        case 1:
+                            value.rated_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 2:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimRatedMovie value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movie");
+            writeRuntimeType(gson, slimMovieAdapter, SlimMovie.class, out, value.movie);
+            out.name("rated_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimRatedSeasonAdapter extends TypeAdapter<SlimRatedSeason> {
+
+        private static final Map<String, Integer> FIELDS = fields("season", "show", "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SlimSeason> slimSeasonAdapter;
+        private final TypeAdapter<SlimShow> slimShowAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        SlimRatedSeasonAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimRatedSeason.class, FIELDS);
+            this.gson = gson;
+            slimSeasonAdapter = gson.getAdapter(SlimSeason.class);
+            slimShowAdapter = gson.getAdapter(SlimShow.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public SlimRatedSeason read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimRatedSeason value = new SlimRatedSeason();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.season = slimSeasonAdapter.read(in);
+                            break;
+                        case 1:
+                            value.show = slimShowAdapter.read(in);
+                            break;
+                        case 2:
+                            value.rated_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 3:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimRatedSeason value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("season");
+            writeRuntimeType(gson, slimSeasonAdapter, SlimSeason.class, out, value.season);
+            out.name("show");
+            writeRuntimeType(gson, slimShowAdapter, SlimShow.class, out, value.show);
+            out.name("rated_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimRatedShowAdapter extends TypeAdapter<SlimRatedShow> {
+
+        private static final Map<String, Integer> FIELDS = fields("show", "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SlimShow> slimShowAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        SlimRatedShowAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimRatedShow.class, FIELDS);
+            this.gson = gson;
+            slimShowAdapter = gson.getAdapter(SlimShow.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public SlimRatedShow read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimRatedShow value = new SlimRatedShow();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.show = slimShowAdapter.read(in);
+                            break;
+                        case 1:
+                            value.rated_at = EpochMillisTypeAdapter.readMillis(in);
+                            break;
+                        case 2:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimRatedShow value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("show");
+            writeRuntimeType(gson, slimShowAdapter, SlimShow.class, out, value.show);
+            out.name("rated_at");
+            EpochMillisTypeAdapter.writeMillis(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimRatingsAdapter extends TypeAdapter<SlimRatings> {
+
+        private static final Map<String, Integer> FIELDS = fields("rating", "votes", "distribution");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final RatingDistributionTypeAdapter ratingDistributionTypeAdapter;
+
+        SlimRatingsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimRatings.class, FIELDS);
+            doubleAdapter = gson.getAdapter(Double.class);
+            ratingDistributionTypeAdapter = new RatingDistributionTypeAdapter();
+        }
+
+        @Override
+        public SlimRatings read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimRatings value = new SlimRatings();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            Double rating = doubleAdapter.read(in);
+                            if (rating != null) {
+                                value.rating = rating;
+                            }
+                            break;
+                        case 1:
+                            Integer votes = readInteger(in);
+                            if (votes != null) {
+                                value.votes = votes;
+                            }
+                            break;
+                        case 2:
+                            value.distribution = ratingDistributionTypeAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimRatings value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("rating");
+            doubleAdapter.write(out, value.rating);
+            out.name("votes");
+            out.value(value.votes);
+            out.name("distribution");
+            ratingDistributionTypeAdapter.write(out, value.distribution);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimSeasonAdapter extends TypeAdapter<SlimSeason> {
+
+        private static final Map<String, Integer> FIELDS = fields("number", "ids");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SlimSeasonIds> slimSeasonIdsAdapter;
+
+        SlimSeasonAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimSeason.class, FIELDS);
+            this.gson = gson;
+            slimSeasonIdsAdapter = gson.getAdapter(SlimSeasonIds.class);
+        }
+
+        @Override
+        public SlimSeason read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimSeason value = new SlimSeason();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            Integer number = readInteger(in);
+                            if (number != null) {
+                                value.number = number;
+                            }
+                            break;
+                        case 1:
+                            value.ids = slimSeasonIdsAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimSeason value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("number");
+            out.value(value.number);
+            out.name("ids");
+            writeRuntimeType(gson, slimSeasonIdsAdapter, SlimSeasonIds.class, out, value.ids);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimSeasonIdsAdapter extends TypeAdapter<SlimSeasonIds> {
+
+        private static final Map<String, Integer> FIELDS = fields("tvdb", "tmdb");
+
+        private final boolean[] skipped;
+
+        SlimSeasonIdsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimSeasonIds.class, FIELDS);
+        }
+
+        @Override
+        public SlimSeasonIds read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimSeasonIds value = new SlimSeasonIds();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            Integer tvdb = readInteger(in);
+                            if (tvdb != null) {
+                                value.tvdb = tvdb;
+                            }
+                            break;
+                        case 1:
+                            Integer tmdb = readInteger(in);
+                            if (tmdb != null) {
+                                value.tmdb = tmdb;
+                            }
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimSeasonIds value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("tvdb");
+            out.value(value.tvdb);
+            out.name("tmdb");
+            out.value(value.tmdb);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimShowAdapter extends TypeAdapter<SlimShow> {
+
+        private static final Map<String, Integer> FIELDS = fields("title", "year", "ids");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SlimShowIds> slimShowIdsAdapter;
+
+        SlimShowAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimShow.class, FIELDS);
+            this.gson = gson;
+            slimShowIdsAdapter = gson.getAdapter(SlimShowIds.class);
+        }
+
+        @Override
+        public SlimShow read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimShow value = new SlimShow();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.title = readString(in);
+                            break;
+                        case 1:
+                            Integer year = readInteger(in);
+                            if (year != null) {
+                                value.year = year;
+                            }
+                            break;
+                        case 2:
+                            value.ids = slimShowIdsAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimShow value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("title");
+            out.value(value.title);
+            out.name("year");
+            out.value(value.year);
+            out.name("ids");
+            writeRuntimeType(gson, slimShowIdsAdapter, SlimShowIds.class, out, value.ids);
+            out.endObject();
+        }
+    }
+
+    private static final class SlimShowIdsAdapter extends TypeAdapter<SlimShowIds> {
+
+        private static final Map<String, Integer> FIELDS = fields("slug", "tvdb", "tvrage", "trakt", "imdb", "tmdb");
+
+        private final boolean[] skipped;
+
+        SlimShowIdsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SlimShowIds.class, FIELDS);
+        }
+
+        @Override
+        public SlimShowIds read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SlimShowIds value = new SlimShowIds();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.slug = readString(in);
+                            break;
+                        case 1:
+                            Integer tvdb = readInteger(in);
+                            if (tvdb != null) {
+                                value.tvdb = tvdb;
+                            }
+                            break;
+                        case 2:
+                            Integer tvrage = readInteger(in);
+                            if (tvrage != null) {
+                                value.tvrage = tvrage;
+                            }
+                            break;
+                        case 3:
+                            Integer trakt = readInteger(in);
+                            if (trakt != null) {
+                                value.trakt = trakt;
+                            }
+                            break;
+                        case 4:
+                            value.imdb = readString(in);
+                            break;
+                        case 5:
+                            Integer tmdb = readInteger(in);
+                            if (tmdb != null) {
+                                value.tmdb = tmdb;
+                            }
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SlimShowIds value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("slug");
+            out.value(value.slug);
+            out.name("tvdb");
+            out.value(value.tvdb);
+            out.name("tvrage");
+            out.value(value.tvrage);
+            out.name("trakt");
+            out.value(value.trakt);
+            out.name("imdb");
+            out.value(value.imdb);
+            out.name("tmdb");
+            out.value(value.tmdb);
+            out.endObject();
+        }
+    }
+
+    private static final class SyncEpisodeAdapter extends TypeAdapter<SyncEpisode> {
+
+        private static final Map<String, Integer> FIELDS = fields("number", "ids", "collected_at", "watched_at",
+                "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<EpisodeIds> episodeIdsAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        SyncEpisodeAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SyncEpisode.class, FIELDS);
+            this.gson = gson;
+            episodeIdsAdapter = gson.getAdapter(EpisodeIds.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public SyncEpisode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SyncEpisode value = new SyncEpisode();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.number = readInteger(in);
+                            break;
+                        case 1:
+                            value.ids = episodeIdsAdapter.read(in);
+                            break;
+                        case 2:
+                            value.collected_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 4:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 5:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SyncEpisode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("number");
+            out.value(value.number);
+            out.name("ids");
+            writeRuntimeType(gson, episodeIdsAdapter, EpisodeIds.class, out, value.ids);
+            out.name("collected_at");
+            dateTimeAdapter.write(out, value.collected_at);
+            out.name("watched_at");
+            dateTimeAdapter.write(out, value.watched_at);
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class SyncErrorsAdapter extends TypeAdapter<SyncErrors> {
+
+        private static final Map<String, Integer> FIELDS = fields("movies", "shows", "seasons", "episodes");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<java.util.List<SyncMovie>> listOfSyncMovieAdapter;
+        private final TypeAdapter<java.util.List<SyncShow>> listOfSyncShowAdapter;
+        private final TypeAdapter<java.util.List<SyncSeason>> listOfSyncSeasonAdapter;
+        private final TypeAdapter<java.util.List<SyncEpisode>> listOfSyncEpisodeAdapter;
+
+        SyncErrorsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SyncErrors.class, FIELDS);
+            listOfSyncMovieAdapter = gson.getAdapter(LIST_OF_SYNC_MOVIE);
+            listOfSyncShowAdapter = gson.getAdapter(LIST_OF_SYNC_SHOW);
+            listOfSyncSeasonAdapter = gson.getAdapter(LIST_OF_SYNC_SEASON);
+            listOfSyncEpisodeAdapter = gson.getAdapter(LIST_OF_SYNC_EPISODE);
+        }
+
+        @Override
+        public SyncErrors read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SyncErrors value = new SyncErrors();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movies = listOfSyncMovieAdapter.read(in);
+                            break;
+                        case 1:
+                            value.shows = listOfSyncShowAdapter.read(in);
+                            break;
+                        case 2:
+                            value.seasons = listOfSyncSeasonAdapter.read(in);
+                            break;
+                        case 3:
+                            value.episodes = listOfSyncEpisodeAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SyncErrors value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movies");
+            listOfSyncMovieAdapter.write(out, value.movies);
+            out.name("shows");
+            listOfSyncShowAdapter.write(out, value.shows);
+            out.name("seasons");
+            listOfSyncSeasonAdapter.write(out, value.seasons);
+            out.name("episodes");
+            listOfSyncEpisodeAdapter.write(out, value.episodes);
+            out.endObject();
+        }
+    }
+
+    private static final class SyncItemsAdapter extends TypeAdapter<SyncItems> {
+
+        private static final Map<String, Integer> FIELDS = fields("movies", "shows");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<java.util.List<SyncMovie>> listOfSyncMovieAdapter;
+        private final TypeAdapter<java.util.List<SyncShow>> listOfSyncShowAdapter;
+
+        SyncItemsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SyncItems.class, FIELDS);
+            listOfSyncMovieAdapter = gson.getAdapter(LIST_OF_SYNC_MOVIE);
+            listOfSyncShowAdapter = gson.getAdapter(LIST_OF_SYNC_SHOW);
+        }
+
+        @Override
+        public SyncItems read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SyncItems value = new SyncItems();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movies = listOfSyncMovieAdapter.read(in);
+                            break;
+                        case 1:
+                            value.shows = listOfSyncShowAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SyncItems value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movies");
+            listOfSyncMovieAdapter.write(out, value.movies);
+            out.name("shows");
+            listOfSyncShowAdapter.write(out, value.shows);
+            out.endObject();
+        }
+    }
+
+    private static final class SyncMovieAdapter extends TypeAdapter<SyncMovie> {
+
+        private static final Map<String, Integer> FIELDS = fields("ids", "collected_at", "watched_at", "rated_at",
+                "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<MovieIds> movieIdsAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        SyncMovieAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SyncMovie.class, FIELDS);
+            this.gson = gson;
+            movieIdsAdapter = gson.getAdapter(MovieIds.class);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public SyncMovie read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SyncMovie value = new SyncMovie();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.ids = movieIdsAdapter.read(in);
+                            break;
+                        case 1:
+                            value.collected_at = dateTimeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 4:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SyncMovie value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ids");
+            writeRuntimeType(gson, movieIdsAdapter, MovieIds.class, out, value.ids);
+            out.name("collected_at");
+            dateTimeAdapter.write(out, value.collected_at);
+            out.name("watched_at");
+            dateTimeAdapter.write(out, value.watched_at);
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class SyncResponseAdapter extends TypeAdapter<SyncResponse> {
+
+        private static final Map<String, Integer> FIELDS = fields("added", "existing", "deleted", "not_found");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<SyncStats> syncStatsAdapter;
+        private final TypeAdapter<SyncErrors> syncErrorsAdapter;
+
+        SyncResponseAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SyncResponse.class, FIELDS);
+            this.gson = gson;
+            syncStatsAdapter = gson.getAdapter(SyncStats.class);
+            syncErrorsAdapter = gson.getAdapter(SyncErrors.class);
+        }
+
+        @Override
+        public SyncResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SyncResponse value = new SyncResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.added = syncStatsAdapter.read(in);
+                            break;
+                        case 1:
+                            value.existing = syncStatsAdapter.read(in);
+                            break;
+                        case 2:
+                            value.deleted = syncStatsAdapter.read(in);
+                            break;
+                        case 3:
+                            value.not_found = syncErrorsAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SyncResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("added");
+            writeRuntimeType(gson, syncStatsAdapter, SyncStats.class, out, value.added);
+            out.name("existing");
+            writeRuntimeType(gson, syncStatsAdapter, SyncStats.class, out, value.existing);
+            out.name("deleted");
+            writeRuntimeType(gson, syncStatsAdapter, SyncStats.class, out, value.deleted);
+            out.name("not_found");
+            writeRuntimeType(gson, syncErrorsAdapter, SyncErrors.class, out, value.not_found);
+            out.endObject();
+        }
+    }
+
+    private static final class SyncSeasonAdapter extends TypeAdapter<SyncSeason> {
+
+        private static final Map<String, Integer> FIELDS = fields("number", "episodes", "collected_at", "watched_at",
+                "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final TypeAdapter<java.util.List<SyncEpisode>> listOfSyncEpisodeAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        SyncSeasonAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SyncSeason.class, FIELDS);
+            listOfSyncEpisodeAdapter = gson.getAdapter(LIST_OF_SYNC_EPISODE);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public SyncSeason read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SyncSeason value = new SyncSeason();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.number = readInteger(in);
+                            break;
+                        case 1:
+                            value.episodes = listOfSyncEpisodeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.collected_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 4:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 5:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SyncSeason value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("number");
+            out.value(value.number);
+            out.name("episodes");
+            listOfSyncEpisodeAdapter.write(out, value.episodes);
+            out.name("collected_at");
+            dateTimeAdapter.write(out, value.collected_at);
+            out.name("watched_at");
+            dateTimeAdapter.write(out, value.watched_at);
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class SyncShowAdapter extends TypeAdapter<SyncShow> {
+
+        private static final Map<String, Integer> FIELDS = fields("ids", "seasons", "collected_at", "watched_at",
+                "rated_at", "rating");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<ShowIds> showIdsAdapter;
+        private final TypeAdapter<java.util.List<SyncSeason>> listOfSyncSeasonAdapter;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        SyncShowAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SyncShow.class, FIELDS);
+            this.gson = gson;
+            showIdsAdapter = gson.getAdapter(ShowIds.class);
+            listOfSyncSeasonAdapter = gson.getAdapter(LIST_OF_SYNC_SEASON);
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public SyncShow read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SyncShow value = new SyncShow();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.ids = showIdsAdapter.read(in);
+                            break;
+                        case 1:
+                            value.seasons = listOfSyncSeasonAdapter.read(in);
+                            break;
+                        case 2:
+                            value.collected_at = dateTimeAdapter.read(in);
+                            break;
+                        case 3:
+                            value.watched_at = dateTimeAdapter.read(in);
+                            break;
+                        case 4:
+                            value.rated_at = dateTimeAdapter.read(in);
+                            break;
+                        case 5:
+                            value.rating = ratingAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SyncShow value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ids");
+            writeRuntimeType(gson, showIdsAdapter, ShowIds.class, out, value.ids);
+            out.name("seasons");
+            listOfSyncSeasonAdapter.write(out, value.seasons);
+            out.name("collected_at");
+            dateTimeAdapter.write(out, value.collected_at);
+            out.name("watched_at");
+            dateTimeAdapter.write(out, value.watched_at);
+            out.name("rated_at");
+            dateTimeAdapter.write(out, value.rated_at);
+            out.name("rating");
+            ratingAdapter.write(out, value.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class SyncStatsAdapter extends TypeAdapter<SyncStats> {
+
+        private static final Map<String, Integer> FIELDS = fields("movies", "shows", "seasons", "episodes");
+
+        private final boolean[] skipped;
+
+        SyncStatsAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(SyncStats.class, FIELDS);
+        }
+
+        @Override
+        public SyncStats read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SyncStats value = new SyncStats();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movies = readInteger(in);
+                            break;
+                        case 1:
+                            value.shows = readInteger(in);
+                            break;
+                        case 2:
+                            value.seasons = readInteger(in);
+                            break;
+                        case 3:
+                            value.episodes = readInteger(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, SyncStats value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movies");
+            out.value(value.movies);
+            out.name("shows");
+            out.value(value.shows);
+            out.name("seasons");
+            out.value(value.seasons);
+            out.name("episodes");
+            out.value(value.episodes);
+            out.endObject();
+        }
+    }
+
+    private static final class TranslationAdapter extends TypeAdapter<Translation> {
+
+        private static final Map<String, Integer> FIELDS = fields("language", "title", "overview");
+
+        private final boolean[] skipped;
+
+        TranslationAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(Translation.class, FIELDS);
+        }
+
+        @Override
+        public Translation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Translation value = new Translation();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.language = readString(in);
+                            break;
+                        case 1:
+                            value.title = readString(in);
+                            break;
+                        case 2:
+                            value.overview = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, Translation value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("language");
+            out.value(value.language);
+            out.name("title");
+            out.value(value.title);
+            out.name("overview");
+            out.value(value.overview);
+            out.endObject();
+        }
+    }
+
+    private static final class TrendingMovieAdapter extends TypeAdapter<TrendingMovie> {
+
+        private static final Map<String, Integer> FIELDS = fields("movie", "watchers");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Movie> movieAdapter;
+
+        TrendingMovieAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(TrendingMovie.class, FIELDS);
+            this.gson = gson;
+            movieAdapter = gson.getAdapter(Movie.class);
+        }
+
+        @Override
+        public TrendingMovie read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TrendingMovie value = new TrendingMovie();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.movie = movieAdapter.read(in);
+                            break;
+                        case 1:
+                            value.watchers = readInteger(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, TrendingMovie value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("movie");
+            writeRuntimeType(gson, movieAdapter, Movie.class, out, value.movie);
+            out.name("watchers");
+            out.value(value.watchers);
+            out.endObject();
+        }
+    }
+
+    private static final class TrendingShowAdapter extends TypeAdapter<TrendingShow> {
+
+        private static final Map<String, Integer> FIELDS = fields("show", "watchers");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<Show> showAdapter;
+
+        TrendingShowAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(TrendingShow.class, FIELDS);
+            this.gson = gson;
+            showAdapter = gson.getAdapter(Show.class);
+        }
+
+        @Override
+        public TrendingShow read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TrendingShow value = new TrendingShow();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.show = showAdapter.read(in);
+                            break;
+                        case 1:
+                            value.watchers = readInteger(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, TrendingShow value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.name("watchers");
+            out.value(value.watchers);
+            out.endObject();
+        }
+    }
+
+    private static final class UserAdapter extends TypeAdapter<User> {
+
+        private static final Map<String, Integer> FIELDS = fields("username", "private", "name", "vip", "joined_at",
+                "location", "about", "gender", "age", "images");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Images> imagesAdapter;
+
+        UserAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(User.class, FIELDS);
+            this.gson = gson;
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            imagesAdapter = gson.getAdapter(Images.class);
+        }
+
+        @Override
+        public User read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            User value = new User();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.username = readString(in);
+                            break;
+                        case 1:
+                            value.isPrivate = readBoolean(in);
+                            break;
+                        case 2:
+                            value.name = readString(in);
+                            break;
+                        case 3:
+                            value.vip = readBoolean(in);
+                            break;
+                        case 4:
+                            value.joined_at = dateTimeAdapter.read(in);
+                            break;
+                        case 5:
+                            value.location = readString(in);
+                            break;
+                        case 6:
+                            value.about = readString(in);
+                            break;
+                        case 7:
+                            value.gender = readString(in);
+                            break;
+                        case 8:
+                            Integer age = readInteger(in);
+                            if (age != null) {
+                                value.age = age;
+                            }
+                            break;
+                        case 9:
+                            value.images = imagesAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, User value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("username");
+            out.value(value.username);
+            out.name("private");
+            writeBoolean(out, value.isPrivate);
+            out.name("name");
+            out.value(value.name);
+            out.name("vip");
+            writeBoolean(out, value.vip);
+            out.name("joined_at");
+            dateTimeAdapter.write(out, value.joined_at);
+            out.name("location");
+            out.value(value.location);
+            out.name("about");
+            out.value(value.about);
+            out.name("gender");
+            out.value(value.gender);
+            out.name("age");
+            out.value(value.age);
+            out.name("images");
+            writeRuntimeType(gson, imagesAdapter, Images.class, out, value.images);
+            out.endObject();
+        }
+    }
+
+    private static final class UserTokenAdapter extends TypeAdapter<UserToken> {
+
+        private static final Map<String, Integer> FIELDS = fields("token");
+
+        private final boolean[] skipped;
+
+        UserTokenAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(UserToken.class, FIELDS);
+        }
+
+        @Override
+        public UserToken read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserToken value = new UserToken();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.token = readString(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, UserToken value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("token");
+            out.value(value.token);
+            out.endObject();
+        }
+    }
+
+    private static final class WatchlistedEpisodeAdapter extends TypeAdapter<WatchlistedEpisode> {
+
+        private static final Map<String, Integer> FIELDS = fields("listed_at", "episode", "show");
+
+        private final boolean[] skipped;
+        private final Gson gson;
+        private final TypeAdapter<DateTime> dateTimeAdapter;
+        private final TypeAdapter<Episode> episodeAdapter;
+        private final TypeAdapter<Show> showAdapter;
+
+        WatchlistedEpisodeAdapter(Gson gson, Projection projection) {
+            skipped = projection.skipped(WatchlistedEpisode.class, FIELDS);
+            this.gson = gson;
+            dateTimeAdapter = gson.getAdapter(DateTime.class);
+            episodeAdapter = gson.getAdapter(Episode.class);
+            showAdapter = gson.getAdapter(Show.class);
+        }
+
+        @Override
+        public WatchlistedEpisode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WatchlistedEpisode value = new WatchlistedEpisode();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    Integer field = FIELDS.get(in.nextName());
+                    if (field == null || skipped[field]) {
+                        in.skipValue();
+                        continue;
+                    }
+                    switch (field) {
+                        case 0:
+                            value.listed_at = dateTimeAdapter.read(in);
+                            break;
+                        case 1:
+                            value.episode = episodeAdapter.read(in);
+                            break;
+                        case 2:
+                            value.show = showAdapter.read(in);
+                            break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, WatchlistedEpisode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("listed_at");
+            dateTimeAdapter.write(out, value.listed_at);
+            out.name("episode");
+            writeRuntimeType(gson, episodeAdapter, Episode.class, out, value.episode);
+            out.name("show");
+            writeRuntimeType(gson, showAdapter, Show.class, out, value.show);
+            out.endObject();
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.uwetrottmann.trakt.v2.entities.Timestamps;
+
+import java.io.IOException;
+
+/**
+ * Reads ISO 8601 date times like {@link DateTimeTypeAdapter}, but into milliseconds since the epoch without creating a
+ * {@link org.joda.time.DateTime}, {@code null} becomes {@link Timestamps#NONE}. Writes them in the same format. Used
+ * for the {@code long} date time fields of the {@link com.uwetrottmann.trakt.v2.entities.Slim slim} entities, the
+ * generated adapters call {@link #readMillis(JsonReader)} directly to avoid boxing.
+ */
+public class EpochMillisTypeAdapter extends TypeAdapter<Long> {
+
+    @Override
+    public Long read(JsonReader in) throws IOException {
+        return readMillis(in);
+    }
+
+    @Override
+    public void write(JsonWriter out, Long value) throws IOException {
+        writeMillis(out, value == null ? Timestamps.NONE : value);
+    }
+
+    public static long readMillis(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return Timestamps.NONE;
+        }
+        String value = in.nextString();
+        try {
+            return IsoDateTimeParser.parseToMillis(value);
+        } catch (IllegalArgumentException e) {
+            throw new JsonSyntaxException("Invalid date time " + value, e);
+        }
+    }
+
+    public static void writeMillis(JsonWriter out, long millis) throws IOException {
+        if (millis == Timestamps.NONE) {
+            out.nullValue();
+        } else {
+            out.value(Timestamps.toDateTime(millis).toString());
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import org.joda.time.DateTime;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * Parses the date times trakt sends, like {@code 2014-09-01T09:00:00.000Z}, and dates, like {@code 2014-09-01}, by
+ * reading the digits at their fixed positions. Only the resulting {@link DateTime} is allocated.
+ *
+ * <p> Any other ISO 8601 form, e.g. with an offset or without milliseconds, is passed to Joda's {@link
+ * ISODateTimeFormat#dateTimeParser()}, so the result is always the same as Joda's, in UTC.
+ */
+public final class IsoDateTimeParser {
+
+    private static final DateTimeFormatter FALLBACK = ISODateTimeFormat.dateTimeParser().withZoneUTC();
+    private static final ISOChronology UTC = ISOChronology.getInstanceUTC();
+
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+    private static final int[] DAYS_IN_MONTH = { 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+    private IsoDateTimeParser() {
+    }
+
+    /**
+     * @throws IllegalArgumentException If the value is not an ISO 8601 date time.
+     */
+    public static DateTime parse(String value) {
+        long millis = parseMillis(value);
+        if (millis == Long.MIN_VALUE) {
+            return FALLBACK.parseDateTime(value);
+        }
+        return new DateTime(millis, UTC);
+    }
+
+    /**
+     * Like {@link #parse(String)}, but returns the milliseconds since the epoch without creating a {@link DateTime}.
+     *
+     * @throws IllegalArgumentException If the value is not an ISO 8601 date time.
+     */
+    public static long parseToMillis(String value) {
+        long millis = parseMillis(value);
+        if (millis == Long.MIN_VALUE) {
+            return FALLBACK.parseMillis(value);
+        }
+        return millis;
+    }
+
+    /**
+     * Returns the milliseconds since the epoch, or {@link Long#MIN_VALUE} if the value does not have one of the fixed
+     * forms or is out of range.
+     */
+    static long parseMillis(String value) {
+        int length = value.length();
+        if (length != 10 && length != 24) {
+            return Long.MIN_VALUE;
+        }
+        // yyyy-MM-dd
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 2);
+        int day = digits(value, 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || value.charAt(4) != '-' || value.charAt(7) != '-'
+                || day > DAYS_IN_MONTH[month - 1] || (month == 2 && day == 29 && !isLeapYear(year))) {
+            return Long.MIN_VALUE;
+        }
+        long millis = daysSinceEpoch(year, month, day) * MILLIS_PER_DAY;
+        if (length == 10) {
+            return millis;
+        }
+
+        // THH:mm:ss.SSSZ
+        int hour = digits(value, 11, 2);
+        int minute = digits(value, 14, 2);
+        int second = digits(value, 17, 2);
+        int fraction = digits(value, 20, 3);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || fraction < 0
+                || value.charAt(10) != 'T' || value.charAt(13) != ':' || value.charAt(16) != ':'
+                || value.charAt(19) != '.' || value.charAt(23) != 'Z') {
+            return Long.MIN_VALUE;
+        }
+        return millis + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + second * MILLIS_PER_SECOND + fraction;
+    }
+
+    /**
+     * Returns the decimal value of the given digits, or -1 if one is not a digit.
+     */
+    private static int digits(String value, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Days from 1970-01-01 in the proleptic Gregorian calendar, like {@link ISOChronology}.
+     */
+    private static long daysSinceEpoch(int year, int month, int day) {
+        // count years from March, so the leap day is the last day of a year
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields to read of each entity, all others are skipped at the token level while decoding, without allocating
+ * their values. Use it to decode only what a job needs, e.g. ids, title and year of movies requested with {@link
+ * com.uwetrottmann.trakt.v2.enums.Extended#FULLIMAGES}:
+ *
+ * <pre>
+ * Projection projection = Projection.builder()
+ *         .include(BaseMovie.class, "movie")
+ *         .include(Movie.class, "ids", "title", "year")
+ *         .build();
+ * </pre>
+ *
+ * <p> Fields are given by their JSON name and apply to exactly the given class, not to its subclasses. Entities without
+ * included fields are read completely. Skipped fields keep their default value. Writing is not affected. Projections
+ * including the same fields are equal.
+ */
+public final class Projection {
+
+    /** Reads all fields. */
+    public static final Projection ALL = new Projection(Collections.<Class<?>, Set<String>>emptyMap());
+
+    private final Map<Class<?>, Set<String>> included;
+
+    private Projection(Map<Class<?>, Set<String>> included) {
+        this.included = included;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Projection && included.equals(((Projection) o).included);
+    }
+
+    @Override
+    public int hashCode() {
+        return included.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Projection" + included;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether the given field of the given entity is read.
+     */
+    public boolean includes(Class<?> type, String field) {
+        Set<String> fields = included.get(type);
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * Returns for each field index of the given entity whether its value is skipped.
+     */
+    boolean[] skipped(Class<?> type, Map<String, Integer> fields) {
+        boolean[] skipped = new boolean[fields.size()];
+        Set<String> fieldsIncluded = included.get(type);
+        if (fieldsIncluded != null) {
+            for (Map.Entry<String, Integer> field : fields.entrySet()) {
+                skipped[field.getValue()] = !fieldsIncluded.contains(field.getKey());
+            }
+        }
+        return skipped;
+    }
+
+    public static class Builder {
+
+        private final Map<Class<?>, Set<String>> included = new HashMap<Class<?>, Set<String>>();
+
+        /**
+         * Read only the given fields of the entity, in addition to ones included earlier.
+         *
+         * @param fields JSON names of fields, like {@code "first_aired"}.
+         * @throws IllegalArgumentException If the entity has no such field.
+         */
+        public Builder include(Class<?> type, String... fields) {
+            Set<String> names = jsonNames(type);
+            for (String field : fields) {
+                if (!names.contains(field)) {
+                    throw new IllegalArgumentException(type.getSimpleName() + " has no field " + field);
+                }
+            }
+            Set<String> fieldsIncluded = included.get(type);
+            if (fieldsIncluded == null) {
+                fieldsIncluded = new HashSet<String>();
+                included.put(type, fieldsIncluded);
+            }
+            fieldsIncluded.addAll(Arrays.asList(fields));
+            return this;
+        }
+
+        public Projection build() {
+            Map<Class<?>, Set<String>> copy = new HashMap<Class<?>, Set<String>>();
+            for (Map.Entry<Class<?>, Set<String>> entry : included.entrySet()) {
+                copy.put(entry.getKey(), new HashSet<String>(entry.getValue()));
+            }
+            return new Projection(copy);
+        }
+
+        private static Set<String> jsonNames(Class<?> type) {
+            Set<String> names = new HashSet<String>();
+            for (Field field : type.getFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                names.add(serializedName != null ? serializedName.value() : field.getName());
+            }
+            return names;
+        }
+    }
+
+}
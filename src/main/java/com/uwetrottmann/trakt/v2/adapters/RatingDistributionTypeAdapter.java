@@ -0,0 +1,77 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Reads the rating distribution of trakt, an object with the number of votes for each rating from {@code "1"} to
+ * {@code "10"}, into an {@code int[10]} with the votes for 1 at index 0. Ratings missing from the object have no
+ * votes, unknown ones are skipped. Writes it back in the same form.
+ */
+public class RatingDistributionTypeAdapter extends TypeAdapter<int[]> {
+
+    private static final int RATINGS = 10;
+
+    @Override
+    public int[] read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        int[] distribution = new int[RATINGS];
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                int rating = rating(in.nextName());
+                if (rating < 1 || rating > RATINGS || in.peek() == JsonToken.NULL) {
+                    in.skipValue();
+                    continue;
+                }
+                distribution[rating - 1] = in.nextInt();
+            }
+            in.endObject();
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+        return distribution;
+    }
+
+    @Override
+    public void write(JsonWriter out, int[] value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        for (int i = 0; i < value.length; i++) {
+            out.name(String.valueOf(i + 1)).value(value[i]);
+        }
+        out.endObject();
+    }
+
+    /**
+     * Returns the rating of a key, or -1 if it is not a number.
+     */
+    private static int rating(String name) {
+        if (name.length() == 0 || name.length() > 2) {
+            return -1;
+        }
+        int rating = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            rating = rating * 10 + c - '0';
+        }
+        return rating;
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+/**
+ * Returns the same instance for equal strings, so values repeated throughout a large response, like the network of a
+ * show or the action of a history entry, are retained once instead of once per entity.
+ *
+ * <p> The pool is a fixed size table without locking: each string takes the slot of its hash, replacing the one there.
+ * So it holds at most {@code size} strings, which is enough for the few distinct values of the fields it is used for.
+ * Strings longer than {@link #MAX_LENGTH} are not pooled.
+ */
+public final class StringPool {
+
+    /** Returns strings unchanged. */
+    public static final StringPool NONE = new StringPool(0);
+
+    static final int MAX_LENGTH = 64;
+    /** Slots of the default pool, there are a few hundred networks and countries. */
+    private static final int DEFAULT_SIZE = 1024;
+
+    private final String[] table;
+
+    public StringPool() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param size Number of slots, rounded up to a power of two.
+     */
+    public StringPool(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size < 0: " + size);
+        }
+        int slots = size == 0 ? 0 : 1;
+        while (slots < size) {
+            slots <<= 1;
+        }
+        table = new String[slots];
+    }
+
+    /**
+     * Returns an equal pooled string if there is one, otherwise pools and returns the given one.
+     */
+    public String get(String value) {
+        if (value == null || table.length == 0 || value.length() > MAX_LENGTH) {
+            return value;
+        }
+        int hash = value.hashCode();
+        int slot = (hash ^ hash >>> 16) & table.length - 1;
+        // a stale read only misses the pooled string, strings are safe to share between threads
+        String pooled = table[slot];
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        table[slot] = value;
+        return value;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.uwetrottmann.trakt.v2.enums.TraktEnum;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads and writes every {@link TraktEnum} by its value, i.e. {@link TraktEnum#toString()}, like {@code "returning
+ * series"} for {@link com.uwetrottmann.trakt.v2.enums.Status#RETURNING}. Enums whose values are all integers, like
+ * {@link com.uwetrottmann.trakt.v2.enums.Rating}, are written as numbers.
+ *
+ * <p> Values are looked up in a table built once per enum, ignoring case if there is no exact match. Unknown values
+ * are read as {@code null}.
+ */
+public class TraktEnumTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (!TraktEnum.class.isAssignableFrom(rawType) || !rawType.isEnum()) {
+            return null;
+        }
+        return (TypeAdapter<T>) new EnumTypeAdapter((Class<? extends TraktEnum>) rawType);
+    }
+
+    private static class EnumTypeAdapter extends TypeAdapter<TraktEnum> {
+
+        private final Map<String, TraktEnum> byValue = new HashMap<String, TraktEnum>();
+        private final Map<String, TraktEnum> byLowerCaseValue = new HashMap<String, TraktEnum>();
+        private final boolean numeric;
+
+        EnumTypeAdapter(Class<? extends TraktEnum> type) {
+            boolean numeric = true;
+            for (TraktEnum constant : type.getEnumConstants()) {
+                String value = constant.toString();
+                byValue.put(value, constant);
+                byLowerCaseValue.put(value.toLowerCase(Locale.US), constant);
+                numeric &= isInteger(value);
+            }
+            this.numeric = numeric;
+        }
+
+        @Override
+        public TraktEnum read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            // also reads numbers
+            String value = in.nextString();
+            TraktEnum constant = byValue.get(value);
+            if (constant == null) {
+                constant = byLowerCaseValue.get(value.toLowerCase(Locale.US));
+            }
+            return constant;
+        }
+
+        @Override
+        public void write(JsonWriter out, TraktEnum value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else if (numeric) {
+                out.value(Long.parseLong(value.toString()));
+            } else {
+                out.value(value.toString());
+            }
+        }
+
+        private static boolean isInteger(String value) {
+            if (value.length() == 0 || value.length() > 18) {
+                return false;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+}
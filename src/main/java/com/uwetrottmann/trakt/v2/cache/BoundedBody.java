@@ -0,0 +1,103 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import retrofit.mime.TypedInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+/**
+ * A response body read into memory to be cached, but only up to a maximum size. Reading stops once the body turns out
+ * to be larger, it is then passed on without buffering the rest, whether its length was known up front or not.
+ */
+final class BoundedBody {
+
+    private final TypedInput body;
+    private final InputStream in;
+    private final byte[] bytes;
+    private final boolean complete;
+
+    private BoundedBody(TypedInput body, InputStream in, byte[] bytes, boolean complete) {
+        this.body = body;
+        this.in = in;
+        this.bytes = bytes;
+        this.complete = complete;
+    }
+
+    /**
+     * Reads at most {@code maxBytes} + 1 bytes of the given body. Closes the body if it was read completely.
+     */
+    static BoundedBody read(TypedInput body, long maxBytes) throws IOException {
+        int limit = (int) Math.min(maxBytes + 1, Integer.MAX_VALUE - 8);
+        long length = body.length();
+        InputStream in = body.in();
+        byte[] bytes;
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length > 0 && length < limit ? (int) length
+                    : Math.min(8192, limit));
+            byte[] buffer = new byte[8192];
+            int count;
+            while (out.size() < limit
+                    && (count = in.read(buffer, 0, Math.min(buffer.length, limit - out.size()))) != -1) {
+                out.write(buffer, 0, count);
+            }
+            bytes = out.toByteArray();
+        } catch (IOException e) {
+            closeQuietly(in);
+            throw e;
+        }
+        boolean complete = bytes.length < limit;
+        if (complete) {
+            in.close();
+        }
+        return new BoundedBody(body, in, bytes, complete);
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Whether the body fit into the maximum size and was read completely.
+     */
+    boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * The whole body, if {@link #isComplete()}.
+     */
+    byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * The body of a response too large to cache, the bytes read so far followed by the remaining ones read straight
+     * from the original body. Closing it closes the original body.
+     */
+    TypedInput passThrough() {
+        final InputStream stream = new SequenceInputStream(new ByteArrayInputStream(bytes), in);
+        return new TypedInput() {
+            @Override
+            public String mimeType() {
+                return body.mimeType();
+            }
+
+            @Override
+            public long length() {
+                return body.length();
+            }
+
+            @Override
+            public InputStream in() {
+                return stream;
+            }
+        };
+    }
+
+}
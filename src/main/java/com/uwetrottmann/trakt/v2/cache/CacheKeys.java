@@ -0,0 +1,101 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import com.uwetrottmann.trakt.v2.TraktV2;
+import retrofit.client.Header;
+import retrofit.client.Request;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds cache keys from requests. Responses depend on the user, so the key includes the user name and a hash of the
+ * access token, but never the token itself.
+ */
+class CacheKeys {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private CacheKeys() {
+    }
+
+    static String key(Request request) {
+        return identity(request.getHeaders()) + " " + canonicalUrl(request.getUrl());
+    }
+
+    static boolean isAuthenticated(List<Header> headers) {
+        String token = headerValue(headers, TraktV2.HEADER_USER_TOKEN);
+        return token != null && token.length() != 0;
+    }
+
+    /**
+     * Returns {@code "anonymous"} or the user name and a hash of the access token.
+     */
+    static String identity(List<Header> headers) {
+        if (!isAuthenticated(headers)) {
+            return "anonymous";
+        }
+        String token = headerValue(headers, TraktV2.HEADER_USER_TOKEN);
+        String username = headerValue(headers, TraktV2.HEADER_USER_LOGIN);
+        return (username == null ? "" : username) + ":" + sha1(token).substring(0, 16);
+    }
+
+    /**
+     * Lower cases scheme and host and sorts the query parameters, so equal requests map to the same key.
+     */
+    static String canonicalUrl(String url) {
+        int schemeEnd = url.indexOf("://");
+        int pathStart = schemeEnd == -1 ? -1 : url.indexOf('/', schemeEnd + 3);
+        int queryStart = url.indexOf('?');
+        if (pathStart == -1 || (queryStart != -1 && queryStart < pathStart)) {
+            pathStart = queryStart != -1 ? queryStart : url.length();
+        }
+        StringBuilder canonical = new StringBuilder(url.length());
+        canonical.append(url.substring(0, pathStart).toLowerCase(Locale.US));
+        if (queryStart == -1) {
+            canonical.append(url, pathStart, url.length());
+            return canonical.toString();
+        }
+        canonical.append(url, pathStart, queryStart);
+        String[] parameters = url.substring(queryStart + 1).split("&");
+        Arrays.sort(parameters);
+        char separator = '?';
+        for (String parameter : parameters) {
+            if (parameter.length() == 0) {
+                continue;
+            }
+            canonical.append(separator).append(parameter);
+            separator = '&';
+        }
+        return canonical.toString();
+    }
+
+    static String sha1(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(value.getBytes("UTF-8"));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xf];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xf];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static String headerValue(List<Header> headers, String name) {
+        for (Header header : headers) {
+            if (name.equalsIgnoreCase(header.getName())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+}
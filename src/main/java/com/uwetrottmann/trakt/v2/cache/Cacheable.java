@@ -0,0 +1,17 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method whose result may be kept in an {@link EntityCache}. The result must only depend on the
+ * arguments of the method, not on the user.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cacheable {
+}
@@ -0,0 +1,132 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import retrofit.client.Header;
+import retrofit.mime.TypedInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A response body kept in memory along with its validators. Remembers the entities decoded from it, so a body served
+ * again on {@code 304 Not Modified} is not decoded again.
+ *
+ * <p> Retrofit wraps response bodies before handing them to the converter, so the body a {@link ValidatorCacheClient}
+ * returned is passed to the {@link CachedEntityConverter} through a thread local. Retrofit executes a request and
+ * converts its response on the same thread.
+ */
+class CachedBody implements TypedInput {
+
+    private static final ThreadLocal<CachedBody> SERVED = new ThreadLocal<CachedBody>();
+
+    private final String mimeType;
+    private final byte[] bytes;
+    private final List<Header> headers;
+    private final String etag;
+    private final String lastModified;
+    private final ConcurrentMap<DecodedKey, Object> decoded = new ConcurrentHashMap<DecodedKey, Object>();
+
+    CachedBody(String mimeType, byte[] bytes, List<Header> headers, String etag, String lastModified) {
+        this.mimeType = mimeType;
+        this.bytes = bytes;
+        this.headers = headers;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    @Override
+    public String mimeType() {
+        return mimeType;
+    }
+
+    @Override
+    public long length() {
+        return bytes.length;
+    }
+
+    @Override
+    public InputStream in() {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * Remember the body returned for the request currently executed on this thread, or {@code null} if the response
+     * was not served from a cache.
+     */
+    static void setServed(CachedBody body) {
+        if (body == null) {
+            SERVED.remove();
+        } else {
+            SERVED.set(body);
+        }
+    }
+
+    /**
+     * Returns and forgets the body returned for the last request executed on this thread.
+     */
+    static CachedBody takeServed() {
+        CachedBody body = SERVED.get();
+        if (body != null) {
+            SERVED.remove();
+        }
+        return body;
+    }
+
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    List<Header> getHeaders() {
+        return headers;
+    }
+
+    String getEtag() {
+        return etag;
+    }
+
+    String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns the entity decoded earlier as the given type by a converter decoding as identified by the given value, see
+     * {@link CachedEntityConverter#CachedEntityConverter(retrofit.converter.Converter, Object)}.
+     */
+    Object getDecoded(Type type, Object decoding) {
+        return decoded.get(new DecodedKey(type, decoding));
+    }
+
+    void putDecoded(Type type, Object decoding, Object entity) {
+        decoded.put(new DecodedKey(type, decoding), entity);
+    }
+
+    private static class DecodedKey {
+
+        private final Type type;
+        private final Object decoding;
+
+        DecodedKey(Type type, Object decoding) {
+            this.type = type;
+            this.decoding = decoding;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof DecodedKey)) {
+                return false;
+            }
+            DecodedKey other = (DecodedKey) o;
+            return type.equals(other.type)
+                    && (decoding == null ? other.decoding == null : decoding.equals(other.decoding));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + (decoding != null ? decoding.hashCode() : 0);
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import retrofit.converter.ConversionException;
+import retrofit.converter.Converter;
+import retrofit.mime.TypedInput;
+import retrofit.mime.TypedOutput;
+
+import java.lang.reflect.Type;
+
+/**
+ * Returns the entity decoded earlier from a body served by a {@link ValidatorCacheClient}, instead of decoding the
+ * same bytes again. Otherwise delegates to the wrapped converter.
+ *
+ * <p> Must be called on the thread which executed the request, as retrofit does.
+ *
+ * <p> Entities returned for a cached body are shared between callers, so they should not be modified.
+ */
+public class CachedEntityConverter implements Converter {
+
+    private final Converter delegate;
+    private final Object decoding;
+
+    public CachedEntityConverter(Converter delegate) {
+        this(delegate, null);
+    }
+
+    /**
+     * @param decoding Identifies how the wrapped converter decodes, e.g. with which {@link
+     * com.uwetrottmann.trakt.v2.adapters.Projection}, may be {@code null}. Converters sharing a {@link ValidatorCache}
+     * only reuse entities of one another if these are equal.
+     */
+    public CachedEntityConverter(Converter delegate, Object decoding) {
+        this.delegate = delegate;
+        this.decoding = decoding;
+    }
+
+    @Override
+    public Object fromBody(TypedInput body, Type type) throws ConversionException {
+        CachedBody cached = CachedBody.takeServed();
+        if (cached == null || cached.length() != body.length()) {
+            return delegate.fromBody(body, type);
+        }
+        Object entity = cached.getDecoded(type, decoding);
+        if (entity == null) {
+            entity = delegate.fromBody(body, type);
+            if (entity != null) {
+                cached.putDecoded(type, decoding, entity);
+            }
+        }
+        return entity;
+    }
+
+    @Override
+    public TypedOutput toBody(Object object) {
+        return delegate.toBody(object);
+    }
+
+}
@@ -0,0 +1,391 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import com.uwetrottmann.trakt.v2.client.PathPattern;
+import retrofit.client.Header;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stores {@code GET} responses in a directory, so they survive restarts. Responses are only stored for endpoints with a
+ * time to live, e.g.
+ *
+ * <pre>
+ * DiskCache cache = new DiskCache(new File("trakt-cache"), 50 * 1024 * 1024);
+ * // lists like /movies/trending also match /movies/*, exclude them first
+ * cache.setTtl("/movies/trending", 0, TimeUnit.DAYS);
+ * cache.setTtl("/movies/popular", 0, TimeUnit.DAYS);
+ * cache.setTtl("/movies/*", 1, TimeUnit.DAYS);
+ * cache.setTtl("/shows/trending", 0, TimeUnit.DAYS);
+ * cache.setTtl("/shows/popular", 0, TimeUnit.DAYS);
+ * cache.setTtl("/shows/*", 1, TimeUnit.DAYS);
+ * cache.setTtl("/shows/&#42;/seasons/*", 1, TimeUnit.DAYS);
+ * cache.setTtl("/people/*", 7, TimeUnit.DAYS);
+ * </pre>
+ *
+ * <p> Once the entries exceed the byte budget, the least recently used ones are deleted. Responses to requests with an
+ * access token are stored in a separate sub-directory from anonymous ones and are keyed by user.
+ *
+ * <p> Used by a {@link DiskCacheClient}, see {@link com.uwetrottmann.trakt.v2.TraktV2#setDiskCache}.
+ */
+public class DiskCache {
+
+    private static final int MAGIC = 0x54524b31; // TRK1
+    private static final String SUFFIX = ".entry";
+    private static final String DIRECTORY_ANONYMOUS = "anonymous";
+    private static final String DIRECTORY_AUTHENTICATED = "authenticated";
+
+    private final File directory;
+    private final long maxBytes;
+    private final List<TtlRule> ttlRules = new ArrayList<TtlRule>();
+    /** Entry files in least recently used order and their sizes. */
+    private final LinkedHashMap<File, Long> entries = new LinkedHashMap<File, Long>(16, 0.75f, true);
+    private long size;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong staleHitCount = new AtomicLong();
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Opens or creates a cache in the given directory. Existing entries are kept, their file modification times
+     * determine the least recently used order.
+     *
+     * @param directory A directory used only by this cache.
+     * @param maxBytes Maximum total size of all entries in bytes.
+     */
+    public DiskCache(File directory, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        List<File> files = new ArrayList<File>();
+        for (String name : new String[] { DIRECTORY_ANONYMOUS, DIRECTORY_AUTHENTICATED }) {
+            File subdirectory = new File(directory, name);
+            if (!subdirectory.isDirectory() && !subdirectory.mkdirs()) {
+                throw new IOException("Could not create cache directory " + subdirectory);
+            }
+            File[] existing = subdirectory.listFiles();
+            if (existing != null) {
+                for (File file : existing) {
+                    if (file.getName().endsWith(SUFFIX)) {
+                        files.add(file);
+                    } else {
+                        // left over from an interrupted write
+                        delete(file);
+                    }
+                }
+            }
+        }
+        File[] sorted = files.toArray(new File[files.size()]);
+        Arrays.sort(sorted, new Comparator<File>() {
+            @Override
+            public int compare(File left, File right) {
+                long l = left.lastModified();
+                long r = right.lastModified();
+                return l < r ? -1 : (l == r ? 0 : 1);
+            }
+        });
+        synchronized (this) {
+            for (File file : sorted) {
+                entries.put(file, file.length());
+                size += file.length();
+            }
+            trimToSize();
+        }
+    }
+
+    /**
+     * Store responses of endpoints matching the given {@link PathPattern} for the given time. The query string is
+     * ignored for matching. The first matching pattern wins, a duration of 0 excludes the endpoints it matches.
+     */
+    public synchronized DiskCache setTtl(String pathPattern, long duration, TimeUnit unit) {
+        ttlRules.add(new TtlRule(pathPattern, unit.toMillis(duration)));
+        return this;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Total size of all entries in bytes.
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Number of expired responses served because the server could not be asked, e.g. while a {@link
+     * com.uwetrottmann.trakt.v2.client.CircuitBreaker} is open.
+     */
+    public long getStaleHitCount() {
+        return staleHitCount.get();
+    }
+
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Delete all entries.
+     */
+    public synchronized void evictAll() {
+        for (File file : entries.keySet()) {
+            delete(file);
+        }
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * Delete all entries stored for requests with an access token, e.g. after logging out.
+     */
+    public synchronized void evictAuthenticated() {
+        for (Iterator<Map.Entry<File, Long>> i = entries.entrySet().iterator(); i.hasNext(); ) {
+            Map.Entry<File, Long> entry = i.next();
+            if (DIRECTORY_AUTHENTICATED.equals(entry.getKey().getParentFile().getName())) {
+                delete(entry.getKey());
+                size -= entry.getValue();
+                i.remove();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DiskCache[" + directory + ", size=" + size() + ", entries=" + getEntryCount() + ", hits=" + hitCount
+                + ", staleHits=" + staleHitCount + ", misses=" + missCount + ", writes=" + writeCount + ", evictions="
+                + evictionCount + "]";
+    }
+
+    /**
+     * Returns the time to live of responses for the given path in milliseconds, or 0 if they should not be stored.
+     */
+    synchronized long ttlFor(String path) {
+        for (TtlRule rule : ttlRules) {
+            if (rule.pattern.matches(path)) {
+                return rule.ttlMillis;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the stored response for the given key or {@code null}. Expired responses are kept until evicted, they
+     * are only returned if {@code allowExpired} is set, e.g. while the server can not be reached.
+     */
+    Entry get(String key, boolean authenticated, boolean allowExpired) {
+        File file = file(key, authenticated);
+        synchronized (this) {
+            if (entries.get(file) == null) {
+                if (!allowExpired) {
+                    missCount.incrementAndGet();
+                }
+                return null;
+            }
+        }
+        Entry entry = null;
+        try {
+            entry = Entry.read(file, key);
+        } catch (FileNotFoundException e) {
+            // evicted in the meantime
+        } catch (IOException e) {
+            remove(file);
+        }
+        if (entry == null || (!allowExpired && entry.expiresAt <= System.currentTimeMillis())) {
+            if (entry != null) {
+                entry.close();
+            }
+            if (!allowExpired) {
+                missCount.incrementAndGet();
+            }
+            return null;
+        }
+        if (allowExpired) {
+            staleHitCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        // persist the access order
+        file.setLastModified(System.currentTimeMillis());
+        return entry;
+    }
+
+    void put(String key, boolean authenticated, long expiresAt, String mimeType, List<Header> headers, byte[] body)
+            throws IOException {
+        File file = file(key, authenticated);
+        File temp = new File(file.getPath() + ".tmp-" + Thread.currentThread().getId());
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), 8192));
+        try {
+            out.writeInt(MAGIC);
+            out.writeUTF(key);
+            out.writeLong(expiresAt);
+            out.writeUTF(mimeType == null ? "" : mimeType);
+            out.writeInt(headers.size());
+            for (Header header : headers) {
+                out.writeUTF(header.getName() == null ? "" : header.getName());
+                out.writeUTF(header.getValue() == null ? "" : header.getValue());
+            }
+            out.writeInt(body.length);
+            out.write(body);
+        } finally {
+            out.close();
+        }
+        long length = temp.length();
+        if (length > maxBytes) {
+            delete(temp);
+            return;
+        }
+        synchronized (this) {
+            if (!temp.renameTo(file)) {
+                delete(file);
+                if (!temp.renameTo(file)) {
+                    delete(temp);
+                    throw new IOException("Could not write cache entry " + file);
+                }
+            }
+            Long previous = entries.put(file, length);
+            if (previous != null) {
+                size -= previous;
+            }
+            size += length;
+            writeCount.incrementAndGet();
+            trimToSize();
+        }
+    }
+
+    private synchronized void remove(File file) {
+        Long length = entries.remove(file);
+        if (length != null) {
+            size -= length;
+        }
+        delete(file);
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<File, Long>> i = entries.entrySet().iterator();
+        while (size > maxBytes && i.hasNext()) {
+            Map.Entry<File, Long> eldest = i.next();
+            delete(eldest.getKey());
+            size -= eldest.getValue();
+            i.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private File file(String key, boolean authenticated) {
+        return new File(new File(directory, authenticated ? DIRECTORY_AUTHENTICATED : DIRECTORY_ANONYMOUS),
+                CacheKeys.sha1(key) + SUFFIX);
+    }
+
+    private static void delete(File file) {
+        if (!file.delete() && file.exists()) {
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * A stored response. The body is streamed from the file.
+     */
+    static class Entry {
+
+        final long expiresAt;
+        final String mimeType;
+        final List<Header> headers;
+        final int length;
+        final InputStream body;
+
+        private Entry(long expiresAt, String mimeType, List<Header> headers, int length, InputStream body) {
+            this.expiresAt = expiresAt;
+            this.mimeType = mimeType;
+            this.headers = headers;
+            this.length = length;
+            this.body = body;
+        }
+
+        void close() {
+            try {
+                body.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        /**
+         * Returns {@code null} if the file stores a different key.
+         */
+        static Entry read(File file, String key) throws IOException {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 8192));
+            boolean success = false;
+            try {
+                if (in.readInt() != MAGIC) {
+                    throw new IOException("Not a cache entry: " + file);
+                }
+                if (!key.equals(in.readUTF())) {
+                    return null;
+                }
+                long expiresAt = in.readLong();
+                String mimeType = in.readUTF();
+                int headerCount = in.readInt();
+                List<Header> headers = new ArrayList<Header>(headerCount);
+                for (int i = 0; i < headerCount; i++) {
+                    headers.add(new Header(in.readUTF(), in.readUTF()));
+                }
+                int length = in.readInt();
+                success = true;
+                return new Entry(expiresAt, mimeType.length() == 0 ? null : mimeType, headers, length, in);
+            } finally {
+                if (!success) {
+                    in.close();
+                }
+            }
+        }
+    }
+
+    private static class TtlRule {
+
+        private final PathPattern pattern;
+        private final long ttlMillis;
+
+        TtlRule(String pathPattern, long ttlMillis) {
+            this.pattern = new PathPattern(pathPattern);
+            this.ttlMillis = ttlMillis;
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import com.uwetrottmann.trakt.v2.client.CircuitBreakerOpenException;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedByteArray;
+import retrofit.mime.TypedInput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Answers {@code GET} requests from a {@link DiskCache} without touching the network while the stored response is
+ * fresh. Successful responses of endpoints with a time to live are stored.
+ *
+ * <p> While a {@link com.uwetrottmann.trakt.v2.client.CircuitBreaker} below this client is open, expired responses are
+ * served as well.
+ */
+public class DiskCacheClient implements Client {
+
+    private final Client delegate;
+    private final DiskCache cache;
+
+    public DiskCacheClient(Client delegate, DiskCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public DiskCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        if (!"GET".equalsIgnoreCase(request.getMethod())) {
+            return delegate.execute(request);
+        }
+        long ttl = cache.ttlFor(new URL(request.getUrl()).getPath());
+        if (ttl <= 0) {
+            return delegate.execute(request);
+        }
+
+        String key = CacheKeys.key(request);
+        boolean authenticated = CacheKeys.isAuthenticated(request.getHeaders());
+        DiskCache.Entry entry = cache.get(key, authenticated, false);
+        if (entry != null) {
+            String etag = CacheKeys.headerValue(entry.headers, ValidatorCacheClient.HEADER_ETAG);
+            if (etag != null && etag.equals(
+                    CacheKeys.headerValue(request.getHeaders(), ValidatorCacheClient.HEADER_IF_NONE_MATCH))) {
+                entry.close();
+                return new Response(request.getUrl(), 304, "Not Modified", entry.headers, null);
+            }
+            return fromEntry(request, entry);
+        }
+
+        Response response;
+        try {
+            response = delegate.execute(request);
+        } catch (CircuitBreakerOpenException e) {
+            // better stale than nothing
+            DiskCache.Entry stale = cache.get(key, authenticated, true);
+            if (stale == null) {
+                throw e;
+            }
+            return fromEntry(request, stale);
+        }
+        TypedInput body = response.getBody();
+        if (response.getStatus() != 200 || body == null || body.length() > cache.getMaxBytes()
+                || isNoStore(response.getHeaders())) {
+            return response;
+        }
+        // the length is often unknown, e.g. for compressed responses
+        BoundedBody bounded = BoundedBody.read(body, cache.getMaxBytes());
+        if (!bounded.isComplete()) {
+            return new Response(response.getUrl(), response.getStatus(), response.getReason(),
+                    response.getHeaders(), bounded.passThrough());
+        }
+        byte[] bytes = bounded.bytes();
+        List<Header> headers = new ArrayList<Header>();
+        for (Header header : response.getHeaders()) {
+            // hop-by-hop and body framing headers do not apply to the stored body
+            if (header.getName() != null && !"Content-Length".equalsIgnoreCase(header.getName())
+                    && !"Transfer-Encoding".equalsIgnoreCase(header.getName())
+                    && !"Connection".equalsIgnoreCase(header.getName())) {
+                headers.add(header);
+            }
+        }
+        try {
+            cache.put(key, authenticated, System.currentTimeMillis() + ttl, body.mimeType(), headers, bytes);
+        } catch (IOException ignored) {
+            // not cached, but the response is still fine
+        }
+        return new Response(response.getUrl(), response.getStatus(), response.getReason(), response.getHeaders(),
+                new TypedByteArray(body.mimeType(), bytes));
+    }
+
+    private static Response fromEntry(Request request, DiskCache.Entry entry) {
+        return new Response(request.getUrl(), 200, "OK", entry.headers,
+                new EntryTypedInput(entry.mimeType, entry.length, entry.body));
+    }
+
+    private static boolean isNoStore(List<Header> headers) {
+        String cacheControl = CacheKeys.headerValue(headers, "Cache-Control");
+        return cacheControl != null && cacheControl.toLowerCase(Locale.US).contains("no-store");
+    }
+
+    private static class EntryTypedInput implements TypedInput {
+
+        private final String mimeType;
+        private final long length;
+        private final InputStream in;
+
+        EntryTypedInput(String mimeType, long length, InputStream in) {
+            this.mimeType = mimeType;
+            this.length = length;
+            this.in = in;
+        }
+
+        @Override
+        public String mimeType() {
+            return mimeType;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public InputStream in() {
+            return in;
+        }
+    }
+
+}
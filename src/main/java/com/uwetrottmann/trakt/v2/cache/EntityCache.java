@@ -0,0 +1,287 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import com.uwetrottmann.trakt.v2.enums.Extended;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps decoded entities, e.g. movie or show summaries, in memory by endpoint, id, {@link Extended} level and how they
+ * were decoded, so instances decoding differently can share a cache. Entries
+ * expire after a fixed time. Entries are weighed by their estimated heap size, once the total weight exceeds the
+ * budget the least recently used entries are dropped.
+ *
+ * <p> The cache is split into independently locked segments, so concurrent callers rarely wait on each other. Least
+ * recently used order is kept per segment.
+ *
+ * <p> Service methods marked {@link Cacheable} use this cache transparently once it is set with {@link
+ * com.uwetrottmann.trakt.v2.TraktV2#setEntityCache}. Cached entities are shared between callers, do not modify them.
+ */
+public class EntityCache {
+
+    public static final long DEFAULT_MAX_WEIGHT = 16 * 1024 * 1024;
+    public static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final long maxWeight;
+    private final long ttlMillis;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong expirationCount = new AtomicLong();
+
+    public EntityCache() {
+        this(DEFAULT_MAX_WEIGHT, DEFAULT_TTL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param maxWeight Maximum estimated heap size of all entries in bytes.
+     * @param ttl Time after which an entry is no longer returned.
+     */
+    public EntityCache(long maxWeight, long ttl, TimeUnit unit) {
+        this.maxWeight = maxWeight;
+        this.ttlMillis = unit.toMillis(ttl);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(maxWeight / SEGMENT_COUNT);
+        }
+    }
+
+    /**
+     * Returns the entity cached for the given key, or {@code null} if there is none or it expired.
+     */
+    public <T> T get(Key key, Class<T> type) {
+        return type.cast(get(key));
+    }
+
+    /**
+     * Returns the entity cached for the given key, or {@code null} if there is none or it expired.
+     */
+    public Object get(Key key) {
+        Object entity = segmentFor(key).get(key, System.currentTimeMillis());
+        if (entity == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return entity;
+    }
+
+    /**
+     * Caches the given entity, replacing any previous one. Entities heavier than a segment's share of the budget are
+     * not cached.
+     */
+    public void put(Key key, Object entity) {
+        if (entity == null) {
+            return;
+        }
+        segmentFor(key).put(key, entity, EntityWeigher.weigh(entity), System.currentTimeMillis() + ttlMillis);
+    }
+
+    public void invalidate(Key key) {
+        segmentFor(key).remove(key);
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Estimated heap size of all entries in bytes.
+     */
+    public long getWeight() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            weight += segment.getWeight();
+        }
+        return weight;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Number of entries dropped to stay within the weight budget.
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Number of entries dropped because they expired.
+     */
+    public long getExpirationCount() {
+        return expirationCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCache[size=" + size() + ", weight=" + getWeight() + ", hits=" + hitCount + ", misses="
+                + missCount + ", evictions=" + evictionCount + ", expirations=" + expirationCount + "]";
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * Identifies a cached entity.
+     */
+    public static final class Key {
+
+        private final String endpoint;
+        private final String id;
+        private final Extended extended;
+        private final Object decoding;
+
+        /**
+         * @param endpoint E.g. {@code "Movies.summary"}.
+         * @param id The id of the entity, e.g. a slug, or several ids joined with {@code /}.
+         * @param extended The level of detail, may be {@code null}.
+         */
+        public Key(String endpoint, String id, Extended extended) {
+            this(endpoint, id, extended, null);
+        }
+
+        /**
+         * @param decoding Identifies how the entity was decoded, e.g. with which {@link
+         * com.uwetrottmann.trakt.v2.adapters.Projection}, may be {@code null}. Compared with {@link #equals(Object)}.
+         */
+        public Key(String endpoint, String id, Extended extended, Object decoding) {
+            this.endpoint = endpoint;
+            this.id = id;
+            this.extended = extended;
+            this.decoding = decoding;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return endpoint.equals(other.endpoint) && id.equals(other.id) && extended == other.extended
+                    && (decoding == null ? other.decoding == null : decoding.equals(other.decoding));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = endpoint.hashCode();
+            result = 31 * result + id.hashCode();
+            result = 31 * result + (extended != null ? extended.hashCode() : 0);
+            result = 31 * result + (decoding != null ? decoding.hashCode() : 0);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return endpoint + "(" + id + (extended != null ? ", " + extended : "") + ")";
+        }
+    }
+
+    private static class Entry {
+
+        final Object entity;
+        final long weight;
+        final long expiresAt;
+
+        Entry(Object entity, long weight, long expiresAt) {
+            this.entity = entity;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private class Segment {
+
+        private final long maxWeight;
+        private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+        private long weight;
+
+        Segment(long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        synchronized Object get(Key key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                entries.remove(key);
+                weight -= entry.weight;
+                expirationCount.incrementAndGet();
+                return null;
+            }
+            return entry.entity;
+        }
+
+        synchronized void put(Key key, Object entity, long entityWeight, long expiresAt) {
+            if (entityWeight > maxWeight) {
+                remove(key);
+                return;
+            }
+            Entry previous = entries.put(key, new Entry(entity, entityWeight, expiresAt));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entityWeight;
+            Iterator<Entry> i = entries.values().iterator();
+            while (weight > maxWeight && i.hasNext()) {
+                Entry eldest = i.next();
+                i.remove();
+                weight -= eldest.weight;
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        synchronized void remove(Key key) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                weight -= entry.weight;
+            }
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            weight = 0;
+        }
+
+        synchronized long getWeight() {
+            return weight;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+}
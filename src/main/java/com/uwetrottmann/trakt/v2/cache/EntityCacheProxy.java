@@ -0,0 +1,97 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import com.uwetrottmann.trakt.v2.enums.Extended;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Wraps a service, so methods marked {@link Cacheable} are answered from an {@link EntityCache}.
+ */
+public class EntityCacheProxy implements InvocationHandler {
+
+    private final Object service;
+    private final EntityCache cache;
+    private final Object decoding;
+
+    private EntityCacheProxy(Object service, EntityCache cache, Object decoding) {
+        this.service = service;
+        this.cache = cache;
+        this.decoding = decoding;
+    }
+
+    /**
+     * Returns the given service if none of its methods are {@link Cacheable}, otherwise a proxy caching their results.
+     */
+    public static <T> T wrap(Class<T> serviceClass, T service, EntityCache cache) {
+        return wrap(serviceClass, service, cache, null);
+    }
+
+    /**
+     * Like {@link #wrap(Class, Object, EntityCache)}, for a service decoding entities as identified by the given value,
+     * see {@link EntityCache.Key#Key(String, String, com.uwetrottmann.trakt.v2.enums.Extended, Object)}.
+     */
+    public static <T> T wrap(Class<T> serviceClass, T service, EntityCache cache, Object decoding) {
+        if (!hasCacheableMethod(serviceClass)) {
+            return service;
+        }
+        return serviceClass.cast(Proxy.newProxyInstance(serviceClass.getClassLoader(), new Class<?>[] { serviceClass },
+                new EntityCacheProxy(service, cache, decoding)));
+    }
+
+    private static boolean hasCacheableMethod(Class<?> serviceClass) {
+        for (Method method : serviceClass.getMethods()) {
+            if (method.isAnnotationPresent(Cacheable.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class || !method.isAnnotationPresent(Cacheable.class)) {
+            return invokeService(method, args);
+        }
+        EntityCache.Key key = key(method, args);
+        Object entity = cache.get(key);
+        if (entity == null) {
+            entity = invokeService(method, args);
+            cache.put(key, entity);
+        }
+        return entity;
+    }
+
+    private Object invokeService(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Uses the {@link Extended} argument as level and all other arguments joined with {@code /} as id.
+     */
+    private EntityCache.Key key(Method method, Object[] args) {
+        StringBuilder id = new StringBuilder();
+        Extended extended = null;
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof Extended) {
+                    extended = (Extended) arg;
+                    continue;
+                }
+                if (id.length() > 0) {
+                    id.append('/');
+                }
+                id.append(arg);
+            }
+        }
+        return new EntityCache.Key(method.getDeclaringClass().getSimpleName() + "." + method.getName(), id.toString(),
+                extended, decoding);
+    }
+
+}
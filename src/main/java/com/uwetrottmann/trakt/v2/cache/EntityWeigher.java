@@ -0,0 +1,144 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import com.uwetrottmann.trakt.v2.lazy.LazyList;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Roughly estimates the heap size of a decoded entity graph in bytes, assuming a 64-bit JVM with compressed
+ * references. Good enough to weigh cache entries against each other, not to measure exact footprints.
+ */
+class EntityWeigher {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int REFERENCE = 4;
+    private static final int ALIGNMENT = 8;
+    /** Weight of objects not looked into, e.g. a {@link org.joda.time.DateTime}. */
+    private static final int OPAQUE = 32;
+
+    private static final Map<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<Class<?>, Field[]>();
+
+    private EntityWeigher() {
+    }
+
+    static long weigh(Object entity) {
+        return weigh(entity, new IdentityHashMap<Object, Boolean>());
+    }
+
+    private static long weigh(Object object, IdentityHashMap<Object, Boolean> seen) {
+        if (object == null || object instanceof Enum || seen.put(object, Boolean.TRUE) != null) {
+            return 0;
+        }
+        Class<?> type = object.getClass();
+        if (object instanceof String) {
+            // String object plus its char or byte array
+            return align(OBJECT_HEADER + 8) + align(16 + 2 * ((String) object).length());
+        }
+        if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+            return 16;
+        }
+        if (type.isArray()) {
+            int length = Array.getLength(object);
+            Class<?> component = type.getComponentType();
+            if (component.isPrimitive()) {
+                return align(16 + (long) length * primitiveSize(component));
+            }
+            long weight = align(16 + (long) length * REFERENCE);
+            for (int i = 0; i < length; i++) {
+                weight += weigh(Array.get(object, i), seen);
+            }
+            return weight;
+        }
+        if (object instanceof LazyList) {
+            // the JSON plus the elements decoded so far, without decoding the others
+            LazyList<?> list = (LazyList<?>) object;
+            long weight = OBJECT_HEADER + 24 + align(16 + list.getJsonSize()) + align(16 + (long) list.size() * 8)
+                    + align(16 + (long) list.size() * REFERENCE);
+            for (int i = 0; i < list.size(); i++) {
+                weight += weigh(list.peek(i), seen);
+            }
+            return weight;
+        }
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            // backing array or nodes
+            long weight = OBJECT_HEADER + 16 + align(16 + (long) collection.size() * REFERENCE * 2);
+            for (Object element : collection) {
+                weight += weigh(element, seen);
+            }
+            return weight;
+        }
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            // table plus one node per entry
+            long weight = 48 + align(16 + (long) map.size() * REFERENCE * 2) + map.size() * 32L;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                weight += weigh(entry.getKey(), seen) + weigh(entry.getValue(), seen);
+            }
+            return weight;
+        }
+        if (!type.getName().startsWith("com.uwetrottmann.trakt.v2.")) {
+            return OPAQUE;
+        }
+
+        long shallow = OBJECT_HEADER;
+        long deep = 0;
+        for (Field field : fields(type)) {
+            Class<?> fieldType = field.getType();
+            if (fieldType.isPrimitive()) {
+                shallow += primitiveSize(fieldType);
+                continue;
+            }
+            shallow += REFERENCE;
+            try {
+                deep += weigh(field.get(object), seen);
+            } catch (IllegalAccessException ignored) {
+            }
+        }
+        return align(shallow) + deep;
+    }
+
+    private static Field[] fields(Class<?> type) {
+        Field[] fields = FIELDS.get(type);
+        if (fields == null) {
+            List<Field> instanceFields = new ArrayList<Field>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        instanceFields.add(field);
+                    }
+                }
+            }
+            fields = instanceFields.toArray(new Field[instanceFields.size()]);
+            FIELDS.put(type, fields);
+        }
+        return fields;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+}
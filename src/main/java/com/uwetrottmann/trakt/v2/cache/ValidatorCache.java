@@ -0,0 +1,133 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the bodies of {@code GET} responses carrying an {@code ETag} or {@code Last-Modified} validator, so they can be
+ * revalidated with a conditional request. The least recently used entries are dropped once {@link #getMaxEntries()}
+ * is exceeded.
+ *
+ * <p> Used by a {@link ValidatorCacheClient}, see {@link com.uwetrottmann.trakt.v2.TraktV2#setValidatorCache}.
+ */
+public class ValidatorCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+    /** Larger bodies are not cached, e.g. full collections or histories. */
+    public static final int DEFAULT_MAX_BODY_SIZE = 1024 * 1024;
+
+    private final int maxEntries;
+    private final int maxBodySize;
+    private final Map<String, CachedBody> entries;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong storeCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public ValidatorCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * @param maxEntries Maximum number of responses to keep.
+     * @param maxBodySize Maximum size of a response body to keep in bytes.
+     */
+    public ValidatorCache(int maxEntries, int maxBodySize) {
+        this.maxEntries = maxEntries;
+        this.maxBodySize = maxBodySize;
+        this.entries = new LruMap(maxEntries, evictionCount);
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of requests answered with {@code 304 Not Modified} and served from this cache.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Number of cacheable requests which were not served from this cache.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getStoreCount() {
+        return storeCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public synchronized void evictAll() {
+        entries.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ValidatorCache[size=" + size() + ", hits=" + hitCount + ", misses=" + missCount
+                + ", stores=" + storeCount + ", evictions=" + evictionCount + "]";
+    }
+
+    synchronized CachedBody get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(String key, CachedBody body) {
+        entries.put(key, body);
+        storeCount.incrementAndGet();
+    }
+
+    synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    void countHit() {
+        hitCount.incrementAndGet();
+    }
+
+    void countMiss() {
+        missCount.incrementAndGet();
+    }
+
+    /**
+     * Drops the least recently used entry once there are more than the maximum.
+     */
+    private static class LruMap extends LinkedHashMap<String, CachedBody> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+        private final AtomicLong evictionCount;
+
+        LruMap(int maxEntries, AtomicLong evictionCount) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+            this.evictionCount = evictionCount;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedBody> eldest) {
+            if (size() > maxEntries) {
+                evictionCount.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import com.uwetrottmann.trakt.v2.client.CircuitBreakerOpenException;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedInput;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Revalidates cached {@code GET} responses with {@code If-None-Match} and {@code If-Modified-Since}. On {@code 304 Not
+ * Modified} the cached body is returned as a {@code 200} response, combined with a {@link CachedEntityConverter} the
+ * entity decoded from it earlier is returned without decoding again.
+ *
+ * <p> Requests which already carry conditional headers are passed through unchanged. While a {@link
+ * com.uwetrottmann.trakt.v2.client.CircuitBreaker} below this client is open, cached responses are served without
+ * revalidation.
+ */
+public class ValidatorCacheClient implements Client {
+
+    static final String HEADER_ETAG = "ETag";
+    static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    private static final int STATUS_NOT_MODIFIED = 304;
+
+    private final Client delegate;
+    private final ValidatorCache cache;
+
+    public ValidatorCacheClient(Client delegate, ValidatorCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public ValidatorCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        CachedBody.setServed(null);
+        if (!"GET".equalsIgnoreCase(request.getMethod())
+                || CacheKeys.headerValue(request.getHeaders(), HEADER_IF_NONE_MATCH) != null
+                || CacheKeys.headerValue(request.getHeaders(), HEADER_IF_MODIFIED_SINCE) != null) {
+            return delegate.execute(request);
+        }
+
+        String key = CacheKeys.key(request);
+        CachedBody cached = cache.get(key);
+        Request conditional = request;
+        if (cached != null) {
+            List<Header> headers = new ArrayList<Header>(request.getHeaders());
+            if (cached.getEtag() != null) {
+                headers.add(new Header(HEADER_IF_NONE_MATCH, cached.getEtag()));
+            }
+            if (cached.getLastModified() != null) {
+                headers.add(new Header(HEADER_IF_MODIFIED_SINCE, cached.getLastModified()));
+            }
+            conditional = new Request(request.getMethod(), request.getUrl(), headers, request.getBody());
+        }
+
+        Response response;
+        try {
+            response = delegate.execute(conditional);
+        } catch (CircuitBreakerOpenException e) {
+            if (cached == null) {
+                throw e;
+            }
+            // the server can not be asked, assume the cached response is still valid
+            cache.countHit();
+            CachedBody.setServed(cached);
+            return new Response(request.getUrl(), 200, "OK", cached.getHeaders(), cached);
+        }
+
+        if (response.getStatus() == STATUS_NOT_MODIFIED && cached != null) {
+            cache.countHit();
+            closeQuietly(response.getBody());
+            CachedBody.setServed(cached);
+            return new Response(response.getUrl(), 200, "OK", cached.getHeaders(), cached);
+        }
+        cache.countMiss();
+        if (response.getStatus() != 200) {
+            return response;
+        }
+
+        String etag = CacheKeys.headerValue(response.getHeaders(), HEADER_ETAG);
+        String lastModified = CacheKeys.headerValue(response.getHeaders(), HEADER_LAST_MODIFIED);
+        TypedInput body = response.getBody();
+        if ((etag == null && lastModified == null) || body == null || body.length() > cache.getMaxBodySize()) {
+            if (cached != null) {
+                cache.remove(key);
+            }
+            return response;
+        }
+
+        // the length is often unknown, e.g. for compressed responses
+        BoundedBody bounded = BoundedBody.read(body, cache.getMaxBodySize());
+        if (!bounded.isComplete()) {
+            if (cached != null) {
+                cache.remove(key);
+            }
+            return new Response(response.getUrl(), response.getStatus(), response.getReason(),
+                    response.getHeaders(), bounded.passThrough());
+        }
+        CachedBody fresh = new CachedBody(body.mimeType(), bounded.bytes(),
+                Collections.unmodifiableList(new ArrayList<Header>(response.getHeaders())), etag, lastModified);
+        cache.put(key, fresh);
+        // also keep the entity decoded from this response
+        CachedBody.setServed(fresh);
+        return new Response(response.getUrl(), response.getStatus(), response.getReason(), response.getHeaders(),
+                fresh);
+    }
+
+    private static void closeQuietly(TypedInput body) {
+        if (body == null) {
+            return;
+        }
+        try {
+            body.in().close();
+        } catch (IOException ignored) {
+        }
+    }
+
+}
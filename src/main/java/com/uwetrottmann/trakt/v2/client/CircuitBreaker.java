@@ -0,0 +1,277 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stops sending requests for a while once too many of the recent ones failed or were slow, so callers fail fast
+ * instead of waiting for time outs while the server is degraded.
+ *
+ * <ul> <li>{@link State#CLOSED}: requests are sent. Once at least {@link #DEFAULT_MINIMUM_CALLS} of the last {@link
+ * #DEFAULT_WINDOW_SIZE} calls were recorded and the failure rate or the slow call rate reaches its threshold, the
+ * breaker opens.</li> <li>{@link State#OPEN}: requests fail with a {@link CircuitBreakerOpenException} until the open
+ * duration passed, then the breaker is half-open.</li> <li>{@link State#HALF_OPEN}: a few trial requests are sent. If
+ * one fails, the breaker opens again, if all succeed, it closes.</li> </ul>
+ *
+ * <p> A failure is a network error or a {@code 5xx} response. Used by a {@link CircuitBreakerClient}.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Notified of state changes, on the thread which recorded the call causing the change.
+     */
+    public interface Listener {
+        void onStateChange(CircuitBreaker breaker, State from, State to);
+    }
+
+    public static final int DEFAULT_WINDOW_SIZE = 50;
+    public static final int DEFAULT_MINIMUM_CALLS = 10;
+    public static final float DEFAULT_FAILURE_RATE_THRESHOLD = 0.5f;
+    public static final float DEFAULT_SLOW_CALL_RATE_THRESHOLD = 0.8f;
+    public static final long DEFAULT_SLOW_CALL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    public static final long DEFAULT_OPEN_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    public static final int DEFAULT_HALF_OPEN_CALLS = 3;
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<Listener>();
+
+    private State state = State.CLOSED;
+    /** Outcomes of the recent calls as a ring buffer. */
+    private final byte[] window;
+    private int windowCount;
+    private int windowNext;
+    private int failedCount;
+    private int slowCount;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private long successfulCallCount;
+    private long failedCallCount;
+    private long slowCallCount;
+    private long rejectedCallCount;
+    private long openCount;
+
+    public CircuitBreaker() {
+        this(DEFAULT_WINDOW_SIZE, DEFAULT_MINIMUM_CALLS, DEFAULT_FAILURE_RATE_THRESHOLD,
+                DEFAULT_SLOW_CALL_RATE_THRESHOLD, DEFAULT_SLOW_CALL_MILLIS, DEFAULT_OPEN_MILLIS,
+                DEFAULT_HALF_OPEN_CALLS);
+    }
+
+    /**
+     * @param windowSize Number of recent calls the rates are computed from.
+     * @param minimumCalls Number of calls to record before the breaker may open.
+     * @param failureRateThreshold Failure rate from 0 to 1 which opens the breaker.
+     * @param slowCallRateThreshold Rate of slow calls from 0 to 1 which opens the breaker.
+     * @param slowCallMillis Calls taking at least this long to respond are slow.
+     * @param openMillis Time the breaker stays open before letting trial calls through.
+     * @param halfOpenCalls Number of trial calls which must succeed to close the breaker again.
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, float failureRateThreshold, float slowCallRateThreshold,
+            long slowCallMillis, long openMillis, int halfOpenCalls) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.halfOpenCalls = halfOpenCalls;
+        this.window = new byte[windowSize];
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Failure rate of the recent calls from 0 to 1.
+     */
+    public synchronized float getFailureRate() {
+        return windowCount == 0 ? 0 : failedCount / (float) windowCount;
+    }
+
+    /**
+     * Rate of slow calls among the recent calls from 0 to 1.
+     */
+    public synchronized float getSlowCallRate() {
+        return windowCount == 0 ? 0 : slowCount / (float) windowCount;
+    }
+
+    public synchronized long getSuccessfulCallCount() {
+        return successfulCallCount;
+    }
+
+    public synchronized long getFailedCallCount() {
+        return failedCallCount;
+    }
+
+    public synchronized long getSlowCallCount() {
+        return slowCallCount;
+    }
+
+    /**
+     * Number of calls failed fast because the breaker was open.
+     */
+    public synchronized long getRejectedCallCount() {
+        return rejectedCallCount;
+    }
+
+    /**
+     * Number of times the breaker opened.
+     */
+    public synchronized long getOpenCount() {
+        return openCount;
+    }
+
+    /**
+     * Close the breaker and forget the recorded calls.
+     */
+    public void reset() {
+        State from;
+        synchronized (this) {
+            from = state;
+            state = State.CLOSED;
+            clearWindow();
+        }
+        notifyListeners(from, State.CLOSED);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CircuitBreaker[" + state + ", failureRate=" + getFailureRate() + ", slowCallRate=" + getSlowCallRate()
+                + ", rejected=" + rejectedCallCount + ", opened=" + openCount + "]";
+    }
+
+    /**
+     * Returns if a call may be sent now. If it returns {@code true}, the call must be recorded with {@link #record}.
+     */
+    boolean tryAcquire() {
+        State from;
+        State to;
+        synchronized (this) {
+            from = state;
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAt < openNanos) {
+                    rejectedCallCount++;
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits == 0) {
+                    rejectedCallCount++;
+                    return false;
+                }
+                halfOpenPermits--;
+            }
+            to = state;
+        }
+        notifyListeners(from, to);
+        return true;
+    }
+
+    void record(boolean failed, long durationNanos) {
+        boolean slow = durationNanos >= slowCallNanos;
+        State from;
+        State to;
+        synchronized (this) {
+            if (failed) {
+                failedCallCount++;
+            } else {
+                successfulCallCount++;
+            }
+            if (slow) {
+                slowCallCount++;
+            }
+            from = state;
+            if (state == State.HALF_OPEN) {
+                if (failed || slow) {
+                    open();
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    state = State.CLOSED;
+                    clearWindow();
+                }
+            } else if (state == State.CLOSED) {
+                addToWindow((byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0)));
+                if (windowCount >= minimumCalls && (failedCount >= failureRateThreshold * windowCount
+                        || slowCount >= slowCallRateThreshold * windowCount)) {
+                    open();
+                }
+            }
+            to = state;
+        }
+        notifyListeners(from, to);
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        openCount++;
+        clearWindow();
+    }
+
+    private void addToWindow(byte outcome) {
+        if (windowCount == windowSize) {
+            byte evicted = window[windowNext];
+            if ((evicted & FAILED) != 0) {
+                failedCount--;
+            }
+            if ((evicted & SLOW) != 0) {
+                slowCount--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowNext] = outcome;
+        windowNext = (windowNext + 1) % windowSize;
+        if ((outcome & FAILED) != 0) {
+            failedCount++;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCount++;
+        }
+    }
+
+    private void clearWindow() {
+        windowCount = 0;
+        windowNext = 0;
+        failedCount = 0;
+        slowCount = 0;
+    }
+
+    private void notifyListeners(State from, State to) {
+        if (from == to) {
+            return;
+        }
+        for (Listener listener : listeners) {
+            listener.onStateChange(this, from, to);
+        }
+    }
+
+}
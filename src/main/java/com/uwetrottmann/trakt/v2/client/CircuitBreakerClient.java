@@ -0,0 +1,44 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.IOException;
+
+/**
+ * Sends requests only while a {@link CircuitBreaker} allows it and records their outcome. Otherwise throws a {@link
+ * CircuitBreakerOpenException}.
+ */
+public class CircuitBreakerClient implements Client {
+
+    private final Client delegate;
+    private final CircuitBreaker breaker;
+
+    public CircuitBreakerClient(Client delegate, CircuitBreaker breaker) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+    }
+
+    public CircuitBreaker getBreaker() {
+        return breaker;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        if (!breaker.tryAcquire()) {
+            throw new CircuitBreakerOpenException("Circuit breaker is " + breaker.getState() + ", not sending "
+                    + request.getMethod() + " " + request.getUrl());
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Response response = delegate.execute(request);
+            failed = response.getStatus() >= 500;
+            return response;
+        } finally {
+            breaker.record(failed, System.nanoTime() - start);
+        }
+    }
+
+}
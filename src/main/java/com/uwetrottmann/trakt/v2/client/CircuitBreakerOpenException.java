@@ -0,0 +1,16 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of sending a request while a {@link CircuitBreaker} is open.
+ */
+public class CircuitBreakerOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+
+}
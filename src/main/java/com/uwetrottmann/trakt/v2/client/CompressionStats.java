@@ -0,0 +1,127 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts response body bytes read through a {@link GzipClient} and request body bytes sent through a {@link
+ * GzipRequestClient}. Response bytes are counted as they are consumed.
+ */
+public class CompressionStats {
+
+    private final AtomicLong compressedResponseCount = new AtomicLong();
+    private final AtomicLong uncompressedResponseCount = new AtomicLong();
+    private final AtomicLong compressedBytes = new AtomicLong();
+    private final AtomicLong decompressedBytes = new AtomicLong();
+    private final AtomicLong uncompressedBytes = new AtomicLong();
+    private final AtomicLong compressedRequestCount = new AtomicLong();
+    private final AtomicLong rejectedRequestCount = new AtomicLong();
+    private final AtomicLong requestBytes = new AtomicLong();
+    private final AtomicLong compressedRequestBytes = new AtomicLong();
+
+    /**
+     * Number of responses received with a gzip or deflate content encoding.
+     */
+    public long getCompressedResponseCount() {
+        return compressedResponseCount.get();
+    }
+
+    /**
+     * Number of responses with a body received without content encoding.
+     */
+    public long getUncompressedResponseCount() {
+        return uncompressedResponseCount.get();
+    }
+
+    /**
+     * Bytes of compressed response bodies as received over the network.
+     */
+    public long getCompressedBytes() {
+        return compressedBytes.get();
+    }
+
+    /**
+     * Bytes of compressed response bodies after decompression.
+     */
+    public long getDecompressedBytes() {
+        return decompressedBytes.get();
+    }
+
+    /**
+     * Bytes of response bodies received without content encoding.
+     */
+    public long getUncompressedBytes() {
+        return uncompressedBytes.get();
+    }
+
+    /**
+     * Number of requests sent with a gzip compressed body.
+     */
+    public long getCompressedRequestCount() {
+        return compressedRequestCount.get();
+    }
+
+    /**
+     * Number of compressed requests rejected by the server, which were sent again uncompressed.
+     */
+    public long getRejectedRequestCount() {
+        return rejectedRequestCount.get();
+    }
+
+    /**
+     * Bytes of compressed request bodies before compression.
+     */
+    public long getRequestBytes() {
+        return requestBytes.get();
+    }
+
+    /**
+     * Bytes of compressed request bodies as sent over the network.
+     */
+    public long getCompressedRequestBytes() {
+        return compressedRequestBytes.get();
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionStats[compressedResponses=" + compressedResponseCount
+                + ", compressedBytes=" + compressedBytes
+                + ", decompressedBytes=" + decompressedBytes
+                + ", uncompressedResponses=" + uncompressedResponseCount
+                + ", uncompressedBytes=" + uncompressedBytes
+                + ", compressedRequests=" + compressedRequestCount
+                + ", requestBytes=" + requestBytes
+                + ", compressedRequestBytes=" + compressedRequestBytes
+                + ", rejectedRequests=" + rejectedRequestCount + "]";
+    }
+
+    void countCompressedResponse() {
+        compressedResponseCount.incrementAndGet();
+    }
+
+    void countUncompressedResponse() {
+        uncompressedResponseCount.incrementAndGet();
+    }
+
+    void countCompressedRequest(long bytes, long compressedBytes) {
+        compressedRequestCount.incrementAndGet();
+        requestBytes.addAndGet(bytes);
+        compressedRequestBytes.addAndGet(compressedBytes);
+    }
+
+    void countRejectedRequest() {
+        rejectedRequestCount.incrementAndGet();
+    }
+
+    AtomicLong compressedBytesCounter() {
+        return compressedBytes;
+    }
+
+    AtomicLong decompressedBytesCounter() {
+        return decompressedBytes;
+    }
+
+    AtomicLong uncompressedBytesCounter() {
+        return uncompressedBytes;
+    }
+
+}
@@ -0,0 +1,250 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps idle HTTP/1.1 connections of a {@link PooledClient} open for re-use.
+ *
+ * <p> Idle connections are kept for at most the keep-alive duration and at most {@code maxIdleConnections} of them are
+ * kept in total, evicting the least recently used first. The number of connections in use at the same time is limited
+ * per host, further requests wait for a connection to become available.
+ *
+ * <p> A pool may be shared by several clients. It is thread-safe.
+ */
+public class ConnectionPool {
+
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    public static final long DEFAULT_KEEP_ALIVE_DURATION_MILLIS = 5 * 60 * 1000;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 5;
+
+    private final int maxIdleConnections;
+    private final long keepAliveDurationMillis;
+    private final int maxConnectionsPerHost;
+
+    /** Idle connections, most recently used first. */
+    private final LinkedList<HttpConnection> idleConnections = new LinkedList<HttpConnection>();
+    private final Map<String, Semaphore> hostPermits = new HashMap<String, Semaphore>();
+
+    private int connectionCount;
+    private long createdCount;
+    private long reusedCount;
+    private long evictedCount;
+
+    /**
+     * Creates a pool with {@link #DEFAULT_MAX_IDLE_CONNECTIONS}, {@link #DEFAULT_KEEP_ALIVE_DURATION_MILLIS} and {@link
+     * #DEFAULT_MAX_CONNECTIONS_PER_HOST}.
+     */
+    public ConnectionPool() {
+        this(DEFAULT_MAX_IDLE_CONNECTIONS, DEFAULT_KEEP_ALIVE_DURATION_MILLIS, DEFAULT_MAX_CONNECTIONS_PER_HOST);
+    }
+
+    /**
+     * @param maxIdleConnections Maximum number of idle connections kept open, 0 disables connection re-use.
+     * @param keepAliveDurationMillis Time after which an idle connection is closed.
+     * @param maxConnectionsPerHost Maximum number of connections to a single host in use at the same time.
+     */
+    public ConnectionPool(int maxIdleConnections, long keepAliveDurationMillis, int maxConnectionsPerHost) {
+        if (maxIdleConnections < 0) {
+            throw new IllegalArgumentException("maxIdleConnections < 0: " + maxIdleConnections);
+        }
+        if (keepAliveDurationMillis < 0) {
+            throw new IllegalArgumentException("keepAliveDurationMillis < 0: " + keepAliveDurationMillis);
+        }
+        if (maxConnectionsPerHost < 1) {
+            throw new IllegalArgumentException("maxConnectionsPerHost < 1: " + maxConnectionsPerHost);
+        }
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveDurationMillis = keepAliveDurationMillis;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public long getKeepAliveDurationMillis() {
+        return keepAliveDurationMillis;
+    }
+
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * Number of open connections, idle or in use.
+     */
+    public synchronized int getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * Number of open connections currently waiting for re-use.
+     */
+    public synchronized int getIdleConnectionCount() {
+        return idleConnections.size();
+    }
+
+    /**
+     * Number of connections opened since this pool was created.
+     */
+    public synchronized long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Number of requests which were sent over a re-used connection.
+     */
+    public synchronized long getReusedCount() {
+        return reusedCount;
+    }
+
+    /**
+     * Number of idle connections closed because they expired or the pool was full.
+     */
+    public synchronized long getEvictedCount() {
+        return evictedCount;
+    }
+
+    /**
+     * Closes all idle connections.
+     */
+    public void evictAll() {
+        LinkedList<HttpConnection> evicted;
+        synchronized (this) {
+            evicted = new LinkedList<HttpConnection>(idleConnections);
+            idleConnections.clear();
+            connectionCount -= evicted.size();
+            evictedCount += evicted.size();
+        }
+        for (HttpConnection connection : evicted) {
+            connection.closeQuietly();
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ConnectionPool[connections=" + connectionCount
+                + ", idle=" + idleConnections.size()
+                + ", created=" + createdCount
+                + ", reused=" + reusedCount
+                + ", evicted=" + evictedCount + "]";
+    }
+
+    /**
+     * Waits until a connection to the given host may be used. Every successful call must be balanced by a call to
+     * {@link #release(HttpConnection, boolean)} or, if no response was received, {@link #releasePermit(String)}.
+     *
+     * @return {@code false} if no connection became available within the timeout.
+     */
+    boolean acquirePermit(String hostKey, long timeoutMillis) throws InterruptedException {
+        Semaphore permits;
+        synchronized (this) {
+            permits = hostPermits.get(hostKey);
+            if (permits == null) {
+                permits = new Semaphore(maxConnectionsPerHost, true);
+                hostPermits.put(hostKey, permits);
+            }
+        }
+        if (timeoutMillis <= 0) {
+            permits.acquire();
+            return true;
+        }
+        return permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void releasePermit(String hostKey) {
+        Semaphore permits;
+        synchronized (this) {
+            permits = hostPermits.get(hostKey);
+        }
+        permits.release();
+    }
+
+    /**
+     * Returns the most recently used idle connection to the given host, or {@code null} if there is none.
+     */
+    HttpConnection get(String hostKey) {
+        LinkedList<HttpConnection> evicted = new LinkedList<HttpConnection>();
+        HttpConnection found = null;
+        synchronized (this) {
+            evictExpired(System.currentTimeMillis(), evicted);
+            for (Iterator<HttpConnection> i = idleConnections.iterator(); i.hasNext(); ) {
+                HttpConnection connection = i.next();
+                if (connection.getHostKey().equals(hostKey)) {
+                    i.remove();
+                    found = connection;
+                    reusedCount++;
+                    break;
+                }
+            }
+        }
+        for (HttpConnection connection : evicted) {
+            connection.closeQuietly();
+        }
+        return found;
+    }
+
+    /**
+     * Counts a newly opened connection.
+     */
+    synchronized void connected() {
+        connectionCount++;
+        createdCount++;
+    }
+
+    /**
+     * Releases the permit of a connection whose response is done. If the response was fully consumed, the connection
+     * is kept for re-use, otherwise it is closed.
+     */
+    void release(HttpConnection connection, boolean reusable) {
+        releasePermit(connection.getHostKey());
+        if (!reusable || maxIdleConnections == 0) {
+            close(connection);
+            return;
+        }
+
+        LinkedList<HttpConnection> evicted = new LinkedList<HttpConnection>();
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            connection.setIdleSince(now);
+            idleConnections.addFirst(connection);
+            evictExpired(now, evicted);
+            while (idleConnections.size() > maxIdleConnections) {
+                evicted.add(idleConnections.removeLast());
+                connectionCount--;
+                evictedCount++;
+            }
+        }
+        for (HttpConnection idle : evicted) {
+            idle.closeQuietly();
+        }
+    }
+
+    /**
+     * Closes a connection which can not be re-used. Does not release its permit.
+     */
+    void close(HttpConnection connection) {
+        connection.closeQuietly();
+        synchronized (this) {
+            connectionCount--;
+        }
+    }
+
+    private void evictExpired(long now, LinkedList<HttpConnection> evicted) {
+        for (Iterator<HttpConnection> i = idleConnections.iterator(); i.hasNext(); ) {
+            HttpConnection connection = i.next();
+            if (now - connection.getIdleSince() >= keepAliveDurationMillis) {
+                i.remove();
+                evicted.add(connection);
+                connectionCount--;
+                evictedCount++;
+            }
+        }
+    }
+
+}
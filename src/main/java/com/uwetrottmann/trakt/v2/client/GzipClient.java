@@ -0,0 +1,171 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedInput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Asks for gzip or deflate compressed responses and decompresses them while they are read, so the converter parses
+ * straight from the decompressing stream without buffering the whole body.
+ *
+ * <p> Requests which already set an {@code Accept-Encoding} header are passed through unchanged.
+ */
+public class GzipClient implements Client {
+
+    static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+    static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+    static final String HEADER_CONTENT_LENGTH = "Content-Length";
+
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private final Client delegate;
+    private final CompressionStats stats;
+
+    public GzipClient(Client delegate) {
+        this(delegate, new CompressionStats());
+    }
+
+    /**
+     * @param stats Receives the byte counts, may be shared by several clients.
+     */
+    public GzipClient(Client delegate, CompressionStats stats) {
+        this.delegate = delegate;
+        this.stats = stats;
+    }
+
+    public CompressionStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        if (PooledClient.headerValue(request.getHeaders(), HEADER_ACCEPT_ENCODING) != null) {
+            return delegate.execute(request);
+        }
+
+        List<Header> headers = new ArrayList<Header>(request.getHeaders());
+        headers.add(new Header(HEADER_ACCEPT_ENCODING, ACCEPT_ENCODING));
+        Response response = delegate.execute(new Request(request.getMethod(), request.getUrl(), headers,
+                request.getBody()));
+
+        TypedInput body = response.getBody();
+        if (body == null) {
+            return response;
+        }
+        String encoding = PooledClient.headerValue(response.getHeaders(), HEADER_CONTENT_ENCODING);
+        if (encoding == null || "identity".equalsIgnoreCase(encoding)) {
+            stats.countUncompressedResponse();
+            return replaceBody(response, response.getHeaders(), new CountingTypedInput(body));
+        }
+        if (!"gzip".equalsIgnoreCase(encoding) && !"deflate".equalsIgnoreCase(encoding)) {
+            // unknown encoding, leave it to the caller
+            return response;
+        }
+
+        stats.countCompressedResponse();
+        // the length and encoding of the body change with decompression
+        List<Header> responseHeaders = new ArrayList<Header>();
+        for (Header header : response.getHeaders()) {
+            if (!HEADER_CONTENT_ENCODING.equalsIgnoreCase(header.getName())
+                    && !HEADER_CONTENT_LENGTH.equalsIgnoreCase(header.getName())) {
+                responseHeaders.add(header);
+            }
+        }
+        return replaceBody(response, responseHeaders,
+                new DecompressingTypedInput(body, "gzip".equalsIgnoreCase(encoding)));
+    }
+
+    private static Response replaceBody(Response response, List<Header> headers, TypedInput body) {
+        return new Response(response.getUrl(), response.getStatus(), response.getReason(), headers, body);
+    }
+
+    /**
+     * Wraps a deflate stream, which is supposed to be in zlib format, but some servers send raw deflate data.
+     */
+    private static InputStream inflate(InputStream in) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(in, 2);
+        int first = pushback.read();
+        int second = first == -1 ? -1 : pushback.read();
+        if (second != -1) {
+            pushback.unread(second);
+        }
+        if (first != -1) {
+            pushback.unread(first);
+        }
+        boolean zlibHeader = first != -1 && second != -1 && (first & 0x0f) == 8 && ((first << 8) | second) % 31 == 0;
+        return new InflaterInputStream(pushback, new Inflater(!zlibHeader));
+    }
+
+    private class CountingTypedInput implements TypedInput {
+
+        private final TypedInput body;
+        private InputStream stream;
+
+        CountingTypedInput(TypedInput body) {
+            this.body = body;
+        }
+
+        @Override
+        public String mimeType() {
+            return body.mimeType();
+        }
+
+        @Override
+        public long length() {
+            return body.length();
+        }
+
+        @Override
+        public synchronized InputStream in() throws IOException {
+            if (stream == null) {
+                stream = new CountingInputStream(body.in(), stats.uncompressedBytesCounter());
+            }
+            return stream;
+        }
+    }
+
+    private class DecompressingTypedInput implements TypedInput {
+
+        private final TypedInput body;
+        private final boolean gzip;
+        private InputStream stream;
+
+        DecompressingTypedInput(TypedInput body, boolean gzip) {
+            this.body = body;
+            this.gzip = gzip;
+        }
+
+        @Override
+        public String mimeType() {
+            return body.mimeType();
+        }
+
+        @Override
+        public long length() {
+            // unknown until decompressed
+            return -1;
+        }
+
+        @Override
+        public synchronized InputStream in() throws IOException {
+            if (stream == null) {
+                InputStream compressed = new CountingInputStream(body.in(), stats.compressedBytesCounter());
+                InputStream decompressed = gzip ? new GZIPInputStream(compressed, 8192) : inflate(compressed);
+                stream = new CountingInputStream(decompressed, stats.decompressedBytesCounter());
+            }
+            return stream;
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedByteArray;
+import retrofit.mime.TypedInput;
+import retrofit.mime.TypedOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip compresses request bodies of at least a minimum size, e.g. the large {@link
+ * com.uwetrottmann.trakt.v2.entities.SyncItems} sent when pushing a whole library.
+ *
+ * <p> If a server answers a compressed request with {@code 415 Unsupported Media Type}, the request is sent again
+ * uncompressed and no further requests to that host are compressed.
+ */
+public class GzipRequestClient implements Client {
+
+    /** Bodies smaller than this are sent as is by default, compressing them is not worth the effort. */
+    public static final int DEFAULT_MIN_SIZE = 8 * 1024;
+
+    private static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+
+    private final Client delegate;
+    private final int minSize;
+    private final CompressionStats stats;
+    private final Set<String> rejectingHosts =
+            Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    public GzipRequestClient(Client delegate) {
+        this(delegate, DEFAULT_MIN_SIZE, new CompressionStats());
+    }
+
+    /**
+     * @param minSize Minimum size of a request body in bytes to compress it.
+     * @param stats Receives the byte counts, may be shared by several clients.
+     */
+    public GzipRequestClient(Client delegate, int minSize, CompressionStats stats) {
+        this.delegate = delegate;
+        this.minSize = minSize;
+        this.stats = stats;
+    }
+
+    public CompressionStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        TypedOutput body = request.getBody();
+        if (body == null || (body.length() != -1 && body.length() < minSize)
+                || PooledClient.headerValue(request.getHeaders(), GzipClient.HEADER_CONTENT_ENCODING) != null) {
+            return delegate.execute(request);
+        }
+        String host = new URL(request.getUrl()).getAuthority();
+        if (rejectingHosts.contains(host)) {
+            return delegate.execute(request);
+        }
+
+        // buffer the body, it is needed again if the server rejects the compressed variant
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length() > 0 ? (int) body.length() : 1024);
+        body.writeTo(buffer);
+        byte[] bytes = buffer.toByteArray();
+        TypedOutput uncompressed = new TypedByteArray(body.mimeType(), bytes);
+        if (bytes.length < minSize) {
+            return delegate.execute(replaceBody(request, request.getHeaders(), uncompressed));
+        }
+
+        byte[] compressed = gzip(bytes);
+        if (compressed.length >= bytes.length) {
+            return delegate.execute(replaceBody(request, request.getHeaders(), uncompressed));
+        }
+        List<Header> headers = new ArrayList<Header>(request.getHeaders());
+        headers.add(new Header(GzipClient.HEADER_CONTENT_ENCODING, "gzip"));
+        Response response = delegate.execute(
+                replaceBody(request, headers, new TypedByteArray(body.mimeType(), compressed)));
+        if (response.getStatus() != STATUS_UNSUPPORTED_MEDIA_TYPE) {
+            stats.countCompressedRequest(bytes.length, compressed.length);
+            return response;
+        }
+
+        // the server does not understand compressed bodies, stop sending them
+        rejectingHosts.add(host);
+        stats.countRejectedRequest();
+        closeQuietly(response.getBody());
+        return delegate.execute(replaceBody(request, request.getHeaders(), uncompressed));
+    }
+
+    private static Request replaceBody(Request request, List<Header> headers, TypedOutput body) {
+        return new Request(request.getMethod(), request.getUrl(), headers, body);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+        gzip.write(bytes);
+        gzip.close();
+        return out.toByteArray();
+    }
+
+    private static void closeQuietly(TypedInput body) {
+        if (body == null) {
+            return;
+        }
+        try {
+            InputStream in = body.in();
+            in.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+}
@@ -0,0 +1,345 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedInput;
+import retrofit.mime.TypedOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link retrofit.client.Client} backed by the JDK HTTP client ({@code java.net.http.HttpClient}, Java 11 and
+ * newer), which multiplexes concurrent requests to the same host over a single HTTP/2 connection.
+ *
+ * <p> HTTPS connections negotiate HTTP/2 using ALPN. Plain HTTP connections try to upgrade to HTTP/2 (h2c). If the
+ * server does not support HTTP/2, requests fall back to HTTP/1.1 transparently.
+ *
+ * <p> This library is compiled for older Java versions, so the JDK client is accessed using reflection. Check {@link
+ * #isSupported()} before creating an instance, e.g.
+ *
+ * <pre>
+ * if (Http2Client.isSupported()) {
+ *     trakt.setClient(new Http2Client());
+ * }
+ * </pre>
+ */
+public class Http2Client implements Client {
+
+    private final Object httpClient;
+    private final int readTimeoutMillis;
+    private final AtomicLong http2ResponseCount = new AtomicLong();
+    private final AtomicLong http11ResponseCount = new AtomicLong();
+
+    /**
+     * Returns {@code true} if the JDK HTTP client is available on this runtime.
+     */
+    public static boolean isSupported() {
+        return JdkHttpClient.isAvailable();
+    }
+
+    /**
+     * Creates a client with {@link PooledClient#DEFAULT_CONNECT_TIMEOUT_MILLIS} and {@link
+     * PooledClient#DEFAULT_READ_TIMEOUT_MILLIS}, using the default executor of the JDK client.
+     */
+    public Http2Client() {
+        this(PooledClient.DEFAULT_CONNECT_TIMEOUT_MILLIS, PooledClient.DEFAULT_READ_TIMEOUT_MILLIS, null);
+    }
+
+    /**
+     * @param connectTimeoutMillis Timeout for establishing a connection. 0 means no timeout.
+     * @param readTimeoutMillis Timeout until the response headers must have been received. 0 means no timeout.
+     * @param executor Executor used by the JDK client for asynchronous tasks, or {@code null} to use its default.
+     * @throws UnsupportedOperationException If the JDK HTTP client is not available, see {@link #isSupported()}.
+     */
+    public Http2Client(int connectTimeoutMillis, int readTimeoutMillis, Executor executor) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("java.net.http.HttpClient requires Java 11 or newer");
+        }
+        this.httpClient = JdkHttpClient.newClient(connectTimeoutMillis, executor);
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    /**
+     * Number of responses received over HTTP/2.
+     */
+    public long getHttp2ResponseCount() {
+        return http2ResponseCount.get();
+    }
+
+    /**
+     * Number of responses received over HTTP/1.1 because the server did not support HTTP/2.
+     */
+    public long getHttp11ResponseCount() {
+        return http11ResponseCount.get();
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        List<Header> requestHeaders = new ArrayList<Header>();
+        TypedOutput body = request.getBody();
+        for (Header header : request.getHeaders()) {
+            if (header.getName() == null || header.getValue() == null
+                    || JdkHttpClient.isRestrictedHeader(header.getName())) {
+                continue;
+            }
+            if (body != null && "Content-Type".equalsIgnoreCase(header.getName())) {
+                // the body knows its type better
+                continue;
+            }
+            requestHeaders.add(header);
+        }
+        byte[] bodyBytes = null;
+        if (body != null) {
+            requestHeaders.add(new Header("Content-Type", body.mimeType()));
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length() > 0 ? (int) body.length() : 1024);
+            body.writeTo(out);
+            bodyBytes = out.toByteArray();
+        }
+
+        Object response = JdkHttpClient.send(httpClient, request.getMethod(), URI.create(request.getUrl()),
+                requestHeaders, bodyBytes, readTimeoutMillis);
+
+        if (JdkHttpClient.isHttp2(response)) {
+            http2ResponseCount.incrementAndGet();
+        } else {
+            http11ResponseCount.incrementAndGet();
+        }
+
+        int status = JdkHttpClient.statusCode(response);
+        List<Header> headers = JdkHttpClient.headers(response);
+        InputStream stream = JdkHttpClient.body(response);
+
+        String contentLength = PooledClient.headerValue(headers, "Content-Length");
+        long length = -1;
+        if (contentLength != null) {
+            try {
+                length = Long.parseLong(contentLength);
+            } catch (NumberFormatException ignored) {
+            }
+        }
+
+        TypedInput responseBody = null;
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || status == 204 || status == 304 || length == 0) {
+            stream.close();
+        } else {
+            responseBody = new StreamTypedInput(PooledClient.headerValue(headers, "Content-Type"), length, stream);
+        }
+
+        // HTTP/2 has no reason phrases
+        return new Response(request.getUrl(), status, "", headers, responseBody);
+    }
+
+    /**
+     * Reflective access to {@code java.net.http}, resolved once.
+     */
+    private static class JdkHttpClient {
+
+        private static final String[] RESTRICTED_HEADERS = {
+                "Connection", "Content-Length", "Expect", "Host", "Upgrade"
+        };
+
+        private static Method clientNewBuilder;
+        private static Method clientBuilderVersion;
+        private static Method clientBuilderFollowRedirects;
+        private static Method clientBuilderConnectTimeout;
+        private static Method clientBuilderExecutor;
+        private static Method clientBuilderBuild;
+        private static Method clientSend;
+        private static Object versionHttp2;
+        private static Object redirectNormal;
+
+        private static Method requestNewBuilder;
+        private static Method requestBuilderHeader;
+        private static Method requestBuilderTimeout;
+        private static Method requestBuilderMethod;
+        private static Method requestBuilderBuild;
+        private static Method publishersOfByteArray;
+        private static Method publishersNoBody;
+        private static Object inputStreamHandler;
+
+        private static Method responseStatusCode;
+        private static Method responseHeaders;
+        private static Method responseBody;
+        private static Method responseVersion;
+        private static Method headersMap;
+
+        private static Method durationOfMillis;
+
+        private static final boolean AVAILABLE = init();
+
+        private static boolean init() {
+            try {
+                Class<?> client = Class.forName("java.net.http.HttpClient");
+                Class<?> clientBuilder = Class.forName("java.net.http.HttpClient$Builder");
+                Class<?> version = Class.forName("java.net.http.HttpClient$Version");
+                Class<?> redirect = Class.forName("java.net.http.HttpClient$Redirect");
+                Class<?> request = Class.forName("java.net.http.HttpRequest");
+                Class<?> requestBuilder = Class.forName("java.net.http.HttpRequest$Builder");
+                Class<?> bodyPublisher = Class.forName("java.net.http.HttpRequest$BodyPublisher");
+                Class<?> bodyPublishers = Class.forName("java.net.http.HttpRequest$BodyPublishers");
+                Class<?> bodyHandler = Class.forName("java.net.http.HttpResponse$BodyHandler");
+                Class<?> bodyHandlers = Class.forName("java.net.http.HttpResponse$BodyHandlers");
+                Class<?> response = Class.forName("java.net.http.HttpResponse");
+                Class<?> headers = Class.forName("java.net.http.HttpHeaders");
+                Class<?> duration = Class.forName("java.time.Duration");
+
+                clientNewBuilder = client.getMethod("newBuilder");
+                clientBuilderVersion = clientBuilder.getMethod("version", version);
+                clientBuilderFollowRedirects = clientBuilder.getMethod("followRedirects", redirect);
+                clientBuilderConnectTimeout = clientBuilder.getMethod("connectTimeout", duration);
+                clientBuilderExecutor = clientBuilder.getMethod("executor", Executor.class);
+                clientBuilderBuild = clientBuilder.getMethod("build");
+                clientSend = client.getMethod("send", request, bodyHandler);
+                versionHttp2 = version.getField("HTTP_2").get(null);
+                redirectNormal = redirect.getField("NORMAL").get(null);
+
+                requestNewBuilder = request.getMethod("newBuilder", URI.class);
+                requestBuilderHeader = requestBuilder.getMethod("header", String.class, String.class);
+                requestBuilderTimeout = requestBuilder.getMethod("timeout", duration);
+                requestBuilderMethod = requestBuilder.getMethod("method", String.class, bodyPublisher);
+                requestBuilderBuild = requestBuilder.getMethod("build");
+                publishersOfByteArray = bodyPublishers.getMethod("ofByteArray", byte[].class);
+                publishersNoBody = bodyPublishers.getMethod("noBody");
+                inputStreamHandler = bodyHandlers.getMethod("ofInputStream").invoke(null);
+
+                responseStatusCode = response.getMethod("statusCode");
+                responseHeaders = response.getMethod("headers");
+                responseBody = response.getMethod("body");
+                responseVersion = response.getMethod("version");
+                headersMap = headers.getMethod("map");
+
+                durationOfMillis = duration.getMethod("ofMillis", long.class);
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        static boolean isAvailable() {
+            return AVAILABLE;
+        }
+
+        static boolean isRestrictedHeader(String name) {
+            for (String restricted : RESTRICTED_HEADERS) {
+                if (restricted.equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        static Object newClient(int connectTimeoutMillis, Executor executor) {
+            try {
+                Object builder = clientNewBuilder.invoke(null);
+                clientBuilderVersion.invoke(builder, versionHttp2);
+                clientBuilderFollowRedirects.invoke(builder, redirectNormal);
+                if (connectTimeoutMillis > 0) {
+                    clientBuilderConnectTimeout.invoke(builder, durationOfMillis.invoke(null, (long) connectTimeoutMillis));
+                }
+                if (executor != null) {
+                    clientBuilderExecutor.invoke(builder, executor);
+                }
+                return clientBuilderBuild.invoke(builder);
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not create java.net.http.HttpClient", e);
+            }
+        }
+
+        static Object send(Object client, String method, URI uri, List<Header> headers, byte[] body,
+                int timeoutMillis) throws IOException {
+            Object request;
+            try {
+                Object builder = requestNewBuilder.invoke(null, uri);
+                for (Header header : headers) {
+                    requestBuilderHeader.invoke(builder, header.getName(), header.getValue());
+                }
+                if (timeoutMillis > 0) {
+                    requestBuilderTimeout.invoke(builder, durationOfMillis.invoke(null, (long) timeoutMillis));
+                }
+                Object publisher = body != null ? publishersOfByteArray.invoke(null, (Object) body)
+                        : publishersNoBody.invoke(null);
+                requestBuilderMethod.invoke(builder, method, publisher);
+                request = requestBuilderBuild.invoke(builder);
+            } catch (InvocationTargetException e) {
+                // e.g. invalid header values
+                throw new IOException("Could not create request for " + uri, e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+
+            try {
+                return clientSend.invoke(client, request, inputStreamHandler);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    InterruptedIOException interrupted = new InterruptedIOException("interrupted: " + uri);
+                    interrupted.initCause(cause);
+                    throw interrupted;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException(cause);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static boolean isHttp2(Object response) {
+            return versionHttp2.equals(invoke(responseVersion, response));
+        }
+
+        static int statusCode(Object response) {
+            return (Integer) invoke(responseStatusCode, response);
+        }
+
+        static InputStream body(Object response) {
+            return (InputStream) invoke(responseBody, response);
+        }
+
+        @SuppressWarnings("unchecked")
+        static List<Header> headers(Object response) {
+            Map<String, List<String>> map = (Map<String, List<String>>) invoke(headersMap,
+                    invoke(responseHeaders, response));
+            List<Header> headers = new ArrayList<Header>();
+            for (Map.Entry<String, List<String>> entry : map.entrySet()) {
+                if (entry.getKey().startsWith(":")) {
+                    // HTTP/2 pseudo header
+                    continue;
+                }
+                for (String value : entry.getValue()) {
+                    headers.add(new Header(entry.getKey(), value));
+                }
+            }
+            return headers;
+        }
+
+        private static Object invoke(Method method, Object target) {
+            try {
+                return method.invoke(target);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.ProtocolException;
+
+/**
+ * Reads and writes the plain text parts of HTTP/1.1 messages.
+ */
+class HttpCodec {
+
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private HttpCodec() {
+    }
+
+    /**
+     * Reads a line terminated by LF (optionally preceded by CR) and returns it without the line terminator.
+     *
+     * @throws EOFException If the stream ends before any character was read.
+     */
+    static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        while (true) {
+            int c = in.read();
+            if (c == -1) {
+                if (line.length() == 0) {
+                    throw new EOFException("unexpected end of stream");
+                }
+                break;
+            }
+            if (c == '\n') {
+                break;
+            }
+            if (line.length() >= MAX_LINE_LENGTH) {
+                throw new ProtocolException("line too long");
+            }
+            line.append((char) c);
+        }
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+    static void writeAscii(OutputStream out, String value) throws IOException {
+        try {
+            out.write(value.getBytes("ISO-8859-1"));
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static void writeHeader(OutputStream out, String name, String value) throws IOException {
+        writeAscii(out, name);
+        writeAscii(out, ": ");
+        writeAscii(out, value);
+        writeAscii(out, "\r\n");
+    }
+
+    /**
+     * Writes everything written to it as chunks of chunked transfer encoding.
+     */
+    static class ChunkedOutputStream extends OutputStream {
+
+        private final OutputStream out;
+
+        ChunkedOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            writeAscii(out, Integer.toHexString(len));
+            writeAscii(out, "\r\n");
+            out.write(b, off, len);
+            writeAscii(out, "\r\n");
+        }
+
+        /**
+         * Writes the last chunk, does not close the underlying stream.
+         */
+        @Override
+        public void close() throws IOException {
+            writeAscii(out, "0\r\n\r\n");
+        }
+    }
+
+}
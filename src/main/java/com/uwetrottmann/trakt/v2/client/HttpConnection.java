@@ -0,0 +1,96 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * An open HTTP/1.1 connection managed by a {@link ConnectionPool}.
+ */
+class HttpConnection {
+
+    /** Connections idle for less than this are not probed, unless asked to. */
+    private static final long PROBE_AFTER_IDLE_MILLIS = 1000;
+
+    private final String hostKey;
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private long idleSince;
+
+    HttpConnection(String hostKey, Socket socket) throws IOException {
+        this.hostKey = hostKey;
+        this.socket = socket;
+        this.in = new BufferedInputStream(socket.getInputStream(), 8192);
+        this.out = new BufferedOutputStream(socket.getOutputStream(), 8192);
+    }
+
+    String getHostKey() {
+        return hostKey;
+    }
+
+    InputStream getInputStream() {
+        return in;
+    }
+
+    OutputStream getOutputStream() {
+        return out;
+    }
+
+    void setReadTimeout(int readTimeoutMillis) throws IOException {
+        socket.setSoTimeout(readTimeoutMillis);
+    }
+
+    long getIdleSince() {
+        return idleSince;
+    }
+
+    void setIdleSince(long idleSince) {
+        this.idleSince = idleSince;
+    }
+
+    /**
+     * Returns {@code false} if the server has closed this idle connection in the meantime.
+     *
+     * @param alwaysProbe Whether to read from the connection even if it was idle only briefly.
+     */
+    boolean isHealthy(boolean alwaysProbe) {
+        if (socket.isClosed() || socket.isInputShutdown() || socket.isOutputShutdown()) {
+            return false;
+        }
+        if (!alwaysProbe && System.currentTimeMillis() - idleSince < PROBE_AFTER_IDLE_MILLIS) {
+            return true;
+        }
+        try {
+            int readTimeout = socket.getSoTimeout();
+            try {
+                socket.setSoTimeout(1);
+                in.mark(1);
+                if (in.read() == -1) {
+                    return false;
+                }
+                in.reset();
+                return true;
+            } finally {
+                socket.setSoTimeout(readTimeout);
+            }
+        } catch (SocketTimeoutException e) {
+            // nothing to read, the connection is still open
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    void closeQuietly() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+}
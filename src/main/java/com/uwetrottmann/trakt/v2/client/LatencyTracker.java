@@ -0,0 +1,41 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent latencies of an endpoint to estimate their 95th percentile.
+ */
+class LatencyTracker {
+
+    private static final int CAPACITY = 256;
+    /** Fewer samples do not give a useful percentile. */
+    private static final int MIN_SAMPLES = 20;
+    /** Sorting is cheap, but not free, only recompute once in a while. */
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final long[] samples = new long[CAPACITY];
+    private int count;
+    private int next;
+    private long p95 = -1;
+
+    synchronized void record(long millis) {
+        samples[next] = millis;
+        next = (next + 1) % CAPACITY;
+        if (count < CAPACITY) {
+            count++;
+        }
+        if (count >= MIN_SAMPLES && (p95 == -1 || count % RECOMPUTE_EVERY == 0 || next % RECOMPUTE_EVERY == 0)) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            p95 = sorted[(int) Math.ceil(count * 0.95) - 1];
+        }
+    }
+
+    /**
+     * Returns the 95th percentile in milliseconds or {@code -1} if there are not enough samples yet.
+     */
+    synchronized long p95() {
+        return p95;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.uwetrottmann.trakt.v2.client;
+
+/**
+ * Matches URL paths like {@code /movies/tron-legacy-2010}. A {@code *} in the pattern matches exactly one path
+ * segment, so {@code /movies/*} matches {@code /movies/tron-legacy-2010} but not {@code
+ * /movies/tron-legacy-2010/comments}. A pattern of just {@code *} matches any path.
+ */
+public final class PathPattern {
+
+    private final String pattern;
+    private final String[] segments;
+
+    public PathPattern(String pattern) {
+        this.pattern = pattern;
+        this.segments = pattern.split("/");
+    }
+
+    public boolean matches(String path) {
+        if ("*".equals(pattern)) {
+            return true;
+        }
+        String[] pathSegments = path.split("/");
+        if (pathSegments.length != segments.length) {
+            return false;
+        }
+        for (int i = 0; i < segments.length; i++) {
+            if (!"*".equals(segments[i]) && !segments[i].equals(pathSegments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+}
@@ -0,0 +1,520 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedInput;
+import retrofit.mime.TypedOutput;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.ProtocolException;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link retrofit.client.Client} speaking HTTP/1.1 over connections kept alive in a {@link ConnectionPool}.
+ *
+ * <p> Response bodies are read straight from the connection. Once a body is read completely or closed, the connection
+ * is returned to the pool. Responses without a body (like 204 No Content for most DELETE requests) release their
+ * connection right away.
+ *
+ * <p> A request on a re-used connection which the server closed in the meantime is sent again on a new connection,
+ * but only if it is idempotent and the connection failed before the request was written or before any response byte
+ * was read. Other failures, including read timeouts, are thrown.
+ *
+ * <p> Like {@link java.net.HttpURLConnection}, redirects of {@code GET} and {@code HEAD} requests are followed, up to
+ * {@link #MAX_REDIRECTS} times, unless they switch between HTTP and HTTPS.
+ *
+ * <p> Honors the default {@link java.net.ProxySelector}, HTTPS requests through an HTTP proxy are tunneled.
+ */
+public class PooledClient implements Client {
+
+    public static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 25 * 1000;
+    public static final int DEFAULT_READ_TIMEOUT_MILLIS = 45 * 1000;
+    /** Same limit as {@link java.net.HttpURLConnection}. */
+    public static final int MAX_REDIRECTS = 20;
+
+    private final ConnectionPool pool;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private int connectionWaitTimeoutMillis;
+    private SSLSocketFactory sslSocketFactory;
+    private HostnameVerifier hostnameVerifier;
+
+    /**
+     * Creates a client with {@link #DEFAULT_CONNECT_TIMEOUT_MILLIS} and {@link #DEFAULT_READ_TIMEOUT_MILLIS}.
+     */
+    public PooledClient(ConnectionPool pool) {
+        this(pool, DEFAULT_CONNECT_TIMEOUT_MILLIS, DEFAULT_READ_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param pool The pool to keep idle connections in, may be shared with other clients.
+     * @param connectTimeoutMillis Timeout for establishing a connection, also limits how long to wait for a connection
+     * if all connections to the host are in use, unless {@link #setConnectionWaitTimeoutMillis(int)} is used. 0 means
+     * no timeout.
+     * @param readTimeoutMillis Timeout for reading from a connection. 0 means no timeout.
+     */
+    public PooledClient(ConnectionPool pool, int connectTimeoutMillis, int readTimeoutMillis) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        this.pool = pool;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+        this.connectionWaitTimeoutMillis = connectTimeoutMillis;
+    }
+
+    public ConnectionPool getConnectionPool() {
+        return pool;
+    }
+
+    /**
+     * Limit how long to wait for a connection if {@link ConnectionPool#getMaxConnectionsPerHost()} connections to the
+     * host are in use. Requests wait in the order they were made. 0 means no timeout, e.g. when submitting many more
+     * requests at once than there are connections. Defaults to the connect timeout.
+     */
+    public PooledClient setConnectionWaitTimeoutMillis(int connectionWaitTimeoutMillis) {
+        this.connectionWaitTimeoutMillis = connectionWaitTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Use a custom {@link SSLSocketFactory} for HTTPS connections. Defaults to {@link
+     * HttpsURLConnection#getDefaultSSLSocketFactory()}.
+     */
+    public PooledClient setSslSocketFactory(SSLSocketFactory sslSocketFactory) {
+        this.sslSocketFactory = sslSocketFactory;
+        return this;
+    }
+
+    /**
+     * Use a custom {@link HostnameVerifier} for HTTPS connections. By default, the host name is checked by the TLS
+     * handshake using the {@code HTTPS} endpoint identification algorithm or, where that is not available, by {@link
+     * HttpsURLConnection#getDefaultHostnameVerifier()}.
+     */
+    public PooledClient setHostnameVerifier(HostnameVerifier hostnameVerifier) {
+        this.hostnameVerifier = hostnameVerifier;
+        return this;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        Response response = executeOnce(request);
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return response;
+        }
+        for (int redirects = 0; ; redirects++) {
+            URL location = redirectLocation(response);
+            if (location == null) {
+                return response;
+            }
+            if (redirects == MAX_REDIRECTS) {
+                closeBody(response);
+                throw new ProtocolException("too many redirects, more than " + MAX_REDIRECTS);
+            }
+            // drain the body of the redirect, so its connection can be re-used
+            closeBody(response);
+            request = new Request(request.getMethod(), location.toString(), request.getHeaders(), null);
+            response = executeOnce(request);
+        }
+    }
+
+    /**
+     * Returns where the given response redirects to, or {@code null} if it is no redirect to follow.
+     */
+    private static URL redirectLocation(Response response) throws IOException {
+        int status = response.getStatus();
+        if (status != 301 && status != 302 && status != 303 && status != 307 && status != 308) {
+            return null;
+        }
+        String location = headerValue(response.getHeaders(), "Location");
+        if (location == null) {
+            return null;
+        }
+        URL url = new URL(response.getUrl());
+        URL target;
+        try {
+            target = new URL(url, location);
+        } catch (MalformedURLException e) {
+            return null;
+        }
+        // never downgrade from HTTPS, nor upgrade, like HttpURLConnection
+        return target.getProtocol().equalsIgnoreCase(url.getProtocol()) ? target : null;
+    }
+
+    private static void closeBody(Response response) {
+        if (response.getBody() == null) {
+            return;
+        }
+        try {
+            response.getBody().in().close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private Response executeOnce(Request request) throws IOException {
+        URL url = new URL(request.getUrl());
+        boolean secure = "https".equalsIgnoreCase(url.getProtocol());
+        String host = url.getHost();
+        int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+        Proxy proxy = selectProxy(url);
+        String hostKey = url.getProtocol() + "://" + host + ":" + port
+                + (proxy.type() == Proxy.Type.DIRECT ? "" : " via " + proxy);
+
+        try {
+            if (!pool.acquirePermit(hostKey, connectionWaitTimeoutMillis)) {
+                throw new SocketTimeoutException("timed out waiting for a connection to " + host);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for a connection to " + host);
+        }
+
+        HttpConnection connection = null;
+        try {
+            boolean idempotent = isIdempotent(request.getMethod());
+            // always probe before sending a request which can not be sent again
+            connection = takeIdleConnection(hostKey, !idempotent);
+            if (connection != null) {
+                try {
+                    return send(connection, request, url, proxy, idempotent);
+                } catch (StaleConnectionException e) {
+                    // the server closed the idle connection without looking at the request, retry on a new one
+                    pool.close(connection);
+                    connection = null;
+                }
+            }
+            connection = connect(hostKey, host, port, secure, proxy);
+            return send(connection, request, url, proxy, false);
+        } catch (IOException e) {
+            if (connection != null) {
+                pool.close(connection);
+            }
+            pool.releasePermit(hostKey);
+            throw e;
+        } catch (RuntimeException e) {
+            if (connection != null) {
+                pool.close(connection);
+            }
+            pool.releasePermit(hostKey);
+            throw e;
+        }
+    }
+
+    private HttpConnection takeIdleConnection(String hostKey, boolean alwaysProbe) {
+        HttpConnection connection;
+        while ((connection = pool.get(hostKey)) != null) {
+            if (connection.isHealthy(alwaysProbe)) {
+                return connection;
+            }
+            pool.close(connection);
+        }
+        return null;
+    }
+
+    private Proxy selectProxy(URL url) {
+        ProxySelector selector = ProxySelector.getDefault();
+        if (selector == null) {
+            return Proxy.NO_PROXY;
+        }
+        List<Proxy> proxies;
+        try {
+            proxies = selector.select(url.toURI());
+        } catch (URISyntaxException e) {
+            return Proxy.NO_PROXY;
+        }
+        return proxies == null || proxies.isEmpty() ? Proxy.NO_PROXY : proxies.get(0);
+    }
+
+    private HttpConnection connect(String hostKey, String host, int port, boolean secure, Proxy proxy)
+            throws IOException {
+        Socket socket = proxy.type() == Proxy.Type.SOCKS ? new Socket(proxy) : new Socket();
+        try {
+            if (proxy.type() == Proxy.Type.HTTP) {
+                InetSocketAddress proxyAddress = (InetSocketAddress) proxy.address();
+                socket.connect(new InetSocketAddress(proxyAddress.getHostName(), proxyAddress.getPort()),
+                        connectTimeoutMillis);
+            } else {
+                socket.connect(new InetSocketAddress(host, port), connectTimeoutMillis);
+            }
+            socket.setSoTimeout(readTimeoutMillis);
+            socket.setTcpNoDelay(true);
+
+            if (secure) {
+                if (proxy.type() == Proxy.Type.HTTP) {
+                    createTunnel(socket, host, port);
+                }
+                socket = upgradeToTls(socket, host, port);
+            }
+
+            HttpConnection connection = new HttpConnection(hostKey, socket);
+            pool.connected();
+            return connection;
+        } catch (IOException e) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+            throw e;
+        }
+    }
+
+    private void createTunnel(Socket socket, String host, int port) throws IOException {
+        OutputStream out = socket.getOutputStream();
+        String authority = host + ":" + port;
+        HttpCodec.writeAscii(out, "CONNECT " + authority + " HTTP/1.1\r\n");
+        HttpCodec.writeHeader(out, "Host", authority);
+        HttpCodec.writeAscii(out, "\r\n");
+        out.flush();
+
+        // read unbuffered, the TLS handshake continues on the same stream
+        InputStream in = socket.getInputStream();
+        String statusLine = HttpCodec.readLine(in);
+        while (HttpCodec.readLine(in).length() != 0) {
+        }
+        if (parseStatusCode(statusLine) != 200) {
+            throw new IOException("proxy refused to tunnel to " + authority + ": " + statusLine);
+        }
+    }
+
+    private Socket upgradeToTls(Socket socket, String host, int port) throws IOException {
+        SSLSocketFactory factory = sslSocketFactory != null ? sslSocketFactory
+                : HttpsURLConnection.getDefaultSSLSocketFactory();
+        SSLSocket sslSocket = (SSLSocket) factory.createSocket(socket, host, port, true);
+        boolean identified = hostnameVerifier == null && requireEndpointIdentification(sslSocket);
+        sslSocket.startHandshake();
+        if (!identified) {
+            HostnameVerifier verifier = hostnameVerifier != null ? hostnameVerifier
+                    : HttpsURLConnection.getDefaultHostnameVerifier();
+            if (!verifier.verify(host, sslSocket.getSession())) {
+                sslSocket.close();
+                throw new SSLPeerUnverifiedException("hostname " + host + " not verified");
+            }
+        }
+        return sslSocket;
+    }
+
+    /**
+     * Lets the TLS handshake check the host name against the server certificate.
+     *
+     * @return {@code false} if the platform does not support it.
+     */
+    private static boolean requireEndpointIdentification(SSLSocket sslSocket) {
+        try {
+            SSLParameters parameters = sslSocket.getSSLParameters();
+            parameters.setEndpointIdentificationAlgorithm("HTTPS");
+            sslSocket.setSSLParameters(parameters);
+            return true;
+        } catch (NoSuchMethodError e) {
+            // before Java 7 and Android 7.0
+            return false;
+        }
+    }
+
+    /**
+     * @param retryable Whether to throw a {@link StaleConnectionException} if the connection turns out to be closed
+     * before the server responded.
+     */
+    private Response send(HttpConnection connection, Request request, URL url, Proxy proxy, boolean retryable)
+            throws IOException {
+        connection.setReadTimeout(readTimeoutMillis);
+        try {
+            writeRequest(connection.getOutputStream(), request, url, proxy);
+        } catch (IOException e) {
+            throw retryable ? new StaleConnectionException(e) : e;
+        }
+        if (retryable) {
+            awaitResponse(connection.getInputStream());
+        }
+        return readResponse(connection, request);
+    }
+
+    /**
+     * Waits for the first byte of the response. Throws a {@link StaleConnectionException} if the server closed the
+     * connection instead, but not if the read timed out: the server might be working on the request.
+     */
+    private static void awaitResponse(InputStream in) throws IOException {
+        int first;
+        try {
+            in.mark(1);
+            first = in.read();
+        } catch (SocketTimeoutException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new StaleConnectionException(e);
+        }
+        if (first == -1) {
+            throw new StaleConnectionException(new EOFException("connection closed before the response"));
+        }
+        in.reset();
+    }
+
+    private void writeRequest(OutputStream out, Request request, URL url, Proxy proxy) throws IOException {
+        boolean absoluteTarget = proxy.type() == Proxy.Type.HTTP && "http".equalsIgnoreCase(url.getProtocol());
+        String target = absoluteTarget ? url.toString() : url.getFile();
+        if (target.length() == 0) {
+            target = "/";
+        }
+        HttpCodec.writeAscii(out, request.getMethod() + " " + target + " HTTP/1.1\r\n");
+        HttpCodec.writeHeader(out, "Host", url.getPort() == -1 ? url.getHost() : url.getHost() + ":" + url.getPort());
+
+        TypedOutput body = request.getBody();
+        for (Header header : request.getHeaders()) {
+            if (header.getName() == null || header.getValue() == null) {
+                continue;
+            }
+            if (body != null && "Content-Type".equalsIgnoreCase(header.getName())) {
+                // the body knows its type better
+                continue;
+            }
+            HttpCodec.writeHeader(out, header.getName(), header.getValue());
+        }
+        if (pool.getMaxIdleConnections() == 0) {
+            HttpCodec.writeHeader(out, "Connection", "close");
+        }
+
+        if (body == null) {
+            if (permitsRequestBody(request.getMethod())) {
+                HttpCodec.writeHeader(out, "Content-Length", "0");
+            }
+            HttpCodec.writeAscii(out, "\r\n");
+        } else {
+            HttpCodec.writeHeader(out, "Content-Type", body.mimeType());
+            long length = body.length();
+            if (length != -1) {
+                HttpCodec.writeHeader(out, "Content-Length", String.valueOf(length));
+                HttpCodec.writeAscii(out, "\r\n");
+                body.writeTo(out);
+            } else {
+                HttpCodec.writeHeader(out, "Transfer-Encoding", "chunked");
+                HttpCodec.writeAscii(out, "\r\n");
+                HttpCodec.ChunkedOutputStream chunked = new HttpCodec.ChunkedOutputStream(out);
+                body.writeTo(chunked);
+                chunked.close();
+            }
+        }
+        out.flush();
+    }
+
+    private Response readResponse(HttpConnection connection, Request request) throws IOException {
+        InputStream in = connection.getInputStream();
+
+        String statusLine;
+        int status;
+        List<Header> headers = new ArrayList<Header>();
+        do {
+            // skip informational responses like 100 Continue
+            statusLine = HttpCodec.readLine(in);
+            status = parseStatusCode(statusLine);
+            headers.clear();
+            String line;
+            while ((line = HttpCodec.readLine(in)).length() != 0) {
+                int colon = line.indexOf(':');
+                if (colon == -1) {
+                    throw new ProtocolException("invalid header: " + line);
+                }
+                headers.add(new Header(line.substring(0, colon).trim(), line.substring(colon + 1).trim()));
+            }
+        } while (status >= 100 && status < 200);
+
+        int reasonStart = statusLine.indexOf(' ', statusLine.indexOf(' ') + 1);
+        String reason = reasonStart == -1 ? "" : statusLine.substring(reasonStart + 1);
+
+        String connectionHeader = headerValue(headers, "Connection");
+        boolean keepAlive = statusLine.startsWith("HTTP/1.1")
+                ? !"close".equalsIgnoreCase(connectionHeader)
+                : "keep-alive".equalsIgnoreCase(connectionHeader);
+
+        String contentLength = headerValue(headers, "Content-Length");
+        long length = -1;
+        if (contentLength != null) {
+            try {
+                length = Long.parseLong(contentLength);
+            } catch (NumberFormatException e) {
+                throw new ProtocolException("invalid Content-Length: " + contentLength);
+            }
+        }
+
+        TypedInput body = null;
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || status == 204 || status == 304 || length == 0) {
+            pool.release(connection, keepAlive);
+        } else {
+            ResponseBodyStream stream;
+            if ("chunked".equalsIgnoreCase(headerValue(headers, "Transfer-Encoding"))) {
+                stream = ResponseBodyStream.chunked(pool, connection, keepAlive);
+                length = -1;
+            } else if (length != -1) {
+                stream = ResponseBodyStream.fixedLength(pool, connection, length, keepAlive);
+            } else {
+                stream = ResponseBodyStream.untilClose(pool, connection);
+            }
+            body = new StreamTypedInput(headerValue(headers, "Content-Type"), length, stream);
+        }
+
+        return new Response(request.getUrl(), status, reason, headers, body);
+    }
+
+    private static int parseStatusCode(String statusLine) throws ProtocolException {
+        // HTTP/1.1 200 OK
+        if (!statusLine.startsWith("HTTP/1.") || statusLine.length() < 12) {
+            throw new ProtocolException("unexpected status line: " + statusLine);
+        }
+        try {
+            return Integer.parseInt(statusLine.substring(9, 12));
+        } catch (NumberFormatException e) {
+            throw new ProtocolException("unexpected status line: " + statusLine);
+        }
+    }
+
+    private static boolean isIdempotent(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "PUT".equals(method) || "DELETE".equals(method)
+                || "OPTIONS".equals(method);
+    }
+
+    private static boolean permitsRequestBody(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method);
+    }
+
+    static String headerValue(List<Header> headers, String name) {
+        for (Header header : headers) {
+            if (name.equalsIgnoreCase(header.getName())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A re-used connection was closed by the server before it could have acted on the request.
+     */
+    private static class StaleConnectionException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        StaleConnectionException(IOException cause) {
+            super(cause.getMessage());
+            initCause(cause);
+        }
+
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import org.joda.time.DateTime;
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Waits for a permit of a {@link RateLimiter} before each request, with separate budgets for reading ({@code GET},
+ * {@code HEAD}) and writing ({@code POST}, {@code PUT}, {@code DELETE}) requests.
+ *
+ * <p> On {@code 429 Too Many Requests} the budget is paused for the time given by the {@code Retry-After} header and
+ * the request is sent again, up to {@link #DEFAULT_MAX_RETRIES} times. If the server asks to wait longer than {@link
+ * #DEFAULT_MAX_RETRY_AFTER_MILLIS}, the response is returned to the caller. A trakt {@code X-Ratelimit} header
+ * reporting no remaining requests pauses the budget until the reported time.
+ *
+ * <p> Callers block until their request may be sent. Use the asynchronous services to get a future instead.
+ */
+public class RateLimitClient implements Client {
+
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final long DEFAULT_MAX_RETRY_AFTER_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    static final String HEADER_RETRY_AFTER = "Retry-After";
+    static final String HEADER_TRAKT_RATE_LIMIT = "X-Ratelimit";
+
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    private static final long DEFAULT_RETRY_AFTER_MILLIS = 1000;
+    private static final Pattern REMAINING = Pattern.compile("\"remaining\"\\s*:\\s*(\\d+)");
+    private static final Pattern UNTIL = Pattern.compile("\"until\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final Client delegate;
+    private final RateLimiter reads;
+    private final RateLimiter writes;
+
+    /**
+     * @param reads Budget for {@code GET} and {@code HEAD} requests, or {@code null} for no limit.
+     * @param writes Budget for all other requests, or {@code null} for no limit.
+     */
+    public RateLimitClient(Client delegate, RateLimiter reads, RateLimiter writes) {
+        this.delegate = delegate;
+        this.reads = reads;
+        this.writes = writes;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        boolean isRead = "GET".equalsIgnoreCase(request.getMethod()) || "HEAD".equalsIgnoreCase(request.getMethod());
+        RateLimiter limiter = isRead ? reads : writes;
+        for (int attempt = 0; ; attempt++) {
+            if (limiter != null) {
+                limiter.acquire();
+            }
+            Response response = delegate.execute(request);
+            if (response.getStatus() != STATUS_TOO_MANY_REQUESTS) {
+                pauseIfExhausted(response, limiter);
+                return response;
+            }
+
+            long retryAfterMillis = retryAfterMillis(response, System.currentTimeMillis());
+            if (limiter != null) {
+                limiter.pause(retryAfterMillis, TimeUnit.MILLISECONDS);
+            }
+            if (attempt >= DEFAULT_MAX_RETRIES || retryAfterMillis > DEFAULT_MAX_RETRY_AFTER_MILLIS) {
+                return response;
+            }
+            closeQuietly(response);
+            if (limiter == null) {
+                sleep(retryAfterMillis);
+            }
+        }
+    }
+
+    /**
+     * Returns the time to wait as requested by the {@code Retry-After} header, which holds either seconds or an HTTP
+     * date. Defaults to one second.
+     */
+    public static long retryAfterMillis(Response response, long now) {
+        String retryAfter = PooledClient.headerValue(response.getHeaders(), HEADER_RETRY_AFTER);
+        if (retryAfter == null) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+        retryAfter = retryAfter.trim();
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter)));
+        } catch (NumberFormatException ignored) {
+        }
+        SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("GMT"));
+        try {
+            Date date = format.parse(retryAfter);
+            return Math.max(0, date.getTime() - now);
+        } catch (ParseException e) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+    }
+
+    private static void pauseIfExhausted(Response response, RateLimiter limiter) {
+        if (limiter == null) {
+            return;
+        }
+        String rateLimit = PooledClient.headerValue(response.getHeaders(), HEADER_TRAKT_RATE_LIMIT);
+        if (rateLimit == null) {
+            return;
+        }
+        Matcher remaining = REMAINING.matcher(rateLimit);
+        if (!remaining.find() || !"0".equals(remaining.group(1))) {
+            return;
+        }
+        Matcher until = UNTIL.matcher(rateLimit);
+        long pauseMillis = DEFAULT_RETRY_AFTER_MILLIS;
+        if (until.find()) {
+            try {
+                pauseMillis = DateTime.parse(until.group(1)).getMillis() - System.currentTimeMillis();
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        if (pauseMillis > 0) {
+            limiter.pause(Math.min(pauseMillis, DEFAULT_MAX_RETRY_AFTER_MILLIS), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+
+    private static void closeQuietly(Response response) {
+        if (response.getBody() == null) {
+            return;
+        }
+        try {
+            response.getBody().in().close();
+        } catch (IOException ignored) {
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket allowing a sustained number of requests per second, plus bursts of up to a maximum number of requests
+ * after a quiet period. Callers wait in the order they asked for a permit.
+ *
+ * <p> The server can pause the bucket, e.g. on {@code 429 Too Many Requests}, see {@link RateLimitClient}.
+ */
+public class RateLimiter {
+
+    /** trakt allows 1000 {@code GET} requests per 5 minutes. */
+    public static final double DEFAULT_READS_PER_SECOND = 1000 / 300.0;
+    public static final int DEFAULT_READ_BURST = 20;
+    /** trakt allows one {@code POST}, {@code PUT} or {@code DELETE} request per second for a user. */
+    public static final double DEFAULT_WRITES_PER_SECOND = 1;
+    public static final int DEFAULT_WRITE_BURST = 1;
+
+    private final long intervalNanos;
+    private final int burst;
+    private final long created = System.nanoTime();
+    private double storedPermits;
+    /** Relative to {@link #created}, the time the next permit is available. */
+    private long nextFreeNanos;
+    private long waitCount;
+    private long pauseCount;
+
+    /**
+     * @param permitsPerSecond Sustained rate.
+     * @param burst Maximum number of permits stored while idle, which can be used at once.
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and burst at least 1");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burst = burst;
+        this.storedPermits = burst;
+    }
+
+    public static RateLimiter defaultReads() {
+        return new RateLimiter(DEFAULT_READS_PER_SECOND, DEFAULT_READ_BURST);
+    }
+
+    public static RateLimiter defaultWrites() {
+        return new RateLimiter(DEFAULT_WRITES_PER_SECOND, DEFAULT_WRITE_BURST);
+    }
+
+    /**
+     * Blocks until a permit is available.
+     */
+    public void acquire() throws InterruptedIOException {
+        long waitNanos = reserve(System.nanoTime() - created);
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the rate limit");
+        }
+    }
+
+    /**
+     * Hand out no permits for the given time, e.g. because the server asked to retry later.
+     */
+    public synchronized void pause(long duration, TimeUnit unit) {
+        long until = System.nanoTime() - created + unit.toNanos(duration);
+        if (until > nextFreeNanos) {
+            nextFreeNanos = until;
+        }
+        storedPermits = 0;
+        pauseCount++;
+    }
+
+    /**
+     * Number of permits which were not available immediately.
+     */
+    public synchronized long getWaitCount() {
+        return waitCount;
+    }
+
+    /**
+     * Number of times the server asked to slow down.
+     */
+    public synchronized long getPauseCount() {
+        return pauseCount;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter[permitsPerSecond=" + (TimeUnit.SECONDS.toNanos(1) / (double) intervalNanos) + ", burst="
+                + burst + ", waits=" + getWaitCount() + ", pauses=" + getPauseCount() + "]";
+    }
+
+    /**
+     * Takes the next permit and returns how long to wait until it may be used. Afterwards {@link #nextFreeNanos} is
+     * the time the last handed out permit becomes available.
+     */
+    private synchronized long reserve(long now) {
+        if (now > nextFreeNanos) {
+            storedPermits = Math.min(burst, storedPermits + (now - nextFreeNanos) / (double) intervalNanos);
+            nextFreeNanos = now;
+        }
+        if (storedPermits >= 1) {
+            storedPermits -= 1;
+        } else {
+            // wait until the missing fraction of a permit is refilled
+            nextFreeNanos += (long) ((1 - storedPermits) * intervalNanos);
+            storedPermits = 0;
+        }
+        long waitNanos = nextFreeNanos - now;
+        if (waitNanos > 0) {
+            waitCount++;
+        }
+        return waitNanos;
+    }
+
+}
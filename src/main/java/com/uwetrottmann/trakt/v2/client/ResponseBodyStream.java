@@ -0,0 +1,181 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ProtocolException;
+
+/**
+ * Reads a response body framed by a content length, chunked transfer encoding or the end of the connection. Once the
+ * body has been read completely, the connection is returned to its {@link ConnectionPool}.
+ *
+ * <p> Closing the stream early drains the remaining body (up to {@link #DRAIN_LIMIT} bytes), so the connection can
+ * still be re-used.
+ */
+class ResponseBodyStream extends InputStream {
+
+    /** Bodies with more unread bytes than this are not drained on close, the connection is closed instead. */
+    static final int DRAIN_LIMIT = 1024 * 1024;
+
+    private static final int UNTIL_CLOSE = -1;
+
+    private final ConnectionPool pool;
+    private final HttpConnection connection;
+    private final InputStream in;
+    private final boolean chunked;
+    private final boolean keepAlive;
+
+    /** Bytes left in the body or current chunk. */
+    private long remaining;
+    private boolean finished;
+    private boolean released;
+
+    private ResponseBodyStream(ConnectionPool pool, HttpConnection connection, boolean chunked, long length,
+            boolean keepAlive) {
+        this.pool = pool;
+        this.connection = connection;
+        this.in = connection.getInputStream();
+        this.chunked = chunked;
+        this.remaining = chunked ? 0 : length;
+        this.keepAlive = keepAlive && length != UNTIL_CLOSE;
+    }
+
+    static ResponseBodyStream fixedLength(ConnectionPool pool, HttpConnection connection, long length,
+            boolean keepAlive) {
+        return new ResponseBodyStream(pool, connection, false, length, keepAlive);
+    }
+
+    static ResponseBodyStream chunked(ConnectionPool pool, HttpConnection connection, boolean keepAlive) {
+        return new ResponseBodyStream(pool, connection, true, 0, keepAlive);
+    }
+
+    static ResponseBodyStream untilClose(ConnectionPool pool, HttpConnection connection) {
+        return new ResponseBodyStream(pool, connection, false, UNTIL_CLOSE, false);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int count = read(b, 0, 1);
+        return count == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (released) {
+            if (finished) {
+                return -1;
+            }
+            throw new IOException("stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (finished || (remaining == 0 && !chunked)) {
+            finish(true);
+            return -1;
+        }
+        try {
+            if (chunked && remaining == 0) {
+                readChunkSize();
+                if (finished) {
+                    finish(true);
+                    return -1;
+                }
+            }
+            int toRead = remaining == UNTIL_CLOSE ? len : (int) Math.min(len, remaining);
+            int count = in.read(b, off, toRead);
+            if (count == -1) {
+                if (remaining == UNTIL_CLOSE) {
+                    finished = true;
+                    finish(false);
+                    return -1;
+                }
+                throw new ProtocolException("unexpected end of response body");
+            }
+            if (remaining != UNTIL_CLOSE) {
+                remaining -= count;
+                if (remaining == 0) {
+                    if (chunked) {
+                        readLine();
+                    } else {
+                        finish(true);
+                    }
+                }
+            }
+            return count;
+        } catch (IOException e) {
+            finish(false);
+            throw e;
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (released || finished) {
+            return 0;
+        }
+        int available = in.available();
+        return remaining == UNTIL_CLOSE ? available : (int) Math.min(available, remaining);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (released) {
+            return;
+        }
+        if (keepAlive && !finished) {
+            // drain the rest of the body so the connection can be re-used
+            byte[] buffer = new byte[8192];
+            long drained = 0;
+            try {
+                while (!released && drained <= DRAIN_LIMIT) {
+                    int count = read(buffer, 0, buffer.length);
+                    if (count == -1) {
+                        break;
+                    }
+                    drained += count;
+                }
+            } catch (IOException ignored) {
+                // connection was already discarded
+            }
+        }
+        finish(finished && keepAlive);
+    }
+
+    private void readChunkSize() throws IOException {
+        String line = readLine();
+        int extension = line.indexOf(';');
+        if (extension != -1) {
+            line = line.substring(0, extension);
+        }
+        long size;
+        try {
+            size = Long.parseLong(line.trim(), 16);
+        } catch (NumberFormatException e) {
+            throw new ProtocolException("invalid chunk size: " + line);
+        }
+        if (size == 0) {
+            // skip trailers
+            while (readLine().length() != 0) {
+            }
+            finished = true;
+        }
+        remaining = size;
+    }
+
+    private String readLine() throws IOException {
+        return HttpCodec.readLine(in);
+    }
+
+    private void finish(boolean reusable) {
+        if (reusable) {
+            finished = true;
+        }
+        if (released) {
+            return;
+        }
+        released = true;
+        pool.release(connection, reusable && keepAlive);
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedByteArray;
+import retrofit.mime.TypedOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends failed requests again as allowed by a {@link RetryPolicy}, waiting with exponential backoff and jitter in
+ * between. Request bodies are buffered first, so they can be sent again.
+ *
+ * <p> Requests to endpoints the policy hedges are sent a second time if there is no response after the 95th
+ * percentile of their recent latencies, but not before the minimum hedge delay of the policy. The first response is
+ * returned.
+ */
+public class RetryClient implements Client {
+
+    private final Client delegate;
+    private final RetryPolicy policy;
+    private final Executor hedgeExecutor;
+
+    /**
+     * @param hedgeExecutor Runs hedged requests, should not limit the number of threads. If {@code null}, requests
+     * are not hedged.
+     */
+    public RetryClient(Client delegate, RetryPolicy policy, Executor hedgeExecutor) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.hedgeExecutor = hedgeExecutor;
+    }
+
+    public RetryPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        String path = new URL(request.getUrl()).getPath();
+        int maxRetries = policy.maxRetries(request.getMethod(), path);
+        if (maxRetries > 0 && request.getBody() != null) {
+            request = bufferBody(request);
+        }
+        PathPattern hedged = hedgeExecutor == null ? null : policy.hedgedPattern(request.getMethod(), path);
+
+        for (int retry = 0; ; retry++) {
+            if (retry > 0) {
+                policy.countRetry();
+                sleep(policy.backoffMillis(retry));
+            }
+            Response response;
+            try {
+                response = hedged != null ? executeHedged(request, hedged) : delegate.execute(request);
+            } catch (IOException e) {
+                if (retry >= maxRetries || !isRetryable(e)) {
+                    throw e;
+                }
+                continue;
+            }
+            if (retry >= maxRetries || !policy.isRetryable(response.getStatus())) {
+                return response;
+            }
+            closeQuietly(response);
+        }
+    }
+
+    private static boolean isRetryable(IOException e) {
+        // a timeout is worth another try, an interrupt is not
+        return !(e instanceof InterruptedIOException) || e instanceof SocketTimeoutException;
+    }
+
+    private static Request bufferBody(Request request) throws IOException {
+        TypedOutput body = request.getBody();
+        if (body instanceof TypedByteArray) {
+            return request;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length() > 0 ? (int) body.length() : 1024);
+        body.writeTo(out);
+        return new Request(request.getMethod(), request.getUrl(), request.getHeaders(),
+                new TypedByteArray(body.mimeType(), out.toByteArray()));
+    }
+
+    /**
+     * Starts the request on the hedge executor, starts a second copy if it takes longer than usual and returns the
+     * first response. A failed copy only fails the call once both failed.
+     */
+    private Response executeHedged(final Request request, PathPattern pattern) throws IOException {
+        LatencyTracker tracker = policy.latencies(pattern);
+        long delayMillis = policy.hedgeDelayMillis(tracker);
+
+        BlockingQueue<Attempt> completed = new LinkedBlockingQueue<Attempt>();
+        AtomicBoolean decided = new AtomicBoolean();
+        hedgeExecutor.execute(new Attempt(request, tracker, completed, decided, false));
+        int running = 1;
+        IOException failure = null;
+        try {
+            Attempt first = completed.poll(delayMillis, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                policy.countHedge();
+                hedgeExecutor.execute(new Attempt(request, tracker, completed, decided, true));
+                running++;
+            }
+            while (running > 0) {
+                Attempt attempt = first != null ? first : completed.take();
+                first = null;
+                running--;
+                if (attempt.response != null) {
+                    if (attempt.isHedge) {
+                        policy.countHedgeWin();
+                    }
+                    return attempt.response;
+                }
+                failure = attempt.error;
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            decided.set(true);
+            throw new InterruptedIOException("Interrupted while waiting for a response");
+        }
+    }
+
+    private void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+
+    private static void closeQuietly(Response response) {
+        if (response.getBody() == null) {
+            return;
+        }
+        try {
+            response.getBody().in().close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * One copy of a hedged request. Only the first successful copy is handed to the caller, the response of the other
+     * one is closed.
+     */
+    private class Attempt implements Runnable {
+
+        private final Request request;
+        private final LatencyTracker tracker;
+        private final BlockingQueue<Attempt> completed;
+        private final AtomicBoolean decided;
+        private final boolean isHedge;
+        private Response response;
+        private IOException error;
+
+        Attempt(Request request, LatencyTracker tracker, BlockingQueue<Attempt> completed, AtomicBoolean decided,
+                boolean isHedge) {
+            this.request = request;
+            this.tracker = tracker;
+            this.completed = completed;
+            this.decided = decided;
+            this.isHedge = isHedge;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            try {
+                Response result = delegate.execute(request);
+                tracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                if (decided.compareAndSet(false, true)) {
+                    response = result;
+                } else {
+                    closeQuietly(result);
+                    return;
+                }
+            } catch (IOException e) {
+                error = e;
+            } catch (RuntimeException e) {
+                error = new IOException(e.toString(), e);
+            }
+            completed.add(this);
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which failed requests a {@link RetryClient} sends again and how long it waits in between.
+ *
+ * <p> By default, {@code GET}, {@code HEAD}, {@code PUT} and {@code DELETE} requests are retried up to {@link
+ * #DEFAULT_MAX_RETRIES} times on network errors and {@code 500}, {@code 502}, {@code 503} and {@code 504} responses.
+ * {@code POST} requests are not, as they may not be idempotent, enable them per endpoint, e.g.
+ *
+ * <pre>
+ * RetryPolicy policy = new RetryPolicy()
+ *         .setMaxRetries("POST", "/sync/collection", 3)
+ *         .hedge("/search");
+ * </pre>
+ *
+ * <p> The wait before a retry grows exponentially from the initial backoff, a random part of it is skipped (full
+ * jitter), so clients failing at the same time do not retry at the same time.
+ *
+ * <p> Also keeps the latencies of hedged endpoints and counts retries and hedges of all clients using it.
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 250;
+    public static final long DEFAULT_MAX_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    /** Used as hedge delay until enough latencies were observed to estimate the 95th percentile. */
+    public static final long DEFAULT_HEDGE_DELAY_MILLIS = 1000;
+    /** The second copy of a hedged request is never sent earlier than this, even if responses are usually faster. */
+    public static final long DEFAULT_MIN_HEDGE_DELAY_MILLIS = 50;
+
+    private final List<Rule> rules = new ArrayList<Rule>();
+    private final List<PathPattern> hedged = new ArrayList<PathPattern>();
+    private long initialBackoffMillis = DEFAULT_INITIAL_BACKOFF_MILLIS;
+    private long maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+    private long minHedgeDelayMillis = DEFAULT_MIN_HEDGE_DELAY_MILLIS;
+    private final Random random = new Random();
+    private final ConcurrentMap<PathPattern, LatencyTracker> latencies =
+            new ConcurrentHashMap<PathPattern, LatencyTracker>();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+
+    public RetryPolicy() {
+        setMaxRetries("GET", DEFAULT_MAX_RETRIES);
+        setMaxRetries("HEAD", DEFAULT_MAX_RETRIES);
+        setMaxRetries("PUT", DEFAULT_MAX_RETRIES);
+        setMaxRetries("DELETE", DEFAULT_MAX_RETRIES);
+    }
+
+    /**
+     * Retry requests with the given method up to the given number of times.
+     */
+    public RetryPolicy setMaxRetries(String method, int maxRetries) {
+        return setMaxRetries(method, "*", maxRetries);
+    }
+
+    /**
+     * Retry requests with the given method to endpoints matching the given {@link PathPattern} up to the given number
+     * of times. Rules added later take precedence.
+     */
+    public synchronized RetryPolicy setMaxRetries(String method, String pathPattern, int maxRetries) {
+        rules.add(0, new Rule(method.toUpperCase(Locale.US), new PathPattern(pathPattern), maxRetries));
+        return this;
+    }
+
+    public synchronized RetryPolicy setBackoff(long initial, long max, TimeUnit unit) {
+        this.initialBackoffMillis = unit.toMillis(initial);
+        this.maxBackoffMillis = unit.toMillis(max);
+        return this;
+    }
+
+    /**
+     * Send a second copy of {@code GET} requests to endpoints matching the given {@link PathPattern}, if there is no
+     * response after the 95th percentile of their recent latencies, or after {@link #DEFAULT_MIN_HEDGE_DELAY_MILLIS} if
+     * that is longer, see {@link #setMinHedgeDelay(long, TimeUnit)}. The first response wins. Use this for latency
+     * critical requests only, as it adds load.
+     */
+    public synchronized RetryPolicy hedge(String pathPattern) {
+        hedged.add(new PathPattern(pathPattern));
+        return this;
+    }
+
+    /**
+     * Wait at least the given time before sending the second copy of a hedged request. Without a lower bound, an
+     * endpoint answering within a millisecond would be hedged right away, doubling the load.
+     */
+    public synchronized RetryPolicy setMinHedgeDelay(long minDelay, TimeUnit unit) {
+        this.minHedgeDelayMillis = unit.toMillis(minDelay);
+        return this;
+    }
+
+    /**
+     * Number of requests sent again after a failure.
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * Number of second copies sent of hedged requests.
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * Number of hedged requests answered first by the second copy.
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy[retries=" + retryCount + ", hedges=" + hedgeCount + ", hedgeWins=" + hedgeWinCount + "]";
+    }
+
+    synchronized int maxRetries(String method, String path) {
+        for (Rule rule : rules) {
+            if (rule.method.equalsIgnoreCase(method) && rule.pattern.matches(path)) {
+                return rule.maxRetries;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the pattern of the hedged endpoints the given request matches or {@code null}.
+     */
+    synchronized PathPattern hedgedPattern(String method, String path) {
+        if (!"GET".equalsIgnoreCase(method)) {
+            return null;
+        }
+        for (PathPattern pattern : hedged) {
+            if (pattern.matches(path)) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+
+    boolean isRetryable(int status) {
+        return status == 500 || status == 502 || status == 503 || status == 504;
+    }
+
+    /**
+     * Returns a random time to wait before the given retry, the first one is retry 1.
+     */
+    synchronized long backoffMillis(int retry) {
+        long ceiling = initialBackoffMillis << Math.min(retry - 1, 30);
+        if (ceiling <= 0 || ceiling > maxBackoffMillis) {
+            ceiling = maxBackoffMillis;
+        }
+        return (long) (random.nextDouble() * ceiling);
+    }
+
+    /**
+     * How long to wait for a response to a hedged request before sending a second copy.
+     */
+    long hedgeDelayMillis(LatencyTracker tracker) {
+        long p95 = tracker.p95();
+        long minDelay;
+        synchronized (this) {
+            minDelay = minHedgeDelayMillis;
+        }
+        return Math.max(p95 >= 0 ? p95 : DEFAULT_HEDGE_DELAY_MILLIS, minDelay);
+    }
+
+    LatencyTracker latencies(PathPattern pattern) {
+        LatencyTracker tracker = latencies.get(pattern);
+        if (tracker == null) {
+            latencies.putIfAbsent(pattern, new LatencyTracker());
+            tracker = latencies.get(pattern);
+        }
+        return tracker;
+    }
+
+    void countRetry() {
+        retryCount.incrementAndGet();
+    }
+
+    void countHedge() {
+        hedgeCount.incrementAndGet();
+    }
+
+    void countHedgeWin() {
+        hedgeWinCount.incrementAndGet();
+    }
+
+    private static class Rule {
+
+        private final String method;
+        private final PathPattern pattern;
+        private final int maxRetries;
+
+        Rule(String method, PathPattern pattern, int maxRetries) {
+            this.method = method;
+            this.pattern = pattern;
+            this.maxRetries = maxRetries;
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import retrofit.mime.TypedInput;
+
+import java.io.InputStream;
+
+/**
+ * A response body read directly from the network.
+ */
+class StreamTypedInput implements TypedInput {
+
+    private final String mimeType;
+    private final long length;
+    private final InputStream stream;
+
+    StreamTypedInput(String mimeType, long length, InputStream stream) {
+        this.mimeType = mimeType;
+        this.length = length;
+        this.stream = stream;
+    }
+
+    @Override
+    public String mimeType() {
+        return mimeType;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public InputStream in() {
+        return stream;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * The slim entities, like {@link SlimBaseShow}, are read-only variants of the entities returned in large lists, which
+ * hold ids and counts as {@code int} instead of {@link Integer}, date times as {@code long} milliseconds since the
+ * epoch instead of {@link org.joda.time.DateTime}, only the ids, title and year of shows, movies and episodes, and the
+ * rating distribution as an {@code int[10]} instead of a map. Use them with {@link
+ * com.uwetrottmann.trakt.v2.StreamingSync} and {@link com.uwetrottmann.trakt.v2.StreamingUsers} to keep a whole
+ * library or history in memory, and {@link SlimRatings} from e.g. {@link
+ * com.uwetrottmann.trakt.v2.services.Movies#ratingsSlim} to keep the ratings of many items.
+ *
+ * <p> Fields missing from the response, or {@code null}, are {@link #NONE}, {@link Timestamps#NONE} for date times,
+ * or {@link Double#NaN} for the average rating.
+ */
+public final class Slim {
+
+    /** Value of an {@code int} field which is not set. */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private Slim() {
+    }
+
+    public static boolean isSet(int value) {
+        return value != NONE;
+    }
+
+}
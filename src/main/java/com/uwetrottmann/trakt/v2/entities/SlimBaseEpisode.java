@@ -0,0 +1,38 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.uwetrottmann.trakt.v2.adapters.EpochMillisTypeAdapter;
+import org.joda.time.DateTime;
+
+/**
+ * Like {@link BaseEpisode}, see {@link Slim}.
+ */
+public class SlimBaseEpisode {
+
+    public int number = Slim.NONE;
+
+    /** collection */
+    @JsonAdapter(EpochMillisTypeAdapter.class)
+    public long collected_at = Timestamps.NONE;
+    /** watched */
+    @JsonAdapter(EpochMillisTypeAdapter.class)
+    public long last_watched_at = Timestamps.NONE;
+    public int plays = Slim.NONE;
+    /** progress */
+    public Boolean completed;
+
+    /**
+     * Returns {@link #collected_at} as a new date time, or {@code null} if it is not set.
+     */
+    public DateTime collectedAt() {
+        return Timestamps.toDateTime(collected_at);
+    }
+
+    /**
+     * Returns {@link #last_watched_at} as a new date time, or {@code null} if it is not set.
+     */
+    public DateTime lastWatchedAt() {
+        return Timestamps.toDateTime(last_watched_at);
+    }
+
+}
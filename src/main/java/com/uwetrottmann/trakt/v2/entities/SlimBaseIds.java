@@ -0,0 +1,12 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * Like {@link BaseIds}, see {@link Slim}.
+ */
+public abstract class SlimBaseIds {
+
+    public int trakt = Slim.NONE;
+    public String imdb;
+    public int tmdb = Slim.NONE;
+
+}
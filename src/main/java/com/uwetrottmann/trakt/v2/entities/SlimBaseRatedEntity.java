@@ -0,0 +1,24 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.uwetrottmann.trakt.v2.adapters.EpochMillisTypeAdapter;
+import com.uwetrottmann.trakt.v2.enums.Rating;
+import org.joda.time.DateTime;
+
+/**
+ * Like {@link BaseRatedEntity}, see {@link Slim}.
+ */
+public class SlimBaseRatedEntity {
+
+    @JsonAdapter(EpochMillisTypeAdapter.class)
+    public long rated_at = Timestamps.NONE;
+    public Rating rating;
+
+    /**
+     * Returns {@link #rated_at} as a new date time, or {@code null} if it is not set.
+     */
+    public DateTime ratedAt() {
+        return Timestamps.toDateTime(rated_at);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+import java.util.List;
+
+/**
+ * Like {@link BaseSeason}, see {@link Slim}.
+ */
+public class SlimBaseSeason {
+
+    public int number = Slim.NONE;
+    public List<SlimBaseEpisode> episodes;
+    /** progress */
+    public int aired = Slim.NONE;
+    /** progress */
+    public int completed = Slim.NONE;
+
+}
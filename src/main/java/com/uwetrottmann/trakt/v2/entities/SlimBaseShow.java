@@ -0,0 +1,57 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.uwetrottmann.trakt.v2.adapters.EpochMillisTypeAdapter;
+import org.joda.time.DateTime;
+
+import java.util.List;
+
+/**
+ * Like {@link BaseShow}, see {@link Slim}.
+ */
+public class SlimBaseShow {
+
+    public SlimShow show;
+
+    /** collection, watched */
+    public List<SlimBaseSeason> seasons;
+
+    /** collection */
+    @JsonAdapter(EpochMillisTypeAdapter.class)
+    public long last_collected_at = Timestamps.NONE;
+    /** watchlist */
+    @JsonAdapter(EpochMillisTypeAdapter.class)
+    public long listed_at = Timestamps.NONE;
+    /** watched */
+    public int plays = Slim.NONE;
+    @JsonAdapter(EpochMillisTypeAdapter.class)
+    public long last_watched_at = Timestamps.NONE;
+    /** progress */
+    public int aired = Slim.NONE;
+    /** progress */
+    public int completed = Slim.NONE;
+    /** progress */
+    public SlimEpisode next_episode;
+
+    /**
+     * Returns {@link #last_collected_at} as a new date time, or {@code null} if it is not set.
+     */
+    public DateTime lastCollectedAt() {
+        return Timestamps.toDateTime(last_collected_at);
+    }
+
+    /**
+     * Returns {@link #listed_at} as a new date time, or {@code null} if it is not set.
+     */
+    public DateTime listedAt() {
+        return Timestamps.toDateTime(listed_at);
+    }
+
+    /**
+     * Returns {@link #last_watched_at} as a new date time, or {@code null} if it is not set.
+     */
+    public DateTime lastWatchedAt() {
+        return Timestamps.toDateTime(last_watched_at);
+    }
+
+}
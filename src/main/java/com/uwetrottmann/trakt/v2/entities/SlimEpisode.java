@@ -0,0 +1,13 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * The ids, numbers and title of an {@link Episode}, see {@link Slim}.
+ */
+public class SlimEpisode {
+
+    public int season = Slim.NONE;
+    public int number = Slim.NONE;
+    public String title;
+    public SlimEpisodeIds ids;
+
+}
@@ -0,0 +1,11 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * Like {@link EpisodeIds}, see {@link Slim}.
+ */
+public class SlimEpisodeIds extends SlimBaseIds {
+
+    public int tvdb = Slim.NONE;
+    public int tvrage = Slim.NONE;
+
+}
@@ -0,0 +1,28 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.uwetrottmann.trakt.v2.adapters.EpochMillisTypeAdapter;
+import org.joda.time.DateTime;
+
+/**
+ * Like {@link HistoryEntry}, see {@link Slim}.
+ */
+public class SlimHistoryEntry {
+
+    @JsonAdapter(EpochMillisTypeAdapter.class)
+    public long watched_at = Timestamps.NONE;
+    public String action;
+
+    public SlimEpisode episode;
+    public SlimShow show;
+
+    public SlimMovie movie;
+
+    /**
+     * Returns {@link #watched_at} as a new date time, or {@code null} if it is not set.
+     */
+    public DateTime watchedAt() {
+        return Timestamps.toDateTime(watched_at);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * The ids, title and year of a {@link Movie}, see {@link Slim}.
+ */
+public class SlimMovie {
+
+    public String title;
+    public int year = Slim.NONE;
+    public SlimMovieIds ids;
+
+}
@@ -0,0 +1,10 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * Like {@link MovieIds}, see {@link Slim}.
+ */
+public class SlimMovieIds extends SlimBaseIds {
+
+    public String slug;
+
+}
@@ -0,0 +1,10 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * Like {@link RatedEpisode}, see {@link Slim}.
+ */
+public class SlimRatedEpisode extends SlimRatedShow {
+
+    public SlimEpisode episode;
+
+}
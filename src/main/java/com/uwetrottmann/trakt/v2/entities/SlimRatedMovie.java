@@ -0,0 +1,10 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * Like {@link RatedMovie}, see {@link Slim}.
+ */
+public class SlimRatedMovie extends SlimBaseRatedEntity {
+
+    public SlimMovie movie;
+
+}
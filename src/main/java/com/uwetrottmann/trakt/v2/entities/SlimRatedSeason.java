@@ -0,0 +1,10 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * Like {@link RatedSeason}, see {@link Slim}.
+ */
+public class SlimRatedSeason extends SlimRatedShow {
+
+    public SlimSeason season;
+
+}
@@ -0,0 +1,10 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * Like {@link RatedShow}, see {@link Slim}.
+ */
+public class SlimRatedShow extends SlimBaseRatedEntity {
+
+    public SlimShow show;
+
+}
@@ -0,0 +1,18 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.uwetrottmann.trakt.v2.adapters.RatingDistributionTypeAdapter;
+
+/**
+ * Like {@link Ratings}, see {@link Slim}.
+ */
+public class SlimRatings {
+
+    /** The average rating, {@link Double#NaN} if not set. */
+    public double rating = Double.NaN;
+    public int votes = Slim.NONE;
+    /** Votes for each rating, {@code distribution[0]} for 1 up to {@code distribution[9]} for 10. */
+    @JsonAdapter(RatingDistributionTypeAdapter.class)
+    public int[] distribution;
+
+}
@@ -0,0 +1,11 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * The number and ids of a {@link Season}, see {@link Slim}.
+ */
+public class SlimSeason {
+
+    public int number = Slim.NONE;
+    public SlimSeasonIds ids;
+
+}
@@ -0,0 +1,11 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * Like {@link SeasonIds}, see {@link Slim}.
+ */
+public class SlimSeasonIds {
+
+    public int tvdb = Slim.NONE;
+    public int tmdb = Slim.NONE;
+
+}
@@ -0,0 +1,12 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * The ids, title and year of a {@link Show}, see {@link Slim}.
+ */
+public class SlimShow {
+
+    public String title;
+    public int year = Slim.NONE;
+    public SlimShowIds ids;
+
+}
@@ -0,0 +1,12 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+/**
+ * Like {@link ShowIds}, see {@link Slim}.
+ */
+public class SlimShowIds extends SlimBaseIds {
+
+    public String slug;
+    public int tvdb = Slim.NONE;
+    public int tvrage = Slim.NONE;
+
+}
@@ -0,0 +1,33 @@
+package com.uwetrottmann.trakt.v2.entities;
+
+import org.joda.time.DateTime;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * Date times of the {@link Slim slim} entities. These are kept as milliseconds since the epoch in a {@code long}
+ * field, like {@link SlimHistoryEntry#watched_at}, which is read without creating a {@link DateTime}. Accessors like
+ * {@link SlimHistoryEntry#watchedAt()} create one on each call.
+ */
+public final class Timestamps {
+
+    /** Value of a milliseconds field which is not set. */
+    public static final long NONE = Long.MIN_VALUE;
+
+    private Timestamps() {
+    }
+
+    public static boolean isSet(long millis) {
+        return millis != NONE;
+    }
+
+    /**
+     * Returns a date time in UTC for the given milliseconds, or {@code null} if they are {@link #NONE}.
+     */
+    public static DateTime toDateTime(long millis) {
+        if (millis == NONE) {
+            return null;
+        }
+        return new DateTime(millis, ISOChronology.getInstanceUTC());
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.uwetrottmann.trakt.v2.exceptions;
+
+import com.uwetrottmann.trakt.v2.client.RateLimitClient;
+import retrofit.RetrofitError;
+
+/**
+ * Thrown if trakt returns HTTP status code 429 Too Many Requests, meaning that the rate limit is exceeded. Wait for
+ * {@link #getRetryAfterMillis()} and try again.
+ *
+ * <p> Unchecked, as any request may exceed the rate limit.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(RetrofitError cause) {
+        super("Rate limit exceeded", cause);
+        retryAfterMillis = cause.getResponse() != null
+                ? RateLimitClient.retryAfterMillis(cause.getResponse(), System.currentTimeMillis()) : 0;
+    }
+
+    /**
+     * Time to wait before trying again as requested by the server.
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
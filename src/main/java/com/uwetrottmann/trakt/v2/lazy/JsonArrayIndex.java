@@ -0,0 +1,125 @@
+package com.uwetrottmann.trakt.v2.lazy;
+
+import java.util.Arrays;
+
+/**
+ * Finds where each element of a JSON array starts and ends in its UTF-8 bytes, without decoding them. Only strings and
+ * nesting are tracked, an element which is malformed otherwise fails once it is decoded.
+ */
+final class JsonArrayIndex {
+
+    private JsonArrayIndex() {
+    }
+
+    /**
+     * Returns the start and end offset of each element, one pair after the other, or {@code null} if the bytes are not
+     * a single JSON array.
+     */
+    static int[] index(byte[] json) {
+        int length = json.length;
+        int i = skipWhitespace(json, 0);
+        if (i == length || json[i] != '[') {
+            return null;
+        }
+        int[] offsets = new int[32];
+        int count = 0;
+        i = skipWhitespace(json, i + 1);
+        if (i < length && json[i] == ']') {
+            return skipWhitespace(json, i + 1) == length ? new int[0] : null;
+        }
+        while (true) {
+            int end = skipValue(json, i);
+            if (end < 0) {
+                return null;
+            }
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = i;
+            offsets[count++] = end;
+
+            i = skipWhitespace(json, end);
+            if (i == length) {
+                return null;
+            }
+            if (json[i] == ']') {
+                break;
+            }
+            if (json[i] != ',') {
+                return null;
+            }
+            i = skipWhitespace(json, i + 1);
+        }
+        return skipWhitespace(json, i + 1) == length ? Arrays.copyOf(offsets, count) : null;
+    }
+
+    /**
+     * Returns the offset after the value starting at the given offset, or -1 if it does not end.
+     */
+    private static int skipValue(byte[] json, int i) {
+        if (i >= json.length) {
+            return -1;
+        }
+        byte b = json[i];
+        if (b == '"') {
+            return skipString(json, i);
+        }
+        if (b == '[' || b == '{') {
+            int depth = 0;
+            while (i < json.length) {
+                b = json[i];
+                if (b == '"') {
+                    i = skipString(json, i);
+                    if (i < 0) {
+                        return -1;
+                    }
+                    continue;
+                }
+                if (b == '[' || b == '{') {
+                    depth++;
+                } else if ((b == ']' || b == '}') && --depth == 0) {
+                    return i + 1;
+                }
+                i++;
+            }
+            return -1;
+        }
+        // number, true, false or null
+        int start = i;
+        while (i < json.length && !isDelimiter(json[i])) {
+            i++;
+        }
+        return i == start ? -1 : i;
+    }
+
+    /**
+     * Returns the offset after the string starting at the given offset, or -1 if it does not end.
+     */
+    private static int skipString(byte[] json, int i) {
+        for (i++; i < json.length; i++) {
+            byte b = json[i];
+            if (b == '\\') {
+                i++;
+            } else if (b == '"') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int i) {
+        while (i < json.length && isWhitespace(json[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == ']' || b == '}' || isWhitespace(b);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+}
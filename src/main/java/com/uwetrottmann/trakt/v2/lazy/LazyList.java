@@ -0,0 +1,122 @@
+package com.uwetrottmann.trakt.v2.lazy;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A read-only list which holds the JSON bytes of a response and decodes each element the first time it is accessed.
+ * Decoded elements are kept, so later calls return the same instance. Once all elements are decoded, the bytes are
+ * dropped.
+ *
+ * <p> Safe for concurrent readers: if several threads access an element not decoded yet, each may decode it, but all
+ * get the instance which was stored first.
+ *
+ * <p> Iterating, {@link #equals(Object)}, {@link #hashCode()} and {@link #toString()} decode all elements.
+ */
+public final class LazyList<T> extends AbstractList<T> implements RandomAccess {
+
+    /** Stands in for decoded {@code null} elements. */
+    private static final Object NULL = new Object();
+
+    private final TypeAdapter<T> adapter;
+    private final int[] offsets;
+    private final AtomicReferenceArray<Object> elements;
+    private final AtomicInteger undecoded;
+    private volatile byte[] json;
+
+    /**
+     * @param offsets The start and end offset of each element, see {@link JsonArrayIndex#index(byte[])}.
+     */
+    LazyList(byte[] json, int[] offsets, TypeAdapter<T> adapter) {
+        this.adapter = adapter;
+        this.offsets = offsets;
+        int size = offsets.length / 2;
+        this.elements = new AtomicReferenceArray<Object>(size);
+        this.undecoded = new AtomicInteger(size);
+        this.json = size == 0 ? null : json;
+    }
+
+    /**
+     * @throws JsonSyntaxException If the element is not valid JSON or does not match the element type.
+     */
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= elements.length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.length());
+        }
+        Object element = elements.get(index);
+        if (element == null) {
+            element = decode(index);
+        }
+        return unwrap(element);
+    }
+
+    @Override
+    public int size() {
+        return elements.length();
+    }
+
+    /**
+     * Whether the element at the given index was decoded already.
+     */
+    public boolean isDecoded(int index) {
+        return elements.get(index) != null;
+    }
+
+    /**
+     * Returns the element at the given index if it was decoded already, otherwise {@code null}.
+     */
+    public T peek(int index) {
+        Object element = elements.get(index);
+        return element == null ? null : unwrap(element);
+    }
+
+    /**
+     * The size of the JSON still held, 0 once all elements are decoded.
+     */
+    public int getJsonSize() {
+        byte[] json = this.json;
+        return json == null ? 0 : json.length;
+    }
+
+    private Object decode(int index) {
+        byte[] json = this.json;
+        if (json == null) {
+            // the last elements were decoded in the meantime
+            return elements.get(index);
+        }
+        Object element;
+        try {
+            JsonReader reader = new JsonReader(new Utf8Reader(json, offsets[index * 2], offsets[index * 2 + 1]));
+            reader.setLenient(true);
+            element = adapter.read(reader);
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+        if (element == null) {
+            element = NULL;
+        }
+        if (!elements.compareAndSet(index, null, element)) {
+            return elements.get(index);
+        }
+        if (undecoded.decrementAndGet() == 0) {
+            this.json = null;
+        }
+        return element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T unwrap(Object element) {
+        return element == NULL ? null : (T) element;
+    }
+
+}
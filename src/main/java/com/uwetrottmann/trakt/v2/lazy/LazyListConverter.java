@@ -0,0 +1,94 @@
+package com.uwetrottmann.trakt.v2.lazy;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import retrofit.converter.ConversionException;
+import retrofit.converter.Converter;
+import retrofit.mime.MimeUtil;
+import retrofit.mime.TypedByteArray;
+import retrofit.mime.TypedInput;
+import retrofit.mime.TypedOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Returns a {@link LazyList} for every {@code List<T>} response, which decodes each element only when it is accessed.
+ * Other responses, and bodies which are not a JSON array in UTF-8, are passed to the wrapped converter.
+ */
+public class LazyListConverter implements Converter {
+
+    private final Converter delegate;
+    private final Gson gson;
+
+    /**
+     * @param gson Decodes the elements, should be configured like the one of the wrapped converter.
+     */
+    public LazyListConverter(Converter delegate, Gson gson) {
+        this.delegate = delegate;
+        this.gson = gson;
+    }
+
+    @Override
+    public Object fromBody(TypedInput body, Type type) throws ConversionException {
+        Type elementType = elementType(type);
+        if (elementType == null || !"UTF-8".equalsIgnoreCase(MimeUtil.parseCharset(body.mimeType(), "UTF-8"))) {
+            return delegate.fromBody(body, type);
+        }
+        byte[] json;
+        try {
+            json = bytes(body);
+        } catch (IOException e) {
+            throw new ConversionException(e);
+        }
+        int[] offsets = JsonArrayIndex.index(json);
+        if (offsets == null) {
+            // let the delegate decode or report it
+            return delegate.fromBody(new TypedByteArray(body.mimeType(), json), type);
+        }
+        return newList(json, offsets, gson.getAdapter(TypeToken.get(elementType)));
+    }
+
+    @Override
+    public TypedOutput toBody(Object object) {
+        return delegate.toBody(object);
+    }
+
+    private static <T> LazyList<T> newList(byte[] json, int[] offsets, TypeAdapter<T> adapter) {
+        return new LazyList<T>(json, offsets, adapter);
+    }
+
+    /**
+     * Returns {@code T} of {@code List<T>}, otherwise {@code null}.
+     */
+    private static Type elementType(Type type) {
+        if (!(type instanceof ParameterizedType) || ((ParameterizedType) type).getRawType() != List.class) {
+            return null;
+        }
+        return ((ParameterizedType) type).getActualTypeArguments()[0];
+    }
+
+    private static byte[] bytes(TypedInput body) throws IOException {
+        if (body instanceof TypedByteArray) {
+            return ((TypedByteArray) body).getBytes();
+        }
+        InputStream in = body.in();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length() > 0 ? (int) body.length() : 8192);
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+}
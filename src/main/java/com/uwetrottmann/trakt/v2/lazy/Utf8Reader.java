@@ -0,0 +1,105 @@
+package com.uwetrottmann.trakt.v2.lazy;
+
+import java.io.Reader;
+
+/**
+ * Decodes a range of UTF-8 bytes straight into the buffer of the caller, without copying them into a {@link String}
+ * or allocating a buffer of its own like {@link java.io.InputStreamReader}. Malformed sequences are read as U+FFFD.
+ */
+final class Utf8Reader extends Reader {
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final byte[] bytes;
+    private final int end;
+    private int position;
+    /** The second half of a surrogate pair which did not fit into the last buffer, or 0. */
+    private char pending;
+
+    Utf8Reader(byte[] bytes, int start, int end) {
+        this.bytes = bytes;
+        this.position = start;
+        this.end = end;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int count = 0;
+        if (pending != 0) {
+            buffer[offset + count++] = pending;
+            pending = 0;
+        }
+        while (count < length && position < end) {
+            int b = bytes[position];
+            if (b >= 0) {
+                buffer[offset + count++] = (char) b;
+                position++;
+                continue;
+            }
+            int codePoint;
+            if ((b & 0xE0) == 0xC0) {
+                codePoint = decode(b & 0x1F, 1, 0x80);
+            } else if ((b & 0xF0) == 0xE0) {
+                codePoint = decode(b & 0x0F, 2, 0x800);
+                if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                    codePoint = REPLACEMENT;
+                }
+            } else if ((b & 0xF8) == 0xF0) {
+                codePoint = decode(b & 0x07, 3, 0x10000);
+                if (codePoint > Character.MAX_CODE_POINT) {
+                    codePoint = REPLACEMENT;
+                }
+            } else {
+                position++;
+                codePoint = REPLACEMENT;
+            }
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                buffer[offset + count++] = (char) codePoint;
+            } else {
+                int supplementary = codePoint - Character.MIN_SUPPLEMENTARY_CODE_POINT;
+                buffer[offset + count++] = (char) (Character.MIN_HIGH_SURROGATE + (supplementary >>> 10));
+                char low = (char) (Character.MIN_LOW_SURROGATE + (supplementary & 0x3FF));
+                if (count < length) {
+                    buffer[offset + count++] = low;
+                } else {
+                    pending = low;
+                }
+            }
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    /**
+     * Decodes the continuation bytes after the lead byte and moves past them. Returns {@link #REPLACEMENT} and moves
+     * past the lead byte only if they are missing or the sequence is longer than needed.
+     */
+    private int decode(int bits, int continuations, int minimum) {
+        if (position + continuations >= end) {
+            position++;
+            return REPLACEMENT;
+        }
+        int codePoint = bits;
+        for (int i = 1; i <= continuations; i++) {
+            int b = bytes[position + i];
+            if ((b & 0xC0) != 0x80) {
+                position++;
+                return REPLACEMENT;
+            }
+            codePoint = codePoint << 6 | b & 0x3F;
+        }
+        if (codePoint < minimum) {
+            position++;
+            return REPLACEMENT;
+        }
+        position += continuations + 1;
+        return codePoint;
+    }
+
+    @Override
+    public void close() {
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.uwetrottmann.trakt.v2.metrics;
+
+/**
+ * Measurements of a single call, passed to a {@link MetricsRecorder}.
+ */
+public class CallMetrics {
+
+    /** Status of calls which did not get a response, e.g. because the connection failed. */
+    public static final int STATUS_NO_RESPONSE = 0;
+
+    private final String endpoint;
+    private final int status;
+    private final long totalNanos;
+    private final long firstByteNanos;
+    private final long decodeNanos;
+    private final boolean decodeFailed;
+    private final long requestBytes;
+    private final long responseBytes;
+
+    public CallMetrics(String endpoint, int status, long totalNanos, long firstByteNanos, long decodeNanos,
+            boolean decodeFailed, long requestBytes, long responseBytes) {
+        this.endpoint = endpoint;
+        this.status = status;
+        this.totalNanos = totalNanos;
+        this.firstByteNanos = firstByteNanos;
+        this.decodeNanos = decodeNanos;
+        this.decodeFailed = decodeFailed;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+    }
+
+    /**
+     * The service method, like {@code Movies.summary}. Calls to paths not declared by a service are reported as e.g.
+     * {@code GET ?}.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * The HTTP status code or {@link #STATUS_NO_RESPONSE}.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Whether the call failed, because there was no response, the status was not a {@code 2xx} one or the body could
+     * not be decoded.
+     */
+    public boolean isError() {
+        return status < 200 || status >= 300 || decodeFailed;
+    }
+
+    /**
+     * Time from sending the request until the body was decoded.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Time from sending the request until the status and headers were received, or -1 if there was no response.
+     */
+    public long getFirstByteNanos() {
+        return firstByteNanos;
+    }
+
+    /**
+     * Time spent reading and decoding the body, or -1 if it was not decoded, e.g. for error responses.
+     */
+    public long getDecodeNanos() {
+        return decodeNanos;
+    }
+
+    public boolean isDecodeFailed() {
+        return decodeFailed;
+    }
+
+    /**
+     * Size of the request body before compression, 0 if there is none or its size is unknown.
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * Number of body bytes read after decompression, or the declared length if the body was not decoded.
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "CallMetrics[" + endpoint + ", status=" + status + ", totalNanos=" + totalNanos + ", firstByteNanos="
+                + firstByteNanos + ", decodeNanos=" + decodeNanos + ", requestBytes=" + requestBytes
+                + ", responseBytes=" + responseBytes + "]";
+    }
+
+}
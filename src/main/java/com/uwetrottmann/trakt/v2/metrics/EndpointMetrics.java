@@ -0,0 +1,83 @@
+package com.uwetrottmann.trakt.v2.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Aggregates measurements into {@link EndpointStats} per service method, e.g.
+ *
+ * <pre>
+ * EndpointMetrics metrics = new EndpointMetrics();
+ * trakt.setMetricsRecorder(metrics);
+ * ...
+ * EndpointStats summary = metrics.getStats("Movies.summary");
+ * long p99 = summary.getTotalTime().getValueAtPercentile(99);
+ * </pre>
+ *
+ * <p> To also forward each call to another recorder, e.g. one exporting to a monitoring system, pass it to {@link
+ * #EndpointMetrics(MetricsRecorder)}.
+ */
+public class EndpointMetrics implements MetricsRecorder {
+
+    private final ConcurrentMap<String, EndpointStats> endpoints = new ConcurrentHashMap<String, EndpointStats>();
+    private final MetricsRecorder next;
+
+    public EndpointMetrics() {
+        this(NONE);
+    }
+
+    /**
+     * @param next Receives every call after it was aggregated.
+     */
+    public EndpointMetrics(MetricsRecorder next) {
+        this.next = next;
+    }
+
+    @Override
+    public void record(CallMetrics call) {
+        EndpointStats stats = endpoints.get(call.getEndpoint());
+        if (stats == null) {
+            EndpointStats created = new EndpointStats(call.getEndpoint());
+            stats = endpoints.putIfAbsent(call.getEndpoint(), created);
+            if (stats == null) {
+                stats = created;
+            }
+        }
+        stats.record(call);
+        next.record(call);
+    }
+
+    /**
+     * Returns the stats of the given service method, like {@code Movies.summary}, or {@code null} if it was not
+     * called yet.
+     */
+    public EndpointStats getStats(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    /**
+     * Returns the stats of all called endpoints, ordered by name.
+     */
+    public List<EndpointStats> getAllStats() {
+        List<EndpointStats> all = new ArrayList<EndpointStats>(endpoints.values());
+        Collections.sort(all, new Comparator<EndpointStats>() {
+            @Override
+            public int compare(EndpointStats left, EndpointStats right) {
+                return left.getEndpoint().compareTo(right.getEndpoint());
+            }
+        });
+        return all;
+    }
+
+    /**
+     * Drop all stats, e.g. after exporting them.
+     */
+    public void clear() {
+        endpoints.clear();
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.uwetrottmann.trakt.v2.metrics;
+
+import retrofit.Callback;
+import retrofit.client.Response;
+import retrofit.http.RestMethod;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the service method which built a request from its HTTP method and path, by matching the paths declared by
+ * the service annotations like {@code @GET("/movies/{id}")}. Literal segments take precedence over parameters, so
+ * {@code /movies/popular} is not mistaken for {@code /movies/{id}}.
+ */
+class EndpointResolver {
+
+    private static final String UNKNOWN = "?";
+
+    private static final Comparator<Method> BY_NAME = new Comparator<Method>() {
+        @Override
+        public int compare(Method a, Method b) {
+            int result = a.getName().compareTo(b.getName());
+            return result != 0 ? result : a.toGenericString().compareTo(b.toGenericString());
+        }
+    };
+
+    /** Templates by HTTP method and number of path segments. */
+    private final Map<String, List<Template>> templates = new HashMap<String, List<Template>>();
+
+    /**
+     * @param services Service interfaces. If several declare the same path, e.g. a blocking and an asynchronous
+     * variant, the name of the first one is used. Within a service, e.g. for {@code ratings} and {@code ratingsSlim},
+     * the method whose name sorts first.
+     */
+    EndpointResolver(Class<?>... services) {
+        Set<String> declared = new HashSet<String>();
+        for (Class<?> service : services) {
+            // the order of getMethods() is unspecified
+            Method[] methods = service.getMethods();
+            Arrays.sort(methods, BY_NAME);
+            for (Method method : methods) {
+                for (Annotation annotation : method.getAnnotations()) {
+                    RestMethod restMethod = annotation.annotationType().getAnnotation(RestMethod.class);
+                    if (restMethod == null) {
+                        continue;
+                    }
+                    String path = stripQuery(value(annotation));
+                    if (path == null || !declared.add(restMethod.value() + " " + path)) {
+                        continue;
+                    }
+                    String[] segments = segments(path);
+                    String key = restMethod.value() + segments.length;
+                    List<Template> list = templates.get(key);
+                    if (list == null) {
+                        list = new ArrayList<Template>();
+                        templates.put(key, list);
+                    }
+                    list.add(new Template(service.getSimpleName() + "." + method.getName(), segments,
+                            returnsResponse(method)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the matching endpoint, or one named like {@code GET ?} if no service declares the path.
+     */
+    Endpoint resolve(String httpMethod, String url) {
+        String[] segments = segments(stripQuery(path(url)));
+        List<Template> candidates = templates.get(httpMethod + segments.length);
+        Template best = null;
+        if (candidates != null) {
+            for (Template template : candidates) {
+                if (template.matches(segments) && (best == null || template.literals > best.literals)) {
+                    best = template;
+                }
+            }
+        }
+        if (best == null) {
+            return new Endpoint(httpMethod + " " + UNKNOWN, false);
+        }
+        return best.endpoint;
+    }
+
+    private static String value(Annotation annotation) {
+        try {
+            Object value = annotation.annotationType().getMethod("value").invoke(annotation);
+            return value instanceof String ? (String) value : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static boolean returnsResponse(Method method) {
+        if (method.getReturnType() == Response.class) {
+            return true;
+        }
+        Type[] parameters = method.getGenericParameterTypes();
+        if (parameters.length == 0 || !(parameters[parameters.length - 1] instanceof ParameterizedType)) {
+            return false;
+        }
+        ParameterizedType last = (ParameterizedType) parameters[parameters.length - 1];
+        return last.getRawType() == Callback.class && last.getActualTypeArguments()[0] == Response.class;
+    }
+
+    private static String path(String url) {
+        int scheme = url.indexOf("://");
+        if (scheme == -1) {
+            return url;
+        }
+        int path = url.indexOf('/', scheme + 3);
+        return path == -1 ? "/" : url.substring(path);
+    }
+
+    private static String stripQuery(String path) {
+        if (path == null) {
+            return null;
+        }
+        int query = path.indexOf('?');
+        return query == -1 ? path : path.substring(0, query);
+    }
+
+    private static String[] segments(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.endsWith("/") && path.length() > start ? path.length() - 1 : path.length();
+        if (start >= end) {
+            return new String[0];
+        }
+        return path.substring(start, end).split("/", -1);
+    }
+
+    static class Endpoint {
+
+        final String name;
+        /** Retrofit does not pass bodies of methods returning a {@link Response} to the converter. */
+        final boolean returnsResponse;
+
+        Endpoint(String name, boolean returnsResponse) {
+            this.name = name;
+            this.returnsResponse = returnsResponse;
+        }
+    }
+
+    private static class Template {
+
+        private final Endpoint endpoint;
+        /** Literal segments, {@code null} for parameters. */
+        private final String[] segments;
+        private final int literals;
+
+        Template(String name, String[] segments, boolean returnsResponse) {
+            this.endpoint = new Endpoint(name, returnsResponse);
+            this.segments = new String[segments.length];
+            int literals = 0;
+            for (int i = 0; i < segments.length; i++) {
+                if (!segments[i].contains("{")) {
+                    this.segments[i] = segments[i];
+                    literals++;
+                }
+            }
+            this.literals = literals;
+        }
+
+        boolean matches(String[] path) {
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i] != null && !segments[i].equals(path[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.uwetrottmann.trakt.v2.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters and latency histograms of a single endpoint, kept by {@link EndpointMetrics}. Latencies are in
+ * nanoseconds.
+ */
+public class EndpointStats {
+
+    private final String endpoint;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final ConcurrentMap<Integer, AtomicLong> errorCounts = new ConcurrentHashMap<Integer, AtomicLong>();
+    private final AtomicLong decodeErrorCount = new AtomicLong();
+    private final AtomicLong requestBytes = new AtomicLong();
+    private final AtomicLong responseBytes = new AtomicLong();
+    private final Histogram totalTime = new Histogram();
+    private final Histogram firstByteTime = new Histogram();
+    private final Histogram decodeTime = new Histogram();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(CallMetrics call) {
+        requestCount.incrementAndGet();
+        if (call.getStatus() < 200 || call.getStatus() >= 300) {
+            AtomicLong counter = errorCounts.get(call.getStatus());
+            if (counter == null) {
+                AtomicLong created = new AtomicLong();
+                counter = errorCounts.putIfAbsent(call.getStatus(), created);
+                if (counter == null) {
+                    counter = created;
+                }
+            }
+            counter.incrementAndGet();
+        }
+        if (call.isDecodeFailed()) {
+            decodeErrorCount.incrementAndGet();
+        }
+        requestBytes.addAndGet(call.getRequestBytes());
+        responseBytes.addAndGet(call.getResponseBytes());
+        totalTime.record(call.getTotalNanos());
+        if (call.getFirstByteNanos() >= 0) {
+            firstByteTime.record(call.getFirstByteNanos());
+        }
+        if (call.getDecodeNanos() >= 0) {
+            decodeTime.record(call.getDecodeNanos());
+        }
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the number of failed calls by HTTP status code, {@link CallMetrics#STATUS_NO_RESPONSE} for calls without
+     * a response.
+     */
+    public Map<Integer, Long> getErrorCounts() {
+        Map<Integer, Long> counts = new TreeMap<Integer, Long>();
+        for (Map.Entry<Integer, AtomicLong> entry : errorCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of calls without a {@code 2xx} response.
+     */
+    public long getErrorCount() {
+        long count = 0;
+        for (AtomicLong counter : errorCounts.values()) {
+            count += counter.get();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of successful responses whose body could not be decoded.
+     */
+    public long getDecodeErrorCount() {
+        return decodeErrorCount.get();
+    }
+
+    public long getRequestBytes() {
+        return requestBytes.get();
+    }
+
+    public long getResponseBytes() {
+        return responseBytes.get();
+    }
+
+    /**
+     * Time from sending the request until the body was decoded.
+     */
+    public Histogram getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Time from sending the request until the status and headers were received.
+     */
+    public Histogram getFirstByteTime() {
+        return firstByteTime;
+    }
+
+    /**
+     * Time spent reading and decoding bodies.
+     */
+    public Histogram getDecodeTime() {
+        return decodeTime;
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointStats[" + endpoint + ", requests=" + requestCount + ", errors=" + getErrorCounts()
+                + ", decodeErrors=" + decodeErrorCount + ", requestBytes=" + requestBytes + ", responseBytes="
+                + responseBytes + ", total=" + totalTime + ", firstByte=" + firstByteTime + ", decode=" + decodeTime
+                + "]";
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.uwetrottmann.trakt.v2.metrics;
+
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedInput;
+import retrofit.mime.TypedOutput;
+
+import java.io.IOException;
+
+/**
+ * Measures the time until a response is received and the size of request and response bodies per service method.
+ * Calls with a body to decode are completed by a {@link MetricsConverter}, which must be set on the same {@link
+ * retrofit.RestAdapter}.
+ *
+ * <p> Should wrap all other decorators, so cached and retried calls are measured like the caller sees them.
+ */
+public class MetricsClient implements Client {
+
+    private final Client delegate;
+    private final MetricsRecorder recorder;
+    private final EndpointResolver resolver;
+
+    /**
+     * @param services The service interfaces used with this client, to name endpoints after their methods.
+     */
+    public MetricsClient(Client delegate, MetricsRecorder recorder, Class<?>... services) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+        this.resolver = new EndpointResolver(services);
+    }
+
+    public MetricsRecorder getRecorder() {
+        return recorder;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        PendingCall previous = PendingCall.take();
+        if (previous != null) {
+            previous.abandoned();
+        }
+
+        EndpointResolver.Endpoint endpoint = resolver.resolve(request.getMethod(), request.getUrl());
+        TypedOutput requestBody = request.getBody();
+        long requestBytes = requestBody == null ? 0 : Math.max(0, requestBody.length());
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = delegate.execute(request);
+        } catch (IOException e) {
+            recordFailure(endpoint, start, requestBytes);
+            throw e;
+        } catch (RuntimeException e) {
+            recordFailure(endpoint, start, requestBytes);
+            throw e;
+        }
+        long firstByte = System.nanoTime() - start;
+
+        int status = response.getStatus();
+        TypedInput body = response.getBody();
+        if (body == null || status < 200 || status >= 300 || endpoint.returnsResponse) {
+            // retrofit will not pass the body to the converter
+            recorder.record(new CallMetrics(endpoint.name, status, firstByte, firstByte, -1, false, requestBytes,
+                    body == null ? 0 : Math.max(0, body.length())));
+            return response;
+        }
+        PendingCall call = new PendingCall(recorder, endpoint.name, status, start, firstByte, requestBytes,
+                body.length());
+        PendingCall.set(call);
+        return new Response(response.getUrl(), status, response.getReason(), response.getHeaders(),
+                call.count(body));
+    }
+
+    private void recordFailure(EndpointResolver.Endpoint endpoint, long start, long requestBytes) {
+        recorder.record(new CallMetrics(endpoint.name, CallMetrics.STATUS_NO_RESPONSE, System.nanoTime() - start, -1,
+                -1, false, requestBytes, 0));
+    }
+
+}
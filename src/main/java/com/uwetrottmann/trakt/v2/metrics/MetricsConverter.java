@@ -0,0 +1,46 @@
+package com.uwetrottmann.trakt.v2.metrics;
+
+import retrofit.converter.ConversionException;
+import retrofit.converter.Converter;
+import retrofit.mime.TypedInput;
+import retrofit.mime.TypedOutput;
+
+import java.lang.reflect.Type;
+
+/**
+ * Measures the time to decode a body received by a {@link MetricsClient} and reports the completed call.
+ *
+ * <p> Must be called on the thread which executed the request, as retrofit does.
+ */
+public class MetricsConverter implements Converter {
+
+    private final Converter delegate;
+
+    public MetricsConverter(Converter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object fromBody(TypedInput body, Type type) throws ConversionException {
+        PendingCall call = PendingCall.take();
+        if (call == null) {
+            return delegate.fromBody(body, type);
+        }
+        call.decoding();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object entity = delegate.fromBody(body, type);
+            failed = false;
+            return entity;
+        } finally {
+            call.decoded(System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    public TypedOutput toBody(Object object) {
+        return delegate.toBody(object);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.uwetrottmann.trakt.v2.metrics;
+
+/**
+ * Receives the measurements of every call made by a {@link com.uwetrottmann.trakt.v2.TraktV2} instance, see {@link
+ * com.uwetrottmann.trakt.v2.TraktV2#setMetricsRecorder(MetricsRecorder)}.
+ *
+ * <p> Implement this to export measurements to a monitoring system, or use {@link EndpointMetrics} which aggregates
+ * them into histograms per endpoint. {@link #record(CallMetrics)} is called on the thread which executed the request,
+ * so it should return quickly and must be thread-safe.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Ignores all measurements. If set, requests are not measured at all.
+     */
+    MetricsRecorder NONE = new MetricsRecorder() {
+        @Override
+        public void record(CallMetrics call) {
+        }
+    };
+
+    void record(CallMetrics call);
+
+}
@@ -0,0 +1,187 @@
+package com.uwetrottmann.trakt.v2.metrics;
+
+import retrofit.mime.TypedInput;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A call whose response was received by a {@link MetricsClient}, but whose body is not decoded yet. Handed to the
+ * {@link MetricsConverter} through a thread local, as retrofit decodes on the thread which executed the request.
+ */
+class PendingCall {
+
+    private static final ThreadLocal<PendingCall> PENDING = new ThreadLocal<PendingCall>();
+
+    private final MetricsRecorder recorder;
+    private final String endpoint;
+    private final int status;
+    private final long startNanos;
+    private final long firstByteNanos;
+    private final long requestBytes;
+    private final long declaredLength;
+    private long responseBytes;
+    private boolean decoding;
+    private boolean recorded;
+
+    PendingCall(MetricsRecorder recorder, String endpoint, int status, long startNanos, long firstByteNanos,
+            long requestBytes, long declaredLength) {
+        this.recorder = recorder;
+        this.endpoint = endpoint;
+        this.status = status;
+        this.startNanos = startNanos;
+        this.firstByteNanos = firstByteNanos;
+        this.requestBytes = requestBytes;
+        this.declaredLength = declaredLength;
+    }
+
+    static void set(PendingCall call) {
+        PENDING.set(call);
+    }
+
+    /**
+     * Returns and clears the call pending on this thread, or {@code null}.
+     */
+    static PendingCall take() {
+        PendingCall call = PENDING.get();
+        if (call != null) {
+            PENDING.remove();
+        }
+        return call;
+    }
+
+    /**
+     * Wraps the body to count the bytes read.
+     */
+    TypedInput count(TypedInput body) {
+        return new CountingTypedInput(body);
+    }
+
+    synchronized void decoding() {
+        decoding = true;
+    }
+
+    void decoded(long decodeNanos, boolean failed) {
+        synchronized (this) {
+            if (recorded) {
+                return;
+            }
+            recorded = true;
+        }
+        recorder.record(new CallMetrics(endpoint, status, System.nanoTime() - startNanos, firstByteNanos, decodeNanos,
+                failed, requestBytes, responseBytes));
+    }
+
+    /**
+     * Records the call without decode time, if the body was never passed to the converter.
+     */
+    void abandoned() {
+        synchronized (this) {
+            if (recorded) {
+                return;
+            }
+            recorded = true;
+        }
+        recorder.record(new CallMetrics(endpoint, status, firstByteNanos, firstByteNanos, -1, false, requestBytes,
+                Math.max(responseBytes, Math.max(0, declaredLength))));
+    }
+
+    /**
+     * Records the call when a body read by the caller instead of the converter is closed, e.g. one of a {@code
+     * Streaming} method. The total time includes processing the body while reading it.
+     */
+    private void closed() {
+        synchronized (this) {
+            if (decoding || recorded) {
+                return;
+            }
+            recorded = true;
+        }
+        if (PENDING.get() == this) {
+            PENDING.remove();
+        }
+        recorder.record(new CallMetrics(endpoint, status, System.nanoTime() - startNanos, firstByteNanos, -1, false,
+                requestBytes, responseBytes));
+    }
+
+    private class CountingTypedInput implements TypedInput {
+
+        private final TypedInput body;
+        private InputStream stream;
+
+        CountingTypedInput(TypedInput body) {
+            this.body = body;
+        }
+
+        @Override
+        public String mimeType() {
+            return body.mimeType();
+        }
+
+        @Override
+        public long length() {
+            return body.length();
+        }
+
+        @Override
+        public synchronized InputStream in() throws IOException {
+            if (stream == null) {
+                stream = new CountingInputStream(body.in());
+            }
+            return stream;
+        }
+    }
+
+    /**
+     * Read by one thread at a time, so it does not need atomic counters.
+     */
+    private class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                responseBytes++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                responseBytes += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            if (skipped > 0) {
+                responseBytes += skipped;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                closed();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.uwetrottmann.trakt.v2.services;
+
+import com.uwetrottmann.trakt.v2.entities.CalendarEntry;
+import org.joda.time.DateTime;
+import retrofit.Callback;
+import retrofit.http.GET;
+import retrofit.http.Path;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Asynchronous variant of {@link Calendars}. Each method returns immediately and delivers its result or error to the
+ * {@link retrofit.Callback} passed as last argument.
+ *
+ * @see com.uwetrottmann.trakt.v2.TraktFuture
+ */
+public interface AsyncCalendars {
+
+    /**
+     * <b>OAuth Optional</b>
+     *
+     * <p> Returns all shows airing in the next 7 days.
+     */
+    @GET("/calendars/shows")
+    void shows(Callback<Map<DateTime, List<CalendarEntry>>> callback);
+
+    /**
+     * <b>OAuth Optional</b>
+     *
+     * <p> Returns all shows airing during the time period specified.
+     *
+     * @param startDate Start the calendar on this date. Example: 2014-09-01.
+     * @param days Number of days to display. Example: 7.
+     */
+    @GET("/calendars/shows/{startdate}/{days}")
+    void shows(
+            @Path("startdate") String startDate,
+            @Path("days") int days,
+            Callback<Map<DateTime, List<CalendarEntry>>> callback
+    );
+
+    /**
+     * <b>OAuth Optional</b>
+     *
+     * <p> Returns all new show premieres (season 1, episode 1) airing in the next 7 days.
+     */
+    @GET("/calendars/shows/new")
+    void newShows(Callback<Map<DateTime, List<CalendarEntry>>> callback);
+
+    /**
+     * <b>OAuth Optional</b>
+     *
+     * <p> Returns all new show premieres (season 1, episode 1) airing during the time period specified.
+     *
+     * @param startDate Start the calendar on this date. Example: 2014-09-01.
+     * @param days Number of days to display. Example: 7.
+     */
+    @GET("/calendars/shows/new/{startdate}/{days}")
+    void newShows(
+            @Path("startdate") String startDate,
+            @Path("days") int days,
+            Callback<Map<DateTime, List<CalendarEntry>>> callback
+    );
+
+    /**
+     * <b>OAuth Optional</b>
+     *
+     * <p> Returns all show premieres (any season, episode 1) airing in the next 7 days.
+     */
+    @GET("/calendars/shows/premieres")
+    void seasonPremieres(Callback<Map<DateTime, List<CalendarEntry>>> callback);
+
+    /**
+     * <b>OAuth Optional</b>
+     *
+     * <p> Returns all show premieres (any season, episode 1) airing during the time period specified.
+     *
+     * @param startDate Start the calendar on this date. Example: 2014-09-01.
+     * @param days Number of days to display. Example: 7.
+     */
+    @GET("/calendars/shows/premieres/{startdate}/{days}")
+    void seasonPremieres(
+            @Path("startdate") String startDate,
+            @Path("days") int days,
+            Callback<Map<DateTime, List<CalendarEntry>>> callback
+    );
+
+    /**
+     * <b>OAuth Optional</b>
+     *
+     * <p> Returns all movies with a release date in the next 7 days.
+     */
+    @GET("/calendars/movies")
+    void movies(Callback<Map<DateTime, List<CalendarEntry>>> callback);
+
+    /**
+     * <b>OAuth Optional</b>
+     *
+     * <p> Returns all movies with a release date during the time period specified.
+     *
+     * @param startDate Start the calendar on this date. Example: 2014-09-01.
+     * @param days Number of days to display. Example: 7.
+     */
+    @GET("/calendars/movies/{startdate}/{days}")
+    void movies(
+            @Path("startdate") String startDate,
+            @Path("days") int days,
+            Callback<Map<DateTime, List<CalendarEntry>>> callback
+    );
+
+}
@@ -0,0 +1,55 @@
+package com.uwetrottmann.trakt.v2.services;
+
+import com.uwetrottmann.trakt.v2.entities.EpisodeCheckin;
+import com.uwetrottmann.trakt.v2.entities.EpisodeCheckinResponse;
+import com.uwetrottmann.trakt.v2.entities.MovieCheckin;
+import com.uwetrottmann.trakt.v2.entities.MovieCheckinResponse;
+import retrofit.Callback;
+import retrofit.client.Response;
+import retrofit.http.Body;
+import retrofit.http.DELETE;
+import retrofit.http.POST;
+
+/**
+ * Asynchronous variant of {@link Checkin}. Each method returns immediately and delivers its result or error to the
+ * {@link retrofit.Callback} passed as last argument.
+ *
+ * @see com.uwetrottmann.trakt.v2.TraktFuture
+ */
+public interface AsyncCheckin {
+
+    /**
+     * <b>OAuth Required</b>
+     *
+     * <p> Check into an episode. This should be tied to a user action to manually indicate they are watching something.
+     * The item will display as watching on the site, then automatically switch to watched status once the duration has
+     * elapsed.
+     */
+    @POST("/checkin")
+    void checkin(
+            @Body EpisodeCheckin episodeCheckin,
+            Callback<EpisodeCheckinResponse> callback
+    );
+
+    /**
+     * <b>OAuth Required</b>
+     *
+     * <p> Check into a movie. This should be tied to a user action to manually indicate they are watching something.
+     * The item will display as watching on the site, then automatically switch to watched status once the duration has
+     * elapsed.
+     */
+    @POST("/checkin")
+    void checkin(
+            @Body MovieCheckin movieCheckin,
+            Callback<MovieCheckinResponse> callback
+    );
+
+    /**
+     * <b>OAuth Required</b>
+     *
+     * <p> Removes any active checkins, no need to provide a specific item.
+     */
+    @DELETE("/checkin")
+    void deleteActiveCheckin(Callback<Response> callback);
+
+}
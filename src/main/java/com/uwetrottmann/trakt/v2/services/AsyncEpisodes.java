@@ -0,0 +1,88 @@
+package com.uwetrottmann.trakt.v2.services;
+
+import com.uwetrottmann.trakt.v2.entities.Comment;
+import com.uwetrottmann.trakt.v2.entities.Episode;
+import com.uwetrottmann.trakt.v2.entities.Ratings;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import retrofit.Callback;
+import retrofit.http.GET;
+import retrofit.http.Path;
+import retrofit.http.Query;
+
+import java.util.List;
+
+/**
+ * Asynchronous variant of {@link Episodes}. Each method returns immediately and delivers its result or error to the
+ * {@link retrofit.Callback} passed as last argument.
+ *
+ * @see com.uwetrottmann.trakt.v2.TraktFuture
+ */
+public interface AsyncEpisodes {
+
+    /**
+     * Returns a single episode's details.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param season Season number.
+     * @param episode Episode number.
+     */
+    @GET("/shows/{id}/seasons/{season}/episodes/{episode}")
+    void summary(
+            @Path("id") String showId,
+            @Path("season") int season,
+            @Path("episode") int episode,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<Episode> callback
+    );
+
+    /**
+     * Returns all top level comments for an episode. Most recent comments returned first.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param season Season number.
+     * @param episode Episode number.
+     */
+    @GET("/shows/{id}/seasons/{season}/episodes/{episode}/comments")
+    void comments(
+            @Path("id") String showId,
+            @Path("season") int season,
+            @Path("episode") int episode,
+            @Query("page") Integer page,
+            @Query("limit") Integer limit,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<Comment>> callback
+    );
+
+    /**
+     * Returns rating (between 0 and 10) and distribution for an episode.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param season Season number.
+     * @param episode Episode number.
+     */
+    @GET("/shows/{id}/seasons/{season}/episodes/{episode}/ratings")
+    void ratings(
+            @Path("id") String showId,
+            @Path("season") int season,
+            @Path("episode") int episode,
+            Callback<Ratings> callback
+    );
+
+    /**
+     * Like {@link #ratings}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim} variant of the rating
+     * and distribution for an episode.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param season Season number.
+     * @param episode Episode number.
+     */
+    @GET("/shows/{id}/seasons/{season}/episodes/{episode}/ratings")
+    void ratingsSlim(
+            @Path("id") String showId,
+            @Path("season") int season,
+            @Path("episode") int episode,
+            Callback<SlimRatings> callback
+    );
+
+}
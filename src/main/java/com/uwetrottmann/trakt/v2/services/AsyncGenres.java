@@ -0,0 +1,29 @@
+package com.uwetrottmann.trakt.v2.services;
+
+import com.uwetrottmann.trakt.v2.entities.Genre;
+import retrofit.Callback;
+import retrofit.http.GET;
+
+import java.util.List;
+
+/**
+ * Asynchronous variant of {@link Genres}. Each method returns immediately and delivers its result or error to the
+ * {@link retrofit.Callback} passed as last argument.
+ *
+ * @see com.uwetrottmann.trakt.v2.TraktFuture
+ */
+public interface AsyncGenres {
+
+    /**
+     * Get a list of all genres for shows, including names and slugs.
+     */
+    @GET("/genres/movies")
+    void movies(Callback<List<Genre>> callback);
+
+    /**
+     * Get a list of all genres for movies, including names and slugs.
+     */
+    @GET("/genres/shows")
+    void shows(Callback<List<Genre>> callback);
+
+}
@@ -0,0 +1,140 @@
+package com.uwetrottmann.trakt.v2.services;
+
+import com.uwetrottmann.trakt.v2.entities.Comment;
+import com.uwetrottmann.trakt.v2.entities.Credits;
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import com.uwetrottmann.trakt.v2.entities.MovieTranslation;
+import com.uwetrottmann.trakt.v2.entities.Ratings;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
+import com.uwetrottmann.trakt.v2.entities.TrendingMovie;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import retrofit.Callback;
+import retrofit.http.GET;
+import retrofit.http.Path;
+import retrofit.http.Query;
+
+import java.util.List;
+
+/**
+ * Asynchronous variant of {@link Movies}. Each method returns immediately and delivers its result or error to the
+ * {@link retrofit.Callback} passed as last argument.
+ *
+ * @see com.uwetrottmann.trakt.v2.TraktFuture
+ */
+public interface AsyncMovies {
+
+    /**
+     * Returns the most popular movies. Popularity is calculated using the rating percentage and the number of ratings.
+     *
+     * @param page Number of page of results to be returned. If {@code null} defaults to 1.
+     * @param limit Number of results to return per page. If {@code null} defaults to 10.
+     */
+    @GET("/movies/popular")
+    void popular(
+            @Query("page") Integer page,
+            @Query("limit") Integer limit,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<Movie>> callback
+    );
+
+    /**
+     * Returns all movies being watched right now. Movies with the most users are returned first.
+     *
+     * @param page Number of page of results to be returned. If {@code null} defaults to 1.
+     * @param limit Number of results to return per page. If {@code null} defaults to 10.
+     */
+    @GET("/movies/trending")
+    void trending(
+            @Query("page") Integer page,
+            @Query("limit") Integer limit,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<TrendingMovie>> callback
+    );
+
+    /**
+     * Returns a single movie's details.
+     *
+     * @param movieId trakt ID, trakt slug, or IMDB ID. Example: "tron-legacy-2010".
+     */
+    @GET("/movies/{id}")
+    void summary(
+            @Path("id") String movieId,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<Movie> callback
+    );
+
+    /**
+     * Returns all translations for a movie, including language and translated values for title, tagline and overview.
+     *
+     * @param movieId trakt ID, trakt slug, or IMDB ID. Example: "tron-legacy-2010".
+     */
+    @GET("/movies/{id}/translations")
+    void translations(
+            @Path("id") String movieId,
+            Callback<List<MovieTranslation>> callback
+    );
+
+    /**
+     * Returns a single translation for a movie. If the translation does not exist, the returned list will be empty.
+     *
+     * @param movieId trakt ID, trakt slug, or IMDB ID. Example: "tron-legacy-2010".
+     * @param language 2-letter language code (ISO 639-1).
+     */
+    @GET("/movies/{id}/translations/{language}")
+    void translation(
+            @Path("id") String movieId,
+            @Path("language") String language,
+            Callback<List<MovieTranslation>> callback
+    );
+
+    /**
+     * Returns all top level comments for a movie. Most recent comments returned first.
+     *
+     * @param movieId trakt ID, trakt slug, or IMDB ID. Example: "tron-legacy-2010".
+     * @param page Number of page of results to be returned. If {@code null} defaults to 1.
+     * @param limit Number of results to return per page. If {@code null} defaults to 10.
+     */
+    @GET("/movies/{id}/comments")
+    void comments(
+            @Path("id") String movieId,
+            @Query("page") Integer page,
+            @Query("limit") Integer limit,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<Comment>> callback
+    );
+
+    /**
+     * Returns all actors, directors, writers, and producers for a movie.
+     *
+     * @param movieId trakt ID, trakt slug, or IMDB ID. Example: "tron-legacy-2010".
+     */
+    @GET("/movies/{id}/people")
+    void people(
+            @Path("id") String movieId,
+            Callback<Credits> callback
+    );
+
+    /**
+     * Returns rating (between 0 and 10) and distribution for a movie.
+     *
+     * @param movieId trakt ID, trakt slug, or IMDB ID. Example: "tron-legacy-2010".
+     */
+    @GET("/movies/{id}/ratings")
+    void ratings(
+            @Path("id") String movieId,
+            Callback<Ratings> callback
+    );
+
+    /**
+     * Like {@link #ratings}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim} variant of the rating
+     * and distribution for a movie.
+     *
+     * @param movieId trakt ID, trakt slug, or IMDB ID. Example: "tron-legacy-2010".
+     */
+    @GET("/movies/{id}/ratings")
+    void ratingsSlim(
+            @Path("id") String movieId,
+            Callback<SlimRatings> callback
+    );
+
+}
@@ -0,0 +1,43 @@
+package com.uwetrottmann.trakt.v2.services;
+
+import com.uwetrottmann.trakt.v2.entities.Credits;
+import com.uwetrottmann.trakt.v2.entities.Person;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import retrofit.Callback;
+import retrofit.http.GET;
+import retrofit.http.Path;
+import retrofit.http.Query;
+
+/**
+ * Asynchronous variant of {@link People}. Each method returns immediately and delivers its result or error to the
+ * {@link retrofit.Callback} passed as last argument.
+ *
+ * @see com.uwetrottmann.trakt.v2.TraktFuture
+ */
+public interface AsyncPeople {
+
+    /**
+     * Returns a single person's details.
+     *
+     * @param personId trakt ID, trakt slug, or IMDB ID Example: bryan-cranston.
+     */
+    @GET("/people/{id}")
+    void summary(
+            @Path("id") String personId,
+            @Query("extended") Extended extended,
+            Callback<Person> callback
+    );
+
+    @GET("/people/{id}/movies")
+    void movieCredits(
+            @Path("id") String personId,
+            Callback<Credits> callback
+    );
+
+    @GET("/people/{id}/shows")
+    void showCredits(
+            @Path("id") String personId,
+            Callback<Credits> callback
+    );
+
+}
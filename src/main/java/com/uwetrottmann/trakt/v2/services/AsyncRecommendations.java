@@ -0,0 +1,71 @@
+package com.uwetrottmann.trakt.v2.services;
+
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import com.uwetrottmann.trakt.v2.entities.Show;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import retrofit.Callback;
+import retrofit.client.Response;
+import retrofit.http.DELETE;
+import retrofit.http.GET;
+import retrofit.http.Path;
+import retrofit.http.Query;
+
+import java.util.List;
+
+/**
+ * Asynchronous variant of {@link Recommendations}. Each method returns immediately and delivers its result or error to the
+ * {@link retrofit.Callback} passed as last argument.
+ *
+ * @see com.uwetrottmann.trakt.v2.TraktFuture
+ */
+public interface AsyncRecommendations {
+
+    /**
+     * <b>OAuth Required</b>
+     *
+     * <p> Personalized movie recommendations for a user. Results returned with the top recommendation first.
+     */
+    @GET("/recommendations/movies")
+    void movies(
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<Movie>> callback
+    );
+
+    /**
+     * <b>OAuth Required</b>
+     *
+     * <p> Dismiss a movie from getting recommended anymore.
+     *
+     * @param movieId trakt ID, trakt slug, or IMDB ID. Example: "tron-legacy-2010".
+     */
+    @DELETE("recommendations/movies/{id}")
+    void dismissMovie(
+            @Path("id") String movieId,
+            Callback<Response> callback
+    );
+
+    /**
+     * <b>OAuth Required</b>
+     *
+     * <p> Personalized show recommendations for a user. Results returned with the top recommendation first.
+     */
+    @GET("/recommendations/shows")
+    void shows(
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<Show>> callback
+    );
+
+    /**
+     * <b>OAuth Required</b>
+     *
+     * <p> Dismiss a show from getting recommended anymore.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: 922.
+     */
+    @DELETE("recommendations/shows/{id}")
+    void dismissShow(
+            @Path("id") String showId,
+            Callback<Response> callback
+    );
+
+}
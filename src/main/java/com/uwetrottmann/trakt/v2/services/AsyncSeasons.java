@@ -0,0 +1,90 @@
+package com.uwetrottmann.trakt.v2.services;
+
+import com.uwetrottmann.trakt.v2.entities.Comment;
+import com.uwetrottmann.trakt.v2.entities.Episode;
+import com.uwetrottmann.trakt.v2.entities.Ratings;
+import com.uwetrottmann.trakt.v2.entities.Season;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import retrofit.Callback;
+import retrofit.http.GET;
+import retrofit.http.Path;
+import retrofit.http.Query;
+
+import java.util.List;
+
+/**
+ * Asynchronous variant of {@link Seasons}. Each method returns immediately and delivers its result or error to the
+ * {@link retrofit.Callback} passed as last argument.
+ *
+ * @see com.uwetrottmann.trakt.v2.TraktFuture
+ */
+public interface AsyncSeasons {
+
+    /**
+     * Returns all seasons for a show including the number of episodes in each season.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     */
+    @GET("/shows/{id}/seasons")
+    void summary(
+            @Path("id") String showId,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<Season>> callback
+    );
+
+    /**
+     * Returns all episodes for a specific season of a show.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param season Season number.
+     */
+    @GET("/shows/{id}/seasons/{season}")
+    void season(
+            @Path("id") String showId,
+            @Path("season") int season,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<Episode>> callback
+    );
+
+    /**
+     * Returns all top level comments for a season. Most recent comments returned first.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param season Season number.
+     */
+    @GET("/shows/{id}/seasons/{season}/comments")
+    void comments(
+            @Path("id") String showId,
+            @Path("season") int season,
+            Callback<List<Comment>> callback
+    );
+
+    /**
+     * Returns rating (between 0 and 10) and distribution for a season.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param season Season number.
+     */
+    @GET("/shows/{id}/seasons/{season}/ratings")
+    void ratings(
+            @Path("id") String showId,
+            @Path("season") int season,
+            Callback<Ratings> callback
+    );
+
+    /**
+     * Like {@link #ratings}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim} variant of the rating
+     * and distribution for a season.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param season Season number.
+     */
+    @GET("/shows/{id}/seasons/{season}/ratings")
+    void ratingsSlim(
+            @Path("id") String showId,
+            @Path("season") int season,
+            Callback<SlimRatings> callback
+    );
+
+}
@@ -0,0 +1,156 @@
+package com.uwetrottmann.trakt.v2.services;
+
+import com.uwetrottmann.trakt.v2.entities.BaseShow;
+import com.uwetrottmann.trakt.v2.entities.Comment;
+import com.uwetrottmann.trakt.v2.entities.Credits;
+import com.uwetrottmann.trakt.v2.entities.Ratings;
+import com.uwetrottmann.trakt.v2.entities.Show;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
+import com.uwetrottmann.trakt.v2.entities.Translation;
+import com.uwetrottmann.trakt.v2.entities.TrendingShow;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import retrofit.Callback;
+import retrofit.http.GET;
+import retrofit.http.Path;
+import retrofit.http.Query;
+
+import java.util.List;
+
+/**
+ * Asynchronous variant of {@link Shows}. Each method returns immediately and delivers its result or error to the
+ * {@link retrofit.Callback} passed as last argument.
+ *
+ * @see com.uwetrottmann.trakt.v2.TraktFuture
+ */
+public interface AsyncShows {
+
+    /**
+     * Returns the most popular shows. Popularity is calculated using the rating percentage and the number of ratings.
+     *
+     * @param page Number of page of results to be returned. If {@code null} defaults to 1.
+     * @param limit Number of results to return per page. If {@code null} defaults to 10.
+     */
+    @GET("/shows/popular")
+    void popular(
+            @Query("page") Integer page,
+            @Query("limit") Integer limit,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<Show>> callback
+    );
+
+    /**
+     * Returns all shows being watched right now. Shows with the most users are returned first.
+     *
+     * @param page Number of page of results to be returned. If {@code null} defaults to 1.
+     * @param limit Number of results to return per page. If {@code null} defaults to 10.
+     */
+    @GET("/shows/trending")
+    void trending(
+            @Query("page") Integer page,
+            @Query("limit") Integer limit,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<TrendingShow>> callback
+    );
+
+    /**
+     * Returns a single shows's details.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     */
+    @GET("/shows/{id}")
+    void summary(
+            @Path("id") String showId,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<Show> callback
+    );
+
+    /**
+     * Returns all translations for a show, including language and translated values for title and overview.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     */
+    @GET("/shows/{id}/translations")
+    void translations(
+            @Path("id") String showId,
+            Callback<List<Translation>> callback
+    );
+
+    /**
+     * Returns a single translation for a show. If the translation does not exist, the returned list will be empty.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param language 2-letter language code (ISO 639-1).
+     */
+    @GET("/shows/{id}/translations/{language}")
+    void translation(
+            @Path("id") String showId,
+            @Path("language") String language,
+            Callback<List<Translation>> callback
+    );
+
+    /**
+     * Returns all top level comments for a show. Most recent comments returned first.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param page Number of page of results to be returned. If {@code null} defaults to 1.
+     * @param limit Number of results to return per page. If {@code null} defaults to 10.
+     */
+    @GET("/shows/{id}/comments")
+    void comments(
+            @Path("id") String showId,
+            @Query("page") Integer page,
+            @Query("limit") Integer limit,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<List<Comment>> callback
+    );
+
+    /**
+     * <b>OAuth Required</b>
+     *
+     * Returns watched progress for show including details on all seasons and episodes. The {@code next_episode} will be
+     * the next episode the user should watch, if there are no upcoming episodes it will be set to {@code null}.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     */
+    @GET("/shows/{id}/progress/watched")
+    void watchedProgress(
+            @Path("id") String showId,
+            @Query(value = "extended", encodeValue = false) Extended extended,
+            Callback<BaseShow> callback
+    );
+
+    /**
+     * Returns all actors, directors, writers, and producers for a show.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     */
+    @GET("/shows/{id}/people")
+    void people(
+            @Path("id") String showId,
+            Callback<Credits> callback
+    );
+
+    /**
+     * Returns rating (between 0 and 10) and distribution for a show.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     */
+    @GET("/shows/{id}/ratings")
+    void ratings(
+            @Path("id") String showId,
+            Callback<Ratings> callback
+    );
+
+    /**
+     * Like {@link #ratings}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim} variant of the rating
+     * and distribution for a show.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     */
+    @GET("/shows/{id}/ratings")
+    void ratingsSlim(
+            @Path("id") String showId,
+            Callback<SlimRatings> callback
+    );
+
+}
@@ -1,5 +1,6 @@
 package com.uwetrottmann.trakt.v2.services;
 
+import com.uwetrottmann.trakt.v2.cache.Cacheable;
 import com.uwetrottmann.trakt.v2.entities.Comment;
 import com.uwetrottmann.trakt.v2.exceptions.UnauthorizedException;
 import retrofit.client.Response;
@@ -36,6 +37,7 @@ public interface Comments {
      *
      * @param id A specific comment ID. Example: 417.
      */
+    @Cacheable
     @GET("/comments/{id}")
     Comment get(
             @Path("id") int id
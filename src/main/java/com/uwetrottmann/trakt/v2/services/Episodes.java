@@ -1,8 +1,10 @@
 package com.uwetrottmann.trakt.v2.services;
 
+import com.uwetrottmann.trakt.v2.cache.Cacheable;
 import com.uwetrottmann.trakt.v2.entities.Comment;
 import com.uwetrottmann.trakt.v2.entities.Episode;
 import com.uwetrottmann.trakt.v2.entities.Ratings;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
 import com.uwetrottmann.trakt.v2.enums.Extended;
 import retrofit.http.GET;
 import retrofit.http.Path;
@@ -19,6 +21,7 @@ public interface Episodes {
      * @param season Season number.
      * @param episode Episode number.
      */
+    @Cacheable
     @GET("/shows/{id}/seasons/{season}/episodes/{episode}")
     Episode summary(
             @Path("id") String showId,
@@ -58,4 +61,19 @@ public interface Episodes {
             @Path("episode") int episode
     );
 
+    /**
+     * Like {@link #ratings}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim} variant of the rating
+     * and distribution for an episode.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param season Season number.
+     * @param episode Episode number.
+     */
+    @GET("/shows/{id}/seasons/{season}/episodes/{episode}/ratings")
+    SlimRatings ratingsSlim(
+            @Path("id") String showId,
+            @Path("season") int season,
+            @Path("episode") int episode
+    );
+
 }
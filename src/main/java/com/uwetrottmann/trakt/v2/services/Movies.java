@@ -1,10 +1,12 @@
 package com.uwetrottmann.trakt.v2.services;
 
+import com.uwetrottmann.trakt.v2.cache.Cacheable;
 import com.uwetrottmann.trakt.v2.entities.Comment;
 import com.uwetrottmann.trakt.v2.entities.Credits;
 import com.uwetrottmann.trakt.v2.entities.Movie;
 import com.uwetrottmann.trakt.v2.entities.MovieTranslation;
 import com.uwetrottmann.trakt.v2.entities.Ratings;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
 import com.uwetrottmann.trakt.v2.entities.TrendingMovie;
 import com.uwetrottmann.trakt.v2.enums.Extended;
 import retrofit.http.GET;
@@ -46,6 +48,7 @@ public interface Movies {
      *
      * @param movieId trakt ID, trakt slug, or IMDB ID. Example: "tron-legacy-2010".
      */
+    @Cacheable
     @GET("/movies/{id}")
     Movie summary(
             @Path("id") String movieId,
@@ -109,4 +112,15 @@ public interface Movies {
             @Path("id") String movieId
     );
 
+    /**
+     * Like {@link #ratings}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim} variant of the rating
+     * and distribution for a movie.
+     *
+     * @param movieId trakt ID, trakt slug, or IMDB ID. Example: "tron-legacy-2010".
+     */
+    @GET("/movies/{id}/ratings")
+    SlimRatings ratingsSlim(
+            @Path("id") String movieId
+    );
+
 }
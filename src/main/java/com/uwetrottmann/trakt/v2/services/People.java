@@ -1,5 +1,6 @@
 package com.uwetrottmann.trakt.v2.services;
 
+import com.uwetrottmann.trakt.v2.cache.Cacheable;
 import com.uwetrottmann.trakt.v2.entities.Credits;
 import com.uwetrottmann.trakt.v2.entities.Person;
 import com.uwetrottmann.trakt.v2.enums.Extended;
@@ -14,6 +15,7 @@ public interface People {
      *
      * @param personId trakt ID, trakt slug, or IMDB ID Example: bryan-cranston.
      */
+    @Cacheable
     @GET("/people/{id}")
     Person summary(
             @Path("id") String personId,
@@ -4,6 +4,7 @@ import com.uwetrottmann.trakt.v2.entities.Comment;
 import com.uwetrottmann.trakt.v2.entities.Episode;
 import com.uwetrottmann.trakt.v2.entities.Ratings;
 import com.uwetrottmann.trakt.v2.entities.Season;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
 import com.uwetrottmann.trakt.v2.enums.Extended;
 import retrofit.http.GET;
 import retrofit.http.Path;
@@ -61,4 +62,17 @@ public interface Seasons {
             @Path("season") int season
     );
 
+    /**
+     * Like {@link #ratings}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim} variant of the rating
+     * and distribution for a season.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     * @param season Season number.
+     */
+    @GET("/shows/{id}/seasons/{season}/ratings")
+    SlimRatings ratingsSlim(
+            @Path("id") String showId,
+            @Path("season") int season
+    );
+
 }
@@ -1,10 +1,12 @@
 package com.uwetrottmann.trakt.v2.services;
 
+import com.uwetrottmann.trakt.v2.cache.Cacheable;
 import com.uwetrottmann.trakt.v2.entities.BaseShow;
 import com.uwetrottmann.trakt.v2.entities.Comment;
 import com.uwetrottmann.trakt.v2.entities.Credits;
 import com.uwetrottmann.trakt.v2.entities.Ratings;
 import com.uwetrottmann.trakt.v2.entities.Show;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
 import com.uwetrottmann.trakt.v2.entities.Translation;
 import com.uwetrottmann.trakt.v2.entities.TrendingShow;
 import com.uwetrottmann.trakt.v2.enums.Extended;
@@ -48,6 +50,7 @@ public interface Shows {
      *
      * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
      */
+    @Cacheable
     @GET("/shows/{id}")
     Show summary(
             @Path("id") String showId,
@@ -125,4 +128,15 @@ public interface Shows {
             @Path("id") String showId
     );
 
+    /**
+     * Like {@link #ratings}, but decodes the {@link com.uwetrottmann.trakt.v2.entities.Slim slim} variant of the rating
+     * and distribution for a show.
+     *
+     * @param showId trakt ID, trakt slug, or IMDB ID. Example: "game-of-thrones".
+     */
+    @GET("/shows/{id}/ratings")
+    SlimRatings ratingsSlim(
+            @Path("id") String showId
+    );
+
 }
@@ -0,0 +1,144 @@
+package com.uwetrottmann.trakt.v2;
+
+import com.uwetrottmann.trakt.v2.entities.BaseShow;
+import com.uwetrottmann.trakt.v2.entities.HistoryEntry;
+import com.uwetrottmann.trakt.v2.metrics.EndpointMetrics;
+import org.junit.Test;
+import retrofit.RetrofitError;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class EntityStreamTest {
+
+    private static final String SHOWS = "[{\"plays\":3,\"show\":{\"title\":\"Breaking Bad\"},\"seasons\":[{\"number\":1,"
+            + "\"episodes\":[{\"number\":1,\"plays\":1},{\"number\":2,\"plays\":2}]}]},"
+            + "{\"plays\":1,\"show\":{\"title\":\"The Wire\"},\"seasons\":[]},"
+            + "{\"plays\":7,\"show\":{\"title\":\"Firefly\"},\"seasons\":[]}]";
+
+    @Test
+    public void test_iterator() throws Exception {
+        StubClient server = new StubClient(200, SHOWS);
+        EndpointMetrics metrics = new EndpointMetrics();
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server).setMetricsRecorder(metrics);
+
+        EntityStream<BaseShow> shows = trakt.streamingSync().watchedShows(null);
+        List<String> titles = new ArrayList<String>();
+        while (shows.hasNext()) {
+            BaseShow show = shows.next();
+            titles.add(show.show.title);
+            if (titles.size() == 1) {
+                assertThat(show.seasons.get(0).episodes).hasSize(2);
+            }
+        }
+
+        assertThat(titles).containsExactly("Breaking Bad", "The Wire", "Firefly");
+        assertThat(server.getRequests().get(0).getUrl()).endsWith("/sync/watched/shows");
+        // recorded once the response is read completely
+        assertThat(metrics.getStats("Sync.watchedShows").getResponseBytes()).isEqualTo(SHOWS.length());
+    }
+
+    @Test
+    public void test_visitor() throws Exception {
+        StubClient server = new StubClient(200, "[{\"action\":\"scrobble\"},{\"action\":\"checkin\"}]");
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server);
+
+        final List<String> actions = new ArrayList<String>();
+        trakt.streamingUsers().historyEpisodes("sean", 1, 100, null).forEach(new EntityVisitor<HistoryEntry>() {
+            @Override
+            public void visit(HistoryEntry entity) {
+                actions.add(entity.action);
+            }
+        });
+
+        assertThat(actions).containsExactly("scrobble", "checkin");
+        assertThat(server.getRequests().get(0).getUrl()).contains("/users/sean/history/episodes");
+    }
+
+    @Test
+    public void test_emptyBody() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, ""));
+
+        assertThat(trakt.streamingSync().collectionMovies(null).hasNext()).isFalse();
+    }
+
+    @Test
+    public void test_closeEarly() throws Exception {
+        TrackingClient server = new TrackingClient(SHOWS);
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server);
+
+        EntityStream<BaseShow> shows = trakt.streamingSync().watchedShows(null);
+        assertThat(shows.next().show.title).isEqualTo("Breaking Bad");
+        assertThat(server.closed).isFalse();
+
+        shows.close();
+        assertThat(server.closed).isTrue();
+        assertThat(shows.hasNext()).isFalse();
+    }
+
+    @Test
+    public void test_malformed() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, "[{\"plays\":\"many\"}]"));
+
+        EntityStream<BaseShow> shows = trakt.streamingSync().watchedShows(null);
+        try {
+            shows.next();
+            fail("should not decode");
+        } catch (RetrofitError expected) {
+        }
+        assertThat(shows.hasNext()).isFalse();
+    }
+
+    /**
+     * Records whether the response body was closed.
+     */
+    private static class TrackingClient implements Client {
+
+        private final byte[] body;
+        private volatile boolean closed;
+
+        TrackingClient(String body) {
+            this.body = body.getBytes();
+        }
+
+        @Override
+        public Response execute(Request request) {
+            return new Response(request.getUrl(), 200, "", Collections.<Header>emptyList(), new TypedInput() {
+                @Override
+                public String mimeType() {
+                    return "application/json";
+                }
+
+                @Override
+                public long length() {
+                    return body.length;
+                }
+
+                @Override
+                public InputStream in() {
+                    return new FilterInputStream(new ByteArrayInputStream(body)) {
+                        @Override
+                        public void close() throws IOException {
+                            closed = true;
+                            super.close();
+                        }
+                    };
+                }
+            });
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.uwetrottmann.trakt.v2;
+
+import com.uwetrottmann.trakt.v2.adapters.Projection;
+import com.uwetrottmann.trakt.v2.entities.Show;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import org.junit.Test;
+import retrofit.RetrofitError;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    public void test_identicalCallsShareRequest() throws Exception {
+        GatedClient server = new GatedClient(200, "{\"title\":\"Breaking Bad\"}");
+        RequestCoalescer coalescer = new RequestCoalescer();
+        final TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server).setRequestCoalescer(coalescer);
+
+        List<Future<Show>> results = callConcurrently(new Callable<Show>() {
+            @Override
+            public Show call() {
+                return trakt.shows().summary("breaking-bad", Extended.FULL);
+            }
+        }, coalescer, server);
+
+        Show first = results.get(0).get();
+        for (Future<Show> result : results) {
+            assertThat(result.get()).isSameAs(first);
+        }
+        assertThat(server.getRequestCount()).isEqualTo(1);
+        assertThat(coalescer.getExecutedCount()).isEqualTo(1);
+        assertThat(coalescer.getCollapsedCount()).isEqualTo(CALLERS - 1);
+        assertThat(coalescer.getInFlightCount()).isEqualTo(0);
+
+        // no longer in flight, requested again
+        trakt.shows().summary("breaking-bad", Extended.FULL);
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_errorIsShared() throws Exception {
+        GatedClient server = new GatedClient(503, null);
+        RequestCoalescer coalescer = new RequestCoalescer();
+        final TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server).setRequestCoalescer(coalescer);
+
+        List<Future<Show>> results = callConcurrently(new Callable<Show>() {
+            @Override
+            public Show call() {
+                return trakt.shows().summary("breaking-bad", Extended.FULL);
+            }
+        }, coalescer, server);
+
+        for (Future<Show> result : results) {
+            try {
+                result.get();
+                fail("expected the call to fail");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(RetrofitError.class);
+            }
+        }
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_differentArgumentsNotShared() {
+        GatedClient server = new GatedClient(200, "{\"title\":\"Breaking Bad\"}");
+        server.open.countDown();
+        RequestCoalescer coalescer = new RequestCoalescer();
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server).setRequestCoalescer(coalescer);
+
+        trakt.shows().summary("breaking-bad", Extended.FULL);
+        trakt.shows().summary("breaking-bad", Extended.DEFAULT_MIN);
+
+        assertThat(server.getRequestCount()).isEqualTo(2);
+        assertThat(coalescer.getCollapsedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_differentDecodingNotShared() throws Exception {
+        GatedClient server = new GatedClient(200, "{\"title\":\"Breaking Bad\",\"year\":2008}");
+        RequestCoalescer coalescer = new RequestCoalescer();
+        final TraktV2 full = new TraktV2().setApiKey("test").setClient(server).setRequestCoalescer(coalescer);
+        final TraktV2 projected = new TraktV2().setApiKey("test").setClient(server).setRequestCoalescer(coalescer)
+                .setProjection(Projection.builder().include(Show.class, "title").build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Show> show = executor.submit(new Callable<Show>() {
+                @Override
+                public Show call() {
+                    return full.shows().summary("breaking-bad", Extended.FULL);
+                }
+            });
+            Future<Show> projectedShow = executor.submit(new Callable<Show>() {
+                @Override
+                public Show call() {
+                    return projected.shows().summary("breaking-bad", Extended.FULL);
+                }
+            });
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while (coalescer.getInFlightCount() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            server.open.countDown();
+
+            assertThat(show.get().year).isEqualTo(2008);
+            assertThat(projectedShow.get().year).isEqualTo(0);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(server.getRequestCount()).isEqualTo(2);
+        assertThat(coalescer.getCollapsedCount()).isEqualTo(0);
+    }
+
+    /**
+     * Starts {@link #CALLERS} calls and lets the request through once all but the first joined it.
+     */
+    private static <T> List<Future<T>> callConcurrently(Callable<T> call, RequestCoalescer coalescer,
+            GatedClient server) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<T>> results = new ArrayList<Future<T>>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(call));
+            }
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while (coalescer.getCollapsedCount() < CALLERS - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            server.open.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Holds requests until opened.
+     */
+    private static class GatedClient extends StubClient {
+
+        private final CountDownLatch open = new CountDownLatch(1);
+
+        GatedClient(int status, String body) {
+            super(status, body);
+        }
+
+        @Override
+        public Response execute(Request request) throws IOException {
+            try {
+                open.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return super.execute(request);
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.uwetrottmann.trakt.v2;
+
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedByteArray;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Answers every request with the same canned response and records the requests it received.
+ */
+public class StubClient implements Client {
+
+    private final int status;
+    private final String body;
+    private final List<Header> headers;
+    private final List<Request> requests = Collections.synchronizedList(new ArrayList<Request>());
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    public StubClient(int status, String body) {
+        this(status, body, Collections.<Header>emptyList());
+    }
+
+    public StubClient(int status, String body, List<Header> headers) {
+        this.status = status;
+        this.body = body;
+        this.headers = headers;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        requests.add(request);
+        requestCount.incrementAndGet();
+        return new Response(request.getUrl(), status, "", headers,
+                body == null ? null : new TypedByteArray("application/json", bytes(body)));
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public List<Request> getRequests() {
+        return requests;
+    }
+
+    private static byte[] bytes(String value) {
+        try {
+            return value.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.uwetrottmann.trakt.v2;
+
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import org.junit.Test;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TraktExecutorsTest {
+
+    private static final String MOVIE = "{\"title\":\"TRON: Legacy\",\"year\":2010}";
+
+    @Test
+    public void test_platformThreads() throws Exception {
+        ThreadRecordingClient server = new ThreadRecordingClient();
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server).setUseVirtualThreads(false);
+        try {
+            summary(trakt);
+
+            assertBoundedPool(trakt.getExecutor());
+            assertThat(isVirtual(server.thread)).isFalse();
+            assertThat(server.thread.isDaemon()).isTrue();
+        } finally {
+            trakt.getExecutor().shutdown();
+        }
+    }
+
+    @Test
+    public void test_virtualThreads() throws Exception {
+        ThreadRecordingClient server = new ThreadRecordingClient();
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server).setUseVirtualThreads(true);
+        try {
+            summary(trakt);
+
+            if (javaVersion() >= 21) {
+                assertThat(TraktExecutors.isVirtualThreadSupported()).isTrue();
+                assertThat(isVirtual(server.thread)).isTrue();
+            } else {
+                // falls back to the bounded pool of platform threads
+                assertThat(TraktExecutors.isVirtualThreadSupported()).isFalse();
+                assertBoundedPool(trakt.getExecutor());
+                assertThat(isVirtual(server.thread)).isFalse();
+                assertThat(server.thread.isDaemon()).isTrue();
+            }
+        } finally {
+            trakt.getExecutor().shutdown();
+        }
+    }
+
+    /**
+     * Runs an asynchronous call and waits for its result.
+     */
+    private static void summary(TraktV2 trakt) throws Exception {
+        TraktFuture<Movie> movie = new TraktFuture<Movie>();
+        trakt.asyncMovies().summary("tron-legacy-2010", null, movie);
+
+        assertThat(movie.get(10, TimeUnit.SECONDS).title).isEqualTo("TRON: Legacy");
+    }
+
+    private static void assertBoundedPool(ExecutorService executor) {
+        assertThat(executor).isInstanceOf(ThreadPoolExecutor.class);
+        assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize())
+                .isEqualTo(TraktExecutors.DEFAULT_MAX_THREADS);
+    }
+
+    private static boolean isVirtual(Thread thread) throws Exception {
+        Method isVirtual;
+        try {
+            isVirtual = Thread.class.getMethod("isVirtual");
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+        return (Boolean) isVirtual.invoke(thread);
+    }
+
+    private static int javaVersion() {
+        // 1.8 for Java 8, 21 for Java 21
+        String version = System.getProperty("java.specification.version");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
+        }
+        return Integer.parseInt(version);
+    }
+
+    private static class ThreadRecordingClient extends StubClient {
+
+        volatile Thread thread;
+
+        ThreadRecordingClient() {
+            super(200, MOVIE);
+        }
+
+        @Override
+        public Response execute(Request request) throws IOException {
+            thread = Thread.currentThread();
+            return super.execute(request);
+        }
+    }
+
+}
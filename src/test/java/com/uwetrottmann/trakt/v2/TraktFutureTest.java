@@ -0,0 +1,69 @@
+package com.uwetrottmann.trakt.v2;
+
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import com.uwetrottmann.trakt.v2.exceptions.UnauthorizedException;
+import org.junit.Test;
+import retrofit.RetrofitError;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class TraktFutureTest {
+
+    @Test
+    public void test_success() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TraktV2 trakt = new TraktV2()
+                    .setApiKey("test")
+                    .setClient(new StubClient(200, "{\"title\":\"TRON: Legacy\",\"year\":2010}"))
+                    .setExecutors(executor, null);
+
+            TraktFuture<Movie> movie = new TraktFuture<Movie>();
+            trakt.asyncMovies().summary("tron-legacy-2010", Extended.FULL, movie);
+
+            assertThat(movie.get().title).isEqualTo("TRON: Legacy");
+            assertThat(movie.isDone()).isTrue();
+            assertThat(movie.getResponse().getStatus()).isEqualTo(200);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_unauthorized() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(401, "{}"));
+
+        TraktFuture<Movie> movie = new TraktFuture<Movie>();
+        trakt.asyncMovies().summary("tron-legacy-2010", Extended.FULL, movie);
+
+        try {
+            movie.get();
+            fail("expected the call to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(UnauthorizedException.class);
+        }
+    }
+
+    @Test
+    public void test_serverError() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(503, null));
+
+        TraktFuture<Movie> movie = new TraktFuture<Movie>();
+        trakt.asyncMovies().summary("tron-legacy-2010", Extended.FULL, movie);
+
+        try {
+            movie.get();
+            fail("expected the call to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(RetrofitError.class);
+            assertThat(((RetrofitError) e.getCause()).getResponse().getStatus()).isEqualTo(503);
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.uwetrottmann.trakt.v2;
+
+import com.uwetrottmann.trakt.v2.adapters.Projection;
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import com.uwetrottmann.trakt.v2.services.Movies;
+import org.junit.Test;
+import retrofit.RestAdapter;
+import retrofit.client.Header;
+import retrofit.client.Request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TraktV2Test {
+
+    private static final String MOVIE = "{\"title\":\"TRON: Legacy\",\"year\":2010}";
+
+    @Test
+    public void test_servicesAreCached() {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, MOVIE));
+
+        Movies movies = trakt.movies();
+        RestAdapter restAdapter = trakt.getRestAdapter();
+
+        assertThat(trakt.movies()).isSameAs(movies);
+        assertThat(trakt.getRestAdapter()).isSameAs(restAdapter);
+        assertThat(trakt.shows()).isSameAs(trakt.shows());
+    }
+
+    @Test
+    public void test_settersRebuild() {
+        StubClient server = new StubClient(200, MOVIE);
+        TraktV2 trakt = new TraktV2().setApiKey("first").setClient(server);
+
+        Movies movies = trakt.movies();
+        RestAdapter restAdapter = trakt.getRestAdapter();
+        movies.summary("tron-legacy-2010", null);
+
+        trakt.setApiKey("second");
+        assertThat(trakt.getRestAdapter()).isNotSameAs(restAdapter);
+        Movies rebuilt = trakt.movies();
+        assertThat(rebuilt).isNotSameAs(movies);
+        Movie movie = rebuilt.summary("tron-legacy-2010", null);
+        assertThat(movie.year).isEqualTo(2010);
+
+        trakt.setProjection(Projection.builder().include(Movie.class, "title").build());
+        assertThat(trakt.movies()).isNotSameAs(rebuilt);
+        Movie projected = trakt.movies().summary("tron-legacy-2010", null);
+        assertThat(projected.title).isEqualTo("TRON: Legacy");
+        assertThat(projected.year).isNull();
+
+        assertThat(apiKey(server.getRequests().get(0))).isEqualTo("first");
+        assertThat(apiKey(server.getRequests().get(1))).isEqualTo("second");
+        assertThat(apiKey(server.getRequests().get(2))).isEqualTo("second");
+    }
+
+    private static String apiKey(Request request) {
+        for (Header header : request.getHeaders()) {
+            if (TraktV2.HEADER_TRAKT_API_KEY.equals(header.getName())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,672 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates {@link EntityTypeAdapterFactory} from the fields of the classes in {@code
+ * com.uwetrottmann.trakt.v2.entities}, in the order Gson's reflective adapters use. Run {@link #main(String[])} from
+ * the project directory after changing an entity.
+ */
+public class EntityAdapterGenerator {
+
+    static final String ENTITIES_PACKAGE = "com.uwetrottmann.trakt.v2.entities";
+    static final File ENTITIES_DIR = new File("src/main/java/com/uwetrottmann/trakt/v2/entities");
+    static final File TARGET = new File("src/main/java/com/uwetrottmann/trakt/v2/adapters",
+            "EntityTypeAdapterFactory.java");
+
+    private static final int MAX_LINE = 120;
+
+    /**
+     * Fields with few distinct values, read through the {@link StringPool} of the factory. Given as entity and JSON
+     * name, only {@code String} and {@code List<String>} fields are supported.
+     */
+    static final Set<String> POOLED = new HashSet<String>(Arrays.asList(
+            "Show.title", "Show.network", "Show.country", "Show.language", "Show.certification", "Show.genres",
+            "Movie.language", "Movie.genres",
+            "Airs.day", "Airs.time", "Airs.timezone",
+            "HistoryEntry.action", "SlimHistoryEntry.action"));
+
+    public static void main(String[] args) throws Exception {
+        String source = generate();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(TARGET), "UTF-8");
+        try {
+            writer.write(source);
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Returns all concrete entity classes, sorted by name.
+     */
+    static List<Class<?>> entityClasses() throws ClassNotFoundException {
+        String[] files = ENTITIES_DIR.list();
+        if (files == null) {
+            throw new IllegalStateException("Run from the project directory, not found: " + ENTITIES_DIR);
+        }
+        Arrays.sort(files);
+        List<Class<?>> classes = new ArrayList<Class<?>>();
+        for (String file : files) {
+            if (!file.endsWith(".java")) {
+                continue;
+            }
+            Class<?> type = Class.forName(ENTITIES_PACKAGE + "." + file.substring(0, file.length() - 5));
+            // not utility classes like Timestamps
+            if (!Modifier.isAbstract(type.getModifiers()) && !type.isEnum() && type.getConstructors().length > 0) {
+                classes.add(type);
+            }
+        }
+        return classes;
+    }
+
+    static String generate() throws ClassNotFoundException {
+        List<Class<?>> entities = entityClasses();
+        Source source = new Source();
+        for (Class<?> entity : entities) {
+            source.adapter(entity);
+        }
+        if (!source.pooled.containsAll(POOLED)) {
+            Set<String> missing = new TreeSet<String>(POOLED);
+            missing.removeAll(source.pooled);
+            throw new IllegalStateException("No such String fields to pool: " + missing);
+        }
+        return source.toString();
+    }
+
+    /**
+     * The fields Gson serializes, from the class up to its super classes.
+     */
+    private static Map<String, Field> boundFields(Class<?> type) {
+        Map<String, Field> fields = new LinkedHashMap<String, Field>();
+        for (Class<?> raw = type; raw != Object.class; raw = raw.getSuperclass()) {
+            for (Field field : raw.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                String name = serializedName != null ? serializedName.value() : field.getName();
+                if (fields.put(name, field) != null) {
+                    throw new IllegalArgumentException(type + " declares multiple JSON fields named " + name);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static class Source {
+
+        private final StringBuilder factory = new StringBuilder();
+        private final StringBuilder adapters = new StringBuilder();
+        private final Map<String, String> typeTokens = new LinkedHashMap<String, String>();
+        private final TreeSet<String> imports = new TreeSet<String>();
+        private final Set<String> pooled = new HashSet<String>();
+
+        Source() {
+            imports.addAll(Arrays.asList("com.google.gson.Gson", "com.google.gson.JsonSyntaxException",
+                    "com.google.gson.TypeAdapter", "com.google.gson.TypeAdapterFactory",
+                    "com.google.gson.reflect.TypeToken", "com.google.gson.stream.JsonReader",
+                    "com.google.gson.stream.JsonToken", "com.google.gson.stream.JsonWriter"));
+        }
+
+        void adapter(Class<?> entity) {
+            String name = entity.getSimpleName();
+            imports.add(entity.getName());
+            Map<String, Field> fields = boundFields(entity);
+            Set<String> pooledFields = new HashSet<String>();
+            for (Map.Entry<String, Field> entry : fields.entrySet()) {
+                if (POOLED.contains(name + "." + entry.getKey())) {
+                    if (Kind.of(entry.getValue().getType()) != Kind.STRING && !isStringList(entry.getValue())) {
+                        throw new IllegalArgumentException("Can not pool " + name + "." + entry.getKey());
+                    }
+                    pooled.add(name + "." + entry.getKey());
+                    pooledFields.add(entry.getKey());
+                }
+            }
+            boolean hasPooled = !pooledFields.isEmpty();
+
+            factory.append("        if (rawType == ").append(name).append(".class) {\n");
+            factory.append("            return (TypeAdapter<T>) new ").append(name).append("Adapter(gson, projection")
+                    .append(hasPooled ? ", strings" : "").append(");\n");
+            factory.append("        }\n");
+
+            Map<String, String> delegates = new LinkedHashMap<String, String>();
+            Map<String, String> annotated = new LinkedHashMap<String, String>();
+            boolean hasEntities = false;
+            for (Field field : fields.values()) {
+                Kind kind = Kind.of(field.getType());
+                Class<?> fieldAdapter = fieldAdapter(field);
+                if (isEpochMillis(field)) {
+                    importName(EpochMillisTypeAdapter.class);
+                } else if (fieldAdapter != null) {
+                    annotated.put(adapterName(fieldAdapter), importName(fieldAdapter));
+                } else if (kind == Kind.DELEGATE) {
+                    delegates.put(delegateName(field.getGenericType()), delegateType(field.getGenericType()));
+                    hasEntities |= isEntity(field.getType());
+                }
+            }
+
+            StringBuilder out = adapters;
+            out.append("\n    private static final class ").append(name).append("Adapter extends TypeAdapter<")
+                    .append(name).append("> {\n\n");
+            wrap(out, "        private static final Map<String, Integer> FIELDS = fields(", quoted(fields.keySet()),
+                    ");");
+            out.append("\n");
+            out.append("        private final boolean[] skipped;\n");
+            if (hasPooled) {
+                out.append("        private final StringPool strings;\n");
+            }
+            if (hasEntities) {
+                out.append("        private final Gson gson;\n");
+            }
+            if (!delegates.isEmpty()) {
+                for (Map.Entry<String, String> delegate : delegates.entrySet()) {
+                    out.append("        private final TypeAdapter<").append(delegate.getValue()).append("> ")
+                            .append(delegate.getKey()).append(";\n");
+                }
+            }
+            for (Map.Entry<String, String> adapter : annotated.entrySet()) {
+                out.append("        private final ").append(adapter.getValue()).append(' ').append(adapter.getKey())
+                        .append(";\n");
+            }
+            out.append("\n");
+            out.append("        ").append(name).append("Adapter(Gson gson, Projection projection")
+                    .append(hasPooled ? ", StringPool strings" : "").append(") {\n");
+            out.append("            skipped = projection.skipped(").append(name).append(".class, FIELDS);\n");
+            if (hasPooled) {
+                out.append("            this.strings = strings;\n");
+            }
+            if (hasEntities) {
+                out.append("            this.gson = gson;\n");
+            }
+            if (!delegates.isEmpty()) {
+                for (Map.Entry<String, String> delegate : delegates.entrySet()) {
+                    out.append("            ").append(delegate.getKey()).append(" = gson.getAdapter(")
+                            .append(typeLiteral(delegate.getKey(), delegate.getValue())).append(");\n");
+                }
+            }
+            for (Map.Entry<String, String> adapter : annotated.entrySet()) {
+                out.append("            ").append(adapter.getKey()).append(" = new ").append(adapter.getValue())
+                        .append("();\n");
+            }
+            out.append("        }\n\n");
+
+            // read
+            out.append("        @Override\n");
+            out.append("        public ").append(name).append(" read(JsonReader in) throws IOException {\n");
+            out.append("            if (in.peek() == JsonToken.NULL) {\n");
+            out.append("                in.nextNull();\n");
+            out.append("                return null;\n");
+            out.append("            }\n");
+            out.append("            ").append(name).append(" value = ").append(newInstance(entity)).append(";\n");
+            out.append("            try {\n");
+            out.append("                in.beginObject();\n");
+            out.append("                while (in.hasNext()) {\n");
+            out.append("                    Integer field = FIELDS.get(in.nextName());\n");
+            out.append("                    if (field == null || skipped[field]) {\n");
+            out.append("                        in.skipValue();\n");
+            out.append("                        continue;\n");
+            out.append("                    }\n");
+            out.append("                    switch (field) {\n");
+            int index = 0;
+            for (Map.Entry<String, Field> entry : fields.entrySet()) {
+                Field field = entry.getValue();
+                out.append("                        case ").append(index++).append(":\n");
+                String target = "value." + field.getName();
+                Kind kind = Kind.of(field.getType());
+                String read = kind == Kind.DELEGATE
+                        ? delegateName(field.getGenericType()) + ".read(in)" : kind.read;
+                if (isEpochMillis(field)) {
+                    read = "EpochMillisTypeAdapter.readMillis(in)";
+                } else if (fieldAdapter(field) != null) {
+                    read = adapterName(fieldAdapter(field)) + ".read(in)";
+                }
+                if (pooledFields.contains(entry.getKey())) {
+                    read = kind == Kind.STRING ? "strings.get(" + read + ")" : "readStrings(in, strings)";
+                }
+                if (field.getType().isPrimitive() && !isEpochMillis(field)) {
+                    // like Gson, null keeps the default value
+                    String boxed = delegateType(field.getType());
+                    out.append("                            ").append(boxed).append(' ').append(field.getName())
+                            .append(" = ").append(read).append(";\n");
+                    out.append("                            if (").append(field.getName()).append(" != null) {\n");
+                    out.append("                                ").append(target).append(" = ")
+                            .append(field.getName()).append(";\n");
+                    out.append("                            }\n");
+                } else {
+                    out.append("                            ").append(target).append(" = ").append(read)
+                            .append(";\n");
+                }
+                out.append("                            break;\n");
+            }
+            out.append("                    }\n");
+            out.append("                }\n");
+            out.append("                in.endObject();\n");
+            out.append("            } catch (IllegalStateException e) {\n");
+            out.append("                throw new JsonSyntaxException(e);\n");
+            out.append("            }\n");
+            out.append("            return value;\n");
+            out.append("        }\n\n");
+
+            // write
+            out.append("        @Override\n");
+            out.append("        public void write(JsonWriter out, ").append(name)
+                    .append(" value) throws IOException {\n");
+            out.append("            if (value == null) {\n");
+            out.append("                out.nullValue();\n");
+            out.append("                return;\n");
+            out.append("            }\n");
+            out.append("            out.beginObject();\n");
+            for (Map.Entry<String, Field> entry : fields.entrySet()) {
+                Field field = entry.getValue();
+                String source = "value." + field.getName();
+                out.append("            out.name(\"").append(entry.getKey()).append("\");\n");
+                Kind kind = Kind.of(field.getType());
+                out.append("            ");
+                if (isEpochMillis(field)) {
+                    out.append("EpochMillisTypeAdapter.writeMillis(out, ").append(source).append(")");
+                } else if (fieldAdapter(field) != null) {
+                    out.append(adapterName(fieldAdapter(field))).append(".write(out, ").append(source).append(")");
+                } else if (kind != Kind.DELEGATE) {
+                    out.append(String.format(kind.write, source));
+                } else if (isEntity(field.getType())) {
+                    imports.add(field.getType().getName());
+                    out.append("writeRuntimeType(gson, ").append(delegateName(field.getType())).append(", ")
+                            .append(field.getType().getSimpleName()).append(".class, out, ").append(source)
+                            .append(")");
+                } else {
+                    out.append(delegateName(field.getGenericType())).append(".write(out, ").append(source)
+                            .append(")");
+                }
+                out.append(";\n");
+            }
+            out.append("            out.endObject();\n");
+            out.append("        }\n");
+            out.append("    }\n");
+        }
+
+        private String newInstance(Class<?> entity) {
+            try {
+                entity.getConstructor();
+                return "new " + entity.getSimpleName() + "()";
+            } catch (NoSuchMethodException e) {
+                // no default constructor, pass defaults to the first one
+                Constructor<?> constructor = entity.getConstructors()[0];
+                StringBuilder arguments = new StringBuilder();
+                for (Class<?> parameter : constructor.getParameterTypes()) {
+                    if (arguments.length() > 0) {
+                        arguments.append(", ");
+                    }
+                    arguments.append(parameter == boolean.class ? "false" : parameter.isPrimitive() ? "0" : "null");
+                }
+                return "new " + entity.getSimpleName() + "(" + arguments + ")";
+            }
+        }
+
+        /**
+         * Returns the type adapter a field is annotated with, which Gson uses instead of the one for its type.
+         */
+        private static Class<?> fieldAdapter(Field field) {
+            JsonAdapter annotation = field.getAnnotation(JsonAdapter.class);
+            return annotation != null ? annotation.value() : null;
+        }
+
+        private static String adapterName(Class<?> adapter) {
+            return Character.toLowerCase(adapter.getSimpleName().charAt(0)) + adapter.getSimpleName().substring(1);
+        }
+
+        /**
+         * Whether a field is a date time kept as {@code long} milliseconds, read and written without boxing.
+         */
+        private static boolean isEpochMillis(Field field) {
+            return field.getType() == long.class && fieldAdapter(field) == EpochMillisTypeAdapter.class;
+        }
+
+        private static boolean isStringList(Field field) {
+            Type type = field.getGenericType();
+            return type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == List.class
+                    && ((ParameterizedType) type).getActualTypeArguments()[0] == String.class;
+        }
+
+        private boolean isEntity(Class<?> type) {
+            return type.getPackage() != null && ENTITIES_PACKAGE.equals(type.getPackage().getName());
+        }
+
+        private String delegateName(Type type) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) type;
+                StringBuilder name = new StringBuilder(
+                        ((Class<?>) parameterized.getRawType()).getSimpleName().toLowerCase()).append("Of");
+                for (Type argument : parameterized.getActualTypeArguments()) {
+                    name.append(((Class<?>) argument).getSimpleName());
+                }
+                return name.append("Adapter").toString();
+            }
+            String simpleName = boxed((Class<?>) type).getSimpleName();
+            return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1) + "Adapter";
+        }
+
+        private String delegateType(Type type) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) type;
+                Class<?> raw = (Class<?>) parameterized.getRawType();
+                // java.util.List clashes with the List entity
+                StringBuilder name = new StringBuilder(raw == List.class ? raw.getName() : importName(raw))
+                        .append('<');
+                Type[] arguments = parameterized.getActualTypeArguments();
+                for (int i = 0; i < arguments.length; i++) {
+                    name.append(i > 0 ? ", " : "").append(delegateType(arguments[i]));
+                }
+                return name.append('>').toString();
+            }
+            return importName(boxed((Class<?>) type));
+        }
+
+        private String typeLiteral(String delegateName, String delegateType) {
+            if (delegateType.indexOf('<') < 0) {
+                return delegateType + ".class";
+            }
+            String constant = delegateName.substring(0, delegateName.length() - "Adapter".length())
+                    .replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase();
+            typeTokens.put(constant, delegateType);
+            return constant;
+        }
+
+        private String importName(Class<?> type) {
+            String packageName = type.getPackage().getName();
+            // the factory is in the same package as the generator
+            if (!packageName.equals("java.lang") && !packageName.equals(EntityAdapterGenerator.class.getPackage()
+                    .getName())) {
+                imports.add(type.getName());
+            }
+            return type.getSimpleName();
+        }
+
+        private static Class<?> boxed(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return type;
+            }
+            if (type == int.class) {
+                return Integer.class;
+            } else if (type == long.class) {
+                return Long.class;
+            } else if (type == double.class) {
+                return Double.class;
+            } else if (type == float.class) {
+                return Float.class;
+            } else if (type == boolean.class) {
+                return Boolean.class;
+            }
+            throw new IllegalArgumentException("Unsupported primitive " + type);
+        }
+
+        private static String quoted(Iterable<String> names) {
+            StringBuilder quoted = new StringBuilder();
+            for (String name : names) {
+                if (quoted.length() > 0) {
+                    quoted.append(", ");
+                }
+                quoted.append('"').append(name).append('"');
+            }
+            return quoted.toString();
+        }
+
+        /**
+         * Appends the prefix, the comma separated items and the suffix, continuing on new lines indented by 8 more
+         * spaces where needed.
+         */
+        private static void wrap(StringBuilder out, String prefix, String items, String suffix) {
+            String indent = prefix.substring(0, prefix.length() - prefix.trim().length()) + "        ";
+            StringBuilder line = new StringBuilder(prefix);
+            String[] parts = items.split(", ");
+            for (int i = 0; i < parts.length; i++) {
+                String part = parts[i] + (i < parts.length - 1 ? "," : suffix);
+                boolean first = line.length() == prefix.length() || line.toString().trim().isEmpty();
+                if (!first && line.length() + 1 + part.length() > MAX_LINE) {
+                    out.append(line).append('\n');
+                    line = new StringBuilder(indent);
+                    first = true;
+                }
+                if (!first) {
+                    line.append(' ');
+                }
+                line.append(part);
+            }
+            out.append(line).append('\n');
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder();
+            out.append("package com.uwetrottmann.trakt.v2.adapters;\n\n");
+            imports.add("java.io.IOException");
+            imports.add("java.util.ArrayList");
+            imports.add("java.util.HashMap");
+            imports.add("java.util.Map");
+            for (String name : imports) {
+                if (!name.startsWith("java.")) {
+                    out.append("import ").append(name).append(";\n");
+                }
+            }
+            out.append('\n');
+            for (String name : imports) {
+                if (name.startsWith("java.")) {
+                    out.append("import ").append(name).append(";\n");
+                }
+            }
+            out.append("\n");
+            out.append(JAVADOC);
+            out.append("public class EntityTypeAdapterFactory implements TypeAdapterFactory {\n\n");
+            for (Map.Entry<String, String> token : typeTokens.entrySet()) {
+                out.append("    private static final TypeToken<").append(token.getValue()).append("> ")
+                        .append(token.getKey()).append(" =\n            new TypeToken<").append(token.getValue())
+                        .append(">() {\n            };\n");
+            }
+            out.append(FACTORY_CONSTRUCTORS);
+            out.append("    @Override\n");
+            out.append("    @SuppressWarnings(\"unchecked\")\n");
+            out.append("    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {\n");
+            out.append("        Class<? super T> rawType = type.getRawType();\n");
+            out.append(factory);
+            out.append("        return null;\n");
+            out.append("    }\n");
+            out.append(HELPERS);
+            out.append(adapters);
+            out.append("\n}\n");
+            return out.toString();
+        }
+    }
+
+    /**
+     * How a field is read and written, inline for the most common types.
+     */
+    private enum Kind {
+        STRING("readString(in)", "out.value(%s)"),
+        INTEGER("readInteger(in)", "out.value(%s)"),
+        BOOLEAN("readBoolean(in)", "writeBoolean(out, %s)"),
+        INT("readInteger(in)", "out.value(%s)"),
+        DELEGATE(null, null);
+
+        final String read;
+        final String write;
+
+        Kind(String read, String write) {
+            this.read = read;
+            this.write = write;
+        }
+
+        static Kind of(Class<?> type) {
+            if (type == String.class) {
+                return STRING;
+            } else if (type == Integer.class) {
+                return INTEGER;
+            } else if (type == Boolean.class) {
+                return BOOLEAN;
+            } else if (type == int.class) {
+                return INT;
+            }
+            return DELEGATE;
+        }
+    }
+
+    private static final String JAVADOC = ""
+            + "/**\n"
+            + " * Type adapters for all entities, generated from their fields so Gson does not have to build them"
+            + " by reflection\n"
+            + " * on first use. They read and write like Gson's reflective adapters with the default field naming."
+            + " Field names\n"
+            + " * are looked up in a table built once per entity, values of unknown fields are skipped without"
+            + " decoding them,\n"
+            + " * as are the values of fields left out by a {@link Projection}. Values of fields repeated across"
+            + " entities, like\n"
+            + " * the network of a show, are shared through a {@link StringPool}. The {@code long} date times of the"
+            + " slim entities\n"
+            + " * are read without creating a {@link org.joda.time.DateTime}, see {@link EpochMillisTypeAdapter}.\n"
+            + " *\n"
+            + " * <p> Generated, do not edit. Run {@code EntityAdapterGenerator} in the tests after changing an"
+            + " entity, {@code\n"
+            + " * EntityTypeAdapterFactoryTest} fails while this file is out of date.\n"
+            + " */\n";
+
+    private static final String FACTORY_CONSTRUCTORS = ""
+            + "\n"
+            + "    private final Projection projection;\n"
+            + "    private final StringPool strings;\n"
+            + "\n"
+            + "    public EntityTypeAdapterFactory() {\n"
+            + "        this(Projection.ALL);\n"
+            + "    }\n"
+            + "\n"
+            + "    /**\n"
+            + "     * @param projection Fields to skip when reading, see {@link Projection}.\n"
+            + "     */\n"
+            + "    public EntityTypeAdapterFactory(Projection projection) {\n"
+            + "        this(projection, new StringPool());\n"
+            + "    }\n"
+            + "\n"
+            + "    /**\n"
+            + "     * @param projection Fields to skip when reading, see {@link Projection}.\n"
+            + "     * @param strings Shares the values of fields with few distinct values, or {@link"
+            + " StringPool#NONE}.\n"
+            + "     */\n"
+            + "    public EntityTypeAdapterFactory(Projection projection, StringPool strings) {\n"
+            + "        this.projection = projection;\n"
+            + "        this.strings = strings;\n"
+            + "    }\n"
+            + "\n";
+
+    private static final String HELPERS = ""
+            + "\n"
+            + "    /**\n"
+            + "     * Like Gson's adapter for lists of strings, the strings taken from the pool.\n"
+            + "     */\n"
+            + "    private static java.util.List<String> readStrings(JsonReader in, StringPool strings)"
+            + " throws IOException {\n"
+            + "        if (in.peek() == JsonToken.NULL) {\n"
+            + "            in.nextNull();\n"
+            + "            return null;\n"
+            + "        }\n"
+            + "        java.util.List<String> values = new ArrayList<String>();\n"
+            + "        in.beginArray();\n"
+            + "        while (in.hasNext()) {\n"
+            + "            values.add(strings.get(readString(in)));\n"
+            + "        }\n"
+            + "        in.endArray();\n"
+            + "        return values;\n"
+            + "    }\n"
+            + "\n"
+            + "    private static Map<String, Integer> fields(String... names) {\n"
+            + "        Map<String, Integer> fields = new HashMap<String, Integer>(names.length * 2);\n"
+            + "        for (int i = 0; i < names.length; i++) {\n"
+            + "            fields.put(names[i], i);\n"
+            + "        }\n"
+            + "        return fields;\n"
+            + "    }\n"
+            + "\n"
+            + "    /**\n"
+            + "     * Like Gson's adapter for strings, also reads booleans and numbers.\n"
+            + "     */\n"
+            + "    private static String readString(JsonReader in) throws IOException {\n"
+            + "        JsonToken token = in.peek();\n"
+            + "        if (token == JsonToken.NULL) {\n"
+            + "            in.nextNull();\n"
+            + "            return null;\n"
+            + "        }\n"
+            + "        if (token == JsonToken.BOOLEAN) {\n"
+            + "            return Boolean.toString(in.nextBoolean());\n"
+            + "        }\n"
+            + "        return in.nextString();\n"
+            + "    }\n"
+            + "\n"
+            + "    /**\n"
+            + "     * Like Gson's adapter for integers, also reads numeric strings.\n"
+            + "     */\n"
+            + "    private static Integer readInteger(JsonReader in) throws IOException {\n"
+            + "        if (in.peek() == JsonToken.NULL) {\n"
+            + "            in.nextNull();\n"
+            + "            return null;\n"
+            + "        }\n"
+            + "        try {\n"
+            + "            return in.nextInt();\n"
+            + "        } catch (NumberFormatException e) {\n"
+            + "            throw new JsonSyntaxException(e);\n"
+            + "        }\n"
+            + "    }\n"
+            + "\n"
+            + "    /**\n"
+            + "     * Like Gson's adapter for booleans, also reads strings.\n"
+            + "     */\n"
+            + "    private static Boolean readBoolean(JsonReader in) throws IOException {\n"
+            + "        JsonToken token = in.peek();\n"
+            + "        if (token == JsonToken.NULL) {\n"
+            + "            in.nextNull();\n"
+            + "            return null;\n"
+            + "        }\n"
+            + "        if (token == JsonToken.STRING) {\n"
+            + "            return Boolean.parseBoolean(in.nextString());\n"
+            + "        }\n"
+            + "        return in.nextBoolean();\n"
+            + "    }\n"
+            + "\n"
+            + "    private static void writeBoolean(JsonWriter out, Boolean value) throws IOException {\n"
+            + "        if (value == null) {\n"
+            + "            out.nullValue();\n"
+            + "        } else {\n"
+            + "            out.value(value);\n"
+            + "        }\n"
+            + "    }\n"
+            + "\n"
+            + "    /**\n"
+            + "     * Like Gson's reflective adapters, writes all fields of a subclass if the value is one.\n"
+            + "     */\n"
+            + "    @SuppressWarnings(\"unchecked\")\n"
+            + "    private static <T> void writeRuntimeType(Gson gson, TypeAdapter<T> adapter, Class<T> type,"
+            + " JsonWriter out,\n"
+            + "            T value) throws IOException {\n"
+            + "        if (value != null && value.getClass() != type) {\n"
+            + "            adapter = (TypeAdapter<T>) gson.getAdapter(value.getClass());\n"
+            + "        }\n"
+            + "        adapter.write(out, value);\n"
+            + "    }\n";
+
+}
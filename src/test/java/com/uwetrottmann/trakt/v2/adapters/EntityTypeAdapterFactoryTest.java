@@ -0,0 +1,188 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.entities.Images;
+import com.uwetrottmann.trakt.v2.entities.Login;
+import com.uwetrottmann.trakt.v2.entities.MoreImageSizes;
+import com.uwetrottmann.trakt.v2.entities.Show;
+import com.uwetrottmann.trakt.v2.entities.User;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class EntityTypeAdapterFactoryTest {
+
+    private final Gson gson = TraktV2Helper.getGson();
+    /**
+     * Like {@link TraktV2Helper#getGsonBuilder()}, but with Gson's reflective adapters for entities. These write a
+     * {@code long} field with the adapter of its boxed runtime type instead of its {@link
+     * com.google.gson.annotations.JsonAdapter}, the only ones entities have are epoch millis.
+     */
+    private final Gson reflective = new GsonBuilder()
+            .registerTypeAdapter(DateTime.class, new DateTimeTypeAdapter())
+            .registerTypeAdapter(Long.class, new EpochMillisTypeAdapter())
+            .registerTypeAdapterFactory(new TraktEnumTypeAdapterFactory())
+            .create();
+
+    @Test
+    public void test_upToDate() throws Exception {
+        assertThat(read(EntityAdapterGenerator.TARGET))
+                .as("run EntityAdapterGenerator to regenerate EntityTypeAdapterFactory")
+                .isEqualTo(EntityAdapterGenerator.generate());
+    }
+
+    @Test
+    public void test_sameAsReflective() throws Exception {
+        for (Class<?> entity : EntityAdapterGenerator.entityClasses()) {
+            Object value = populate(entity, 2);
+
+            String json = reflective.toJson(value);
+            assertThat(gson.toJson(value)).as(entity.getSimpleName()).isEqualTo(json);
+            assertThat(gson.toJson(gson.fromJson(json, entity))).as(entity.getSimpleName())
+                    .isEqualTo(reflective.toJson(reflective.fromJson(json, entity)));
+        }
+    }
+
+    @Test
+    public void test_unknownFields() {
+        Show show = gson.fromJson("{\"title\":\"Firefly\",\"new_field\":{\"nested\":[1,{\"a\":null}]},\"year\":2002,"
+                + "\"other\":\"value\"}", Show.class);
+
+        assertThat(show.title).isEqualTo("Firefly");
+        assertThat(show.year).isEqualTo(2002);
+    }
+
+    @Test
+    public void test_likeGson() {
+        // null keeps the default of primitives, strings also read booleans and numbers
+        Show show = gson.fromJson("{\"year\":null,\"title\":true,\"runtime\":\"60\",\"network\":42}", Show.class);
+        assertThat(show.year).isEqualTo(0);
+        assertThat(show.title).isEqualTo("true");
+        assertThat(show.runtime).isEqualTo(60);
+        assertThat(show.network).isEqualTo("42");
+
+        // serialized names
+        User user = gson.fromJson("{\"username\":\"sean\",\"private\":true}", User.class);
+        assertThat(user.isPrivate).isTrue();
+        assertThat(gson.toJson(user)).isEqualTo("{\"username\":\"sean\",\"private\":true,\"age\":0}");
+
+        // no default constructor
+        Login login = gson.fromJson("{\"login\":\"sean\"}", Login.class);
+        assertThat(login.login).isEqualTo("sean");
+        assertThat(login.password).isNull();
+
+        try {
+            gson.fromJson("{\"runtime\":\"long\"}", Show.class);
+            fail("should not decode");
+        } catch (JsonSyntaxException expected) {
+        }
+        try {
+            gson.fromJson("{\"ids\":[]}", Show.class);
+            fail("should not decode");
+        } catch (JsonSyntaxException expected) {
+        }
+    }
+
+    @Test
+    public void test_writesRuntimeType() {
+        Images images = new Images();
+        MoreImageSizes banner = new MoreImageSizes();
+        banner.full = "full.jpg";
+        banner.thumb = "thumb.jpg";
+        images.banner = banner;
+
+        assertThat(gson.toJson(images)).isEqualTo(reflective.toJson(images))
+                .isEqualTo("{\"banner\":{\"thumb\":\"thumb.jpg\",\"full\":\"full.jpg\"}}");
+    }
+
+    /**
+     * Creates an instance with all fields set, nested entities down to the given depth.
+     */
+    private static Object populate(Class<?> type, int depth) throws Exception {
+        Object value;
+        try {
+            value = type.newInstance();
+        } catch (InstantiationException e) {
+            value = type.getConstructors()[0].newInstance(new Object[type.getConstructors()[0]
+                    .getParameterTypes().length]);
+        }
+        for (Class<?> raw = type; raw != Object.class; raw = raw.getSuperclass()) {
+            for (Field field : raw.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                    continue;
+                }
+                Object fieldValue = sample(field.getName(), field.getGenericType(), depth);
+                if (fieldValue != null) {
+                    field.set(value, fieldValue);
+                }
+            }
+        }
+        return value;
+    }
+
+    private static Object sample(String name, Type type, int depth) throws Exception {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (((ParameterizedType) type).getRawType() == Map.class) {
+                Map<String, Integer> map = new HashMap<String, Integer>();
+                map.put("10", 3);
+                return map;
+            }
+            Object element = sample(name, arguments[0], depth);
+            return element == null ? null : Collections.singletonList(element);
+        }
+        Class<?> raw = (Class<?>) type;
+        if (raw == String.class) {
+            return name;
+        } else if (raw == Integer.class || raw == int.class) {
+            return name.length();
+        } else if (raw == Boolean.class) {
+            return Boolean.TRUE;
+        } else if (raw == Double.class || raw == double.class) {
+            return name.length() + 0.5;
+        } else if (raw == DateTime.class) {
+            return new DateTime(2014, 9, 1, 9, name.length(), DateTimeZone.UTC);
+        } else if (raw == long.class) {
+            return new DateTime(2014, 9, 1, 9, name.length(), DateTimeZone.UTC).getMillis();
+        } else if (raw == int[].class) {
+            return new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, name.length() };
+        } else if (raw.isEnum()) {
+            return raw.getEnumConstants()[name.length() % raw.getEnumConstants().length];
+        } else if (depth > 0) {
+            return populate(raw, depth - 1);
+        }
+        return null;
+    }
+
+    private static String read(java.io.File file) throws Exception {
+        InputStream in = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int count; (count = in.read(buffer)) != -1; ) {
+                out.write(buffer, 0, count);
+            }
+            return out.toString("UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+}
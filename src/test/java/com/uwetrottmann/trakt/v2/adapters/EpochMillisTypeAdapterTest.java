@@ -0,0 +1,78 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.uwetrottmann.trakt.v2.EntityStream;
+import com.uwetrottmann.trakt.v2.StubClient;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.entities.HistoryEntry;
+import com.uwetrottmann.trakt.v2.entities.SlimHistoryEntry;
+import com.uwetrottmann.trakt.v2.entities.Timestamps;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class EpochMillisTypeAdapterTest {
+
+    private static final String ENTRY = "{\"watched_at\":\"2014-03-31T09:28:53.000Z\",\"action\":\"scrobble\","
+            + "\"movie\":{\"title\":\"TRON: Legacy\",\"year\":2010,\"ids\":{\"trakt\":1}}}";
+
+    private final Gson gson = TraktV2Helper.getGson();
+
+    @Test
+    public void test_read() {
+        HistoryEntry expected = gson.fromJson(ENTRY, HistoryEntry.class);
+        SlimHistoryEntry entry = gson.fromJson(ENTRY, SlimHistoryEntry.class);
+
+        assertThat(entry.watched_at).isEqualTo(expected.watched_at.getMillis());
+        assertThat(entry.watchedAt()).isEqualTo(expected.watched_at);
+        assertThat(entry.action).isEqualTo("scrobble");
+        assertThat(entry.movie.title).isEqualTo("TRON: Legacy");
+
+        assertThat(gson.fromJson("{\"watched_at\":null}", SlimHistoryEntry.class).watched_at)
+                .isEqualTo(Timestamps.NONE);
+        SlimHistoryEntry missing = gson.fromJson("{}", SlimHistoryEntry.class);
+        assertThat(Timestamps.isSet(missing.watched_at)).isFalse();
+        assertThat(missing.watchedAt()).isNull();
+    }
+
+    @Test
+    public void test_fallback() {
+        SlimHistoryEntry entry = gson.fromJson("{\"watched_at\":\"2014-03-31T11:28:53+02:00\"}",
+                SlimHistoryEntry.class);
+        assertThat(entry.watchedAt()).isEqualTo(IsoDateTimeParser.parse("2014-03-31T09:28:53.000Z"));
+
+        try {
+            gson.fromJson("{\"watched_at\":\"yesterday\"}", SlimHistoryEntry.class);
+            fail("should not decode");
+        } catch (JsonSyntaxException expected) {
+        }
+    }
+
+    @Test
+    public void test_write() {
+        SlimHistoryEntry entry = gson.fromJson(ENTRY, SlimHistoryEntry.class);
+        assertThat(gson.toJson(entry)).startsWith("{\"watched_at\":\"2014-03-31T09:28:53.000Z\",");
+        entry.watched_at = Timestamps.NONE;
+        assertThat(gson.toJson(entry)).doesNotContain("watched_at");
+    }
+
+    @Test
+    public void test_reflective() {
+        // without the generated adapters, Gson honors the annotation
+        SlimHistoryEntry entry = new Gson().fromJson(ENTRY, SlimHistoryEntry.class);
+        assertThat(entry.watched_at).isEqualTo(IsoDateTimeParser.parseToMillis("2014-03-31T09:28:53.000Z"));
+    }
+
+    @Test
+    public void test_stream() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, "[" + ENTRY + "]"));
+
+        EntityStream<SlimHistoryEntry> history = trakt.streamingUsers().historyMoviesSlim("sean", 1, 100);
+        assertThat(history.next().watchedAt()).isEqualTo(IsoDateTimeParser.parse("2014-03-31T09:28:53.000Z"));
+        assertThat(history.hasNext()).isFalse();
+    }
+
+}
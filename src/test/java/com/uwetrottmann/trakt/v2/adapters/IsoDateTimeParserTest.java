@@ -0,0 +1,72 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IsoDateTimeParserTest {
+
+    private static final DateTimeFormatter JODA = ISODateTimeFormat.dateTimeParser().withZoneUTC();
+
+    @Test
+    public void test_corpus() throws IOException {
+        BufferedReader corpus = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("/iso8601-corpus.txt"), "UTF-8"));
+        int count = 0;
+        try {
+            String line;
+            while ((line = corpus.readLine()) != null) {
+                if (line.length() > 0 && !line.startsWith("#")) {
+                    assertSameAsJoda(line);
+                    count++;
+                }
+            }
+        } finally {
+            corpus.close();
+        }
+        assertThat(count).isGreaterThan(40);
+    }
+
+    @Test
+    public void test_random() {
+        DateTimeFormatter trakt = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZoneUTC();
+        DateTimeFormatter date = DateTimeFormat.forPattern("yyyy-MM-dd").withZoneUTC();
+        Random random = new Random(42);
+        long min = new DateTime(1, 1, 1, 0, 0, DateTimeZone.UTC).getMillis();
+        long max = new DateTime(9999, 12, 31, 23, 59, DateTimeZone.UTC).getMillis();
+        for (int i = 0; i < 100000; i++) {
+            long millis = min + (long) (random.nextDouble() * (max - min));
+            String value = trakt.print(millis);
+            assertThat(IsoDateTimeParser.parseMillis(value)).as(value).isEqualTo(millis);
+            assertSameAsJoda(date.print(millis));
+        }
+    }
+
+    private static void assertSameAsJoda(String value) {
+        DateTime expected = null;
+        try {
+            expected = JODA.parseDateTime(value);
+        } catch (IllegalArgumentException e) {
+            // must fail as well
+        }
+        DateTime actual = null;
+        try {
+            actual = IsoDateTimeParser.parse(value);
+            assertThat(expected).as(value + " is invalid").isNotNull();
+        } catch (IllegalArgumentException e) {
+            assertThat(expected).as(value + " is valid").isNull();
+        }
+        assertThat(actual).as(value).isEqualTo(expected);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.Gson;
+import com.uwetrottmann.trakt.v2.EntityStream;
+import com.uwetrottmann.trakt.v2.StubClient;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.entities.BaseMovie;
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import com.uwetrottmann.trakt.v2.entities.MovieIds;
+import com.uwetrottmann.trakt.v2.entities.User;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class ProjectionTest {
+
+    private static final String MOVIES = "[{\"plays\":3,\"collected_at\":\"2014-09-01T09:10:11.000Z\",\"movie\":{"
+            + "\"title\":\"TRON: Legacy\",\"year\":2010,\"ids\":{\"trakt\":1,\"slug\":\"tron-legacy-2010\"},"
+            + "\"overview\":\"Sam Flynn...\",\"genres\":[\"action\"],\"rating\":7.25,"
+            + "\"images\":{\"poster\":{\"full\":\"poster.jpg\"}}}}]";
+
+    private static final Projection MATCHING = Projection.builder()
+            .include(BaseMovie.class, "movie")
+            .include(Movie.class, "ids", "title", "year")
+            .include(MovieIds.class, "trakt")
+            .build();
+
+    @Test
+    public void test_skipsFields() {
+        Gson gson = TraktV2Helper.getGsonBuilder(MATCHING).create();
+
+        BaseMovie movie = gson.fromJson(MOVIES.substring(1, MOVIES.length() - 1), BaseMovie.class);
+        assertThat(movie.plays).isEqualTo(0);
+        assertThat(movie.collected_at).isNull();
+        assertThat(movie.movie.title).isEqualTo("TRON: Legacy");
+        assertThat(movie.movie.year).isEqualTo(2010);
+        assertThat(movie.movie.ids.trakt).isEqualTo(1);
+        assertThat(movie.movie.ids.slug).isNull();
+        assertThat(movie.movie.overview).isNull();
+        assertThat(movie.movie.genres).isNull();
+        assertThat(movie.movie.rating).isNull();
+        assertThat(movie.movie.images).isNull();
+
+        // not projected
+        User user = gson.fromJson("{\"username\":\"sean\",\"name\":\"Sean Rudford\"}", User.class);
+        assertThat(user.name).isEqualTo("Sean Rudford");
+    }
+
+    @Test
+    public void test_skipsMalformedValues() {
+        // skipped values are not decoded
+        Gson gson = TraktV2Helper.getGsonBuilder(MATCHING).create();
+        Movie movie = gson.fromJson("{\"title\":\"TRON: Legacy\",\"rating\":\"high\",\"updated_at\":\"yesterday\"}",
+                Movie.class);
+
+        assertThat(movie.title).isEqualTo("TRON: Legacy");
+    }
+
+    @Test
+    public void test_perInstance() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, MOVIES))
+                .setProjection(MATCHING);
+
+        List<BaseMovie> movies = trakt.sync().collectionMovies(null);
+        assertThat(movies.get(0).movie.title).isEqualTo("TRON: Legacy");
+        assertThat(movies.get(0).movie.overview).isNull();
+
+        EntityStream<BaseMovie> stream = trakt.streamingSync().collectionMovies(null);
+        assertThat(stream.next().movie.images).isNull();
+        stream.close();
+
+        trakt.setProjection(null);
+        assertThat(trakt.sync().collectionMovies(null).get(0).movie.overview).isEqualTo("Sam Flynn...");
+    }
+
+    @Test
+    public void test_unknownField() {
+        try {
+            Projection.builder().include(Movie.class, "titel");
+            fail("should not accept unknown field");
+        } catch (IllegalArgumentException expected) {
+        }
+        assertThat(Projection.builder().include(User.class, "private").build().includes(User.class, "private"))
+                .isTrue();
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.uwetrottmann.trakt.v2.EntityStream;
+import com.uwetrottmann.trakt.v2.StubClient;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.entities.Slim;
+import com.uwetrottmann.trakt.v2.entities.SlimBaseEpisode;
+import com.uwetrottmann.trakt.v2.entities.SlimBaseShow;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedEpisode;
+import com.uwetrottmann.trakt.v2.entities.SlimRatedSeason;
+import com.uwetrottmann.trakt.v2.entities.SlimRatings;
+import com.uwetrottmann.trakt.v2.entities.Timestamps;
+import com.uwetrottmann.trakt.v2.enums.Rating;
+import com.uwetrottmann.trakt.v2.enums.RatingsFilter;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class SlimEntitiesTest {
+
+    private static final String SHOWS = "[{\"plays\":3,\"last_watched_at\":\"2014-10-11T17:00:54.000Z\","
+            + "\"show\":{\"title\":\"Breaking Bad\",\"year\":2008,\"overview\":\"Walter White...\","
+            + "\"ids\":{\"trakt\":1388,\"slug\":\"breaking-bad\",\"tvdb\":81189,\"imdb\":\"tt0903747\",\"tmdb\":null}},"
+            + "\"seasons\":[{\"number\":1,\"episodes\":[{\"number\":1,\"plays\":1},{\"number\":2}]}]}]";
+
+    private final Gson gson = TraktV2Helper.getGson();
+
+    @Test
+    public void test_read() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, SHOWS));
+
+        EntityStream<SlimBaseShow> shows = trakt.streamingSync().watchedShowsSlim();
+        SlimBaseShow show = shows.next();
+        assertThat(shows.hasNext()).isFalse();
+
+        assertThat(show.plays).isEqualTo(3);
+        assertThat(show.aired).isEqualTo(Slim.NONE);
+        assertThat(show.lastWatchedAt()).isEqualTo(IsoDateTimeParser.parse("2014-10-11T17:00:54.000Z"));
+        assertThat(show.show.title).isEqualTo("Breaking Bad");
+        assertThat(show.show.year).isEqualTo(2008);
+        assertThat(show.show.ids.trakt).isEqualTo(1388);
+        assertThat(show.show.ids.tvdb).isEqualTo(81189);
+        assertThat(show.show.ids.slug).isEqualTo("breaking-bad");
+        assertThat(show.show.ids.imdb).isEqualTo("tt0903747");
+        assertThat(Slim.isSet(show.show.ids.tmdb)).isFalse();
+        assertThat(Slim.isSet(show.show.ids.tvrage)).isFalse();
+
+        SlimBaseEpisode second = show.seasons.get(0).episodes.get(1);
+        assertThat(show.seasons.get(0).number).isEqualTo(1);
+        assertThat(show.seasons.get(0).episodes.get(0).plays).isEqualTo(1);
+        assertThat(second.number).isEqualTo(2);
+        assertThat(second.plays).isEqualTo(Slim.NONE);
+    }
+
+    @Test
+    public void test_rated() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200,
+                "[{\"rated_at\":\"2014-09-01T09:10:11.000Z\",\"rating\":10,"
+                        + "\"episode\":{\"season\":1,\"number\":1,\"title\":\"Pilot\",\"ids\":{\"trakt\":73482}},"
+                        + "\"show\":{\"title\":\"Breaking Bad\",\"year\":2008,\"ids\":{\"trakt\":1388}}},"
+                        + "{\"rated_at\":null,\"rating\":7,\"season\":{\"number\":2,\"ids\":{\"tvdb\":171641}}}]"));
+
+        EntityStream<SlimRatedEpisode> episodes = trakt.streamingSync().ratingsEpisodesSlim(RatingsFilter.ALL);
+        SlimRatedEpisode episode = episodes.next();
+        assertThat(episode.ratedAt()).isEqualTo(IsoDateTimeParser.parse("2014-09-01T09:10:11.000Z"));
+        assertThat(episode.rating).isEqualTo(Rating.TOTALLYNINJA);
+        assertThat(episode.episode.ids.trakt).isEqualTo(73482);
+        assertThat(episode.show.ids.trakt).isEqualTo(1388);
+        episodes.close();
+
+        EntityStream<SlimRatedSeason> seasons = trakt.streamingUsers().ratingsSeasonsSlim("sean", RatingsFilter.ALL);
+        seasons.next();
+        SlimRatedSeason season = seasons.next();
+        assertThat(season.rated_at).isEqualTo(Timestamps.NONE);
+        assertThat(season.rating).isEqualTo(Rating.GOOD);
+        assertThat(season.season.number).isEqualTo(2);
+        assertThat(season.season.ids.tvdb).isEqualTo(171641);
+        assertThat(season.season.ids.tmdb).isEqualTo(Slim.NONE);
+        assertThat(seasons.hasNext()).isFalse();
+    }
+
+    @Test
+    public void test_ratings() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200,
+                "{\"rating\":8.5,\"votes\":null,\"distribution\":{\"9\":4}}"));
+
+        SlimRatings ratings = trakt.movies().ratingsSlim("tron-legacy-2010");
+        assertThat(ratings.rating).isEqualTo(8.5);
+        assertThat(ratings.votes).isEqualTo(Slim.NONE);
+        assertThat(ratings.distribution).containsExactly(0, 0, 0, 0, 0, 0, 0, 0, 4, 0);
+
+        SlimRatings missing = gson.fromJson("{\"rating\":null}", SlimRatings.class);
+        assertThat(Double.isNaN(missing.rating)).isTrue();
+        assertThat(Double.isNaN(gson.fromJson("{}", SlimRatings.class).rating)).isTrue();
+    }
+
+    @Test
+    public void test_distribution() throws Exception {
+        SlimRatings ratings = gson.fromJson("{\"rating\":7.33,\"votes\":12,\"distribution\":{\"1\":2,\"2\":0,"
+                + "\"10\":8,\"5\":1,\"7\":1,\"other\":3,\"11\":4,\"3\":null}}", SlimRatings.class);
+        assertThat(ratings.rating).isEqualTo(7.33);
+        assertThat(ratings.votes).isEqualTo(12);
+        assertThat(ratings.distribution).containsExactly(2, 0, 0, 0, 1, 0, 1, 0, 0, 8);
+        assertThat(gson.toJson(ratings.distribution, int[].class)).isEqualTo("[2,0,0,0,1,0,1,0,0,8]");
+        assertThat(new RatingDistributionTypeAdapter().toJson(ratings.distribution))
+                .isEqualTo("{\"1\":2,\"2\":0,\"3\":0,\"4\":0,\"5\":1,\"6\":0,\"7\":1,\"8\":0,\"9\":0,\"10\":8}");
+
+        assertThat(gson.fromJson("{\"distribution\":null}", SlimRatings.class).distribution).isNull();
+        try {
+            gson.fromJson("{\"distribution\":{\"1\":\"many\"}}", SlimRatings.class);
+            fail("should not decode");
+        } catch (JsonSyntaxException expected) {
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.entities.HistoryEntry;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StringPoolTest {
+
+    private static final String HISTORY = "[{\"action\":\"scrobble\",\"show\":{\"title\":\"Breaking Bad\","
+            + "\"network\":\"AMC\",\"genres\":[\"drama\",\"crime\"],\"airs\":{\"timezone\":\"America/New_York\"},"
+            + "\"overview\":\"Walter White...\"},\"episode\":{\"title\":\"Pilot\"}},"
+            + "{\"action\":\"scrobble\",\"show\":{\"title\":\"Breaking Bad\","
+            + "\"network\":\"AMC\",\"genres\":[\"drama\",null],\"airs\":{\"timezone\":\"America/New_York\"},"
+            + "\"overview\":\"Walter White...\"},\"episode\":{\"title\":\"Pilot\"}}]";
+
+    @Test
+    public void test_get() {
+        StringPool pool = new StringPool(16);
+        String network = new String("AMC");
+        assertThat(pool.get(network)).isSameAs(network);
+        assertThat(pool.get(new String("AMC"))).isSameAs(network);
+        assertThat(pool.get(null)).isNull();
+
+        // long values are not pooled
+        StringBuilder overview = new StringBuilder();
+        while (overview.length() <= StringPool.MAX_LENGTH) {
+            overview.append("Walter White");
+        }
+        String first = overview.toString();
+        pool.get(first);
+        assertThat(pool.get(overview.toString())).isNotSameAs(first);
+
+        String unpooled = new String("AMC");
+        assertThat(StringPool.NONE.get(unpooled)).isSameAs(unpooled);
+    }
+
+    @Test
+    public void test_bounded() {
+        StringPool pool = new StringPool(4);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(pool.get("network " + i)).isEqualTo("network " + i);
+        }
+    }
+
+    @Test
+    public void test_decode() {
+        List<HistoryEntry> history = decode(TraktV2Helper.getGson());
+        HistoryEntry first = history.get(0);
+        HistoryEntry second = history.get(1);
+        assertThat(second.action).isSameAs(first.action);
+        assertThat(second.show.title).isSameAs(first.show.title);
+        assertThat(second.show.network).isSameAs(first.show.network);
+        assertThat(second.show.genres.get(0)).isSameAs(first.show.genres.get(0));
+        assertThat(second.show.genres.get(1)).isNull();
+        assertThat(second.show.airs.timezone).isSameAs(first.show.airs.timezone);
+        // not pooled
+        assertThat(second.show.overview).isNotSameAs(first.show.overview);
+        assertThat(second.episode.title).isNotSameAs(first.episode.title);
+
+        Gson unpooled = TraktV2Helper.getGsonBuilder()
+                .registerTypeAdapterFactory(new EntityTypeAdapterFactory(Projection.ALL, StringPool.NONE))
+                .create();
+        history = decode(unpooled);
+        assertThat(history.get(1).show.network).isEqualTo("AMC").isNotSameAs(history.get(0).show.network);
+    }
+
+    private static List<HistoryEntry> decode(Gson gson) {
+        return gson.fromJson(HISTORY, new TypeToken<List<HistoryEntry>>() {
+        }.getType());
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.uwetrottmann.trakt.v2.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.entities.CalendarEntry;
+import com.uwetrottmann.trakt.v2.entities.List;
+import com.uwetrottmann.trakt.v2.entities.Show;
+import com.uwetrottmann.trakt.v2.entities.SyncMovie;
+import com.uwetrottmann.trakt.v2.enums.ListPrivacy;
+import com.uwetrottmann.trakt.v2.enums.Rating;
+import com.uwetrottmann.trakt.v2.enums.Status;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeAdaptersTest {
+
+    private final Gson gson = TraktV2Helper.getGson();
+
+    @Test
+    public void test_dateTime() {
+        Show show = gson.fromJson("{\"first_aired\":\"2008-01-20T02:00:00.000Z\",\"updated_at\":null}", Show.class);
+
+        assertThat(show.first_aired).isEqualTo(new DateTime(2008, 1, 20, 2, 0, DateTimeZone.UTC));
+        assertThat(show.updated_at).isNull();
+        assertThat(gson.toJson(show.first_aired)).isEqualTo("\"2008-01-20T02:00:00.000Z\"");
+    }
+
+    @Test
+    public void test_dateTimeMapKeys() {
+        Map<DateTime, java.util.List<CalendarEntry>> calendar = gson.fromJson(
+                "{\"2014-09-01\":[{\"airs_at\":\"2014-09-01T09:00:00.000Z\"}]}",
+                new TypeToken<Map<DateTime, java.util.List<CalendarEntry>>>() {
+                }.getType());
+
+        DateTime day = new DateTime(2014, 9, 1, 0, 0, DateTimeZone.UTC);
+        assertThat(calendar).containsKey(day);
+        assertThat(calendar.get(day).get(0).airs_at).isEqualTo(day.withHourOfDay(9));
+    }
+
+    @Test
+    public void test_enums() {
+        assertThat(gson.fromJson("{\"status\":\"returning series\"}", Show.class).status).isEqualTo(Status.RETURNING);
+        // ignores case
+        assertThat(gson.fromJson("{\"status\":\"Ended\"}", Show.class).status).isEqualTo(Status.ENDED);
+        // unknown values
+        assertThat(gson.fromJson("{\"status\":\"planned\"}", Show.class).status).isNull();
+
+        assertThat(gson.fromJson("{\"rating\":10}", SyncMovie.class).rating).isEqualTo(Rating.TOTALLYNINJA);
+        assertThat(gson.toJson(new SyncMovie().rating(Rating.GOOD))).isEqualTo("{\"rating\":7}");
+
+        assertThat(gson.fromJson("{\"privacy\":\"friends\"}", List.class).privacy).isEqualTo(ListPrivacy.FRIENDS);
+        assertThat(gson.toJson(new List().privacy(ListPrivacy.PRIVATE))).isEqualTo("{\"privacy\":\"private\"}");
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import com.uwetrottmann.trakt.v2.StubClient;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.client.CircuitBreakerOpenException;
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DiskCacheClientTest {
+
+    private static final String MOVIE = "{\"title\":\"TRON: Legacy\",\"year\":2010}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void test_survivesRestart() throws IOException {
+        File directory = folder.newFolder();
+        StubClient server = new StubClient(200, MOVIE);
+
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server)
+                .setDiskCache(new DiskCache(directory, 1024 * 1024).setTtl("/movies/*", 1, TimeUnit.HOURS));
+        assertThat(trakt.movies().summary("tron-legacy-2010", Extended.DEFAULT_MIN).title).isEqualTo("TRON: Legacy");
+
+        // restart
+        DiskCache cache = new DiskCache(directory, 1024 * 1024).setTtl("/movies/*", 1, TimeUnit.HOURS);
+        trakt = new TraktV2().setApiKey("test").setClient(server).setDiskCache(cache);
+        assertThat(trakt.movies().summary("tron-legacy-2010", Extended.DEFAULT_MIN).title).isEqualTo("TRON: Legacy");
+
+        assertThat(server.getRequestCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_onlyConfiguredEndpoints() throws IOException {
+        StubClient server = new StubClient(200, MOVIE);
+        DiskCache cache = new DiskCache(folder.newFolder(), 1024 * 1024).setTtl("/movies/*", 1, TimeUnit.HOURS);
+        DiskCacheClient client = new DiskCacheClient(server, cache);
+
+        client.execute(get("/movies/tron-legacy-2010/comments", null));
+        client.execute(get("/movies/tron-legacy-2010/comments", null));
+
+        assertThat(server.getRequestCount()).isEqualTo(2);
+        assertThat(cache.getEntryCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_excludedEndpoints() throws IOException {
+        StubClient server = new StubClient(200, MOVIE);
+        DiskCache cache = new DiskCache(folder.newFolder(), 1024 * 1024)
+                .setTtl("/movies/trending", 0, TimeUnit.HOURS)
+                .setTtl("/movies/*", 1, TimeUnit.HOURS);
+        DiskCacheClient client = new DiskCacheClient(server, cache);
+
+        client.execute(get("/movies/trending", null));
+        client.execute(get("/movies/trending", null));
+        client.execute(get("/movies/tron-legacy-2010", null));
+        client.execute(get("/movies/tron-legacy-2010", null));
+
+        assertThat(server.getRequestCount()).isEqualTo(3);
+        assertThat(cache.getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_expires() throws IOException {
+        StubClient server = new StubClient(200, MOVIE);
+        DiskCache cache = new DiskCache(folder.newFolder(), 1024 * 1024).setTtl("/movies/*", 1, TimeUnit.MILLISECONDS);
+        DiskCacheClient client = new DiskCacheClient(server, cache);
+
+        client.execute(get("/movies/tron-legacy-2010", null));
+        sleep(5);
+        client.execute(get("/movies/tron-legacy-2010", null));
+
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_separatesAuthenticated() throws IOException {
+        File directory = folder.newFolder();
+        StubClient server = new StubClient(200, MOVIE);
+        DiskCache cache = new DiskCache(directory, 1024 * 1024).setTtl("/movies/*", 1, TimeUnit.HOURS);
+        DiskCacheClient client = new DiskCacheClient(server, cache);
+
+        client.execute(get("/movies/tron-legacy-2010", null));
+        client.execute(get("/movies/tron-legacy-2010", "token"));
+        client.execute(get("/movies/tron-legacy-2010", "other-token"));
+        assertThat(server.getRequestCount()).isEqualTo(3);
+        assertThat(new File(directory, "anonymous").list()).hasSize(1);
+        assertThat(new File(directory, "authenticated").list()).hasSize(2);
+
+        cache.evictAuthenticated();
+        assertThat(new File(directory, "authenticated").list()).isEmpty();
+        client.execute(get("/movies/tron-legacy-2010", null));
+        assertThat(server.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void test_evictsLeastRecentlyUsed() throws IOException {
+        StubClient server = new StubClient(200, MOVIE);
+        DiskCache probe = new DiskCache(folder.newFolder(), 1024 * 1024).setTtl("/movies/*", 1, TimeUnit.HOURS);
+        new DiskCacheClient(server, probe).execute(get("/movies/x", null));
+        // room for two entries
+        long maxBytes = probe.size() * 5 / 2;
+        DiskCache cache = new DiskCache(folder.newFolder(), maxBytes).setTtl("/movies/*", 1, TimeUnit.HOURS);
+        DiskCacheClient client = new DiskCacheClient(server, cache);
+
+        client.execute(get("/movies/a", null));
+        client.execute(get("/movies/b", null));
+        client.execute(get("/movies/a", null));
+        client.execute(get("/movies/c", null));
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.size()).isLessThanOrEqualTo(maxBytes);
+
+        // b was evicted, a is still there
+        client.execute(get("/movies/a", null));
+        assertThat(server.getRequestCount()).isEqualTo(4);
+        client.execute(get("/movies/b", null));
+        assertThat(server.getRequestCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void test_servesExpiredWhileBreakerOpen() throws IOException {
+        final StubClient server = new StubClient(200, MOVIE);
+        Client breaker = new Client() {
+            @Override
+            public Response execute(Request request) throws IOException {
+                if (server.getRequestCount() > 0) {
+                    throw new CircuitBreakerOpenException("open");
+                }
+                return server.execute(request);
+            }
+        };
+        DiskCache cache = new DiskCache(folder.newFolder(), 1024 * 1024).setTtl("/movies/*", 1, TimeUnit.MILLISECONDS);
+        DiskCacheClient client = new DiskCacheClient(breaker, cache);
+
+        client.execute(get("/movies/tron-legacy-2010", null));
+        sleep(5);
+        Response response = client.execute(get("/movies/tron-legacy-2010", null));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getBody().length()).isEqualTo(MOVIE.length());
+        assertThat(cache.getStaleHitCount()).isEqualTo(1);
+    }
+
+    private static Request get(String path, String token) {
+        List<Header> headers = token == null ? Collections.<Header>emptyList()
+                : Collections.singletonList(new Header(TraktV2.HEADER_USER_TOKEN, token));
+        return new Request("GET", TraktV2.API_URL + path, headers, null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import com.uwetrottmann.trakt.v2.StubClient;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.adapters.Projection;
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityCacheTest {
+
+    private static final String MOVIE = "{\"title\":\"TRON: Legacy\",\"year\":2010}";
+
+    @Test
+    public void test_summaryServedFromCache() {
+        StubClient server = new StubClient(200, MOVIE);
+        EntityCache cache = new EntityCache();
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server).setEntityCache(cache);
+
+        Movie first = trakt.movies().summary("tron-legacy-2010", Extended.FULL);
+        Movie second = trakt.movies().summary("tron-legacy-2010", Extended.FULL);
+        // different level of detail
+        trakt.movies().summary("tron-legacy-2010", Extended.DEFAULT_MIN);
+        // not cacheable
+        trakt.movies().ratings("tron-legacy-2010");
+
+        assertThat(second).isSameAs(first);
+        assertThat(server.getRequestCount()).isEqualTo(3);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_separatesDecoding() {
+        StubClient server = new StubClient(200, MOVIE);
+        EntityCache cache = new EntityCache();
+        TraktV2 full = new TraktV2().setApiKey("test").setClient(server).setEntityCache(cache);
+        TraktV2 projected = new TraktV2().setApiKey("test").setClient(server).setEntityCache(cache)
+                .setProjection(Projection.builder().include(Movie.class, "title").build());
+        TraktV2 projectedAlike = new TraktV2().setApiKey("test").setClient(server).setEntityCache(cache)
+                .setProjection(Projection.builder().include(Movie.class, "title").build());
+
+        Movie movie = full.movies().summary("tron-legacy-2010", Extended.FULL);
+        Movie projectedMovie = projected.movies().summary("tron-legacy-2010", Extended.FULL);
+
+        assertThat(movie.year).isEqualTo(2010);
+        assertThat(projectedMovie.year).isNull();
+        assertThat(projectedAlike.movies().summary("tron-legacy-2010", Extended.FULL)).isSameAs(projectedMovie);
+        assertThat(full.movies().summary("tron-legacy-2010", Extended.FULL)).isSameAs(movie);
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_expires() throws InterruptedException {
+        EntityCache cache = new EntityCache(1024 * 1024, 1, TimeUnit.MILLISECONDS);
+        EntityCache.Key key = new EntityCache.Key("Movies.summary", "tron-legacy-2010", Extended.FULL);
+
+        cache.put(key, movie("TRON: Legacy"));
+        Thread.sleep(5);
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.getExpirationCount()).isEqualTo(1);
+        assertThat(cache.getWeight()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_evictsByWeight() {
+        long weight = EntityWeigher.weigh(movie("TRON: Legacy"));
+        // each segment has room for two movies
+        EntityCache cache = new EntityCache(weight * 2 * 16, 1, TimeUnit.HOURS);
+
+        for (int i = 0; i < 200; i++) {
+            cache.put(new EntityCache.Key("Movies.summary", "movie-" + i, null), movie("TRON: Legacy"));
+        }
+
+        assertThat(cache.getWeight()).isLessThanOrEqualTo(cache.getMaxWeight());
+        assertThat(cache.getEvictionCount()).isEqualTo(200 - cache.size());
+        // the most recently added one is always kept
+        assertThat(cache.get(new EntityCache.Key("Movies.summary", "movie-199", null), Movie.class).title)
+                .isEqualTo("TRON: Legacy");
+    }
+
+    @Test
+    public void test_weighsLargerEntitiesHeavier() {
+        Movie movie = movie("TRON: Legacy");
+        Movie detailed = movie("TRON: Legacy");
+        detailed.overview = "The son of a virtual world designer goes looking for his father and ends up inside the "
+                + "digital world that his father designed.";
+
+        assertThat(EntityWeigher.weigh(detailed)).isGreaterThan(EntityWeigher.weigh(movie));
+    }
+
+    private static Movie movie(String title) {
+        Movie movie = new Movie();
+        movie.title = title;
+        movie.year = 2010;
+        return movie;
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.uwetrottmann.trakt.v2.cache;
+
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.entities.Genre;
+import com.uwetrottmann.trakt.v2.lazy.LazyList;
+import org.junit.Test;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedByteArray;
+import retrofit.mime.TypedInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ValidatorCacheClientTest {
+
+    private static final String GENRES = "[{\"name\":\"Action\",\"slug\":\"action\"}]";
+
+    @Test
+    public void test_notModifiedServesDecodedEntity() {
+        EtagClient server = new EtagClient("\"v1\"");
+        ValidatorCache cache = new ValidatorCache();
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server).setValidatorCache(cache);
+
+        List<Genre> first = trakt.genres().movies();
+        List<Genre> second = trakt.genres().movies();
+
+        assertThat(first.get(0).name).isEqualTo("Action");
+        // not decoded again
+        assertThat(second).isSameAs(first);
+        assertThat(server.ifNoneMatch).containsExactly(null, "\"v1\"");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_changedBodyReplacesEntry() {
+        EtagClient server = new EtagClient("\"v1\"");
+        ValidatorCache cache = new ValidatorCache();
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server).setValidatorCache(cache);
+
+        List<Genre> first = trakt.genres().movies();
+        server.etag = "\"v2\"";
+        List<Genre> second = trakt.genres().movies();
+        List<Genre> third = trakt.genres().movies();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(third).isSameAs(second);
+        assertThat(server.ifNoneMatch).containsExactly(null, "\"v1\"", "\"v2\"");
+    }
+
+    @Test
+    public void test_separatesDecoding() {
+        EtagClient server = new EtagClient("\"v1\"");
+        ValidatorCache cache = new ValidatorCache();
+        TraktV2 eager = new TraktV2().setApiKey("test").setClient(server).setValidatorCache(cache);
+        TraktV2 lazy = new TraktV2().setApiKey("test").setClient(server).setValidatorCache(cache).setLazyLists(true);
+
+        List<Genre> first = eager.genres().movies();
+        List<Genre> lazyFirst = lazy.genres().movies();
+        List<Genre> lazySecond = lazy.genres().movies();
+
+        assertThat(first).isNotInstanceOf(LazyList.class);
+        // served from the shared cache, but decoded again
+        assertThat(lazyFirst).isInstanceOf(LazyList.class).isNotSameAs(first);
+        assertThat(lazySecond).isSameAs(lazyFirst);
+        assertThat(eager.genres().movies()).isSameAs(first);
+        assertThat(server.ifNoneMatch).containsExactly(null, "\"v1\"", "\"v1\"", "\"v1\"");
+    }
+
+    @Test
+    public void test_separatesUsers() throws IOException {
+        EtagClient server = new EtagClient("\"v1\"");
+        ValidatorCacheClient client = new ValidatorCacheClient(server, new ValidatorCache());
+
+        client.execute(get("https://example.com/users/me", "token-a"));
+        client.execute(get("https://example.com/users/me", "token-b"));
+        client.execute(get("https://example.com/users/me", "token-a"));
+
+        assertThat(server.ifNoneMatch).containsExactly(null, null, "\"v1\"");
+        assertThat(client.getCache().size()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_evictsLeastRecentlyUsed() throws IOException {
+        EtagClient server = new EtagClient("\"v1\"");
+        ValidatorCacheClient client = new ValidatorCacheClient(server, new ValidatorCache(2, 1024));
+
+        client.execute(get("https://example.com/a", null));
+        client.execute(get("https://example.com/b", null));
+        client.execute(get("https://example.com/a", null));
+        client.execute(get("https://example.com/c", null));
+
+        assertThat(client.getCache().size()).isEqualTo(2);
+        assertThat(client.getCache().getEvictionCount()).isEqualTo(1);
+        client.execute(get("https://example.com/b", null));
+        assertThat(server.ifNoneMatch.get(4)).isNull();
+    }
+
+    @Test
+    public void test_largeBodyOfUnknownLengthIsNotBuffered() throws IOException {
+        final byte[] large = new byte[100 * 1024];
+        Arrays.fill(large, (byte) ' ');
+        final ByteArrayInputStream stream = new ByteArrayInputStream(large);
+        Client server = new Client() {
+            @Override
+            public Response execute(Request request) {
+                // like a decompressed response, the length is not known
+                return new Response(request.getUrl(), 200, "OK",
+                        Collections.singletonList(new Header("ETag", "\"v1\"")), new TypedInput() {
+                    @Override
+                    public String mimeType() {
+                        return "application/json";
+                    }
+
+                    @Override
+                    public long length() {
+                        return -1;
+                    }
+
+                    @Override
+                    public InputStream in() {
+                        return stream;
+                    }
+                });
+            }
+        };
+        ValidatorCacheClient client = new ValidatorCacheClient(server, new ValidatorCache(10, 1024));
+
+        Response response = client.execute(get("https://example.com/sync/history", null));
+        // stopped reading once the body exceeded the limit
+        assertThat(large.length - stream.available()).isEqualTo(1025);
+        assertThat(client.getCache().size()).isEqualTo(0);
+
+        InputStream in = response.getBody().in();
+        int count = 0;
+        while (in.read() != -1) {
+            count++;
+        }
+        assertThat(count).isEqualTo(large.length);
+    }
+
+    @Test
+    public void test_canonicalUrl() {
+        assertThat(CacheKeys.canonicalUrl("HTTPS://Api.Trakt.tv/movies/trending?page=2&limit=10"))
+                .isEqualTo("https://api.trakt.tv/movies/trending?limit=10&page=2");
+        assertThat(CacheKeys.canonicalUrl("https://api.trakt.tv/movies/trending"))
+                .isEqualTo("https://api.trakt.tv/movies/trending");
+    }
+
+    private static Request get(String url, String token) {
+        List<Header> headers = token == null ? Collections.<Header>emptyList()
+                : Collections.singletonList(new Header(TraktV2.HEADER_USER_TOKEN, token));
+        return new Request("GET", url, headers, null);
+    }
+
+    /**
+     * Answers with {@code 304} if the request carries the current ETag.
+     */
+    private static class EtagClient implements Client {
+
+        private final List<String> ifNoneMatch = new ArrayList<String>();
+        private volatile String etag;
+
+        EtagClient(String etag) {
+            this.etag = etag;
+        }
+
+        @Override
+        public Response execute(Request request) throws IOException {
+            String condition = CacheKeys.headerValue(request.getHeaders(), "If-None-Match");
+            ifNoneMatch.add(condition);
+            List<Header> headers = Collections.singletonList(new Header("ETag", etag));
+            if (etag.equals(condition)) {
+                return new Response(request.getUrl(), 304, "Not Modified", headers, null);
+            }
+            return new Response(request.getUrl(), 200, "OK", headers,
+                    new TypedByteArray("application/json", GENRES.getBytes("UTF-8")));
+        }
+    }
+
+}
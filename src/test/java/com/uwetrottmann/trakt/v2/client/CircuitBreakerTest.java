@@ -0,0 +1,150 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import com.uwetrottmann.trakt.v2.StubClient;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.cache.ValidatorCache;
+import com.uwetrottmann.trakt.v2.entities.Genre;
+import org.junit.Test;
+import retrofit.RetrofitError;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedByteArray;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void test_opensOnFailureRate() throws IOException {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5f, 1f, 10000, 60000, 1);
+        RecordingListener listener = new RecordingListener();
+        breaker.addListener(listener);
+        StubClient server = new StubClient(503, null);
+        CircuitBreakerClient client = new CircuitBreakerClient(server, breaker);
+
+        for (int i = 0; i < 4; i++) {
+            client.execute(get());
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(listener.changes).containsExactly("CLOSED->OPEN");
+
+        try {
+            client.execute(get());
+            fail("expected the breaker to reject the call");
+        } catch (CircuitBreakerOpenException expected) {
+        }
+        assertThat(server.getRequestCount()).isEqualTo(4);
+        assertThat(breaker.getRejectedCallCount()).isEqualTo(1);
+        assertThat(breaker.getOpenCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_opensOnSlowCallRate() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 1f, 0.5f, 100, 60000, 1);
+
+        breaker.record(false, 0);
+        breaker.record(false, 0);
+        breaker.record(false, 200000000L);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.record(false, 200000000L);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void test_halfOpenThenClosed() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(10, 2, 0.5f, 1f, 10000, 10, 2);
+        RecordingListener listener = new RecordingListener();
+        breaker.addListener(listener);
+        breaker.record(true, 0);
+        breaker.record(true, 0);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(20);
+        CircuitBreakerClient client = new CircuitBreakerClient(new StubClient(200, "{}"), breaker);
+        client.execute(get());
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        client.execute(get());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(listener.changes).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    public void test_halfOpenFailureOpensAgain() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(10, 2, 0.5f, 1f, 10000, 10, 2);
+        breaker.record(true, 0);
+        breaker.record(true, 0);
+
+        Thread.sleep(20);
+        CircuitBreakerClient client = new CircuitBreakerClient(new StubClient(500, null), breaker);
+        client.execute(get());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.getOpenCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_servesFromCacheWhileOpen() {
+        SwitchableClient server = new SwitchableClient();
+        CircuitBreaker breaker = new CircuitBreaker(10, 2, 0.5f, 1f, 10000, 60000, 1);
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(server)
+                .setValidatorCache(new ValidatorCache())
+                .setCircuitBreaker(breaker);
+
+        List<Genre> genres = trakt.genres().movies();
+        server.failing = true;
+        for (int i = 0; i < 2; i++) {
+            try {
+                trakt.genres().shows();
+            } catch (RetrofitError expected) {
+            }
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(trakt.genres().movies()).isSameAs(genres);
+        try {
+            trakt.genres().shows();
+            fail("expected the breaker to reject the call");
+        } catch (RetrofitError e) {
+            assertThat(e.getCause()).isInstanceOf(CircuitBreakerOpenException.class);
+        }
+    }
+
+    private static Request get() {
+        return new Request("GET", "https://example.com/genres/movies", Collections.<Header>emptyList(), null);
+    }
+
+    private static class RecordingListener implements CircuitBreaker.Listener {
+
+        private final List<String> changes = new ArrayList<String>();
+
+        @Override
+        public void onStateChange(CircuitBreaker breaker, CircuitBreaker.State from, CircuitBreaker.State to) {
+            changes.add(from + "->" + to);
+        }
+    }
+
+    private static class SwitchableClient implements Client {
+
+        private volatile boolean failing;
+
+        @Override
+        public Response execute(Request request) throws IOException {
+            if (failing) {
+                return new Response(request.getUrl(), 503, "", Collections.<Header>emptyList(), null);
+            }
+            return new Response(request.getUrl(), 200, "OK", Collections.singletonList(new Header("ETag", "\"1\"")),
+                    new TypedByteArray("application/json", "[{\"name\":\"Action\"}]".getBytes("UTF-8")));
+        }
+    }
+
+}
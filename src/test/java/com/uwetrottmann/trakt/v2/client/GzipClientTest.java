@@ -0,0 +1,146 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import com.uwetrottmann.trakt.v2.TraktV2Helper;
+import com.uwetrottmann.trakt.v2.entities.Show;
+import org.junit.Test;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.converter.GsonConverter;
+import retrofit.mime.TypedByteArray;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GzipClientTest {
+
+    private static final String SHOW = "{\"title\":\"Breaking Bad\",\"year\":2008,\"ids\":{\"trakt\":1388}}";
+
+    @Test
+    public void test_gzip() throws Exception {
+        byte[] compressed = gzip(SHOW);
+        EncodingClient delegate = new EncodingClient("gzip", compressed);
+        GzipClient client = new GzipClient(delegate);
+
+        Response response = client.execute(get());
+        assertThat(PooledClient.headerValue(delegate.request.getHeaders(), "Accept-Encoding"))
+                .isEqualTo("gzip, deflate");
+        assertThat(PooledClient.headerValue(response.getHeaders(), "Content-Encoding")).isNull();
+        assertThat(PooledClient.headerValue(response.getHeaders(), "Content-Length")).isNull();
+        assertThat(response.getBody().length()).isEqualTo(-1);
+
+        Show show = (Show) new GsonConverter(TraktV2Helper.getGson()).fromBody(response.getBody(), Show.class);
+        assertThat(show.title).isEqualTo("Breaking Bad");
+        assertThat(show.ids.trakt).isEqualTo(1388);
+
+        CompressionStats stats = client.getStats();
+        assertThat(stats.getCompressedResponseCount()).isEqualTo(1);
+        assertThat(stats.getCompressedBytes()).isEqualTo(compressed.length);
+        assertThat(stats.getDecompressedBytes()).isEqualTo(SHOW.getBytes("UTF-8").length);
+        assertThat(stats.getUncompressedResponseCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_deflate() throws IOException {
+        // zlib wrapped, as the spec says
+        assertThat(read(new GzipClient(new EncodingClient("deflate", deflate(SHOW, false))).execute(get())))
+                .isEqualTo(SHOW);
+        // raw deflate, as some servers send it
+        assertThat(read(new GzipClient(new EncodingClient("deflate", deflate(SHOW, true))).execute(get())))
+                .isEqualTo(SHOW);
+    }
+
+    @Test
+    public void test_uncompressed() throws IOException {
+        GzipClient client = new GzipClient(new EncodingClient(null, SHOW.getBytes("UTF-8")));
+
+        Response response = client.execute(get());
+        assertThat(response.getBody().length()).isEqualTo(SHOW.length());
+        assertThat(read(response)).isEqualTo(SHOW);
+        assertThat(client.getStats().getUncompressedResponseCount()).isEqualTo(1);
+        assertThat(client.getStats().getUncompressedBytes()).isEqualTo(SHOW.length());
+        assertThat(client.getStats().getCompressedResponseCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_acceptEncodingSetByCaller() throws IOException {
+        EncodingClient delegate = new EncodingClient("gzip", gzip(SHOW));
+        GzipClient client = new GzipClient(delegate);
+
+        Response response = client.execute(new Request("GET", "https://example.com/shows/1",
+                Collections.singletonList(new Header("Accept-Encoding", "gzip")), null));
+        // the caller asked for it, so the caller decodes it
+        assertThat(PooledClient.headerValue(response.getHeaders(), "Content-Encoding")).isEqualTo("gzip");
+        assertThat(client.getStats().getCompressedResponseCount()).isEqualTo(0);
+    }
+
+    private static Request get() {
+        return new Request("GET", "https://example.com/shows/1", Collections.<Header>emptyList(), null);
+    }
+
+    private static byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        OutputStream out = new GZIPOutputStream(bytes);
+        out.write(value.getBytes("UTF-8"));
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private static byte[] deflate(String value, boolean raw) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        OutputStream out = new DeflaterOutputStream(bytes, new Deflater(Deflater.DEFAULT_COMPRESSION, raw));
+        out.write(value.getBytes("UTF-8"));
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private static String read(Response response) throws IOException {
+        InputStream in = response.getBody().in();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                out.write(buffer, 0, count);
+            }
+            return new String(out.toByteArray(), "UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    private static class EncodingClient implements Client {
+
+        private final String encoding;
+        private final byte[] body;
+        private Request request;
+
+        EncodingClient(String encoding, byte[] body) {
+            this.encoding = encoding;
+            this.body = body;
+        }
+
+        @Override
+        public Response execute(Request request) {
+            this.request = request;
+            List<Header> headers = new ArrayList<Header>();
+            headers.add(new Header("Content-Length", String.valueOf(body.length)));
+            if (encoding != null) {
+                headers.add(new Header("Content-Encoding", encoding));
+            }
+            return new Response(request.getUrl(), 200, "OK", headers, new TypedByteArray("application/json", body));
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import org.junit.Test;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedString;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GzipRequestClientTest {
+
+    private static final String SMALL = "{\"movies\":[]}";
+    private static final String LARGE = largeBody();
+
+    @Test
+    public void test_compressesLargeBody() throws IOException {
+        RecordingClient delegate = new RecordingClient(201);
+        GzipRequestClient client = new GzipRequestClient(delegate, 1024, new CompressionStats());
+
+        assertThat(client.execute(post(LARGE)).getStatus()).isEqualTo(201);
+        assertThat(delegate.encodings).containsExactly("gzip");
+        assertThat(delegate.bodies).containsExactly(LARGE);
+
+        CompressionStats stats = client.getStats();
+        assertThat(stats.getCompressedRequestCount()).isEqualTo(1);
+        assertThat(stats.getRequestBytes()).isEqualTo(LARGE.length());
+        assertThat(stats.getCompressedRequestBytes()).isLessThan(LARGE.length());
+    }
+
+    @Test
+    public void test_smallBodyUncompressed() throws IOException {
+        RecordingClient delegate = new RecordingClient(201);
+        GzipRequestClient client = new GzipRequestClient(delegate, 1024, new CompressionStats());
+
+        client.execute(post(SMALL));
+        assertThat(delegate.encodings).containsExactly((String) null);
+        assertThat(delegate.bodies).containsExactly(SMALL);
+        assertThat(client.getStats().getCompressedRequestCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_fallbackIfRejected() throws IOException {
+        RecordingClient delegate = new RecordingClient(415);
+        GzipRequestClient client = new GzipRequestClient(delegate, 1024, new CompressionStats());
+
+        client.execute(post(LARGE));
+        // retried uncompressed
+        assertThat(delegate.encodings).containsExactly("gzip", null);
+        assertThat(delegate.bodies).containsExactly(LARGE, LARGE);
+        assertThat(client.getStats().getRejectedRequestCount()).isEqualTo(1);
+
+        // no further attempts for this host
+        client.execute(post(LARGE));
+        assertThat(delegate.encodings).containsExactly("gzip", null, null);
+    }
+
+    private static Request post(String body) {
+        return new Request("POST", "https://example.com/sync/collection", Collections.<Header>emptyList(),
+                new TypedString(body));
+    }
+
+    private static String largeBody() {
+        StringBuilder body = new StringBuilder("{\"movies\":[");
+        for (int i = 0; i < 200; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"ids\":{\"trakt\":").append(i).append("}}");
+        }
+        return body.append("]}").toString();
+    }
+
+    /**
+     * Records the decoded bodies and encodings of requests and answers them with a fixed status.
+     */
+    private static class RecordingClient implements Client {
+
+        private final int status;
+        private final List<String> encodings = new ArrayList<String>();
+        private final List<String> bodies = new ArrayList<String>();
+
+        RecordingClient(int status) {
+            this.status = status;
+        }
+
+        @Override
+        public Response execute(Request request) throws IOException {
+            String encoding = PooledClient.headerValue(request.getHeaders(), "Content-Encoding");
+            encodings.add(encoding);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            request.getBody().writeTo(out);
+            InputStream in = new ByteArrayInputStream(out.toByteArray());
+            if ("gzip".equals(encoding)) {
+                in = new GZIPInputStream(in);
+            }
+            bodies.add(read(in));
+            return new Response(request.getUrl(), "gzip".equals(encoding) ? status : 201, "",
+                    Collections.<Header>emptyList(), null);
+        }
+
+        private static String read(InputStream in) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                out.write(buffer, 0, count);
+            }
+            return new String(out.toByteArray(), "UTF-8");
+        }
+    }
+
+}
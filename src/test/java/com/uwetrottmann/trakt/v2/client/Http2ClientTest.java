@@ -0,0 +1,133 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Runs against a local HTTP/1.1 stub, so the h2c upgrade attempted by the JDK client falls back to HTTP/1.1.
+ */
+public class Http2ClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws IOException {
+        assumeTrue(Http2Client.isSupported());
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/shows", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                byte[] request = drain(exchange.getRequestBody());
+                String path = exchange.getRequestURI().getPath();
+                byte[] body = (request.length > 0 ? new String(request, "UTF-8") : "{\"title\":\"" + path + "\"}")
+                        .getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void test_get() throws IOException {
+        Http2Client client = new Http2Client();
+
+        Response response = client.execute(get("/shows/1"));
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getBody().mimeType()).isEqualTo("application/json");
+        assertThat(read(response)).isEqualTo("{\"title\":\"/shows/1\"}");
+        assertThat(client.getHttp2ResponseCount() + client.getHttp11ResponseCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_post() throws IOException {
+        Http2Client client = new Http2Client();
+
+        Response response = client.execute(new Request("POST", baseUrl + "/shows", Collections.<Header>emptyList(),
+                new TypedString("{\"title\":\"posted\"}")));
+        assertThat(read(response)).isEqualTo("{\"title\":\"posted\"}");
+    }
+
+    @Test
+    public void test_concurrentRequests() throws Exception {
+        final Http2Client client = new Http2Client();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 100; i++) {
+                final String path = "/shows/" + i;
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        return read(client.execute(get(path)));
+                    }
+                }));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertThat(results.get(i).get()).isEqualTo("{\"title\":\"/shows/" + i + "\"}");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Request get(String path) {
+        return new Request("GET", baseUrl + path, Collections.<Header>emptyList(), null);
+    }
+
+    private static String read(Response response) throws IOException {
+        InputStream in = response.getBody().in();
+        try {
+            return new String(drain(in), "UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    private static byte[] drain(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            out.write(buffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+
+}
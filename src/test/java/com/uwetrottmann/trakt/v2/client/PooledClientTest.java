@@ -0,0 +1,387 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class PooledClientTest {
+
+    private static final String BODY = "[{\"name\":\"Action\",\"slug\":\"action\"}]";
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/genres", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                drain(exchange.getRequestBody());
+                byte[] body = BODY.getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            }
+        });
+        server.createContext("/chunked", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, 0);
+                OutputStream out = exchange.getResponseBody();
+                for (int i = 0; i < 100; i++) {
+                    out.write(BODY.getBytes("UTF-8"));
+                    out.flush();
+                }
+                exchange.close();
+            }
+        });
+        server.createContext("/checkin", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+            }
+        });
+        server.createContext("/redirect", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                drain(exchange.getRequestBody());
+                String path = exchange.getRequestURI().getPath();
+                String location = path.endsWith("/moved") ? "/genres"
+                        : path.endsWith("/loop") ? path
+                        : "https://127.0.0.1:" + server.getAddress().getPort() + "/genres";
+                byte[] body = "moved".getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Location", location);
+                exchange.sendResponseHeaders(path.endsWith("/moved") ? 301 : 302, body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void test_connectionIsReused() throws IOException {
+        ConnectionPool pool = new ConnectionPool();
+        PooledClient client = new PooledClient(pool);
+
+        for (int i = 0; i < 3; i++) {
+            Response response = client.execute(get("/genres"));
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(read(response)).isEqualTo(BODY);
+        }
+
+        assertThat(pool.getCreatedCount()).isEqualTo(1);
+        assertThat(pool.getReusedCount()).isEqualTo(2);
+        assertThat(pool.getIdleConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_chunkedBodyClosedEarlyIsDrained() throws IOException {
+        ConnectionPool pool = new ConnectionPool();
+        PooledClient client = new PooledClient(pool);
+
+        Response response = client.execute(get("/chunked"));
+        InputStream in = response.getBody().in();
+        assertThat(in.read()).isEqualTo('[');
+        in.close();
+        assertThat(pool.getIdleConnectionCount()).isEqualTo(1);
+
+        assertThat(read(client.execute(get("/genres")))).isEqualTo(BODY);
+        assertThat(pool.getCreatedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_responseWithoutBodyReleasesConnection() throws IOException {
+        ConnectionPool pool = new ConnectionPool(5, ConnectionPool.DEFAULT_KEEP_ALIVE_DURATION_MILLIS, 1);
+        PooledClient client = new PooledClient(pool, 200, 1000);
+
+        Response response = client.execute(new Request("DELETE", baseUrl + "/checkin",
+                Collections.<Header>emptyList(), null));
+        assertThat(response.getStatus()).isEqualTo(204);
+        assertThat(response.getBody()).isNull();
+        assertThat(pool.getIdleConnectionCount()).isEqualTo(1);
+
+        // would time out waiting for a connection if the previous one was not released
+        Response post = client.execute(new Request("POST", baseUrl + "/genres", Collections.<Header>emptyList(),
+                new TypedString("{}")));
+        assertThat(read(post)).isEqualTo(BODY);
+    }
+
+    @Test
+    public void test_followsRedirects() throws IOException {
+        ConnectionPool pool = new ConnectionPool(5, ConnectionPool.DEFAULT_KEEP_ALIVE_DURATION_MILLIS, 1);
+        PooledClient client = new PooledClient(pool, 200, 1000);
+
+        Response response = client.execute(get("/redirect/moved"));
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getUrl()).isEqualTo(baseUrl + "/genres");
+        assertThat(read(response)).isEqualTo(BODY);
+        // the body of the redirect was drained, its connection re-used
+        assertThat(pool.getCreatedCount()).isEqualTo(1);
+
+        // not followed for other methods, nor to another protocol
+        Response post = client.execute(new Request("POST", baseUrl + "/redirect/moved",
+                Collections.<Header>emptyList(), new TypedString("{}")));
+        assertThat(post.getStatus()).isEqualTo(301);
+        read(post);
+        Response https = client.execute(get("/redirect/https"));
+        assertThat(https.getStatus()).isEqualTo(302);
+        read(https);
+
+        try {
+            client.execute(get("/redirect/loop"));
+            fail("should not follow endlessly");
+        } catch (ProtocolException expected) {
+        }
+        // the last redirect released its connection as well
+        assertThat(read(client.execute(get("/genres")))).isEqualTo(BODY);
+    }
+
+    @Test
+    public void test_perHostLimit() throws IOException {
+        ConnectionPool pool = new ConnectionPool(5, ConnectionPool.DEFAULT_KEEP_ALIVE_DURATION_MILLIS, 1);
+        PooledClient client = new PooledClient(pool, 200, 1000);
+
+        Response open = client.execute(get("/genres"));
+        try {
+            client.execute(get("/genres"));
+            fail("expected to time out waiting for a connection");
+        } catch (SocketTimeoutException expected) {
+        }
+
+        read(open);
+        assertThat(read(client.execute(get("/genres")))).isEqualTo(BODY);
+    }
+
+    @Test
+    public void test_waitForConnectionWithoutTimeout() throws Exception {
+        ConnectionPool pool = new ConnectionPool(5, ConnectionPool.DEFAULT_KEEP_ALIVE_DURATION_MILLIS, 1);
+        final PooledClient client = new PooledClient(pool, 200, 1000).setConnectionWaitTimeoutMillis(0);
+
+        Response open = client.execute(get("/genres"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> waiting = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return read(client.execute(get("/genres")));
+                }
+            });
+            // waits longer than the connect timeout
+            Thread.sleep(400);
+            assertThat(waiting.isDone()).isFalse();
+
+            read(open);
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo(BODY);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_idleConnectionsAreEvicted() throws IOException {
+        ConnectionPool pool = new ConnectionPool(0, ConnectionPool.DEFAULT_KEEP_ALIVE_DURATION_MILLIS, 5);
+        PooledClient client = new PooledClient(pool);
+
+        read(client.execute(get("/genres")));
+        read(client.execute(get("/genres")));
+
+        assertThat(pool.getCreatedCount()).isEqualTo(2);
+        assertThat(pool.getConnectionCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_staleConnectionIsRetried() throws Exception {
+        RawServer raw = new RawServer(RawServer.CLOSE);
+        try {
+            ConnectionPool pool = new ConnectionPool();
+            PooledClient client = new PooledClient(pool, 1000, 1000);
+
+            assertThat(read(client.execute(raw.request("GET")))).isEqualTo("[]");
+            // the server closes the connection instead of responding, sent again on a new one
+            assertThat(read(client.execute(raw.request("GET")))).isEqualTo("[]");
+            assertThat(raw.requests.get()).isEqualTo(3);
+            assertThat(pool.getCreatedCount()).isEqualTo(2);
+        } finally {
+            raw.close();
+        }
+    }
+
+    @Test
+    public void test_staleConnectionDoesNotReplayPost() throws Exception {
+        RawServer raw = new RawServer(RawServer.CLOSE);
+        try {
+            PooledClient client = new PooledClient(new ConnectionPool(), 1000, 1000);
+
+            read(client.execute(raw.request("GET")));
+            try {
+                client.execute(raw.request("POST"));
+                fail("expected the closed connection to fail the request");
+            } catch (IOException expected) {
+            }
+            assertThat(raw.requests.get()).isEqualTo(2);
+        } finally {
+            raw.close();
+        }
+    }
+
+    @Test
+    public void test_readTimeoutIsNotRetried() throws Exception {
+        RawServer raw = new RawServer(RawServer.STALL);
+        try {
+            PooledClient client = new PooledClient(new ConnectionPool(), 1000, 200);
+
+            read(client.execute(raw.request("GET")));
+            try {
+                client.execute(raw.request("GET"));
+                fail("expected to time out reading the response");
+            } catch (SocketTimeoutException expected) {
+            }
+            assertThat(raw.requests.get()).isEqualTo(2);
+        } finally {
+            raw.close();
+        }
+    }
+
+    private Request get(String path) {
+        return new Request("GET", baseUrl + path, Collections.<Header>emptyList(), null);
+    }
+
+    private static String read(Response response) throws IOException {
+        InputStream in = response.getBody().in();
+        try {
+            return new String(drain(in), "UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Keeps connections alive, but does not respond to the second request: closes its connection or stalls.
+     */
+    private static class RawServer implements Runnable {
+
+        static final int CLOSE = 0;
+        static final int STALL = 1;
+
+        final AtomicInteger requests = new AtomicInteger();
+        private final ServerSocket serverSocket;
+        private final int misbehavior;
+
+        RawServer(int misbehavior) throws IOException {
+            this.misbehavior = misbehavior;
+            serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+            Thread thread = new Thread(this);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        Request request(String method) {
+            String url = "http://127.0.0.1:" + serverSocket.getLocalPort() + "/sync/history";
+            return new Request(method, url, Collections.<Header>emptyList(),
+                    "POST".equals(method) ? new TypedString("{}") : null);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    final Socket socket = serverSocket.accept();
+                    Thread thread = new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            serve(socket);
+                        }
+                    });
+                    thread.setDaemon(true);
+                    thread.start();
+                }
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void serve(Socket socket) {
+            try {
+                InputStream in = socket.getInputStream();
+                OutputStream out = socket.getOutputStream();
+                while (true) {
+                    int contentLength = 0;
+                    String line;
+                    while ((line = HttpCodec.readLine(in)).length() != 0) {
+                        if (line.toLowerCase(Locale.US).startsWith("content-length:")) {
+                            contentLength = Integer.parseInt(line.substring(15).trim());
+                        }
+                    }
+                    for (int i = 0; i < contentLength; i++) {
+                        in.read();
+                    }
+                    if (requests.incrementAndGet() == 2) {
+                        if (misbehavior == STALL) {
+                            Thread.sleep(2000);
+                        }
+                        socket.close();
+                        return;
+                    }
+                    out.write("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\n[]".getBytes("US-ASCII"));
+                    out.flush();
+                }
+            } catch (Exception ignored) {
+            }
+        }
+
+        void close() throws IOException {
+            serverSocket.close();
+        }
+
+    }
+
+    private static byte[] drain(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            out.write(buffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+
+}
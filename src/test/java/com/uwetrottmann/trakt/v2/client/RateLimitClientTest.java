@@ -0,0 +1,116 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import com.uwetrottmann.trakt.v2.StubClient;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.enums.Extended;
+import com.uwetrottmann.trakt.v2.exceptions.RateLimitExceededException;
+import org.junit.Test;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class RateLimitClientTest {
+
+    @Test
+    public void test_burstThenSustainedRate() throws IOException {
+        RateLimiter limiter = new RateLimiter(20, 2);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            limiter.acquire();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // two immediately, then one every 50 ms
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(180);
+        assertThat(limiter.getWaitCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void test_separateWriteBudget() throws IOException {
+        RateLimiter reads = new RateLimiter(0.1, 1);
+        RateLimiter writes = new RateLimiter(100, 1);
+        RateLimitClient client = new RateLimitClient(new StubClient(200, "{}"), reads, writes);
+
+        client.execute(request("GET"));
+        long start = System.nanoTime();
+        client.execute(request("POST"));
+        client.execute(request("DELETE"));
+
+        // reads are exhausted, but writes are not held up
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+        assertThat(reads.getWaitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_retriesAfterTooManyRequests() throws IOException {
+        SequenceClient server = new SequenceClient(429, 429, 200);
+        RateLimiter reads = new RateLimiter(100, 10);
+        RateLimitClient client = new RateLimitClient(server, reads, null);
+
+        Response response = client.execute(request("GET"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(server.count).isEqualTo(3);
+        assertThat(reads.getPauseCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_tooLongRetryAfterThrows() {
+        TraktV2 trakt = new TraktV2().setApiKey("test")
+                .setClient(new StubClient(429, "", Collections.singletonList(new Header("Retry-After", "3600"))))
+                .setRateLimiters(RateLimiter.defaultReads(), RateLimiter.defaultWrites());
+
+        try {
+            trakt.shows().summary("breaking-bad", Extended.DEFAULT_MIN);
+            fail("expected the call to fail");
+        } catch (RateLimitExceededException e) {
+            assertThat(e.getRetryAfterMillis()).isEqualTo(TimeUnit.HOURS.toMillis(1));
+        }
+    }
+
+    @Test
+    public void test_retryAfterDate() {
+        Response response = new Response("https://example.com", 429, "", Collections.singletonList(
+                new Header("Retry-After", "Wed, 21 Oct 2015 07:28:00 GMT")), null);
+        long now = 1445412420000L; // 07:27:00
+
+        assertThat(RateLimitClient.retryAfterMillis(response, now)).isEqualTo(60000);
+    }
+
+    private static Request request(String method) {
+        return new Request(method, "https://example.com/sync/history", Collections.<Header>emptyList(), null);
+    }
+
+    /**
+     * Answers with the given status codes in turn, with {@code Retry-After: 0} on 429.
+     */
+    private static class SequenceClient implements Client {
+
+        private final List<Integer> statuses;
+        private int count;
+
+        SequenceClient(Integer... statuses) {
+            this.statuses = new ArrayList<Integer>(Arrays.asList(statuses));
+        }
+
+        @Override
+        public Response execute(Request request) {
+            int status = statuses.get(Math.min(count++, statuses.size() - 1));
+            return new Response(request.getUrl(), status, "", Collections.singletonList(new Header("Retry-After", "0")),
+                    null);
+        }
+    }
+
+}
@@ -0,0 +1,233 @@
+package com.uwetrottmann.trakt.v2.client;
+
+import org.junit.After;
+import org.junit.Test;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RetryClientTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void test_retriesServerErrors() throws IOException {
+        ScriptedClient server = new ScriptedClient(503, 502, 200);
+        RetryPolicy policy = fastPolicy();
+        RetryClient client = new RetryClient(server, policy, null);
+
+        assertThat(client.execute(request("GET", null)).getStatus()).isEqualTo(200);
+        assertThat(server.count.get()).isEqualTo(3);
+        assertThat(policy.getRetryCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_givesUpAfterMaxRetries() throws IOException {
+        ScriptedClient server = new ScriptedClient(503);
+        RetryClient client = new RetryClient(server, fastPolicy(), null);
+
+        assertThat(client.execute(request("GET", null)).getStatus()).isEqualTo(503);
+        assertThat(server.count.get()).isEqualTo(RetryPolicy.DEFAULT_MAX_RETRIES + 1);
+    }
+
+    @Test
+    public void test_retriesTimeouts() throws IOException {
+        ScriptedClient server = new ScriptedClient(-1, 200);
+        RetryClient client = new RetryClient(server, fastPolicy(), null);
+
+        assertThat(client.execute(request("GET", null)).getStatus()).isEqualTo(200);
+        assertThat(server.count.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_postNotRetriedByDefault() throws IOException {
+        ScriptedClient server = new ScriptedClient(503, 200);
+        RetryClient client = new RetryClient(server, fastPolicy(), null);
+
+        assertThat(client.execute(request("POST", new OneShotBody("{}"))).getStatus()).isEqualTo(503);
+        assertThat(server.count.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_postBodyReplayed() throws IOException {
+        ScriptedClient server = new ScriptedClient(503, 200);
+        RetryClient client = new RetryClient(server,
+                fastPolicy().setMaxRetries("POST", "/sync/collection", 2), null);
+
+        assertThat(client.execute(request("POST", new OneShotBody("{\"movies\":[]}"))).getStatus()).isEqualTo(200);
+        assertThat(server.bodies).containsExactly("{\"movies\":[]}", "{\"movies\":[]}");
+    }
+
+    @Test
+    public void test_hedgesSlowRequest() throws IOException {
+        // tells the copies of a request apart by the order they were handed to the executor
+        final AtomicInteger submitted = new AtomicInteger();
+        final ThreadLocal<Integer> copy = new ThreadLocal<Integer>();
+        Executor hedgeExecutor = new Executor() {
+            @Override
+            public void execute(final Runnable task) {
+                final int index = submitted.incrementAndGet();
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        copy.set(index);
+                        task.run();
+                    }
+                });
+            }
+        };
+        final AtomicInteger slowCopy = new AtomicInteger();
+        Client server = new Client() {
+            @Override
+            public Response execute(Request request) throws IOException {
+                if (copy.get() == slowCopy.get()) {
+                    sleep(2000);
+                }
+                return new Response(request.getUrl(), 200, "", Collections.<Header>emptyList(), null);
+            }
+        };
+        RetryPolicy policy = fastPolicy().hedge("/search");
+        RetryClient client = new RetryClient(server, policy, hedgeExecutor);
+
+        // learn the usual latency, below the minimum hedge delay
+        for (int i = 0; i < 20; i++) {
+            client.execute(request("GET", null));
+        }
+        assertThat(policy.getHedgeCount()).isEqualTo(0);
+
+        // the first copy of the next request is slow
+        slowCopy.set(submitted.get() + 1);
+        long start = System.nanoTime();
+        assertThat(client.execute(request("GET", null)).getStatus()).isEqualTo(200);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1500);
+        assertThat(policy.getHedgeCount()).isEqualTo(1);
+        assertThat(policy.getHedgeWinCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_minHedgeDelay() {
+        RetryPolicy policy = new RetryPolicy().setMinHedgeDelay(100, TimeUnit.MILLISECONDS);
+        LatencyTracker tracker = new LatencyTracker();
+        assertThat(policy.hedgeDelayMillis(tracker)).isEqualTo(RetryPolicy.DEFAULT_HEDGE_DELAY_MILLIS);
+        for (int i = 0; i < 100; i++) {
+            tracker.record(0);
+        }
+        assertThat(policy.hedgeDelayMillis(tracker)).isEqualTo(100);
+    }
+
+    @Test
+    public void test_backoffGrowsAndIsCapped() {
+        RetryPolicy policy = new RetryPolicy().setBackoff(100, 1000, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.backoffMillis(1)).isBetween(0L, 100L);
+            assertThat(policy.backoffMillis(3)).isBetween(0L, 400L);
+            assertThat(policy.backoffMillis(20)).isBetween(0L, 1000L);
+        }
+    }
+
+    private static RetryPolicy fastPolicy() {
+        return new RetryPolicy().setBackoff(1, 5, TimeUnit.MILLISECONDS);
+    }
+
+    private static Request request(String method, TypedOutput body) {
+        String path = "GET".equals(method) ? "/search" : "/sync/collection";
+        return new Request(method, "https://example.com" + path, Collections.<Header>emptyList(), body);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Answers with the given status codes in turn, -1 throws a timeout. Repeats the last one.
+     */
+    private static class ScriptedClient implements Client {
+
+        private final int[] statuses;
+        private final AtomicInteger count = new AtomicInteger();
+        private final List<String> bodies = new ArrayList<String>();
+
+        ScriptedClient(int... statuses) {
+            this.statuses = statuses;
+        }
+
+        @Override
+        public Response execute(Request request) throws IOException {
+            int status = statuses[Math.min(count.getAndIncrement(), statuses.length - 1)];
+            if (request.getBody() != null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                request.getBody().writeTo(out);
+                bodies.add(out.toString("UTF-8"));
+            }
+            if (status == -1) {
+                throw new SocketTimeoutException("Read timed out");
+            }
+            return new Response(request.getUrl(), status, "", Collections.<Header>emptyList(), null);
+        }
+    }
+
+    /**
+     * A body which can only be written once, like a streamed upload.
+     */
+    private static class OneShotBody implements TypedOutput {
+
+        private final String value;
+        private boolean written;
+
+        OneShotBody(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String fileName() {
+            return null;
+        }
+
+        @Override
+        public String mimeType() {
+            return "application/json";
+        }
+
+        @Override
+        public long length() {
+            return -1;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            if (written) {
+                throw new IOException("already written");
+            }
+            written = true;
+            out.write(value.getBytes("UTF-8"));
+        }
+    }
+
+}
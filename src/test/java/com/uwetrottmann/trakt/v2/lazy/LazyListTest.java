@@ -0,0 +1,169 @@
+package com.uwetrottmann.trakt.v2.lazy;
+
+import com.google.gson.JsonSyntaxException;
+import com.uwetrottmann.trakt.v2.StubClient;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.entities.BaseMovie;
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import org.junit.Test;
+import retrofit.RetrofitError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class LazyListTest {
+
+    private static final String MOVIES = "[{\"plays\":1,\"movie\":{\"title\":\"TRON: Legacy\"}},\n"
+            + " {\"plays\":2,\"movie\":{\"title\":\"The \\\"Dark\\\" ]Knight[ {\",\"extra\":[\"action\",[]]}} ,"
+            + "null,{\"plays\":4,\"movie\":{\"title\":\"\\\\\"}}]";
+
+    @Test
+    public void test_decodesOnAccess() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, MOVIES)).setLazyLists(true);
+
+        List<BaseMovie> movies = trakt.sync().collectionMovies(null);
+        assertThat(movies).isInstanceOf(LazyList.class).hasSize(4);
+        LazyList<BaseMovie> lazy = (LazyList<BaseMovie>) movies;
+        assertThat(lazy.isDecoded(1)).isFalse();
+
+        BaseMovie movie = movies.get(1);
+        assertThat(movie.plays).isEqualTo(2);
+        assertThat(movie.movie.title).isEqualTo("The \"Dark\" ]Knight[ {");
+        assertThat(movies.get(1)).isSameAs(movie);
+        assertThat(lazy.isDecoded(0)).isFalse();
+        assertThat(lazy.isDecoded(1)).isTrue();
+
+        assertThat(movies.get(2)).isNull();
+        assertThat(movies.get(3).movie.title).isEqualTo("\\");
+        assertThat(lazy.getJsonSize()).isGreaterThan(0);
+        assertThat(movies.get(0).movie.title).isEqualTo("TRON: Legacy");
+        assertThat(lazy.getJsonSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_concurrentReaders() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"plays\":").append(i).append("}");
+        }
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, json.append("]").toString()))
+                .setLazyLists(true);
+        final List<BaseMovie> movies = trakt.sync().collectionMovies(null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BaseMovie[]>> results = new ArrayList<Future<BaseMovie[]>>();
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(new Callable<BaseMovie[]>() {
+                    @Override
+                    public BaseMovie[] call() {
+                        BaseMovie[] read = new BaseMovie[movies.size()];
+                        for (int i = 0; i < read.length; i++) {
+                            read[i] = movies.get(i);
+                        }
+                        return read;
+                    }
+                }));
+            }
+            BaseMovie[] first = results.get(0).get();
+            for (Future<BaseMovie[]> result : results) {
+                BaseMovie[] read = result.get();
+                for (int i = 0; i < read.length; i++) {
+                    assertThat(read[i]).isSameAs(first[i]);
+                    assertThat(read[i].plays).isEqualTo(i);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(((LazyList<BaseMovie>) movies).getJsonSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_emptyList() throws Exception {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, " [ ] ")).setLazyLists(true);
+
+        assertThat(trakt.sync().collectionMovies(null)).isEmpty();
+    }
+
+    @Test
+    public void test_otherResponses() {
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, "{\"title\":\"TRON: Legacy\"}"))
+                .setLazyLists(true);
+
+        Movie movie = trakt.movies().summary("tron-legacy-2010", null);
+        assertThat(movie.title).isEqualTo("TRON: Legacy");
+    }
+
+    @Test
+    public void test_malformed() throws Exception {
+        // not an array fails the call, like without lazy lists
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, "[{\"plays\":1}"))
+                .setLazyLists(true);
+        try {
+            trakt.sync().collectionMovies(null);
+            fail("should not decode");
+        } catch (RetrofitError expected) {
+        }
+
+        // a malformed item fails when accessed
+        trakt.setClient(new StubClient(200, "[{\"plays\":1},{\"plays\":\"many\"}]"));
+        List<BaseMovie> movies = trakt.sync().collectionMovies(null);
+        assertThat(movies.get(0).plays).isEqualTo(1);
+        try {
+            movies.get(1);
+            fail("should not decode");
+        } catch (JsonSyntaxException expected) {
+        }
+    }
+
+    @Test
+    public void test_index() {
+        assertThat(JsonArrayIndex.index(bytes("[1, \"a,]\" ,true,{\"b\":[2]} ,[[]]]")))
+                .containsExactly(1, 2, 4, 9, 11, 15, 16, 25, 27, 31);
+        assertThat(JsonArrayIndex.index(bytes("[]"))).isEmpty();
+        assertThat(JsonArrayIndex.index(bytes("{}"))).isNull();
+        assertThat(JsonArrayIndex.index(bytes("[1,]"))).isNull();
+        assertThat(JsonArrayIndex.index(bytes("[\"a]"))).isNull();
+        assertThat(JsonArrayIndex.index(bytes("[1] 2"))).isNull();
+        assertThat(JsonArrayIndex.index(bytes(""))).isNull();
+    }
+
+    @Test
+    public void test_utf8() throws Exception {
+        String text = "a\u00e9\u20ac\ud83c\udfac z\u00df\ud83d\ude00";
+        byte[] bytes = bytes("[" + text + "]");
+        for (int bufferSize = 1; bufferSize <= 4; bufferSize++) {
+            Utf8Reader reader = new Utf8Reader(bytes, 1, bytes.length - 1);
+            StringBuilder read = new StringBuilder();
+            char[] buffer = new char[bufferSize];
+            int count;
+            while ((count = reader.read(buffer, 0, bufferSize)) != -1) {
+                read.append(buffer, 0, count);
+            }
+            assertThat(read.toString()).isEqualTo(text);
+        }
+
+        // malformed and truncated sequences
+        byte[] malformed = { 'a', (byte) 0xC3, 'b', (byte) 0xE2, (byte) 0x82 };
+        char[] buffer = new char[8];
+        int count = new Utf8Reader(malformed, 0, malformed.length).read(buffer, 0, buffer.length);
+        assertThat(new String(buffer, 0, count)).isEqualTo("a\ufffdb\ufffd\ufffd");
+    }
+
+    private static byte[] bytes(String value) {
+        try {
+            return value.getBytes("UTF-8");
+        } catch (java.io.UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.uwetrottmann.trakt.v2.metrics;
+
+import com.uwetrottmann.trakt.v2.StubClient;
+import com.uwetrottmann.trakt.v2.TraktV2;
+import com.uwetrottmann.trakt.v2.entities.Movie;
+import com.uwetrottmann.trakt.v2.services.Movies;
+import org.junit.Test;
+import retrofit.RetrofitError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class EndpointMetricsTest {
+
+    private static final String MOVIE = "{\"title\":\"TRON: Legacy\",\"year\":2010}";
+
+    @Test
+    public void test_recordsPerServiceMethod() {
+        RecordingMetrics recorded = new RecordingMetrics();
+        EndpointMetrics metrics = new EndpointMetrics(recorded);
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, MOVIE))
+                .setMetricsRecorder(metrics);
+
+        Movie movie = trakt.movies().summary("tron-legacy-2010", null);
+        trakt.movies().summary("tron-legacy-2010", null);
+
+        assertThat(movie.title).isEqualTo("TRON: Legacy");
+        EndpointStats stats = metrics.getStats("Movies.summary");
+        assertThat(stats.getRequestCount()).isEqualTo(2);
+        assertThat(stats.getErrorCount()).isEqualTo(0);
+        assertThat(stats.getResponseBytes()).isEqualTo(2 * MOVIE.length());
+        assertThat(stats.getTotalTime().getCount()).isEqualTo(2);
+        assertThat(stats.getFirstByteTime().getCount()).isEqualTo(2);
+        assertThat(stats.getDecodeTime().getCount()).isEqualTo(2);
+
+        CallMetrics call = recorded.calls.get(0);
+        assertThat(call.isError()).isFalse();
+        assertThat(call.getTotalNanos()).isGreaterThanOrEqualTo(call.getFirstByteNanos() + call.getDecodeNanos());
+    }
+
+    @Test
+    public void test_literalPathTakesPrecedence() {
+        EndpointMetrics metrics = new EndpointMetrics();
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, "[]"))
+                .setMetricsRecorder(metrics);
+
+        trakt.movies().popular(1, 10, null);
+
+        assertThat(metrics.getStats("Movies.popular").getRequestCount()).isEqualTo(1);
+        assertThat(metrics.getStats("Movies.summary")).isNull();
+    }
+
+    @Test
+    public void test_sharedPathNamedAfterFirstMethod() {
+        EndpointMetrics metrics = new EndpointMetrics();
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(200, "{\"rating\":8.5}"))
+                .setMetricsRecorder(metrics);
+
+        trakt.movies().ratingsSlim("tron-legacy-2010");
+        trakt.movies().ratings("tron-legacy-2010");
+        trakt.episodes().ratingsSlim("game-of-thrones", 1, 1);
+
+        assertThat(metrics.getStats("Movies.ratings").getRequestCount()).isEqualTo(2);
+        assertThat(metrics.getStats("Movies.ratingsSlim")).isNull();
+        assertThat(metrics.getStats("Episodes.ratings").getRequestCount()).isEqualTo(1);
+        assertThat(new EndpointResolver(Movies.class).resolve("GET", "https://api.trakt.tv/movies/1/ratings").name)
+                .isEqualTo("Movies.ratings");
+    }
+
+    @Test
+    public void test_errorsByStatus() {
+        EndpointMetrics metrics = new EndpointMetrics();
+        TraktV2 trakt = new TraktV2().setApiKey("test").setClient(new StubClient(404, "{}"))
+                .setMetricsRecorder(metrics);
+
+        try {
+            trakt.movies().summary("unknown", null);
+            fail("404 should throw");
+        } catch (RetrofitError expected) {
+        }
+
+        EndpointStats stats = metrics.getStats("Movies.summary");
+        assertThat(stats.getErrorCounts()).containsEntry(404, 1L);
+        assertThat(stats.getDecodeTime().getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_histogramPercentiles() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getMax()).isEqualTo(1000000);
+        // within the width of a bucket
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(500000L, 500000L * 9 / 8);
+        assertThat(histogram.getValueAtPercentile(99)).isBetween(990000L, 1000000L);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1000000);
+        assertThat(new Histogram().getValueAtPercentile(99)).isEqualTo(0);
+    }
+
+    @Test
+    public void test_bucketBounds() {
+        for (long value : new long[] { 0, 7, 8, 9, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE }) {
+            int bucket = Histogram.bucket(value);
+            assertThat(Histogram.upperBound(bucket)).isGreaterThanOrEqualTo(value);
+            if (bucket > 0) {
+                assertThat(Histogram.upperBound(bucket - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    private static class RecordingMetrics implements MetricsRecorder {
+
+        private final List<CallMetrics> calls = new ArrayList<CallMetrics>();
+
+        @Override
+        public synchronized void record(CallMetrics call) {
+            calls.add(call);
+        }
+    }
+
+}